@@ -250,6 +250,53 @@ tasks.register<Test>("benchmark") {
     testClassesDirs = sourceSets.test.get().output.classesDirs
 }
 
+// JMH Benchmarks - src/jmh/java, reproducible throughput measurements of the hot paths
+// (simulation tick, tick capture, batch storage, H2 environment writes).
+// Full matrix:  ./gradlew jmh [-PjmhInclude=<regex>] [-PjmhArgs="<extra JMH options>"]
+// CI smoke run: ./gradlew jmhSmoke (one short fork per benchmark on small fixtures)
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations {
+    named("jmhImplementation") { extendsFrom(configurations.implementation.get()) }
+    named("jmhRuntimeOnly") { extendsFrom(configurations.runtimeOnly.get()) }
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+fun JavaExec.configureJmh(resultFile: String) {
+    group = "benchmark"
+    dependsOn(tasks.named("jmhClasses"))
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val reportDir = layout.buildDirectory.dir("reports/jmh").get().asFile
+    doFirst { reportDir.mkdirs() }
+    args("-rf", "json", "-rff", File(reportDir, resultFile).path)
+    project.findProperty("jmhArgs")?.toString()?.split(" ")?.filter { it.isNotBlank() }?.let { args(it) }
+    project.findProperty("jmhInclude")?.toString()?.let { args(it) }
+}
+
+tasks.register<JavaExec>("jmh") {
+    description = "Run all JMH benchmarks with their full parameter matrix"
+    configureJmh("results.json")
+}
+
+tasks.register<JavaExec>("jmhSmoke") {
+    description = "Run every JMH benchmark once on small fixtures (CI regression smoke test)"
+    configureJmh("smoke.json")
+    args(
+        "-f", "1", "-wi", "1", "-i", "1", "-w", "1s", "-r", "1s", "-foe", "true",
+        "-p", "worldSize=200", "-p", "organisms=16", "-p", "occupancy=0.1", "-p", "samplingInterval=1"
+    )
+}
+
 tasks.jacocoTestReport {
     reports {
         xml.required.set(true)
@@ -0,0 +1,114 @@
+package org.evochora.datapipeline.resources.database.h2;
+
+import com.typesafe.config.ConfigFactory;
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.evochora.datapipeline.services.PrimordialWorld;
+import org.evochora.runtime.model.EnvironmentProperties;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batches per second of {@link SingleBlobStrategy#writeTicks} into an in-memory H2 database,
+ * using a prepared statement cached across invocations as done by the environment indexer.
+ * The {@code cellBytes} counter reports the uncompressed cell data written per second.
+ * <p>
+ * Every invocation merges the same tick numbers, which keeps the table at one batch.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SingleBlobStrategyBenchmark {
+
+    private static final int BATCH_TICKS = 20;
+
+    @Param({"500", "1000"})
+    public int worldSize;
+
+    @Param({"16", "128"})
+    public int organisms;
+
+    @Param({"0.0", "0.1"})
+    public double occupancy;
+
+    @Param({"none", "zstd"})
+    public String codec;
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private SingleBlobStrategy strategy;
+    private EnvironmentProperties properties;
+    private List<TickData> batch;
+    private long batchCellBytes;
+
+    /**
+     * Uncompressed bytes of cell data written, reported per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long cellBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cellBytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        PrimordialWorld world = PrimordialWorld.create(worldSize, organisms, occupancy, PrimordialWorld.DEFAULT_SEED);
+        properties = world.properties();
+        batch = world.captureBatch(BATCH_TICKS);
+        for (TickData tick : batch) {
+            for (int i = 0; i < tick.getCellsCount(); i++) {
+                batchCellBytes += tick.getCells(i).getSerializedSize();
+            }
+        }
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:jmh-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        strategy = new SingleBlobStrategy(ConfigFactory.parseMap(Map.of(
+                "compression", Map.of("enabled", !"none".equals(codec), "codec", codec))));
+        strategy.createTables(connection, properties.getDimensions());
+        statement = connection.prepareStatement(strategy.getMergeSql());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        statement.close();
+        try (Statement shutdown = connection.createStatement()) {
+            shutdown.execute("SHUTDOWN");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void writeTicks(Bytes counter) throws SQLException {
+        strategy.writeTicks(connection, statement, batch, properties);
+        counter.cellBytes += batchCellBytes;
+    }
+}
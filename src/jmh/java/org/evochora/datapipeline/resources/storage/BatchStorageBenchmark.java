@@ -0,0 +1,139 @@
+package org.evochora.datapipeline.resources.storage;
+
+import com.google.protobuf.CodedOutputStream;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.evochora.datapipeline.api.resources.storage.StoragePath;
+import org.evochora.datapipeline.api.resources.storage.TickProjection;
+import org.evochora.datapipeline.services.PrimordialWorld;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Batches per second of {@link AbstractBatchStorageResource#writeBatch} and
+ * {@link AbstractBatchStorageResource#readBatch} on a {@link FileSystemStorageResource} in a
+ * temporary directory. The {@code bytes} counter reports the uncompressed tick data processed
+ * per second, so MB/s can be compared across codecs. The projected reads show the parsing saved
+ * by indexers that only need the cells or the organisms of each tick.
+ * <p>
+ * Every write goes to the same batch file, which keeps the disk footprint at one batch.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BatchStorageBenchmark {
+
+    private static final int BATCH_TICKS = 20;
+
+    @Param({"500", "1000"})
+    public int worldSize;
+
+    @Param({"16", "128"})
+    public int organisms;
+
+    @Param({"0.0", "0.1"})
+    public double occupancy;
+
+    @Param({"none", "zstd"})
+    public String codec;
+
+    private Path rootDirectory;
+    private FileSystemStorageResource storage;
+    private List<TickData> batch;
+    private long firstTick;
+    private long lastTick;
+    private long batchBytes;
+    private StoragePath storedBatch;
+
+    /**
+     * Uncompressed bytes of tick data written or read, reported per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        batch = PrimordialWorld.create(worldSize, organisms, occupancy, PrimordialWorld.DEFAULT_SEED).captureBatch(BATCH_TICKS);
+        firstTick = batch.get(0).getTickNumber();
+        lastTick = batch.get(batch.size() - 1).getTickNumber();
+        for (TickData tick : batch) {
+            int size = tick.getSerializedSize();
+            batchBytes += size + CodedOutputStream.computeUInt32SizeNoTag(size);
+        }
+
+        rootDirectory = Files.createTempDirectory("evochora-jmh-storage");
+        Config config = ConfigFactory.parseMap(Map.of(
+                "rootDirectory", rootDirectory.toAbsolutePath().toString(),
+                "compression", Map.of("enabled", !"none".equals(codec), "codec", codec)));
+        storage = new FileSystemStorageResource("jmh-storage", config);
+        storedBatch = storage.writeBatch(batch, firstTick, lastTick);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(rootDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public StoragePath writeBatch(Bytes counter) throws IOException {
+        StoragePath path = storage.writeBatch(batch, firstTick, lastTick);
+        counter.bytes += batchBytes;
+        return path;
+    }
+
+    @Benchmark
+    public List<TickData> readBatch(Bytes counter) throws IOException {
+        List<TickData> ticks = storage.readBatch(storedBatch);
+        counter.bytes += batchBytes;
+        return ticks;
+    }
+
+    @Benchmark
+    public List<TickData> readBatchCells(Bytes counter) throws IOException {
+        List<TickData> ticks = storage.readBatch(storedBatch, TickProjection.CELLS);
+        counter.bytes += batchBytes;
+        return ticks;
+    }
+
+    @Benchmark
+    public List<TickData> readBatchOrganisms(Bytes counter) throws IOException {
+        List<TickData> ticks = storage.readBatch(storedBatch, TickProjection.ORGANISMS);
+        counter.bytes += batchBytes;
+        return ticks;
+    }
+}
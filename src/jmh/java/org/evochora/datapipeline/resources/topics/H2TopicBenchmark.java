@@ -0,0 +1,163 @@
+package org.evochora.datapipeline.resources.topics;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.evochora.datapipeline.api.contracts.BatchInfo;
+import org.evochora.datapipeline.api.resources.ResourceContext;
+import org.evochora.datapipeline.api.resources.topics.ITopicReader;
+import org.evochora.datapipeline.api.resources.topics.ITopicWriter;
+import org.evochora.datapipeline.api.resources.topics.TopicMessage;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Messages per second claimed and acknowledged by competing consumers of one consumer group on
+ * an {@link H2TopicResource} in an in-memory H2 database. With {@code batchSize = 1} each consumer
+ * uses {@code poll}/{@code ack} per message, otherwise {@code poll(batchSize, ...)}/{@code ackAll}.
+ * Each invocation drains {@value #ROUND_MESSAGES} messages written before it; the
+ * {@code messages} counter reports the messages per second.
+ * <p>
+ * Acknowledged messages remain in the topic, so every iteration starts on a fresh database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class H2TopicBenchmark {
+
+    private static final int ROUND_MESSAGES = 256;
+    private static final long POLL_TIMEOUT_MS = 10;
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    @Param({"1", "4", "16"})
+    public int consumers;
+
+    @Param({"1", "16"})
+    public int batchSize;
+
+    private ExecutorService executor;
+    private BatchInfo message;
+    private H2TopicResource<BatchInfo> topic;
+    private ITopicWriter<BatchInfo> writer;
+    private List<ITopicReader<BatchInfo, AckToken>> readers;
+
+    /**
+     * Messages claimed and acknowledged, reported per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Messages {
+        public long messages;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            messages = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(consumers);
+        message = BatchInfo.newBuilder()
+                .setSimulationRunId("jmh-run")
+                .setStoragePath("jmh-run/raw/000/000/batch_0000000000000000000_0000000000000000099.pb.zst")
+                .setTickStart(0)
+                .setTickEnd(99)
+                .setWrittenAtMs(System.currentTimeMillis())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Setup(Level.Iteration)
+    @SuppressWarnings("unchecked")
+    public void openTopic() {
+        Config config = ConfigFactory.parseMap(Map.of(
+                "jdbcUrl", "jdbc:h2:mem:jmh-topic-" + DATABASES.incrementAndGet(),
+                "maxPoolSize", consumers + 2));
+        topic = new H2TopicResource<>("jmh-topic", config);
+        topic.setSimulationRun("jmh-run");
+        writer = (ITopicWriter<BatchInfo>) topic.getWrappedResource(
+                new ResourceContext("jmh-writer", "output", "topic-write", "jmh-topic", Map.of()));
+        readers = new ArrayList<>();
+        for (int i = 0; i < consumers; i++) {
+            readers.add((ITopicReader<BatchInfo, AckToken>) topic.getWrappedResource(
+                    new ResourceContext("jmh-consumer-" + i, "input", "topic-read", "jmh-topic",
+                            Map.of("consumerGroup", "jmh-group"))));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeTopic() throws Exception {
+        topic.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void fillTopic() throws InterruptedException {
+        for (int i = 0; i < ROUND_MESSAGES; i++) {
+            writer.send(message);
+        }
+    }
+
+    @Benchmark
+    public int drain(Messages counter) throws Exception {
+        AtomicInteger remaining = new AtomicInteger(ROUND_MESSAGES);
+        List<Future<?>> consumed = new ArrayList<>(consumers);
+        for (ITopicReader<BatchInfo, AckToken> reader : readers) {
+            consumed.add(executor.submit(() -> {
+                consume(reader, remaining);
+                return null;
+            }));
+        }
+        for (Future<?> future : consumed) {
+            future.get();
+        }
+        counter.messages += ROUND_MESSAGES;
+        return remaining.get();
+    }
+
+    private void consume(ITopicReader<BatchInfo, AckToken> reader, AtomicInteger remaining) throws InterruptedException {
+        while (remaining.get() > 0) {
+            if (batchSize == 1) {
+                TopicMessage<BatchInfo, AckToken> received = reader.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (received != null) {
+                    reader.ack(received);
+                    remaining.decrementAndGet();
+                }
+            } else {
+                List<TopicMessage<BatchInfo, AckToken>> received =
+                        reader.poll(batchSize, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (!received.isEmpty()) {
+                    reader.ackAll(received);
+                    remaining.addAndGet(-received.size());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.evochora.datapipeline.services;
+
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures per second of {@link SimulationEngine#captureTickData(long)}, i.e. converting the
+ * organisms and all occupied cells of a seeded primordial world into a {@link TickData} message.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CaptureTickDataBenchmark {
+
+    private static final int TICKS_BEFORE_CAPTURE = 100;
+
+    @Param({"500", "1000"})
+    public int worldSize;
+
+    @Param({"16", "128"})
+    public int organisms;
+
+    @Param({"0.0", "0.1"})
+    public double occupancy;
+
+    private PrimordialWorld world;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = PrimordialWorld.create(worldSize, organisms, occupancy, PrimordialWorld.DEFAULT_SEED);
+        for (int i = 0; i < TICKS_BEFORE_CAPTURE; i++) {
+            world.tick();
+        }
+    }
+
+    @Benchmark
+    public TickData captureTickData() {
+        return world.capture();
+    }
+}
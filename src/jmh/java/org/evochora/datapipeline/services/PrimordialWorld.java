@@ -0,0 +1,184 @@
+package org.evochora.datapipeline.services;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.evochora.datapipeline.api.resources.IResource;
+import org.evochora.datapipeline.resources.queues.NullQueue;
+import org.evochora.runtime.Simulation;
+import org.evochora.runtime.model.Environment;
+import org.evochora.runtime.model.EnvironmentProperties;
+import org.evochora.runtime.model.Molecule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Standard benchmark fixture: a seeded, square, toroidal world populated with copies of the
+ * primordial organism and optionally pre-filled with energy.
+ * <p>
+ * The world is built by a real {@link SimulationEngine} (with discarding output queues), so
+ * compilation, placement and tick capture are exactly the production code paths. Organisms are
+ * placed on a regular grid that keeps their code footprints apart; the requested fraction of the
+ * remaining cells is filled with energy molecules chosen by a {@link Random} with the given seed.
+ * Two fixtures created with the same arguments start in the same state.
+ * <p>
+ * Benchmarks must be run from the project root, where {@link #PROGRAM} is resolved.
+ */
+public final class PrimordialWorld {
+
+    public static final String PROGRAM = "assembly/primordial/main.evo";
+    public static final long DEFAULT_SEED = 42L;
+
+    // Footprint of the primordial program (code and initial world objects) plus one free cell
+    private static final int SPACING_X = 52;
+    private static final int SPACING_Y = 32;
+    private static final int INITIAL_ENERGY = 10_000;
+    private static final int ENERGY_PER_CELL = 1_000;
+
+    private final SimulationEngine engine;
+    private final Simulation simulation;
+    private final EnvironmentProperties properties;
+    private final int samplingInterval;
+    private long currentTick = -1;
+
+    private PrimordialWorld(SimulationEngine engine, int samplingInterval) {
+        this.engine = engine;
+        this.simulation = engine.getSimulation();
+        this.properties = simulation.getEnvironment().getProperties();
+        this.samplingInterval = samplingInterval;
+    }
+
+    /**
+     * Creates a world that collects execution data on every tick.
+     *
+     * @see #create(int, int, double, long, int)
+     */
+    public static PrimordialWorld create(int worldSize, int organisms, double occupancy, long seed) {
+        return create(worldSize, organisms, occupancy, seed, 1);
+    }
+
+    /**
+     * Creates a seeded primordial world with default engine options.
+     *
+     * @see #create(int, int, double, long, int, Map)
+     */
+    public static PrimordialWorld create(int worldSize, int organisms, double occupancy, long seed, int samplingInterval) {
+        return create(worldSize, organisms, occupancy, seed, samplingInterval, Map.of());
+    }
+
+    /**
+     * Creates a seeded primordial world.
+     *
+     * @param worldSize Width and height of the toroidal world.
+     * @param organisms Number of primordial organisms to place.
+     * @param occupancy Fraction of the cells not covered by organisms to fill with energy (0..1).
+     * @param seed Seed for the simulation and the energy placement.
+     * @param samplingInterval Execution data is collected on ticks that are multiples of this interval,
+     *                         as in the simulation engine.
+     * @param engineOptions Further simulation engine options, e.g. {@code cellEncoding}.
+     * @return The new world at tick -1 (nothing executed yet).
+     * @throws IllegalArgumentException if the organisms do not fit into the world.
+     */
+    public static PrimordialWorld create(int worldSize, int organisms, double occupancy, long seed, int samplingInterval,
+                                         Map<String, Object> engineOptions) {
+        if (occupancy < 0 || occupancy > 1) {
+            throw new IllegalArgumentException("occupancy must be between 0 and 1: " + occupancy);
+        }
+        int columns = (worldSize - 1) / SPACING_X;
+        int rows = (worldSize - 1) / SPACING_Y;
+        if (organisms > columns * rows) {
+            throw new IllegalArgumentException(String.format(
+                    "%d organisms do not fit into a %dx%d world (at most %d)", organisms, worldSize, worldSize, columns * rows));
+        }
+
+        List<Map<String, Object>> organismConfigs = new ArrayList<>();
+        for (int i = 0; i < organisms; i++) {
+            int x = 1 + (i % columns) * SPACING_X;
+            int y = 1 + (i / columns) * SPACING_Y;
+            organismConfigs.add(Map.of(
+                    "program", PROGRAM,
+                    "initialEnergy", INITIAL_ENERGY,
+                    "placement", Map.of("positions", List.of(x, y))));
+        }
+        Map<String, Object> options = new HashMap<>(engineOptions);
+        options.put("samplingInterval", samplingInterval);
+        options.put("environment", Map.of("shape", List.of(worldSize, worldSize), "topology", "TORUS"));
+        options.put("organisms", organismConfigs);
+        options.put("energyStrategies", List.of());
+        options.put("seed", seed);
+        Config config = ConfigFactory.parseMap(options);
+        Map<String, List<IResource>> resources = Map.of(
+                "tickData", List.of(new NullQueue<TickData>("jmh-tick-data", ConfigFactory.empty())),
+                "metadataOutput", List.of(new NullQueue<>("jmh-metadata", ConfigFactory.empty())));
+
+        PrimordialWorld world = new PrimordialWorld(new SimulationEngine("jmh-engine", config, resources), samplingInterval);
+        world.fillWithEnergy(occupancy, seed);
+        return world;
+    }
+
+    private void fillWithEnergy(double occupancy, long seed) {
+        Environment environment = simulation.getEnvironment();
+        int[] shape = properties.getWorldShape();
+        int cells = shape[0] * shape[1];
+        int[] coordinate = new int[2];
+        long target = Math.round(occupancy * cells);
+        Random random = new Random(seed);
+        for (long placed = 0, attempts = 0; placed < target && attempts < 4L * cells; attempts++) {
+            int index = random.nextInt(cells);
+            if (environment.getMoleculeInt(index) != 0 || environment.getOwnerIdByIndex(index) != 0) {
+                continue;
+            }
+            coordinate[0] = index / shape[1];
+            coordinate[1] = index % shape[1];
+            environment.setMolecule(new Molecule(org.evochora.runtime.Config.TYPE_ENERGY, ENERGY_PER_CELL), coordinate);
+            placed++;
+        }
+    }
+
+    /**
+     * Executes one tick the way the simulation engine loop does.
+     *
+     * @return The number of the tick that was executed.
+     */
+    public long tick() {
+        simulation.setExecutionDataCollected((currentTick + 1) % samplingInterval == 0);
+        simulation.tick();
+        return ++currentTick;
+    }
+
+    /**
+     * Captures the current state through {@link SimulationEngine#captureTickData(long)}.
+     *
+     * @return The tick data of the last executed tick.
+     */
+    public TickData capture() {
+        return engine.captureTickData(currentTick);
+    }
+
+    /**
+     * Executes and captures consecutive ticks, e.g. to build a batch for the storage benchmarks.
+     *
+     * @param ticks The number of ticks to execute and capture.
+     * @return The captured ticks in order.
+     */
+    public List<TickData> captureBatch(int ticks) {
+        List<TickData> batch = new ArrayList<>(ticks);
+        for (int i = 0; i < ticks; i++) {
+            tick();
+            batch.add(capture());
+        }
+        return batch;
+    }
+
+    public Simulation simulation() {
+        return simulation;
+    }
+
+    public EnvironmentProperties properties() {
+        return properties;
+    }
+}
@@ -0,0 +1,104 @@
+package org.evochora.datapipeline.utils.cells;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.typesafe.config.ConfigFactory;
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.evochora.datapipeline.services.PrimordialWorld;
+import org.evochora.datapipeline.utils.compression.CompressionCodecFactory;
+import org.evochora.datapipeline.utils.compression.ICompressionCodec;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticks per second of capturing and serializing a tick ({@link #encode}) and of parsing it and
+ * visiting every cell through {@link TickCells} ({@link #decode}), for each cell encoding of the
+ * simulation engine. The {@code bytes} counter reports the serialized tick bytes per second.
+ * <p>
+ * The serialized and zstd-compressed size of the captured tick are printed once per trial,
+ * since they do not change between invocations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CellEncodingBenchmark {
+
+    @Param({"500", "1000"})
+    public int worldSize;
+
+    @Param({"0.1", "0.5"})
+    public double occupancy;
+
+    @Param({"messages", "columnar", "columnar-sorted"})
+    public String cellEncoding;
+
+    private PrimordialWorld world;
+    private byte[] serialized;
+
+    /**
+     * Serialized tick bytes encoded or decoded, reported per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        world = PrimordialWorld.create(worldSize, 16, occupancy, PrimordialWorld.DEFAULT_SEED, 1,
+                Map.of("cellEncoding", cellEncoding));
+        world.tick();
+        serialized = world.capture().toByteArray();
+
+        ICompressionCodec zstd = CompressionCodecFactory.create(ConfigFactory.parseMap(Map.of(
+                "compression", Map.of("enabled", true, "codec", "zstd"))));
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = zstd.wrapOutputStream(compressed)) {
+            out.write(serialized);
+        }
+        System.out.printf("%ncellEncoding=%s worldSize=%d occupancy=%s: %d cells, %d bytes serialized, %d bytes zstd%n",
+                cellEncoding, worldSize, occupancy, TickCells.count(TickData.parseFrom(serialized)),
+                serialized.length, compressed.size());
+    }
+
+    @Benchmark
+    public byte[] encode(Bytes counter) {
+        byte[] bytes = world.capture().toByteArray();
+        counter.bytes += bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public long decode(Bytes counter) throws InvalidProtocolBufferException {
+        TickData tick = TickData.parseFrom(serialized);
+        long[] checksum = {0};
+        TickCells.forEach(tick, (flatIndex, molecule, ownerId) -> checksum[0] += flatIndex + molecule + ownerId);
+        counter.bytes += serialized.length;
+        return checksum[0];
+    }
+}
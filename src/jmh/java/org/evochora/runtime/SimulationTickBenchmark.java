@@ -0,0 +1,55 @@
+package org.evochora.runtime;
+
+import org.evochora.datapipeline.services.PrimordialWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticks per second of {@link Simulation#tick()} on a seeded primordial world. The world is
+ * rebuilt for every iteration so each iteration measures the same stretch of the population's
+ * history.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SimulationTickBenchmark {
+
+    @Param({"500", "1000"})
+    public int worldSize;
+
+    @Param({"16", "128"})
+    public int organisms;
+
+    @Param({"0.0", "0.1"})
+    public double occupancy;
+
+    @Param({"1", "1000"})
+    public int samplingInterval;
+
+    private PrimordialWorld world;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = PrimordialWorld.create(worldSize, organisms, occupancy, PrimordialWorld.DEFAULT_SEED, samplingInterval);
+    }
+
+    @Benchmark
+    public long tick() {
+        return world.tick();
+    }
+}
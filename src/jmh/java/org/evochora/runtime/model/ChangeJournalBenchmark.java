@@ -0,0 +1,107 @@
+package org.evochora.runtime.model;
+
+import org.evochora.runtime.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One sampling window on a 1000x1000 world: {@code changesPerWindow} cell writes spread over
+ * {@value #TICKS_PER_WINDOW} ticks, followed by collecting the cells a consumer has to look at.
+ * {@link #fullScan()} runs without change tracking and visits every occupied cell, as tick
+ * capture did before the journal; {@link #changedCells()} runs with the journal enabled and
+ * visits the cells written in the window. Both include the writes, so the difference also
+ * covers the recording cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChangeJournalBenchmark {
+
+    private static final int WORLD_SIZE = 1000;
+    private static final int TICKS_PER_WINDOW = 10;
+
+    @Param({"0.01", "0.1", "0.5"})
+    public double occupancy;
+
+    @Param({"1000", "20000"})
+    public int changesPerWindow;
+
+    private Environment environment;
+    private int[][] writeCoordinates;
+    private int nextWrite;
+    private long tick;
+    private long visitedSum;
+    private final Molecule[] molecules = {new Molecule(Config.TYPE_ENERGY, 1), new Molecule(Config.TYPE_ENERGY, 2)};
+
+    @Setup
+    public void setUp(BenchmarkParams params) {
+        environment = Environment.create(new EnvironmentProperties(new int[]{WORLD_SIZE, WORLD_SIZE}, true));
+        environment.setChangeTrackingEnabled(params.getBenchmark().endsWith("changedCells"));
+
+        Random random = new Random(42);
+        int occupied = (int) (occupancy * WORLD_SIZE * WORLD_SIZE);
+        int[][] occupiedCoordinates = new int[occupied][];
+        for (int i = 0; i < occupied; ) {
+            int[] coordinate = {random.nextInt(WORLD_SIZE), random.nextInt(WORLD_SIZE)};
+            if (environment.getMolecule(coordinate).toInt() == 0) {
+                environment.setMolecule(molecules[0], coordinate);
+                occupiedCoordinates[i++] = coordinate;
+            }
+        }
+        // Writes replace occupied cells with other molecules, which keeps the occupancy constant
+        writeCoordinates = new int[1 << 16][];
+        for (int i = 0; i < writeCoordinates.length; i++) {
+            writeCoordinates[i] = occupiedCoordinates[random.nextInt(occupied)];
+        }
+    }
+
+    private void writeWindow() {
+        int perTick = changesPerWindow / TICKS_PER_WINDOW;
+        for (int t = 0; t < TICKS_PER_WINDOW; t++) {
+            environment.beginTick(++tick);
+            for (int i = 0; i < perTick; i++) {
+                int[] coordinate = writeCoordinates[nextWrite++ & (writeCoordinates.length - 1)];
+                environment.setMolecule(molecules[nextWrite & 1], coordinate);
+            }
+        }
+    }
+
+    private void visit(int flatIndex) {
+        visitedSum += environment.getMoleculeInt(flatIndex);
+    }
+
+    @Benchmark
+    public long fullScan() {
+        writeWindow();
+        visitedSum = 0;
+        environment.forEachOccupiedIndex(this::visit);
+        return visitedSum;
+    }
+
+    @Benchmark
+    public long changedCells() {
+        long windowStart = tick;
+        writeWindow();
+        visitedSum = 0;
+        if (!environment.forEachChangedIndexSince(windowStart, this::visit)) {
+            throw new IllegalStateException("Change journal does not cover the window");
+        }
+        return visitedSum;
+    }
+}
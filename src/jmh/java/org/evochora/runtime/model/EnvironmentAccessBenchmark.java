@@ -0,0 +1,92 @@
+package org.evochora.runtime.model;
+
+import org.evochora.runtime.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cell get/set and {@link Environment#isAreaUnowned(int[], int)} of the general N-dimensional
+ * environment against the {@link Environment2D} specialization on toroidal worlds. About a tenth
+ * of the coordinates lie just across an edge, as produced by organisms stepping over the seam.
+ * The 10000x10000 world needs 800 MB for its grids.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EnvironmentAccessBenchmark {
+
+    private static final int COORDINATES = 1 << 16;
+    private static final int AREA_RADIUS = 2;
+    private static final int OWNED_CELLS = 20_000;
+
+    @Param({"1000", "10000"})
+    public int worldSize;
+
+    @Param({"general", "2d"})
+    public String implementation;
+
+    private Environment environment;
+    private int[][] coordinates;
+    private final Molecule molecule = new Molecule(Config.TYPE_DATA, 1);
+
+    @Setup
+    public void setUp() {
+        int[] shape = {worldSize, worldSize};
+        environment = "2d".equals(implementation)
+                ? Environment.create(new EnvironmentProperties(shape, true))
+                : new Environment(shape, true);
+
+        Random random = new Random(42);
+        coordinates = new int[COORDINATES][];
+        for (int i = 0; i < COORDINATES; i++) {
+            int x = random.nextInt(worldSize);
+            int y = random.nextInt(worldSize);
+            if (i % 10 == 0) {
+                x = random.nextBoolean() ? -1 - random.nextInt(3) : worldSize + random.nextInt(3);
+            }
+            coordinates[i] = new int[]{x, y};
+        }
+        for (int i = 0; i < OWNED_CELLS; i++) {
+            environment.setOwnerId(1, coordinates[random.nextInt(COORDINATES)]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COORDINATES)
+    public long getSet() {
+        long sum = 0;
+        for (int[] coordinate : coordinates) {
+            environment.setMolecule(molecule, coordinate);
+            sum += environment.getMolecule(coordinate).value();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COORDINATES)
+    public int areaCheck() {
+        int unowned = 0;
+        for (int[] coordinate : coordinates) {
+            if (environment.isAreaUnowned(coordinate, AREA_RADIUS)) {
+                unowned++;
+            }
+        }
+        return unowned;
+    }
+}
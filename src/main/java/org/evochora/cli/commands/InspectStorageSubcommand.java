@@ -8,7 +8,9 @@ import org.evochora.cli.CommandLineInterface;
 import org.evochora.datapipeline.api.contracts.TickData;
 import org.evochora.datapipeline.api.resources.storage.IBatchStorageRead;
 import org.evochora.datapipeline.api.resources.storage.StoragePath;
+import org.evochora.datapipeline.resources.storage.BatchFileStats;
 import org.evochora.datapipeline.resources.storage.FileSystemStorageResource;
+import org.evochora.datapipeline.utils.cells.TickCells;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.ParentCommand;
@@ -41,7 +43,8 @@ public class InspectStorageSubcommand implements Callable<Integer> {
 
     @Option(
         names = {"-f", "--format"},
-        description = "Output format: json, summary, raw (default: summary)"
+        description = "Output format: json, summary, raw, stats (default: summary). "
+            + "stats describes the batch file containing the tick without decompressing it"
     )
     private String format = "summary";
 
@@ -63,7 +66,7 @@ public class InspectStorageSubcommand implements Callable<Integer> {
         
         try {
             // Create storage resource
-            IBatchStorageRead storage = createStorageResource(config);
+            FileSystemStorageResource storage = createStorageResource(config);
             
             // Find batch file containing the tick
             StoragePath batchPath = findBatchContainingTick(storage, runId, tickNumber);
@@ -75,6 +78,11 @@ public class InspectStorageSubcommand implements Callable<Integer> {
             
             spec.commandLine().getOut().println("Found batch file: " + batchPath.asString());
             
+            if ("stats".equalsIgnoreCase(format)) {
+                outputBatchStats(storage.describeBatch(batchPath));
+                return 0;
+            }
+            
             // Read batch data
             List<TickData> ticks = storage.readBatch(batchPath);
             
@@ -105,7 +113,7 @@ public class InspectStorageSubcommand implements Callable<Integer> {
         }
     }
 
-    private IBatchStorageRead createStorageResource(Config config) throws Exception {
+    private FileSystemStorageResource createStorageResource(Config config) throws Exception {
         // Get storage configuration
         Config pipelineConfig = config.getConfig("pipeline");
         Config resourcesConfig = pipelineConfig.getConfig("resources");
@@ -169,7 +177,33 @@ public class InspectStorageSubcommand implements Callable<Integer> {
                 break;
                 
             default:
-                spec.commandLine().getErr().println("Unknown format: " + format + ". Supported formats: json, summary, raw");
+                spec.commandLine().getErr().println("Unknown format: " + format + ". Supported formats: json, summary, raw, stats");
+        }
+    }
+
+    private void outputBatchStats(BatchFileStats stats) {
+        var out = spec.commandLine().getOut();
+        
+        out.println("=== Batch File Stats ===");
+        out.println("Format: " + (stats.formatVersion() > 0
+            ? "container v" + stats.formatVersion()
+            : "bare batch (no container)"));
+        out.println("Codec: " + stats.codec()
+            + (stats.dictionaryId() != 0 ? " (dictionary " + stats.dictionaryId() + ")" : ""));
+        out.println("Tick Range: " + stats.firstTick() + " to " + stats.lastTick());
+        out.println("Ticks: " + (stats.tickCount() >= 0 ? stats.tickCount() : "unknown (no index)"));
+        out.println("Chunks: " + (stats.chunkCount() >= 0 ? stats.chunkCount() : "unknown (no index)"));
+        out.println("File Size: " + stats.fileBytes() + " bytes");
+        if (stats.uncompressedBytes() >= 0) {
+            out.printf("Uncompressed Size: %d bytes (ratio %.1f)%n", stats.uncompressedBytes(),
+                stats.fileBytes() > 0 ? (double) stats.uncompressedBytes() / stats.fileBytes() : 0.0);
+        }
+        if (stats.formatVersion() == 0) {
+            out.println("Integrity: not checked (no checksums)");
+        } else if (stats.corruptChunks().isEmpty()) {
+            out.println("Integrity: all chunks intact");
+        } else {
+            out.println("Integrity: corrupt chunks " + stats.corruptChunks());
         }
     }
 
@@ -181,7 +215,8 @@ public class InspectStorageSubcommand implements Callable<Integer> {
         out.println("Tick Number: " + tick.getTickNumber());
         out.println("Capture Time: " + java.time.Instant.ofEpochMilli(tick.getCaptureTimeMs()));
         out.println("Organisms: " + tick.getOrganismsCount() + " alive");
-        out.println("Cells: " + tick.getCellsCount() + " non-empty");
+        int cellCount = TickCells.count(tick);
+        out.println("Cells: " + cellCount + " non-empty" + (tick.hasCellColumns() ? " (columnar)" : ""));
         out.println("RNG State: " + tick.getRngState().size() + " bytes");
         out.println("Strategy States: " + tick.getStrategyStatesCount());
         
@@ -195,19 +230,20 @@ public class InspectStorageSubcommand implements Callable<Integer> {
             });
         }
         
-        if (tick.getCellsCount() > 0) {
+        if (cellCount > 0) {
             out.println("\n=== Cell Summary ===");
-            tick.getCellsList().stream()
-                .limit(10) // Show first 10 cells
-                .forEach(cell -> {
+            int[] shown = {0};
+            TickCells.forEach(tick, (flatIndex, molecule, ownerId) -> {
+                if (shown[0]++ < 10) { // Show first 10 cells
                     out.printf("  Index: %d, Type: %d, Value: %d, Owner: %d%n",
-                        cell.getFlatIndex(),
-                        cell.getMoleculeType(),
-                        cell.getMoleculeValue(),
-                        cell.getOwnerId());
-                });
-            if (tick.getCellsCount() > 10) {
-                out.println("  ... and " + (tick.getCellsCount() - 10) + " more cells");
+                        flatIndex,
+                        TickCells.moleculeType(molecule),
+                        TickCells.moleculeValue(molecule),
+                        ownerId);
+                }
+            });
+            if (cellCount > 10) {
+                out.println("  ... and " + (cellCount - 10) + " more cells");
             }
         }
     }
@@ -757,8 +757,8 @@ public class RenderVideoCommand implements Callable<Integer> {
                         break; // Break out of file loop
                     }
                     
-                    List<TickData> batch = storage.readBatch(path);
-                    for (TickData tick : batch) {
+                    // Parse ticks one at a time instead of holding the whole batch
+                    for (TickData tick : storage.iterateBatch(path)) {
                         long tickNumber = tick.getTickNumber();
                         
                         // Check for shutdown before processing each tick
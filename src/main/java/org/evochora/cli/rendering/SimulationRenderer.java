@@ -1,9 +1,9 @@
 package org.evochora.cli.rendering;
 
-import org.evochora.datapipeline.api.contracts.CellState;
 import org.evochora.datapipeline.api.contracts.OrganismState;
 import org.evochora.datapipeline.api.contracts.TickData;
 import org.evochora.datapipeline.api.contracts.Vector;
+import org.evochora.datapipeline.utils.cells.TickCells;
 import org.evochora.runtime.Config;
 import org.evochora.runtime.model.EnvironmentProperties;
 
@@ -74,17 +74,18 @@ public class SimulationRenderer {
         // 2. Draw cells
         // Use EnvironmentProperties.flatIndexToCoordinates() for correct conversion
         // This handles strides correctly for any dimensionality (2D, 3D, etc.)
-        for (CellState cell : tick.getCellsList()) {
-            int[] coord = envProps.flatIndexToCoordinates(cell.getFlatIndex());
+        // TickCells visits both cell encodings; columnar ticks are drawn without a message per cell
+        TickCells.forEach(tick, (flatIndex, molecule, ownerId) -> {
+            int[] coord = envProps.flatIndexToCoordinates(flatIndex);
             
             // For 2D rendering, use first two coordinates
             // Note: This assumes 2D world for video rendering (which is standard)
             int x = coord[0];
             int y = coord[1];
             
-            int color = getCellColor(cell.getMoleculeType());
+            int color = getCellColor(TickCells.moleculeType(molecule));
             drawCell(x, y, color);
-        }
+        });
 
         // 3. Draw organisms
         for (OrganismState org : tick.getOrganismsList()) {
@@ -5,6 +5,7 @@ import org.evochora.runtime.model.EnvironmentProperties;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Database capability for writing environment cell data.
@@ -68,6 +69,28 @@ public interface IEnvironmentDataWriter extends AutoCloseable {
     void writeEnvironmentCells(List<TickData> ticks, EnvironmentProperties envProps) 
             throws SQLException;
     
+    /**
+     * Writes environment cells like {@link #writeEnvironmentCells(List, EnvironmentProperties)},
+     * but may return before the ticks are committed.
+     * <p>
+     * Implementations with a write-behind stage queue the ticks and commit several calls in one
+     * transaction. The returned future completes after the commit that covers {@code ticks};
+     * callers must not acknowledge the source of the ticks before that. If the write fails, the
+     * future completes exceptionally.
+     * <p>
+     * The default implementation writes synchronously.
+     *
+     * @param ticks List of ticks with their cell data to write
+     * @param envProps Environment properties for coordinate conversion (if needed by strategy)
+     * @return Future completing once the ticks are committed
+     * @throws SQLException if a synchronous write fails
+     */
+    default CompletableFuture<Void> writeEnvironmentCellsAsync(List<TickData> ticks, EnvironmentProperties envProps)
+            throws SQLException {
+        writeEnvironmentCells(ticks, envProps);
+        return CompletableFuture.completedFuture(null);
+    }
+    
     /**
      * Closes the database wrapper and releases its dedicated connection back to the pool.
      * <p>
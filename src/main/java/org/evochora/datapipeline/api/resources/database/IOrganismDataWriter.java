@@ -4,6 +4,7 @@ import org.evochora.datapipeline.api.contracts.TickData;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Database capability for writing indexed organism data for a single simulation run.
@@ -93,6 +94,26 @@ public interface IOrganismDataWriter extends ISchemaAwareDatabase, AutoCloseable
      */
     void writeOrganismStates(List<TickData> ticks) throws SQLException;
 
+    /**
+     * Writes organism states like {@link #writeOrganismStates(List)}, but may return before
+     * the ticks are committed.
+     * <p>
+     * Implementations with a write-behind stage queue the ticks and commit several calls in one
+     * transaction. The returned future completes after the commit that covers {@code ticks};
+     * callers must not acknowledge the source of the ticks before that. If the write fails, the
+     * future completes exceptionally.
+     * <p>
+     * The default implementation writes synchronously.
+     *
+     * @param ticks the list of sampled ticks to index (must not be null)
+     * @return future completing once the ticks are committed
+     * @throws SQLException if a synchronous write fails
+     */
+    default CompletableFuture<Void> writeOrganismStatesAsync(List<TickData> ticks) throws SQLException {
+        writeOrganismStates(ticks);
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Releases any dedicated database resources (e.g. connections) held by this
      * writer. Implementations must ensure that resources are always released,
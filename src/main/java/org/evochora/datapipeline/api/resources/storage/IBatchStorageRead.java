@@ -16,6 +16,7 @@ import java.util.Optional;
  * This interface provides batch read operations for tick data storage:
  * <ul>
  *   <li>Direct batch file reading by filename</li>
+ *   <li>Lazy iteration and single-tick reads without loading the whole batch</li>
  *   <li>Automatic decompression based on file extension</li>
  *   <li>Single message reading for metadata/config files</li>
  * </ul>
@@ -62,6 +63,8 @@ public interface IBatchStorageRead extends IResource {
      *   <li>Decompresses the file automatically based on path extension</li>
      *   <li>Parses length-delimited protobuf messages</li>
      *   <li>Returns all ticks in the batch in original order</li>
+     *   <li>Materializes delta-encoded ticks, so every returned tick is complete (reading a
+     *       batch that starts with a delta may read earlier batches back to its keyframe)</li>
      * </ul>
      * <p>
      * <strong>Example usage (IndexerService):</strong>
@@ -78,6 +81,66 @@ public interface IBatchStorageRead extends IResource {
      */
     List<TickData> readBatch(StoragePath path) throws IOException;
 
+    /**
+     * Reads a batch file by its physical storage path, parsing only the fields of a projection.
+     * <p>
+     * Like {@link #readBatch(StoragePath)}, but fields outside the projection are skipped in
+     * the decompressed stream instead of being parsed, and are unset in the returned ticks.
+     * Services that only need part of each tick (e.g. the cells) save most of the parsing time
+     * and allocations of the other fields. Delta-encoded ticks are materialized for the fields
+     * of the projection.
+     * <p>
+     * <strong>Example usage (EnvironmentIndexer):</strong>
+     * <pre>
+     * List&lt;TickData&gt; ticks = storage.readBatch(path, TickProjection.CELLS);
+     * </pre>
+     *
+     * @param path The physical storage path (includes compression extension)
+     * @param projection The fields to parse
+     * @return List of all tick data in the batch, with only the projected fields set
+     * @throws IOException If file doesn't exist or read fails
+     * @throws IllegalArgumentException If path or projection is null
+     */
+    List<TickData> readBatch(StoragePath path, TickProjection projection) throws IOException;
+
+    /**
+     * Returns the ticks of a batch file lazily, parsing one tick at a time while iterating.
+     * <p>
+     * Unlike {@link #readBatch(StoragePath)}, the batch is never held as a list: callers that
+     * process ticks one by one, or stop early, only keep the current tick on the heap. Ticks are
+     * materialized like in {@link #readBatch(StoragePath)}. Each call to
+     * {@link Iterable#iterator()} reads the batch again from its start.
+     * <p>
+     * Failures while iterating are thrown as {@link java.io.UncheckedIOException}.
+     *
+     * @param path The physical storage path (includes compression extension)
+     * @return Ticks of the batch in original order
+     * @throws IOException If file doesn't exist or cannot be opened
+     * @throws IllegalArgumentException If path is null
+     */
+    Iterable<TickData> iterateBatch(StoragePath path) throws IOException;
+
+    /**
+     * Reads a single tick of a batch file.
+     * <p>
+     * Batches written with seekable framing carry an index of the compressed frame holding
+     * each tick, so only that frame is decompressed. Other batches are decompressed from their
+     * start until the tick is found. A delta-encoded tick is returned materialized, which may
+     * read earlier ticks back to its keyframe.
+     * <p>
+     * <strong>Example usage (video renderer, first frame):</strong>
+     * <pre>
+     * Optional&lt;TickData&gt; tick = storage.readTick(path, startTick);
+     * </pre>
+     *
+     * @param path The physical storage path (includes compression extension)
+     * @param tickNumber The tick to read
+     * @return The tick, or empty if the batch does not contain it
+     * @throws IOException If file doesn't exist or read fails
+     * @throws IllegalArgumentException If path is null
+     */
+    Optional<TickData> readTick(StoragePath path, long tickNumber) throws IOException;
+
     /**
      * Reads a single protobuf message from storage at the specified physical path.
      * <p>
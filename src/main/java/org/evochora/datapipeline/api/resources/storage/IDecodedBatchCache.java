@@ -0,0 +1,50 @@
+package org.evochora.datapipeline.api.resources.storage;
+
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.evochora.datapipeline.api.resources.IResource;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Process-wide cache of decoded batch files, shared by services in the same JVM.
+ * <p>
+ * Indexers of different consumer groups receive the same batch notifications and would each
+ * read, decompress and parse the same batch file. With this cache, the first indexer decodes
+ * the batch and the others reuse the decoded ticks. Concurrent requests for a batch that is
+ * still loading wait for that load instead of starting their own (single-flight).
+ * <p>
+ * <strong>Usage Pattern:</strong> Injected as optional resource (port {@code batchCache});
+ * services without it read from storage directly.
+ * <p>
+ * <strong>Thread Safety:</strong> Implementations must be thread-safe.
+ */
+public interface IDecodedBatchCache extends IResource {
+
+    /**
+     * Loads a batch from storage.
+     */
+    @FunctionalInterface
+    interface BatchLoader {
+        /**
+         * @param path the batch file to load
+         * @return the decoded ticks
+         * @throws IOException if the batch cannot be read
+         */
+        List<TickData> load(StoragePath path) throws IOException;
+    }
+
+    /**
+     * Returns the decoded ticks of a batch, loading them with {@code loader} on a cache miss.
+     * <p>
+     * Failed loads are not cached: the exception is passed to all callers waiting for that
+     * load, and the next call loads again.
+     *
+     * @param path the batch file (cache key)
+     * @param loader loads the batch on a miss, on the calling thread
+     * @return the decoded ticks (immutable, shared between callers)
+     * @throws IOException if loading fails
+     * @throws InterruptedException if interrupted while waiting for another caller's load
+     */
+    List<TickData> get(StoragePath path, BatchLoader loader) throws IOException, InterruptedException;
+}
@@ -0,0 +1,51 @@
+package org.evochora.datapipeline.api.resources.storage;
+
+import org.evochora.datapipeline.api.contracts.TickData;
+
+import java.util.Set;
+
+/**
+ * Selects the {@link TickData} fields parsed when reading a batch.
+ * <p>
+ * Services that only need part of each tick read batches with a projection, see
+ * {@link IBatchStorageRead#readBatch(StoragePath, TickProjection)}. Fields outside the
+ * projection are skipped in the decompressed stream without being parsed, and are left unset in
+ * the returned ticks. Every projection includes the header fields (run ID, tick number, capture
+ * time) and the delta-encoding fields, so projected batches are materialized like complete ones.
+ */
+public enum TickProjection {
+
+    /** All fields (equivalent to {@link IBatchStorageRead#readBatch(StoragePath)}). */
+    FULL(Set.of()),
+
+    /** Header fields and cells (both encodings), e.g. for environment indexing. */
+    CELLS(Set.of(TickData.CELLS_FIELD_NUMBER, TickData.CELL_COLUMNS_FIELD_NUMBER)),
+
+    /** Header fields, organisms and removed organism IDs, e.g. for organism indexing. */
+    ORGANISMS(Set.of(TickData.ORGANISMS_FIELD_NUMBER, TickData.REMOVED_ORGANISM_IDS_FIELD_NUMBER)),
+
+    /** Header fields only. */
+    HEADERS(Set.of());
+
+    private static final Set<Integer> HEADER_FIELDS = Set.of(
+        TickData.SIMULATION_RUN_ID_FIELD_NUMBER,
+        TickData.TICK_NUMBER_FIELD_NUMBER,
+        TickData.CAPTURE_TIME_MS_FIELD_NUMBER,
+        TickData.IS_DELTA_FIELD_NUMBER,
+        TickData.KEYFRAME_TICK_FIELD_NUMBER,
+        TickData.DELTA_BASE_TICK_FIELD_NUMBER);
+
+    private final Set<Integer> payloadFields;
+
+    TickProjection(Set<Integer> payloadFields) {
+        this.payloadFields = payloadFields;
+    }
+
+    /**
+     * @param fieldNumber a {@link TickData} field number
+     * @return whether the field is parsed with this projection
+     */
+    public boolean includes(int fieldNumber) {
+        return this == FULL || HEADER_FIELDS.contains(fieldNumber) || payloadFields.contains(fieldNumber);
+    }
+}
@@ -3,6 +3,7 @@ package org.evochora.datapipeline.api.resources.topics;
 import com.google.protobuf.Message;
 import org.evochora.datapipeline.api.resources.IResource;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -24,6 +25,12 @@ import java.util.concurrent.TimeUnit;
  * Messages must be explicitly acknowledged via {@link #ack(TopicMessage)} after processing.
  * Unacknowledged messages may be redelivered (at-least-once semantics).
  * <p>
+ * <strong>Batching:</strong>
+ * {@link #receive(int)}, {@link #poll(int, long, TimeUnit)} and {@link #ackAll(List)} claim and
+ * acknowledge several messages at once, which implementations may do in a single round trip.
+ * Claimed messages are unavailable to competing consumers until acknowledged or until their
+ * claim expires, so consumers should only claim what they process next.
+ * <p>
  * <strong>Thread Safety:</strong> Implementations MUST be thread-safe for concurrent operations
  * within the same consumer group.
  * <p>
@@ -93,5 +100,45 @@ public interface ITopicReader<T extends Message, ACK> extends IResource, ISimula
      * @throws NullPointerException if message is null.
      */
     void ack(TopicMessage<T, ACK> message);
+    
+    /**
+     * Receives up to {@code maxMessages} messages from the topic (blocking).
+     * <p>
+     * Blocks until at least one message is available or the thread is interrupted, then returns
+     * the messages claimed at that moment, in topic order.
+     *
+     * @param maxMessages The maximum number of messages to return (must be positive).
+     * @return The received messages (never empty in this method).
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws IllegalArgumentException if maxMessages is not positive.
+     */
+    List<TopicMessage<T, ACK>> receive(int maxMessages) throws InterruptedException;
+    
+    /**
+     * Polls for up to {@code maxMessages} messages from the topic with timeout.
+     * <p>
+     * Waits up to the specified timeout for at least one message to become available.
+     *
+     * @param maxMessages The maximum number of messages to return (must be positive).
+     * @param timeout The maximum time to wait.
+     * @param unit The time unit of the timeout.
+     * @return The received messages in topic order, or an empty list if the timeout expires.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws IllegalArgumentException if maxMessages is not positive.
+     */
+    List<TopicMessage<T, ACK>> poll(int maxMessages, long timeout, TimeUnit unit) throws InterruptedException;
+    
+    /**
+     * Acknowledges that several messages have been successfully processed.
+     * <p>
+     * Equivalent to calling {@link #ack(TopicMessage)} for each message, but implementations
+     * may acknowledge all messages in one transaction. Each message is checked individually:
+     * a stale acknowledgment (e.g. the message was reassigned) is rejected without affecting the
+     * others.
+     *
+     * @param messages The messages to acknowledge (must not be null, may be empty).
+     * @throws NullPointerException if messages is null or contains null.
+     */
+    void ackAll(List<TopicMessage<T, ACK>> messages);
 }
 
@@ -1,6 +1,7 @@
 package org.evochora.datapipeline.resources.database;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 import org.evochora.datapipeline.api.contracts.SimulationMetadata;
 import org.evochora.datapipeline.api.resources.*;
 import org.evochora.datapipeline.api.resources.database.IMetadataWriter;
@@ -28,6 +29,12 @@ import java.util.concurrent.atomic.AtomicLong;
  * <strong>AutoCloseable:</strong> Implements {@link AutoCloseable} to ensure proper
  * cleanup during shutdown. The {@link #close()} method closes all wrappers first,
  * then calls {@link #closeConnectionPool()} which subclasses must implement.
+ * <p>
+ * <strong>Write-Behind:</strong> With {@code writeBehind.enabled}, the environment and
+ * organism writer wrappers hand each flush to a {@link WriteBehindQueue} instead of writing it
+ * on the indexer thread. Each queue has a dedicated writer connection that commits several
+ * pending flushes in one transaction, so it needs one pool connection per writer wrapper in
+ * addition to the wrapper's own connection.
  */
 public abstract class AbstractDatabaseResource extends AbstractResource
         implements IMetadataWriter, IContextualResource, AutoCloseable, ISchemaAwareDatabase {
@@ -42,8 +49,24 @@ public abstract class AbstractDatabaseResource extends AbstractResource
     // Track all active wrappers for proper cleanup during shutdown
     private final List<AutoCloseable> activeWrappers = Collections.synchronizedList(new ArrayList<>());
 
+    // Write-behind stage of the writer wrappers (see createWriteBehindQueue)
+    private final boolean writeBehindEnabled;
+    private final int writeBehindMaxPendingFlushes;
+    private final int writeBehindMaxGroupFlushes;
+
     protected AbstractDatabaseResource(String name, Config options) {
         super(name, options);
+        Config writeBehind = options.hasPath("writeBehind") ? options.getConfig("writeBehind") : ConfigFactory.empty();
+        this.writeBehindEnabled = writeBehind.hasPath("enabled") && writeBehind.getBoolean("enabled");
+        this.writeBehindMaxPendingFlushes = writeBehind.hasPath("maxPendingFlushes")
+            ? writeBehind.getInt("maxPendingFlushes")
+            : 4;
+        this.writeBehindMaxGroupFlushes = writeBehind.hasPath("maxGroupFlushes")
+            ? writeBehind.getInt("maxGroupFlushes")
+            : 8;
+        if (writeBehindMaxPendingFlushes <= 0 || writeBehindMaxGroupFlushes <= 0) {
+            throw new IllegalArgumentException("writeBehind.maxPendingFlushes and writeBehind.maxGroupFlushes must be positive");
+        }
     }
 
     @Override
@@ -88,6 +111,32 @@ public abstract class AbstractDatabaseResource extends AbstractResource
         activeWrappers.clear();
     }
 
+    /**
+     * Creates the write-behind stage of a writer wrapper, if enabled.
+     * <p>
+     * The queue acquires its own dedicated connection with the schema of {@code runId} and
+     * writes groups of flushes through {@code writer}, which calls one {@code doWrite*()} method
+     * and thereby commits the whole group at once.
+     *
+     * @param name name of the writer thread
+     * @param runId run whose schema the writer connection uses
+     * @param writer writes the ticks of a group in one transaction
+     * @return the started queue, or null if write-behind is disabled
+     */
+    WriteBehindQueue createWriteBehindQueue(String name, String runId, WriteBehindQueue.GroupWriter writer) {
+        if (!writeBehindEnabled) {
+            return null;
+        }
+        return new WriteBehindQueue(this, name, runId, writeBehindMaxPendingFlushes, writeBehindMaxGroupFlushes, writer);
+    }
+
+    /**
+     * @return true if writer wrappers write through a {@link WriteBehindQueue}
+     */
+    boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
     /**
      * Acquires a dedicated database connection for capability-specific operations.
      * <p>
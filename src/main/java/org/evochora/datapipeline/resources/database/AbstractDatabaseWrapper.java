@@ -1,5 +1,6 @@
 package org.evochora.datapipeline.resources.database;
 
+import org.evochora.datapipeline.api.contracts.TickData;
 import org.evochora.datapipeline.api.resources.*;
 import org.evochora.datapipeline.api.resources.database.ISchemaAwareDatabase;
 import org.evochora.datapipeline.api.resources.database.IConnectionManageable;
@@ -11,6 +12,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
 /**
@@ -20,6 +22,7 @@ import java.util.concurrent.ConcurrentLinkedDeque;
  * <ul>
  *   <li>Dedicated connection management (acquire, close)</li>
  *   <li>Schema setting (setSimulationRun implementation)</li>
+ *   <li>Write-behind stage for writer wrappers (one {@link WriteBehindQueue} per run)</li>
  *   <li>Error tracking and recording (inherited from AbstractResource)</li>
  *   <li>Base metrics infrastructure (Template Method Pattern)</li>
  *   <li>Resource lifecycle (IMonitorable, IWrappedResource, AutoCloseable)</li>
@@ -47,6 +50,9 @@ public abstract class AbstractDatabaseWrapper extends org.evochora.datapipeline.
     private Object cachedConnection = null;
     private String cachedRunId = null;
     
+    // Write-behind stage (created on the first asynchronous write of a run, null if disabled)
+    private volatile WriteBehindQueue writeBehindQueue = null;
+    
     // Metrics window config (inherited from database resource)
     protected final int metricsWindowSeconds;
     
@@ -146,7 +152,12 @@ public abstract class AbstractDatabaseWrapper extends org.evochora.datapipeline.
             // Step 3: Set schema on connection
             database.doSetSchema(conn, simulationRunId);
             
-            // Step 4: Cache runId for future connection re-acquisition
+            // Step 4: Write pending flushes of the previous run before switching
+            if (!simulationRunId.equals(cachedRunId)) {
+                closeWriteBehindQueue();
+            }
+            
+            // Step 5: Cache runId for future connection re-acquisition
             this.cachedRunId = simulationRunId;
             
         } catch (Exception e) {
@@ -157,6 +168,53 @@ public abstract class AbstractDatabaseWrapper extends org.evochora.datapipeline.
         }
     }
     
+    /**
+     * Checks whether writes of this wrapper go through a write-behind stage.
+     *
+     * @return true if {@link #writeBehind(List, WriteBehindQueue.GroupWriter)} is available
+     */
+    protected boolean isWriteBehindEnabled() {
+        return database.isWriteBehindEnabled();
+    }
+    
+    /**
+     * Queues ticks on the write-behind stage of the current run, creating it on first use.
+     * <p>
+     * The writer is captured when the stage is created; later calls for the same run reuse it.
+     * Blocks while the stage is full.
+     *
+     * @param ticks Ticks of one indexer flush
+     * @param writer Writes the ticks of a group on the stage's connection in one transaction
+     * @return Future completing after the commit that covers the ticks
+     * @throws IllegalStateException if write-behind is disabled or no run is set
+     */
+    protected CompletableFuture<Void> writeBehind(List<TickData> ticks, WriteBehindQueue.GroupWriter writer) {
+        WriteBehindQueue queue = writeBehindQueue;
+        if (queue == null) {
+            if (cachedRunId == null) {
+                throw new IllegalStateException("setSimulationRun() must be called before writing");
+            }
+            queue = database.createWriteBehindQueue(
+                context.serviceName() + "-" + context.usageType() + "-writer", cachedRunId, writer);
+            if (queue == null) {
+                throw new IllegalStateException("Write-behind is disabled for database: " + database.getResourceName());
+            }
+            writeBehindQueue = queue;
+        }
+        return queue.submit(ticks);
+    }
+    
+    /**
+     * Writes all pending flushes of the write-behind stage and stops it.
+     */
+    private void closeWriteBehindQueue() {
+        WriteBehindQueue queue = writeBehindQueue;
+        if (queue != null) {
+            queue.close();
+            writeBehindQueue = null;
+        }
+    }
+    
     /**
      * Adds database wrapper-specific metrics to the provided map.
      * <p>
@@ -166,6 +224,8 @@ public abstract class AbstractDatabaseWrapper extends org.evochora.datapipeline.
      * Added metrics:
      * <ul>
      *   <li>connection_cached - 1 if connection is cached, 0 otherwise (O(1))</li>
+     *   <li>write_behind_* - pending flushes, group commits, committed and failed flushes of
+     *       the current run (only if write-behind is enabled, O(1))</li>
      * </ul>
      * <p>
      * Hook for subclasses to add implementation-specific metrics.
@@ -192,6 +252,14 @@ public abstract class AbstractDatabaseWrapper extends org.evochora.datapipeline.
     protected void addCustomMetrics(Map<String, Number> metrics) {
         super.addCustomMetrics(metrics);  // Include parent metrics (error_count)
         metrics.put("connection_cached", cachedConnection != null ? 1 : 0);  // O(1)
+        
+        if (isWriteBehindEnabled()) {
+            WriteBehindQueue queue = writeBehindQueue;
+            metrics.put("write_behind_pending_flushes", queue != null ? queue.pendingFlushes() : 0);
+            metrics.put("write_behind_group_commits", queue != null ? queue.groupCommits() : 0);
+            metrics.put("write_behind_flushes_committed", queue != null ? queue.flushesCommitted() : 0);
+            metrics.put("write_behind_flushes_failed", queue != null ? queue.flushesFailed() : 0);
+        }
     }
     
     /**
@@ -227,6 +295,7 @@ public abstract class AbstractDatabaseWrapper extends org.evochora.datapipeline.
     
     @Override
     public void close() {
+        closeWriteBehindQueue();
         releaseConnection();
     }
 }
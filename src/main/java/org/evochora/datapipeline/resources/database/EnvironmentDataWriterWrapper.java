@@ -3,6 +3,7 @@ package org.evochora.datapipeline.resources.database;
 import org.evochora.datapipeline.api.contracts.TickData;
 import org.evochora.datapipeline.api.resources.*;
 import org.evochora.datapipeline.api.resources.database.IResourceSchemaAwareEnvironmentDataWriter;
+import org.evochora.datapipeline.utils.cells.TickCells;
 import org.evochora.datapipeline.utils.monitoring.SlidingWindowCounter;
 import org.evochora.datapipeline.utils.monitoring.SlidingWindowPercentiles;
 import org.evochora.runtime.model.EnvironmentProperties;
@@ -11,6 +12,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -25,6 +27,10 @@ import java.util.concurrent.atomic.AtomicLong;
  *   <li>{@link SlidingWindowCounter} for throughput (cells_per_second, batches_per_second)</li>
  *   <li>{@link SlidingWindowPercentiles} for latency (write_latency_p50/p95/p99/avg_ms)</li>
  * </ul>
+ * <p>
+ * <strong>Write-Behind:</strong> If enabled on the database, {@link #writeEnvironmentCellsAsync}
+ * queues ticks for the database's write-behind stage; metrics are then recorded on commit and
+ * the write latency includes the time spent in the queue.
  */
 public class EnvironmentDataWriterWrapper extends AbstractDatabaseWrapper implements IResourceSchemaAwareEnvironmentDataWriter {
     private static final Logger log = LoggerFactory.getLogger(EnvironmentDataWriterWrapper.class);
@@ -94,7 +100,7 @@ public class EnvironmentDataWriterWrapper extends AbstractDatabaseWrapper implem
             database.doWriteEnvironmentCells(ensureConnection(), ticks, envProps);
             
             // Update metrics - O(1) operations
-            int totalCells = ticks.stream().mapToInt(t -> t.getCellsList().size()).sum();
+            int totalCells = ticks.stream().mapToInt(TickCells::count).sum();
             cellsWritten.addAndGet(totalCells);
             batchesWritten.incrementAndGet();
             
@@ -106,7 +112,7 @@ public class EnvironmentDataWriterWrapper extends AbstractDatabaseWrapper implem
             writeErrors.incrementAndGet();
             log.warn("Failed to write {} ticks with {} total cells: {}", 
                     ticks.size(), 
-                    ticks.stream().mapToInt(t -> t.getCellsList().size()).sum(),
+                    ticks.stream().mapToInt(TickCells::count).sum(),
                     e.getMessage());
             recordError("WRITE_ENV_CELLS_FAILED", "Failed to write environment cells",
                        "Ticks: " + ticks.size() + ", Error: " + e.getMessage());
@@ -114,6 +120,41 @@ public class EnvironmentDataWriterWrapper extends AbstractDatabaseWrapper implem
         }
     }
 
+    @Override
+    public CompletableFuture<Void> writeEnvironmentCellsAsync(List<TickData> ticks, EnvironmentProperties envProps) {
+        if (!isWriteBehindEnabled()) {
+            writeEnvironmentCells(ticks, envProps);
+            return CompletableFuture.completedFuture(null);
+        }
+        if (ticks.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        long startNanos = System.nanoTime();
+        int totalCells = ticks.stream().mapToInt(TickCells::count).sum();
+        
+        // Table creation stays synchronous (on the wrapper's own connection)
+        ensureEnvironmentDataTable(envProps.getWorldShape().length);
+        
+        return writeBehind(ticks, (conn, group) -> database.doWriteEnvironmentCells(conn, group, envProps))
+            .whenComplete((result, error) -> {
+                if (error == null) {
+                    cellsWritten.addAndGet(totalCells);
+                    batchesWritten.incrementAndGet();
+                    
+                    cellThroughput.recordSum(totalCells);
+                    batchThroughput.recordCount();
+                    writeLatency.record(System.nanoTime() - startNanos);
+                } else {
+                    writeErrors.incrementAndGet();
+                    log.warn("Failed to write {} ticks with {} total cells (write-behind): {}",
+                            ticks.size(), totalCells, error.getMessage());
+                    recordError("WRITE_ENV_CELLS_FAILED", "Failed to write environment cells",
+                               "Ticks: " + ticks.size() + ", Error: " + error.getMessage());
+                }
+            });
+    }
+
     /**
      * Ensures environment_ticks table exists.
      * <p>
@@ -738,6 +738,7 @@ public class H2Database extends AbstractDatabaseResource implements AutoCloseabl
      * <ul>
      *   <li>HikariCP connection pool metrics (O(1) via MXBean)</li>
      *   <li>Disk write rate (O(1) via SlidingWindowCounter)</li>
+     *   <li>Environment storage strategy metrics (O(1), see {@link IH2EnvStorageStrategy#addMetrics(Map)})</li>
      *   <li>H2 cache size (fast SQL query in INFORMATION_SCHEMA)</li>
      * </ul>
      * <p>
@@ -750,6 +751,9 @@ public class H2Database extends AbstractDatabaseResource implements AutoCloseabl
         
         // Disk write rate (O(1) via SlidingWindowCounter)
         metrics.put("h2_disk_writes_per_sec", diskWritesCounter.getRate());
+
+        // Environment storage strategy metrics (e.g. BLOB compression ratio, O(1))
+        envStorageStrategy.addMetrics(metrics);
         
         if (dataSource != null && !dataSource.isClosed()) {
             // HikariCP connection pool metrics (O(1) via MXBean - instant reads)
@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -21,6 +22,9 @@ import java.util.concurrent.atomic.AtomicLong;
  * <p>
  * All metric recording operations are O(1) using {@link AtomicLong},
  * {@link SlidingWindowCounter}, and {@link SlidingWindowPercentiles}.
+ * <p>
+ * If write-behind is enabled on the database, {@link #writeOrganismStatesAsync(List)} queues
+ * ticks for the write-behind stage; metrics are then recorded on commit.
  */
 public class OrganismDataWriterWrapper extends AbstractDatabaseWrapper implements IResourceSchemaAwareOrganismDataWriter {
 
@@ -101,6 +105,41 @@ public class OrganismDataWriterWrapper extends AbstractDatabaseWrapper implement
         }
     }
 
+    @Override
+    public CompletableFuture<Void> writeOrganismStatesAsync(List<TickData> ticks) {
+        if (!isWriteBehindEnabled()) {
+            writeOrganismStates(ticks);
+            return CompletableFuture.completedFuture(null);
+        }
+        if (ticks.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long startNanos = System.nanoTime();
+        int totalOrganisms = ticks.stream().mapToInt(TickData::getOrganismsCount).sum();
+
+        // Table creation stays synchronous (on the wrapper's own connection)
+        ensureOrganismTables();
+
+        return writeBehind(ticks, database::doWriteOrganismStates)
+                .whenComplete((result, error) -> {
+                    if (error == null) {
+                        organismsWritten.addAndGet(totalOrganisms);
+                        batchesWritten.incrementAndGet();
+
+                        organismThroughput.recordSum(totalOrganisms);
+                        batchThroughput.recordCount();
+                        writeLatency.record(System.nanoTime() - startNanos);
+                    } else {
+                        writeErrors.incrementAndGet();
+                        log.warn("Failed to write {} ticks with {} organisms (write-behind): {}",
+                                ticks.size(), totalOrganisms, error.getMessage());
+                        recordError("WRITE_ORGANISM_STATES_FAILED", "Failed to write organism states",
+                                "Ticks: " + ticks.size() + ", Organisms: " + totalOrganisms + ", Error: " + error.getMessage());
+                    }
+                });
+    }
+
     /**
      * Ensures organism tables exist.
      * <p>
@@ -0,0 +1,233 @@
+package org.evochora.datapipeline.resources.database;
+
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind stage of a database writer wrapper.
+ * <p>
+ * The indexer thread submits the ticks of each flush and continues reading batches while a
+ * dedicated writer thread persists them on its own connection. The writer takes all flushes
+ * that are pending when it becomes idle (up to {@code maxGroupFlushes}) and writes them with
+ * one {@code doWrite*()} call, i.e. in one transaction with one commit (group commit). The
+ * future of each flush completes only after that commit, so callers acknowledge topic messages
+ * only for ticks that are durable. If the group fails, the futures of all its flushes fail.
+ * <p>
+ * The queue is bounded: {@link #submit(List)} blocks while {@code capacity} flushes are
+ * pending, which limits the ticks held in memory and slows the indexer down to the database.
+ * A write-behind queue belongs to one run; its connection uses that run's schema.
+ * <p>
+ * <strong>Thread Safety:</strong> {@link #submit(List)} is called by one indexer thread,
+ * everything else runs on the writer thread. Metrics may be read from any thread.
+ */
+final class WriteBehindQueue implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindQueue.class);
+
+    /**
+     * Writes the ticks of a group in one transaction.
+     */
+    @FunctionalInterface
+    interface GroupWriter {
+        /**
+         * @param connection the writer connection (schema already set)
+         * @param ticks ticks of all flushes in the group, in submission order
+         * @throws Exception if the write fails (the transaction is rolled back)
+         */
+        void write(Object connection, List<TickData> ticks) throws Exception;
+    }
+
+    private record PendingFlush(List<TickData> ticks, CompletableFuture<Void> committed) {
+    }
+
+    // Submitted by close() to stop the writer once all flushes before it are written
+    private static final PendingFlush END = new PendingFlush(List.of(), null);
+
+    private final AbstractDatabaseResource database;
+    private final String runId;
+    private final int maxGroupFlushes;
+    private final GroupWriter writer;
+    private final int capacity;
+    private final Semaphore capacityPermits;
+    private final BlockingQueue<PendingFlush> pending = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+    private volatile boolean closed = false;
+
+    // Only used by the writer thread
+    private Object connection;
+
+    private final AtomicLong groupCommits = new AtomicLong(0);
+    private final AtomicLong flushesCommitted = new AtomicLong(0);
+    private final AtomicLong flushesFailed = new AtomicLong(0);
+
+    /**
+     * Creates the queue and starts its writer thread.
+     *
+     * @param database database the writer connection is acquired from
+     * @param name name of the writer thread
+     * @param runId run whose schema the writer connection uses
+     * @param capacity maximum number of pending flushes (must be positive)
+     * @param maxGroupFlushes maximum number of flushes per transaction (must be positive)
+     * @param writer writes the ticks of a group
+     */
+    WriteBehindQueue(AbstractDatabaseResource database, String name, String runId,
+                     int capacity, int maxGroupFlushes, GroupWriter writer) {
+        if (capacity <= 0 || maxGroupFlushes <= 0) {
+            throw new IllegalArgumentException("capacity and maxGroupFlushes must be positive");
+        }
+        this.database = database;
+        this.runId = runId;
+        this.maxGroupFlushes = maxGroupFlushes;
+        this.writer = writer;
+        this.capacity = capacity;
+        this.capacityPermits = new Semaphore(capacity);
+        this.writerThread = new Thread(this::run, name);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Queues the ticks of one flush, blocking while the queue is full.
+     *
+     * @param ticks ticks to write
+     * @return a future that completes after the commit covering the ticks, or fails if they
+     *         could not be written (also if the queue is closed or the caller is interrupted)
+     */
+    CompletableFuture<Void> submit(List<TickData> ticks) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Write-behind queue is closed"));
+        }
+        try {
+            capacityPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<Void> committed = new CompletableFuture<>();
+        committed.whenComplete((result, error) -> capacityPermits.release());
+        pending.add(new PendingFlush(ticks, committed));
+        return committed;
+    }
+
+    /**
+     * @return number of flushes submitted but not yet committed or failed
+     */
+    int pendingFlushes() {
+        return capacity - capacityPermits.availablePermits();
+    }
+
+    long groupCommits() {
+        return groupCommits.get();
+    }
+
+    long flushesCommitted() {
+        return flushesCommitted.get();
+    }
+
+    long flushesFailed() {
+        return flushesFailed.get();
+    }
+
+    private void run() {
+        List<PendingFlush> group = new ArrayList<>();
+        try {
+            while (true) {
+                group.add(pending.take());
+                pending.drainTo(group, maxGroupFlushes - 1);
+                boolean end = group.removeIf(flush -> flush == END);
+                if (!group.isEmpty()) {
+                    writeGroup(group);
+                }
+                group.clear();
+                if (end) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            failAll(group, e);
+        } finally {
+            releaseConnection();
+        }
+    }
+
+    private void writeGroup(List<PendingFlush> group) {
+        List<TickData> ticks = new ArrayList<>();
+        for (PendingFlush flush : group) {
+            ticks.addAll(flush.ticks());
+        }
+        try {
+            writer.write(ensureConnection(), ticks);
+        } catch (Exception e) {
+            // Connection may be broken; a fresh one is acquired for the next group
+            releaseConnection();
+            failAll(group, e);
+            return;
+        }
+        groupCommits.incrementAndGet();
+        flushesCommitted.addAndGet(group.size());
+        for (PendingFlush flush : group) {
+            flush.committed().complete(null);
+        }
+    }
+
+    private void failAll(List<PendingFlush> flushes, Exception cause) {
+        for (PendingFlush flush : flushes) {
+            if (flush != END) {
+                flushesFailed.incrementAndGet();
+                flush.committed().completeExceptionally(cause);
+            }
+        }
+    }
+
+    private Object ensureConnection() throws Exception {
+        if (connection == null || database.isConnectionClosed(connection)) {
+            connection = database.acquireDedicatedConnection();
+            database.doCreateSchema(connection, runId);
+            database.doSetSchema(connection, runId);
+        }
+        return connection;
+    }
+
+    private void releaseConnection() {
+        if (connection != null) {
+            try {
+                database.closeConnection(connection);
+            } catch (Exception e) {
+                log.debug("Failed to release write-behind connection (may already be closed): {}", e.getMessage());
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    /**
+     * Writes all pending flushes and stops the writer thread. Flushes submitted afterwards, or
+     * left over because the closing thread was interrupted, fail; their batches are redelivered.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pending.add(END);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            writerThread.interrupt();
+            Thread.currentThread().interrupt();
+        }
+        List<PendingFlush> remaining = new ArrayList<>();
+        pending.drainTo(remaining);
+        failAll(remaining, new IllegalStateException("Write-behind queue is closed"));
+    }
+}
@@ -9,6 +9,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * H2-specific strategy interface for storing and reading environment data.
@@ -96,6 +97,14 @@ public interface IH2EnvStorageStrategy {
     List<org.evochora.datapipeline.api.contracts.CellState> readTick(Connection conn, long tickNumber, 
                                                                       SpatialRegion region, 
                                                                       EnvironmentProperties envProps) throws SQLException, TickNotFoundException;
-}
-
 
+    /**
+     * Adds strategy-specific metrics, e.g. compression statistics of environment BLOBs.
+     * <p>
+     * Called from the metrics hook of the database resource, so it must be O(1).
+     *
+     * @param metrics Mutable map to add metrics to
+     */
+    default void addMetrics(Map<String, Number> metrics) {
+    }
+}
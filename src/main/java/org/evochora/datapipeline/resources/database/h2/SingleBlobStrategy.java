@@ -4,8 +4,13 @@ import com.typesafe.config.Config;
 import org.evochora.datapipeline.api.contracts.CellStateList;
 import org.evochora.datapipeline.api.contracts.TickData;
 import org.evochora.datapipeline.utils.H2SchemaUtil;
+import org.evochora.datapipeline.utils.cells.TickCells;
 import org.evochora.datapipeline.utils.compression.CompressionCodecFactory;
+import org.evochora.datapipeline.utils.compression.CompressionException;
+import org.evochora.datapipeline.utils.compression.CompressionStats;
 import org.evochora.datapipeline.utils.compression.ICompressionCodec;
+import org.evochora.datapipeline.utils.compression.ZstdCodec;
+import org.evochora.datapipeline.utils.compression.ZstdDictionary;
 import org.evochora.runtime.model.EnvironmentProperties;
 
 import java.io.ByteArrayOutputStream;
@@ -16,8 +21,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.evochora.datapipeline.api.resources.database.dto.SpatialRegion;
 import org.evochora.datapipeline.api.resources.database.TickNotFoundException;
@@ -39,6 +47,12 @@ import org.evochora.datapipeline.api.resources.database.TickNotFoundException;
  * <p>
  * <strong>Best For:</strong> Large runs where storage size is critical.
  * <p>
+ * <strong>Compression Dictionary:</strong> With {@code compression.dictionary.enabled} (zstd
+ * only), a dictionary is trained per schema from the first {@code trainingTicks} BLOBs and
+ * stored in the {@code compression_dictionaries} table; later BLOBs are compressed with it.
+ * Readers find the dictionary by the ID in the BLOB's frame header, so BLOBs written before
+ * training (or by strategies without dictionary) stay readable.
+ * <p>
  * <strong>PreparedStatement Caching:</strong> Caches PreparedStatement per connection.
  * When connection changes (pool rotation), automatically recreates the statement.
  * This provides performance benefits while remaining pool-safe.
@@ -95,6 +109,14 @@ public class SingleBlobStrategy extends AbstractH2EnvStorageStrategy {
     
     final ICompressionCodec codec;
     String mergeSql;  // SQL string (exposed via getMergeSql() for H2Database caching)
+
+    private final int dictionaryTrainingTicks;  // 0 = dictionary disabled
+    private final int dictionaryMaxBytes;
+    // Dictionary training state per schema (one schema per run)
+    private final Map<String, SchemaDictionary> schemaDictionaries = new ConcurrentHashMap<>();
+    // Dictionaries loaded for reading, keyed by "schema/dictionaryId"
+    private final Map<String, ZstdDictionary> loadedDictionaries = new ConcurrentHashMap<>();
+    private final CompressionStats compressionStats = new CompressionStats();
     
     /**
      * Creates SingleBlobStrategy with optional compression.
@@ -104,7 +126,24 @@ public class SingleBlobStrategy extends AbstractH2EnvStorageStrategy {
     public SingleBlobStrategy(Config options) {
         super(options);
         this.codec = CompressionCodecFactory.create(options);
-        log.debug("SingleBlobStrategy initialized with compression: {}", codec.getName());
+
+        boolean dictionaryEnabled = options.hasPath("compression.dictionary.enabled")
+            && options.getBoolean("compression.dictionary.enabled");
+        if (dictionaryEnabled && !(codec instanceof ZstdCodec)) {
+            throw new IllegalArgumentException("compression.dictionary requires the zstd codec");
+        }
+        this.dictionaryTrainingTicks = !dictionaryEnabled ? 0
+            : options.hasPath("compression.dictionary.trainingTicks")
+                ? options.getInt("compression.dictionary.trainingTicks")
+                : 100;
+        this.dictionaryMaxBytes = options.hasPath("compression.dictionary.maxSizeBytes")
+            ? options.getBytes("compression.dictionary.maxSizeBytes").intValue()
+            : ZstdDictionary.DEFAULT_MAX_SIZE;
+        if (dictionaryEnabled && dictionaryTrainingTicks <= 0) {
+            throw new IllegalArgumentException("compression.dictionary.trainingTicks must be > 0");
+        }
+        log.debug("SingleBlobStrategy initialized with compression: {}, dictionary: {}",
+            codec.getName(), dictionaryEnabled ? "after " + dictionaryTrainingTicks + " ticks" : "disabled");
     }
     
     @Override
@@ -126,6 +165,15 @@ public class SingleBlobStrategy extends AbstractH2EnvStorageStrategy {
                 "CREATE INDEX IF NOT EXISTS idx_env_tick ON environment_ticks (tick_number)",
                 "idx_env_tick"
             );
+
+            H2SchemaUtil.executeDdlIfNotExists(
+                stmt,
+            "CREATE TABLE IF NOT EXISTS compression_dictionaries (" +
+            "  dict_id BIGINT PRIMARY KEY," +
+            "  dictionary BYTEA NOT NULL" +
+            ")",
+                "compression_dictionaries"
+            );
         }
         
         // Cache SQL string
@@ -150,7 +198,7 @@ public class SingleBlobStrategy extends AbstractH2EnvStorageStrategy {
         // Filter out ticks with empty cell lists (shouldn't happen in practice)
         List<TickData> validTicks = ticks.stream()
             .filter(tick -> {
-                if (tick.getCellsList().isEmpty()) {
+                if (TickCells.count(tick) == 0) {
                     log.warn("Tick {} has empty cell list - skipping database write", tick.getTickNumber());
                     return false;
                 }
@@ -165,8 +213,24 @@ public class SingleBlobStrategy extends AbstractH2EnvStorageStrategy {
         
         // Use provided PreparedStatement (cached by H2Database per connection)
         // This eliminates SQL parsing overhead (~30-50% performance improvement)
+        SchemaDictionary schemaDictionary = dictionaryTrainingTicks > 0
+            ? schemaDictionaries.computeIfAbsent(conn.getSchema(), schema -> new SchemaDictionary())
+            : null;
+        ZstdDictionary persisted = null;
         for (TickData tick : validTicks) {
-            byte[] cellsBlob = serializeTickCells(tick);
+            byte[] serialized = toCellStateList(tick).toByteArray();
+            ICompressionCodec blobCodec = codec;
+            if (schemaDictionary != null) {
+                ZstdDictionary dictionary = schemaDictionary.dictionaryFor(serialized);
+                if (dictionary != null) {
+                    if (dictionary != persisted) {
+                        persistDictionary(conn, dictionary);
+                        persisted = dictionary;
+                    }
+                    blobCodec = ((ZstdCodec) codec).withDictionary(dictionary);
+                }
+            }
+            byte[] cellsBlob = compress(blobCodec, serialized, tick.getTickNumber());
             
             stmt.setLong(1, tick.getTickNumber());
             stmt.setBytes(2, cellsBlob);
@@ -180,33 +244,139 @@ public class SingleBlobStrategy extends AbstractH2EnvStorageStrategy {
     }
     
     /**
-     * Serializes tick cells to compressed BLOB using Protobuf CellStateList.
+     * Converts tick cells to the Protobuf CellStateList stored in the BLOB. Columnar ticks
+     * are stored as {@code CellStateList.columns}, so their cells stay packed in the BLOB.
      * <p>
-     * <strong>Precondition:</strong> tick.getCellsList() must not be empty.
+     * <strong>Precondition:</strong> the tick must have cells.
      * This method is only called for ticks that passed the empty check in writeTicks().
      * 
      * @param tick The tick data containing cells to serialize (must have cells)
+     * @return The cell list of the tick
+     */
+    private CellStateList toCellStateList(TickData tick) {
+        return tick.hasCellColumns()
+            ? CellStateList.newBuilder().setColumns(tick.getCellColumns()).build()
+            : CellStateList.newBuilder().addAllCells(tick.getCellsList()).build();
+    }
+
+    /**
+     * Compresses a serialized CellStateList to a BLOB.
+     *
+     * @param blobCodec Codec to compress with (possibly with dictionary)
+     * @param serialized Serialized CellStateList
+     * @param tickNumber Tick number for error messages
      * @return Compressed byte array ready for BLOB storage
-     * @throws SQLException if serialization fails
+     * @throws SQLException if compression fails
      */
-    private byte[] serializeTickCells(TickData tick) throws SQLException {
+    private byte[] compress(ICompressionCodec blobCodec, byte[] serialized, long tickNumber) throws SQLException {
+        long start = System.nanoTime();
         try {
-            CellStateList cellsList = CellStateList.newBuilder()
-                .addAllCells(tick.getCellsList())
-                .build();
-            
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            try (OutputStream compressed = codec.wrapOutputStream(baos)) {
-                cellsList.writeTo(compressed);
+            try (OutputStream compressed = blobCodec.wrapOutputStream(baos)) {
+                compressed.write(serialized);
             }
-            
+            compressionStats.recordCompression(serialized.length, baos.size(), System.nanoTime() - start);
             return baos.toByteArray();
             
         } catch (IOException e) {
-            throw new SQLException("Failed to serialize cells for tick: " + tick.getTickNumber(), e);
+            throw new SQLException("Failed to serialize cells for tick: " + tickNumber, e);
         }
     }
 
+    /**
+     * Stores a dictionary in the schema of the connection unless it is already there.
+     * <p>
+     * Checked once per {@link #writeTicks} call instead of once per training, so the dictionary
+     * is part of the same transaction as the first BLOBs using it even if an earlier
+     * transaction storing it was rolled back.
+     */
+    private void persistDictionary(Connection conn, ZstdDictionary dictionary) throws SQLException {
+        try (PreparedStatement select = conn.prepareStatement(
+                "SELECT 1 FROM compression_dictionaries WHERE dict_id = ?")) {
+            select.setLong(1, dictionary.getId());
+            try (ResultSet rs = select.executeQuery()) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+        }
+        try (PreparedStatement merge = conn.prepareStatement(
+                "MERGE INTO compression_dictionaries (dict_id, dictionary) KEY (dict_id) VALUES (?, ?)")) {
+            merge.setLong(1, dictionary.getId());
+            merge.setBytes(2, dictionary.getContent());
+            merge.executeUpdate();
+        }
+    }
+
+    private ZstdDictionary loadDictionary(Connection conn, long id) throws IOException {
+        try {
+            String cacheKey = conn.getSchema() + "/" + id;
+            ZstdDictionary cached = loadedDictionaries.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT dictionary FROM compression_dictionaries WHERE dict_id = ?")) {
+                stmt.setLong(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new IOException("Compression dictionary " + id + " not found");
+                    }
+                    ZstdDictionary dictionary = new ZstdDictionary(rs.getBytes(1));
+                    loadedDictionaries.put(cacheKey, dictionary);
+                    return dictionary;
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to load compression dictionary " + id, e);
+        }
+    }
+
+    /**
+     * Dictionary training state of one schema: collects serialized BLOB contents as samples
+     * until enough are seen, then trains once.
+     */
+    private final class SchemaDictionary {
+        private List<byte[]> samples = new ArrayList<>();
+        private long sampleBytes;
+        private ZstdDictionary dictionary;
+
+        /**
+         * Adds a training sample if still training.
+         *
+         * @return the dictionary to compress the sample with, or null to compress without
+         */
+        synchronized ZstdDictionary dictionaryFor(byte[] serialized) {
+            if (dictionary != null || samples == null) {
+                return dictionary;
+            }
+            samples.add(serialized);
+            sampleBytes += serialized.length;
+            if (samples.size() < dictionaryTrainingTicks
+                    && sampleBytes < ZstdDictionary.maxTrainingBytes(dictionaryMaxBytes)) {
+                return null;
+            }
+            try {
+                dictionary = ZstdDictionary.train(samples, dictionaryMaxBytes);
+                log.debug("Trained environment compression dictionary {} from {} ticks",
+                    dictionary.getId(), samples.size());
+            } catch (CompressionException e) {
+                log.warn("Compressing environment BLOBs without dictionary: {}", e.getMessage());
+            }
+            samples = null;
+            return dictionary;
+        }
+    }
+
+    /**
+     * Adds compression statistics of the environment BLOBs, prefixed with {@code env_blob_}
+     * (see {@link CompressionStats#addMetrics(Map, String)}).
+     */
+    @Override
+    public void addMetrics(Map<String, Number> metrics) {
+        compressionStats.addMetrics(metrics, "env_blob_");
+    }
+
     @Override
     public List<org.evochora.datapipeline.api.contracts.CellState> readTick(Connection conn, long tickNumber, 
                                                                            SpatialRegion region, 
@@ -227,11 +397,15 @@ public class SingleBlobStrategy extends AbstractH2EnvStorageStrategy {
             return Collections.emptyList();  // Empty tick
         }
         
-        // 2. Auto-detect compression
+        // 2. Auto-detect compression (and dictionary from the zstd frame header)
         ICompressionCodec detectedCodec = CompressionCodecFactory.detectFromMagicBytes(blobData);
+        if (detectedCodec instanceof ZstdCodec zstd && ZstdDictionary.idOfFrame(blobData) != 0) {
+            detectedCodec = zstd.withResolver(id -> loadDictionary(conn, id));
+        }
         
         // 3. Decompress BLOB
         byte[] decompressed;
+        long decompressStart = System.nanoTime();
         try {
             java.io.ByteArrayInputStream bis = new java.io.ByteArrayInputStream(blobData);
             java.io.ByteArrayOutputStream bos = new java.io.ByteArrayOutputStream();
@@ -243,6 +417,7 @@ public class SingleBlobStrategy extends AbstractH2EnvStorageStrategy {
                 }
                 decompressed = bos.toByteArray();
             }
+            compressionStats.recordDecompression(decompressed.length, System.nanoTime() - decompressStart);
         } catch (IOException e) {
             throw new SQLException("Failed to decompress BLOB for tick " + tickNumber, e);
         }
@@ -255,7 +430,9 @@ public class SingleBlobStrategy extends AbstractH2EnvStorageStrategy {
             throw new SQLException("Failed to deserialize CellStateList for tick " + tickNumber, e);
         }
         
-        List<org.evochora.datapipeline.api.contracts.CellState> allCells = cellStateList.getCellsList();
+        List<org.evochora.datapipeline.api.contracts.CellState> allCells = cellStateList.hasColumns()
+            ? TickCells.toCellStates(cellStateList.getColumns())
+            : cellStateList.getCellsList();
         
         // 5. Filter by region (if provided)
         if (region == null) {
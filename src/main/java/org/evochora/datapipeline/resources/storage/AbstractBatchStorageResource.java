@@ -1,8 +1,12 @@
 package org.evochora.datapipeline.resources.storage;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.MessageLite;
 import com.google.protobuf.Parser;
 import com.typesafe.config.Config;
+import org.evochora.datapipeline.api.contracts.BatchIndex;
+import org.evochora.datapipeline.api.contracts.CompressionDictionary;
 import org.evochora.datapipeline.api.contracts.TickData;
 import org.evochora.datapipeline.api.resources.IContextualResource;
 import org.evochora.datapipeline.api.resources.IWrappedResource;
@@ -11,10 +15,17 @@ import org.evochora.datapipeline.api.resources.storage.BatchFileListResult;
 import org.evochora.datapipeline.api.resources.storage.IResourceBatchStorageRead;
 import org.evochora.datapipeline.api.resources.storage.IBatchStorageWrite;
 import org.evochora.datapipeline.api.resources.storage.StoragePath;
+import org.evochora.datapipeline.api.resources.storage.TickProjection;
 import org.evochora.datapipeline.resources.AbstractResource;
 import org.evochora.datapipeline.resources.storage.wrappers.MonitoredBatchStorageReader;
 import org.evochora.datapipeline.resources.storage.wrappers.MonitoredBatchStorageWriter;
+import org.evochora.datapipeline.utils.compression.CompressionCodecFactory;
+import org.evochora.datapipeline.utils.compression.CompressionException;
+import org.evochora.datapipeline.utils.compression.CompressionStats;
 import org.evochora.datapipeline.utils.compression.ICompressionCodec;
+import org.evochora.datapipeline.utils.compression.ZstdCodec;
+import org.evochora.datapipeline.utils.compression.ZstdDictionary;
+import org.evochora.datapipeline.utils.delta.TickDeltaReconstructor;
 import org.evochora.datapipeline.utils.monitoring.SlidingWindowCounter;
 import org.evochora.datapipeline.utils.monitoring.SlidingWindowPercentiles;
 import org.slf4j.Logger;
@@ -25,6 +36,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -32,6 +46,8 @@ import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
 
 /**
  * Abstract base class for batch storage resources with hierarchical folder organization.
@@ -39,7 +55,7 @@ import java.util.stream.Collectors;
  * This class implements all the high-level logic for batch storage:
  * <ul>
  *   <li>Hierarchical folder path calculation based on tick ranges</li>
- *   <li>Atomic batch file writing with compression</li>
+ *   <li>Streaming, atomic batch file writing with compression</li>
  *   <li>Base monitoring and metrics tracking</li>
  * </ul>
  * <p>
@@ -53,10 +69,20 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
 
     private static final Logger log = LoggerFactory.getLogger(AbstractBatchStorageResource.class);
 
+    // Per run and projection read (see materializedKey)
+    private static final int MAX_MATERIALIZED_RUNS = 8;
+    private static final int MAX_DICTIONARY_RUNS = 16;
+    private static final String DICTIONARY_FILE_PREFIX = "dictionary_";
+
     // Configuration
     protected final List<Long> folderLevels;
     protected final ICompressionCodec codec;
     protected final int metricsWindowSeconds;
+    protected final long seekableFrameBytes;
+    protected final boolean containerFormat;
+    protected final boolean skipCorruptChunks;
+    protected final int dictionaryTrainingTicks;
+    protected final int dictionaryMaxBytes;
 
     // Base metrics tracking (all storage implementations)
     protected final java.util.concurrent.atomic.AtomicLong writeOperations = new java.util.concurrent.atomic.AtomicLong(0);
@@ -69,6 +95,34 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
     // Batch size tracking metrics (O(1) operations only, helps diagnose memory issues)
     protected final java.util.concurrent.atomic.AtomicLong lastReadBatchSizeMB = new java.util.concurrent.atomic.AtomicLong(0);
     protected final java.util.concurrent.atomic.AtomicLong maxReadBatchSizeMB = new java.util.concurrent.atomic.AtomicLong(0);
+    protected final java.util.concurrent.atomic.AtomicLong lastWriteBufferBytes = new java.util.concurrent.atomic.AtomicLong(0);
+    protected final java.util.concurrent.atomic.AtomicLong maxWriteBufferBytes = new java.util.concurrent.atomic.AtomicLong(0);
+
+    // Last tick materialized per delta-encoded run and projection, so batches read in order continue without replay
+    private final Map<String, TickData> lastMaterializedTicks = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TickData> eldest) {
+            return size() > MAX_MATERIALIZED_RUNS;
+        }
+    };
+
+    // Compression dictionary per run written by this instance (training state until trained)
+    private final Map<String, RunDictionary> runDictionaries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RunDictionary> eldest) {
+            return size() > MAX_DICTIONARY_RUNS;
+        }
+    };
+
+    // Dictionaries loaded for reading, keyed by "runId/dictionaryId"
+    private final Map<String, ZstdDictionary> loadedDictionaries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ZstdDictionary> eldest) {
+            return size() > MAX_DICTIONARY_RUNS;
+        }
+    };
+
+    private final CompressionStats compressionStats = new CompressionStats();
 
     // Performance metrics (sliding window using unified utils)
     private final SlidingWindowCounter writeOpsCounter;
@@ -117,6 +171,37 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
             ? options.getInt("metricsWindowSeconds")
             : 5;
 
+        // Parse seekable framing configuration (default: 1 MiB of serialized ticks per frame, 0 = off)
+        this.seekableFrameBytes = options.hasPath("seekableFrameBytes")
+            ? options.getBytes("seekableFrameBytes")
+            : 1_048_576L;
+        if (seekableFrameBytes < 0) {
+            throw new IllegalArgumentException("seekableFrameBytes must be >= 0");
+        }
+
+        // Parse batch container configuration (default: bare batch files, corrupt chunks fail reads)
+        this.containerFormat = options.hasPath("batchContainer.enabled")
+            && options.getBoolean("batchContainer.enabled");
+        this.skipCorruptChunks = options.hasPath("batchContainer.skipCorruptChunks")
+            && options.getBoolean("batchContainer.skipCorruptChunks");
+
+        // Parse compression dictionary configuration (zstd only, default: disabled)
+        boolean dictionaryEnabled = options.hasPath("compression.dictionary.enabled")
+            && options.getBoolean("compression.dictionary.enabled");
+        if (dictionaryEnabled && !(codec instanceof ZstdCodec)) {
+            throw new IllegalArgumentException("compression.dictionary requires the zstd codec");
+        }
+        this.dictionaryTrainingTicks = !dictionaryEnabled ? 0
+            : options.hasPath("compression.dictionary.trainingTicks")
+                ? options.getInt("compression.dictionary.trainingTicks")
+                : 100;
+        this.dictionaryMaxBytes = options.hasPath("compression.dictionary.maxSizeBytes")
+            ? options.getBytes("compression.dictionary.maxSizeBytes").intValue()
+            : ZstdDictionary.DEFAULT_MAX_SIZE;
+        if (dictionaryEnabled && dictionaryTrainingTicks <= 0) {
+            throw new IllegalArgumentException("compression.dictionary.trainingTicks must be > 0");
+        }
+
         // Initialize performance metrics trackers
         this.writeOpsCounter = new SlidingWindowCounter(metricsWindowSeconds);
         this.writeBytesCounter = new SlidingWindowCounter(metricsWindowSeconds);
@@ -151,17 +236,24 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
         // Convert to physical path (adds compression extension)
         String physicalPath = toPhysicalPath(logicalPath);
 
-        // Serialize and compress batch
-        byte[] data = serializeBatch(batch);
-        byte[] compressed = compressBatch(data);
-
-        // Write directly to physical path (atomic write with temp file)
+        // Stream serialize → compress → backend in one pass (no batch-sized byte arrays)
         long writeStart = System.nanoTime();
-        putRaw(physicalPath, compressed);
+        BatchIndex.Builder index = BatchIndex.newBuilder();
+        ICompressionCodec batchCodec = codecForRun(simulationId, batch);
+        CRC32C checksum = new CRC32C();
+        long written = writeFrames(physicalPath, batch, firstTick, lastTick, index, batchCodec, checksum);
+        if (seekableFrameBytes > 0 && !containerFormat) {
+            // Written after the batch: a batch without index is still readable, an index without batch is not
+            BatchIndex builtIndex = index.build();
+            putRawStreaming(indexPathOf(physicalPath), builtIndex::writeTo);
+        }
+        onBatchWritten(physicalPath, firstTick, lastTick, written, (int) checksum.getValue());
         long writeLatency = System.nanoTime() - writeStart;
 
         // Record metrics
-        recordWrite(compressed.length, writeLatency);
+        recordWrite(written, writeLatency);
+        compressionStats.recordCompression(batch.stream().mapToLong(TickData::getSerializedSize).sum(),
+            written, writeLatency);
 
         log.debug("Wrote batch {} with {} ticks", physicalPath, batch.size());
 
@@ -170,30 +262,337 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
 
     @Override
     public List<TickData> readBatch(StoragePath path) throws IOException {
+        return readBatch(path, TickProjection.FULL);
+    }
+
+    @Override
+    public List<TickData> readBatch(StoragePath path, TickProjection projection) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+        if (projection == null) {
+            throw new IllegalArgumentException("projection cannot be null");
+        }
+        return materializeDeltas(parseBatch(path, projection), path, projection);
+    }
+
+    @Override
+    public Iterable<TickData> iterateBatch(StoragePath path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+        long readStart = System.nanoTime();
+        ByteBuffer data = getRawMapped(path.asString());
+        recordRead(data.remaining(), System.nanoTime() - readStart);
+
+        return () -> new LazyBatchIterator(path, data.duplicate());
+    }
+
+    @Override
+    public Optional<TickData> readTick(StoragePath path, long tickNumber) throws IOException {
         if (path == null) {
             throw new IllegalArgumentException("path cannot be null");
         }
+        long readStart = System.nanoTime();
+        ByteBuffer data = getRawMapped(path.asString());
+        BatchContainer container = BatchContainer.isContainer(data) ? BatchContainer.open(data) : null;
+        BatchIndex index = container != null ? container.index() : readIndex(path, data.remaining());
+
+        // Without index, decompress from the start of the file until the tick is found
+        ByteBuffer frame = data.duplicate();
+        if (index != null) {
+            int position = Collections.binarySearch(index.getTickNumbersList(), tickNumber);
+            if (position < 0) {
+                return Optional.empty();
+            }
+            int frameNumber = index.getTickFrames(position);
+            if (container != null && !container.isChunkIntact(frameNumber)) {
+                throw new IOException(corruptChunkMessage(path, frameNumber));
+            }
+            frame.position((int) index.getFrameOffsets(frameNumber)).limit((int) index.getFrameOffsets(frameNumber + 1));
+        }
+        int frameSize = frame.remaining();
+
+        ICompressionCodec detectedCodec = container != null
+            ? withDictionaryResolver(container.codec(), path.asString())
+            : readCodecFor(path.asString());
+        TickData tick = null;
+        try (InputStream decompressedStream = detectedCodec.wrapInputStream(new ByteBufferInputStream(frame))) {
+            TickData candidate;
+            while ((candidate = TickData.parseDelimitedFrom(decompressedStream)) != null) {
+                if (candidate.getTickNumber() == tickNumber) {
+                    tick = candidate;
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            throw new IOException("Failed to decompress and parse batch: " + path.asString(), e);
+        }
+        recordRead(frameSize, System.nanoTime() - readStart);
+
+        if (tick == null) {
+            return Optional.empty();
+        }
+        if (tick.getIsDelta()) {
+            try {
+                tick = restoreDeltaBase(tick, TickProjection.FULL).apply(tick);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Failed to materialize tick " + tickNumber + " of batch: " + path.asString(), e);
+            }
+        }
+        return Optional.of(tick);
+    }
+
+    /**
+     * Describes a batch file without decompressing its ticks: from the header and footer of a
+     * container, whose chunk checksums are verified, or from the name and index of a bare
+     * batch file.
+     *
+     * @param path physical path of the batch file
+     * @return the description
+     * @throws IOException if the file cannot be read or its container header or footer is invalid
+     */
+    public BatchFileStats describeBatch(StoragePath path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+        ByteBuffer data = getRawMapped(path.asString());
+        if (BatchContainer.isContainer(data)) {
+            BatchContainer container = BatchContainer.open(data);
+            List<Integer> corruptChunks = new ArrayList<>();
+            for (int chunk = 0; chunk < container.chunkCount(); chunk++) {
+                if (!container.isChunkIntact(chunk)) {
+                    corruptChunks.add(chunk);
+                }
+            }
+            return new BatchFileStats(container.version(), container.codec().getName(), container.dictionaryId(),
+                container.firstTick(), container.lastTick(), container.index().getTickNumbersCount(),
+                container.chunkCount(), data.remaining(), container.uncompressedBytes(), corruptChunks);
+        }
 
+        ICompressionCodec detectedCodec = CompressionCodecFactory.detectFromExtension(path.asString());
+        long dictionaryId = 0;
+        if (detectedCodec instanceof ZstdCodec) {
+            byte[] frameHeader = new byte[Math.min(18, data.remaining())];
+            data.duplicate().get(frameHeader);
+            dictionaryId = ZstdDictionary.idOfFrame(frameHeader);
+        }
+        BatchIndex index = readIndex(path, data.remaining());
+        return new BatchFileStats(0, detectedCodec.getName(), dictionaryId,
+            parseBatchStartTick(path.asString()), parseBatchEndTick(path.asString()),
+            index != null ? index.getTickNumbersCount() : -1,
+            index != null ? index.getFrameOffsetsCount() - 1 : -1,
+            data.remaining(), -1, List.of());
+    }
+
+    /**
+     * Opens the decompressed tick stream of a batch file: the whole file of a bare batch, the
+     * concatenated chunks of a container. A corrupt container chunk fails the read, or is
+     * skipped with {@code batchContainer.skipCorruptChunks}.
+     */
+    private InputStream openTickStream(StoragePath path, ByteBuffer data) throws IOException {
+        if (!BatchContainer.isContainer(data)) {
+            return readCodecFor(path.asString()).wrapInputStream(new ByteBufferInputStream(data));
+        }
+        BatchContainer container = BatchContainer.open(data);
+        List<InputStream> chunks = new ArrayList<>(container.chunkCount());
+        for (int chunk = 0; chunk < container.chunkCount(); chunk++) {
+            if (container.isChunkIntact(chunk)) {
+                chunks.add(new ByteBufferInputStream(container.chunk(chunk)));
+            } else if (skipCorruptChunks) {
+                log.warn("Skipping corrupt chunk {} of batch {}", chunk, path.asString());
+                recordError("CORRUPT_BATCH_CHUNK", "Skipped corrupt chunk of batch file",
+                    "Batch: " + path.asString() + ", Chunk: " + chunk);
+            } else {
+                throw new IOException(corruptChunkMessage(path, chunk));
+            }
+        }
+        return withDictionaryResolver(container.codec(), path.asString())
+            .wrapInputStream(new SequenceInputStream(Collections.enumeration(chunks)));
+    }
+
+    private static String corruptChunkMessage(StoragePath path, int chunk) {
+        return "Chunk " + chunk + " of batch " + path.asString() + " is corrupt (CRC32C mismatch)";
+    }
+
+    /**
+     * Reads the index of a batch file.
+     *
+     * @return the index, or null if the batch has none or it does not match the batch file
+     */
+    private BatchIndex readIndex(StoragePath path, long batchSize) {
+        BatchIndex index;
+        try {
+            index = BatchIndex.parseFrom(getRaw(indexPathOf(path.asString())));
+        } catch (IOException e) {
+            log.debug("No usable index for batch {}, scanning it: {}", path.asString(), e.getMessage());
+            return null;
+        }
+        int frames = index.getFrameOffsetsCount();
+        if (frames == 0 || index.getFrameOffsets(frames - 1) != batchSize
+                || index.getTickFramesCount() != index.getTickNumbersCount()) {
+            log.warn("Ignoring index of batch {} that does not match the batch file", path.asString());
+            return null;
+        }
+        return index;
+    }
+
+    /**
+     * Iterates a memory-mapped batch file, parsing and materializing one tick at a time.
+     * <p>
+     * Deltas are materialized like in {@link #materializeDeltas}; the last materialized tick is
+     * cached for the run once the iteration completes. The decompression stream is closed when
+     * the last tick has been returned.
+     */
+    private final class LazyBatchIterator implements Iterator<TickData> {
+        private final StoragePath path;
+        private final ByteBuffer data;
+        private InputStream decompressedStream;
+        private TickDeltaReconstructor reconstructor;
+        private TickData next;
+        private TickData last;
+        private boolean done;
+
+        LazyBatchIterator(StoragePath path, ByteBuffer data) {
+            this.path = path;
+            this.data = data;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public TickData next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            TickData tick = next;
+            next = null;
+            return tick;
+        }
+
+        private TickData advance() {
+            try {
+                if (decompressedStream == null) {
+                    decompressedStream = openTickStream(path, data);
+                }
+                TickData stored = TickData.parseDelimitedFrom(decompressedStream);
+                if (stored == null) {
+                    finish();
+                    return null;
+                }
+                if (!stored.hasKeyframeTick()) {
+                    return stored;  // Run without delta encoding
+                }
+                if (reconstructor == null) {
+                    reconstructor = stored.getIsDelta()
+                        ? restoreDeltaBase(stored, TickProjection.FULL)
+                        : new TickDeltaReconstructor();
+                }
+                last = reconstructor.apply(stored);
+                return last;
+            } catch (IOException | IllegalArgumentException e) {
+                done = true;
+                closeQuietly();
+                throw new UncheckedIOException(new IOException("Failed to read batch: " + path.asString(), e));
+            }
+        }
+
+        private void finish() {
+            done = true;
+            closeQuietly();
+            if (last != null) {
+                synchronized (lastMaterializedTicks) {
+                    lastMaterializedTicks.put(materializedKey(last.getSimulationRunId(), TickProjection.FULL), last);
+                }
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                if (decompressedStream != null) {
+                    decompressedStream.close();
+                }
+            } catch (IOException e) {
+                log.debug("Failed to close decompression stream of batch {}", path.asString(), e);
+            }
+        }
+    }
+
+    /**
+     * Reads a (memory-mapped) byte buffer as an input stream, without copying it.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * Reads and parses a batch file as stored, i.e. without materializing deltas. Fields outside
+     * the projection are skipped instead of parsed.
+     */
+    private List<TickData> parseBatch(StoragePath path, TickProjection projection) throws IOException {
         // Read compressed bytes
         long readStart = System.nanoTime();
         byte[] compressed = getRaw(path.asString());
         long readLatency = System.nanoTime() - readStart;
 
-        // Detect compression codec from file extension
-        ICompressionCodec detectedCodec = org.evochora.datapipeline.utils.compression.CompressionCodecFactory.detectFromExtension(path.asString());
-
         // Stream directly: decompress → parse in one pass (no intermediate byte array!)
         // This eliminates double-buffering and reduces peak memory by ~50%
         List<TickData> batch = new ArrayList<>();
-        try (InputStream decompressedStream = detectedCodec.wrapInputStream(new ByteArrayInputStream(compressed))) {
-            while (true) {
-                TickData tick = TickData.parseDelimitedFrom(decompressedStream);
-                if (tick == null) break;  // End of stream
-                batch.add(tick);
+        long decodeStart = System.nanoTime();
+        long uncompressedBytes = 0;
+        try (InputStream decompressedStream = openTickStream(path, ByteBuffer.wrap(compressed))) {
+            if (projection == TickProjection.FULL) {
+                while (true) {
+                    TickData tick = TickData.parseDelimitedFrom(decompressedStream);
+                    if (tick == null) break;  // End of stream
+                    batch.add(tick);
+                    uncompressedBytes += tick.getSerializedSize();
+                }
+            } else {
+                ProjectedTickReader reader = new ProjectedTickReader(decompressedStream, projection);
+                TickData tick;
+                while ((tick = reader.next()) != null) {
+                    batch.add(tick);
+                }
+                uncompressedBytes = reader.bytesRead();
             }
         } catch (Exception e) {
             throw new IOException("Failed to decompress and parse batch: " + path.asString(), e);
         }
+        compressionStats.recordDecompression(uncompressedBytes, System.nanoTime() - decodeStart);
 
         // Record batch size metrics (O(1) operations only)
         long batchSizeMB = compressed.length / 1_048_576;
@@ -206,6 +605,92 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
         return batch;
     }
 
+    /**
+     * Replaces the deltas of a delta-encoded batch with complete ticks.
+     * <p>
+     * Deltas are applied on top of the preceding tick in the batch. If the batch starts with a
+     * delta, its base state is taken from the last tick materialized for the run (the common
+     * case of reading batches in order), or rebuilt from the keyframe, which may be stored in
+     * earlier batches. Batches without deltas are returned unchanged.
+     * <p>
+     * Ticks parsed with a projection are materialized for the fields of that projection. The
+     * last materialized tick is cached per projection, so a read never continues from a tick of
+     * another projection.
+     */
+    private List<TickData> materializeDeltas(List<TickData> batch, StoragePath path, TickProjection projection)
+            throws IOException {
+        if (batch.isEmpty() || !batch.get(batch.size() - 1).hasKeyframeTick()) {
+            return batch;  // Run without delta encoding
+        }
+        List<TickData> materialized = new ArrayList<>(batch.size());
+        TickDeltaReconstructor reconstructor = null;
+        try {
+            for (TickData tick : batch) {
+                if (reconstructor == null) {
+                    reconstructor = tick.getIsDelta() ? restoreDeltaBase(tick, projection) : new TickDeltaReconstructor();
+                }
+                materialized.add(reconstructor.apply(tick));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Failed to materialize delta-encoded batch: " + path.asString(), e);
+        }
+        TickData last = materialized.get(materialized.size() - 1);
+        synchronized (lastMaterializedTicks) {
+            lastMaterializedTicks.put(materializedKey(last.getSimulationRunId(), projection), last);
+        }
+        return materialized;
+    }
+
+    /**
+     * Rebuilds the state a delta applies to, from the cached last materialized tick of the run
+     * or by replaying the stored ticks from its keyframe up to its base tick. Both are limited
+     * to the fields of the projection the delta was read with.
+     */
+    private TickDeltaReconstructor restoreDeltaBase(TickData delta, TickProjection projection) throws IOException {
+        String runId = delta.getSimulationRunId();
+        long baseTick = delta.getDeltaBaseTick();
+        TickData cached;
+        synchronized (lastMaterializedTicks) {
+            cached = lastMaterializedTicks.get(materializedKey(runId, projection));
+        }
+        if (cached != null && cached.getTickNumber() == baseTick) {
+            return TickDeltaReconstructor.startingAt(cached);
+        }
+
+        long keyframeTick = delta.getKeyframeTick();
+        log.debug("Replaying run {} from keyframe {} to tick {} to materialize tick {}",
+            runId, keyframeTick, baseTick, delta.getTickNumber());
+        TickDeltaReconstructor reconstructor = new TickDeltaReconstructor();
+        String continuationToken = null;
+        BatchFileListResult page;
+        do {
+            page = listBatchFiles(runId + "/", continuationToken, 1000, 0, baseTick);
+            for (StoragePath file : page.getFilenames()) {
+                if (parseBatchEndTick(file.asString()) < keyframeTick) {
+                    continue;
+                }
+                for (TickData tick : parseBatch(file, projection)) {
+                    long tickNumber = tick.getTickNumber();
+                    if (tickNumber >= keyframeTick && tickNumber <= baseTick) {
+                        reconstructor.apply(tick);
+                    }
+                }
+            }
+            continuationToken = page.getNextContinuationToken();
+        } while (page.isTruncated());
+
+        if (reconstructor.getTickNumber() != baseTick) {
+            throw new IOException(String.format(
+                "Cannot materialize tick %d of run %s: ticks %d..%d are not in storage",
+                delta.getTickNumber(), runId, keyframeTick, baseTick));
+        }
+        return reconstructor;
+    }
+
+    private static String materializedKey(String runId, TickProjection projection) {
+        return projection == TickProjection.FULL ? runId : runId + "#" + projection.name();
+    }
+
     @Override
     public <T extends MessageLite> StoragePath writeMessage(String key, T message) throws IOException {
         if (key == null || key.isEmpty()) {
@@ -215,24 +700,16 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
             throw new IllegalArgumentException("message cannot be null");
         }
 
-        // Serialize single delimited protobuf message
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        message.writeDelimitedTo(bos);
-        byte[] data = bos.toByteArray();
-
         // Convert to physical path (adds compression extension)
         String physicalPath = toPhysicalPath(key);
 
-        // Compress message
-        byte[] compressed = compressBatch(data);
-
-        // Write directly to physical path (atomic write with temp file)
+        // Stream single delimited protobuf message through the codec to the backend
         long writeStart = System.nanoTime();
-        putRaw(physicalPath, compressed);
+        long written = writeCompressed(physicalPath, message::writeDelimitedTo);
         long writeLatency = System.nanoTime() - writeStart;
 
         // Record metrics
-        recordWrite(compressed.length, writeLatency);
+        recordWrite(written, writeLatency);
 
         return StoragePath.of(physicalPath);
     }
@@ -252,7 +729,7 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
         long readLatency = System.nanoTime() - readStart;
 
         // Detect compression codec from file extension
-        ICompressionCodec detectedCodec = org.evochora.datapipeline.utils.compression.CompressionCodecFactory.detectFromExtension(path.asString());
+        ICompressionCodec detectedCodec = readCodecFor(path.asString());
 
         // Stream directly: decompress → parse in one pass (no intermediate byte array!)
         T message;
@@ -393,39 +870,137 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
     }
 
     /**
-     * Serializes a batch of TickData to bytes using length-delimited protobuf format.
+     * Writes uncompressed data through the configured compression codec to a physical path.
+     * <p>
+     * The data is compressed while it is produced and handed to the backend via
+     * {@link #putRawStreaming}, so no buffer of the whole (uncompressed or compressed) file is
+     * needed unless the backend falls back to the buffering default. This method is implemented
+     * generically in the abstract class to avoid code duplication across storage backends.
+     * NoneCodec is treated like any other codec - it simply returns the stream unchanged.
+     *
+     * @param physicalPath physical path including compression extension
+     * @param uncompressed writes the uncompressed data
+     * @return number of compressed bytes written
+     * @throws IOException if serialization, compression or the write fails
      */
-    private byte[] serializeBatch(List<TickData> batch) throws IOException {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        for (TickData tick : batch) {
-            tick.writeDelimitedTo(bos);
-        }
-        return bos.toByteArray();
+    private long writeCompressed(String physicalPath, RawWriter uncompressed) throws IOException {
+        long[] written = {0};
+        putRawStreaming(physicalPath, out -> {
+            CountingOutputStream counting = new CountingOutputStream(out);
+            try (OutputStream compressedStream = codec.wrapOutputStream(counting)) {
+                uncompressed.writeTo(compressedStream);
+            }
+            written[0] = counting.count;
+        });
+        return written[0];
     }
 
     /**
-     * Compresses data using the configured compression codec.
+     * Writes a batch as a sequence of independently compressed frames and records the frame of
+     * each tick in the index.
+     * <p>
+     * A frame is closed once its serialized ticks reach {@link #seekableFrameBytes}, so large
+     * ticks get one frame each while small ticks share frames and keep a good compression ratio.
+     * Concatenated frames decompress as one stream, so readers without the index parse the
+     * file exactly like a batch written as a single frame (which is what
+     * {@code seekableFrameBytes = 0} produces).
      * <p>
-     * This method is implemented generically in the abstract class to avoid
-     * code duplication across storage backends. NoneCodec is treated like any
-     * other codec - it simply returns the stream unchanged.
+     * With {@link #containerFormat}, the frames are the chunks of a {@link BatchContainer}: they
+     * are preceded by its header and followed by the index, which then also holds the CRC32C
+     * and uncompressed size of every frame.
      *
-     * @param data uncompressed data
-     * @return compressed data (or original data if NoneCodec is used)
-     * @throws IOException if compression fails
+     * @param physicalPath physical path including compression extension
+     * @param batch ticks to write, in order
+     * @param firstTick first tick of the batch
+     * @param lastTick last tick of the batch
+     * @param index receives tick numbers, tick frames and frame offsets
+     * @param frameCodec codec to compress the frames with
+     * @param checksum receives the written (compressed) bytes
+     * @return number of compressed bytes written
+     * @throws IOException if serialization, compression or the write fails
      */
-    private byte[] compressBatch(byte[] data) throws IOException {
-        try {
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            try (OutputStream compressedStream = codec.wrapOutputStream(bos)) {
-                compressedStream.write(data);
+    private long writeFrames(String physicalPath, List<TickData> batch, long firstTick, long lastTick,
+                             BatchIndex.Builder index, ICompressionCodec frameCodec, Checksum checksum)
+            throws IOException {
+        long[] written = {0};
+        putRawStreaming(physicalPath, out -> {
+            CountingOutputStream counting = new CountingOutputStream(out, checksum);
+            CRC32C frameChecksum = new CRC32C();
+            CountingOutputStream frameOut = new CountingOutputStream(counting, frameChecksum);
+            if (containerFormat) {
+                BatchContainer.writeHeader(counting, frameCodec, firstTick, lastTick);
             }
-            return bos.toByteArray();
-        } catch (Exception e) {
-            throw new IOException("Failed to compress batch", e);
-        }
+            int next = 0;
+            while (next < batch.size()) {
+                int frame = index.getFrameOffsetsCount();
+                index.addFrameOffsets(counting.count);
+                frameChecksum.reset();
+                long frameBytes = 0;
+                long delimitedBytes = 0;
+                try (OutputStream compressedStream = frameCodec.wrapOutputStream(frameOut)) {
+                    do {
+                        TickData tick = batch.get(next++);
+                        tick.writeDelimitedTo(compressedStream);
+                        int tickBytes = tick.getSerializedSize();
+                        frameBytes += tickBytes;
+                        delimitedBytes += CodedOutputStream.computeUInt32SizeNoTag(tickBytes) + tickBytes;
+                        index.addTickNumbers(tick.getTickNumber()).addTickFrames(frame);
+                    } while (next < batch.size() && (seekableFrameBytes == 0 || frameBytes < seekableFrameBytes));
+                }
+                if (containerFormat) {
+                    index.addFrameCrc32C((int) frameChecksum.getValue()).addFrameUncompressedBytes(delimitedBytes);
+                }
+            }
+            index.addFrameOffsets(counting.count);
+            if (containerFormat) {
+                BatchContainer.writeFooter(counting, index.build());
+            }
+            written[0] = counting.count;
+        });
+        return written[0];
     }
 
+    /**
+     * Counts (and optionally checksums) the bytes passed through to the backend stream. Closing
+     * it only flushes: the codec closes it at the end of every frame, while the backend stream is
+     * closed by {@link #putRawStreaming}.
+     */
+    private static final class CountingOutputStream extends java.io.FilterOutputStream {
+        private final Checksum checksum;
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            this(out, null);
+        }
+
+        CountingOutputStream(OutputStream out, Checksum checksum) {
+            super(out);
+            this.checksum = checksum;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+            if (checksum != null) {
+                checksum.update(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+            if (checksum != null) {
+                checksum.update(b, off, len);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
 
     @Override
     public BatchFileListResult listBatchFiles(String prefix, String continuationToken, int maxResults) throws IOException {
@@ -567,6 +1142,11 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
      *   <li>read_latency_ms - sliding window average read latency (O(1))</li>
      *   <li>last_read_batch_size_mb - most recent batch read size in MB (O(1))</li>
      *   <li>max_read_batch_size_mb - maximum observed batch read size in MB (O(1))</li>
+     *   <li>write_latency_p99_ms - sliding window 99th percentile write latency (O(1))</li>
+     *   <li>last_write_buffer_bytes - heap buffer used by the most recent write (O(1))</li>
+     *   <li>max_write_buffer_bytes - maximum heap buffer used by a write (O(1))</li>
+     *   <li>compression_ratio, compressed_payloads, decompressed_payloads, compress_mb_per_sec,
+     *       decompress_mb_per_sec - batch codec statistics, see {@link CompressionStats} (O(1))</li>
      * </ul>
      *
      * @param metrics Mutable map to add metrics to (already contains base error_count from AbstractResource)
@@ -594,6 +1174,14 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
         // Batch size tracking metrics (O(1) operations, helps diagnose memory issues)
         metrics.put("last_read_batch_size_mb", lastReadBatchSizeMB.get());
         metrics.put("max_read_batch_size_mb", maxReadBatchSizeMB.get());
+
+        // Write path memory: a streaming backend reports its fixed buffer, not the file size
+        metrics.put("write_latency_p99_ms", writeLatencyTracker.getPercentile(99) / 1_000_000.0);
+        metrics.put("last_write_buffer_bytes", lastWriteBufferBytes.get());
+        metrics.put("max_write_buffer_bytes", maxWriteBufferBytes.get());
+
+        // Codec ratio and throughput of batches written and read
+        compressionStats.addMetrics(metrics, "");
     }
 
     /**
@@ -653,6 +1241,119 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
 
     // ===== Resolution & High-Level Operations (non-abstract) =====
 
+    /**
+     * Returns the codec to write a batch of a run with.
+     * <p>
+     * With {@code compression.dictionary.enabled}, the serialized ticks of each run are collected
+     * as training samples until {@link #dictionaryTrainingTicks} ticks (or as much data as
+     * training uses) are seen; batches written until then are compressed without dictionary.
+     * The trained dictionary is stored as {@code runId/dictionary_<id>.pb} before any batch
+     * uses it, so every batch referencing it is readable. If training fails (e.g. too little
+     * sample data), the run continues without dictionary.
+     */
+    private ICompressionCodec codecForRun(String runId, List<TickData> batch) throws IOException {
+        if (dictionaryTrainingTicks == 0) {
+            return codec;
+        }
+        RunDictionary run;
+        synchronized (runDictionaries) {
+            run = runDictionaries.computeIfAbsent(runId, id -> new RunDictionary());
+        }
+        synchronized (run) {
+            if (run.dictionary != null) {
+                return ((ZstdCodec) codec).withDictionary(run.dictionary);
+            }
+            if (run.samples == null) {
+                return codec;  // Training failed for this run
+            }
+            long maxTrainingBytes = ZstdDictionary.maxTrainingBytes(dictionaryMaxBytes);
+            for (TickData tick : batch) {
+                if (run.samples.size() >= dictionaryTrainingTicks || run.sampleBytes >= maxTrainingBytes) {
+                    break;
+                }
+                byte[] sample = tick.toByteArray();
+                run.samples.add(sample);
+                run.sampleBytes += sample.length;
+            }
+            if (run.samples.size() < dictionaryTrainingTicks && run.sampleBytes < maxTrainingBytes) {
+                return codec;
+            }
+
+            try {
+                ZstdDictionary dictionary = ZstdDictionary.train(run.samples, dictionaryMaxBytes);
+                writeMessage(runId + "/" + DICTIONARY_FILE_PREFIX + dictionary.getId() + ".pb",
+                    CompressionDictionary.newBuilder()
+                        .setDictionaryId(dictionary.getId())
+                        .setContent(ByteString.copyFrom(dictionary.getContent()))
+                        .build());
+                run.dictionary = dictionary;
+                log.debug("Trained compression dictionary {} for run {} from {} ticks",
+                    dictionary.getId(), runId, run.samples.size());
+            } catch (CompressionException e) {
+                log.warn("Writing run {} without compression dictionary: {}", runId, e.getMessage());
+                recordError("DICTIONARY_TRAINING_FAILED", "Failed to train compression dictionary",
+                    "Run: " + runId + ", Ticks: " + run.samples.size());
+            } finally {
+                run.samples = null;
+            }
+            return run.dictionary != null ? ((ZstdCodec) codec).withDictionary(run.dictionary) : codec;
+        }
+    }
+
+    /**
+     * Dictionary training state of one run written by this instance.
+     */
+    private static final class RunDictionary {
+        List<byte[]> samples = new ArrayList<>();
+        long sampleBytes;
+        ZstdDictionary dictionary;
+    }
+
+    /**
+     * Returns the codec to read a file with: the codec of its extension, which for zstd
+     * resolves the dictionaries referenced by frame headers from the file's run.
+     */
+    private ICompressionCodec readCodecFor(String physicalPath) {
+        return withDictionaryResolver(CompressionCodecFactory.detectFromExtension(physicalPath), physicalPath);
+    }
+
+    private ICompressionCodec withDictionaryResolver(ICompressionCodec detectedCodec, String physicalPath) {
+        int runEnd = physicalPath.indexOf('/');
+        if (!(detectedCodec instanceof ZstdCodec zstd) || runEnd < 0) {
+            return detectedCodec;
+        }
+        String runId = physicalPath.substring(0, runEnd);
+        return zstd.withResolver(id -> loadDictionary(runId, id));
+    }
+
+    private ZstdDictionary loadDictionary(String runId, long id) throws IOException {
+        String cacheKey = runId + "/" + id;
+        synchronized (loadedDictionaries) {
+            ZstdDictionary cached = loadedDictionaries.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        List<String> files = listRaw(runId + "/" + DICTIONARY_FILE_PREFIX + id + ".pb", false, null, 1, null, null);
+        if (files.isEmpty()) {
+            throw new IOException("Compression dictionary " + id + " of run " + runId + " not found");
+        }
+        CompressionDictionary stored = readMessage(StoragePath.of(files.get(0)), CompressionDictionary.parser());
+        ZstdDictionary dictionary = new ZstdDictionary(stored.getContent().toByteArray());
+        synchronized (loadedDictionaries) {
+            loadedDictionaries.put(cacheKey, dictionary);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Returns the path of the index stored next to a batch file: the batch filename up to
+     * {@code .pb} with the extension {@code .idx}, independent of the compression codec.
+     */
+    private static String indexPathOf(String physicalPath) {
+        return physicalPath.substring(0, physicalPath.lastIndexOf(".pb")) + ".idx";
+    }
+
     /**
      * Converts logical key to physical path for writing.
      * Adds compression extension based on configured codec.
@@ -685,6 +1386,62 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
      */
     protected abstract void putRaw(String physicalPath, byte[] data) throws IOException;
 
+    /**
+     * Called after a batch file (and its index, if any) was written completely.
+     * <p>
+     * Backends that keep their own catalog of batch files (e.g. to list them without scanning
+     * directories) override this to record the batch. The default implementation does nothing.
+     * An exception fails the {@link #writeBatch} call although the batch file exists; writing the
+     * same batch again replaces it.
+     *
+     * @param physicalPath physical path including compression extension
+     * @param firstTick first tick of the batch
+     * @param lastTick last tick of the batch
+     * @param sizeBytes size of the written (compressed) file in bytes
+     * @param crc32c CRC32C of the written (compressed) file
+     * @throws IOException if recording the batch fails
+     */
+    protected void onBatchWritten(String physicalPath, long firstTick, long lastTick, long sizeBytes, int crc32c)
+            throws IOException {
+    }
+
+    /**
+     * Writes the output of a {@link RawWriter} to a physical path.
+     * <p>
+     * Batches and messages are written through this method, with the writer producing the
+     * already compressed bytes. The default implementation buffers the output in memory and
+     * calls {@link #putRaw}; backends that can stream (e.g. to a temp file) override it to keep
+     * memory bounded independently of the file size.
+     * <p>
+     * Implementations must give the same guarantees as {@link #putRaw}: the file appears
+     * atomically and completely, or not at all if the writer throws. They must report the heap
+     * buffer they used via {@link #recordWriteBuffer(long)}.
+     *
+     * @param physicalPath physical path including compression extension
+     * @param writer writes the raw bytes; the stream is closed by the caller or the implementation
+     * @throws IOException if the writer or the write fails
+     */
+    protected void putRawStreaming(String physicalPath, RawWriter writer) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writer.writeTo(buffer);
+        recordWriteBuffer(buffer.size());
+        putRaw(physicalPath, buffer.toByteArray());
+    }
+
+    /**
+     * Produces the content of a file written via {@link #putRawStreaming}.
+     */
+    @FunctionalInterface
+    protected interface RawWriter {
+        /**
+         * Writes the content to the given stream.
+         *
+         * @param out the stream to write to
+         * @throws IOException if writing fails
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
     /**
      * Reads raw bytes from physical path.
      * <p>
@@ -700,6 +1457,21 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
      */
     protected abstract byte[] getRaw(String physicalPath) throws IOException;
 
+    /**
+     * Returns the raw bytes at a physical path as a read-only buffer.
+     * <p>
+     * Used by the lazy and single-tick read paths, which only touch the part of the file they
+     * decompress. The default implementation wraps {@link #getRaw}; backends with local files
+     * override it to memory-map the file instead of reading it onto the heap.
+     *
+     * @param physicalPath physical path including compression extension
+     * @return raw bytes (still compressed), positioned at the start of the file
+     * @throws IOException if file not found or read fails
+     */
+    protected ByteBuffer getRawMapped(String physicalPath) throws IOException {
+        return ByteBuffer.wrap(getRaw(physicalPath)).asReadOnlyBuffer();
+    }
+
     /**
      * Lists physical paths or directory prefixes matching a prefix, with optional tick filtering.
      * <p>
@@ -713,13 +1485,16 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
      * </ul>
      * <p>
      * Performance: O(1) for directories or single file, O(n) for recursive file listing.
+     * Backends with a batch catalog (see {@link #onBatchWritten}) may serve batch listings of a
+     * run from it instead; such listings contain batch files only.
      * <p>
      * Implementation must:
      * <ul>
-     *   <li>If listDirectories=false: Recursively scan for files (Files.walk)</li>
+     *   <li>If listDirectories=false: Recursively scan for files (Files.walk) or use a batch catalog</li>
      *   <li>If listDirectories=true: List immediate subdirectory prefixes (Files.list)</li>
      *   <li>Return physical paths with compression extensions (files) or directory prefixes ending with "/"</li>
      *   <li>Filter out .tmp files to avoid race conditions</li>
+     *   <li>Filter out .idx files (batch indexes are not listed, they are found via their batch)</li>
      *   <li>Apply tick filtering if startTick/endTick are non-null (only relevant for batch files)</li>
      *   <li>Support pagination via continuationToken</li>
      *   <li>Enforce maxResults limit (prevent runaway queries)</li>
@@ -791,6 +1566,17 @@ public abstract class AbstractBatchStorageResource extends AbstractResource
         writeLatencyTracker.record(latencyNanos);
     }
 
+    /**
+     * Records the heap buffer a write needed, for the write buffer metrics.
+     * This is an O(1) operation.
+     *
+     * @param bytes Number of bytes held in memory by the write
+     */
+    protected void recordWriteBuffer(long bytes) {
+        lastWriteBufferBytes.set(bytes);
+        maxWriteBufferBytes.accumulateAndGet(bytes, Math::max);
+    }
+
     /**
      * Records a read operation for performance tracking.
      * This is an O(1) operation using unified monitoring utils.
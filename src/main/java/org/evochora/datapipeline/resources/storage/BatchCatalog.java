@@ -0,0 +1,376 @@
+package org.evochora.datapipeline.resources.storage;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.evochora.datapipeline.api.contracts.BatchCatalogEntry;
+import org.evochora.datapipeline.utils.compression.CompressionCodecFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Persistent catalog of the batch files of one run, so batch listings find tick ranges by
+ * binary search instead of walking the run directory.
+ * <p>
+ * The catalog file ({@code runId/catalog.idx}) is an append-only sequence of length-delimited
+ * {@link BatchCatalogEntry} messages, one per written batch. Appends hold an exclusive file
+ * lock, so writers in several processes can share a run. Readers never lock: they parse what
+ * was appended since their last refresh and stop before a trailing entry that is still being
+ * written. A trailing partial entry found under the lock was left by a writer that died while
+ * appending; the next append truncates it. In memory, entries are sorted by tick range; an entry
+ * for a tick range that is already cataloged (a rewritten batch) replaces the earlier one.
+ * <p>
+ * A missing catalog is rebuilt from a scan of the run directory the first time it is needed, and
+ * so is a catalog that fails to parse. Rebuilt entries have no checksum. Batch files written while the catalog was disabled are only
+ * picked up after deleting the catalog file.
+ * <p>
+ * <strong>Thread Safety:</strong> Thread-safe.
+ */
+final class BatchCatalog {
+
+    static final String FILE_NAME = "catalog.idx";
+
+    private static final Comparator<BatchCatalogEntry> TICK_ORDER = Comparator
+        .comparingLong(BatchCatalogEntry::getTickStart)
+        .thenComparingLong(BatchCatalogEntry::getTickEnd);
+
+    // FileChannel.lock guards against other processes only; appends within this JVM also synchronize here
+    private static final ConcurrentHashMap<Path, Object> APPEND_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path rootDirectory;
+    private final Path runDirectory;
+    private final Path file;
+    private final List<BatchCatalogEntry> entries = new ArrayList<>();
+    private long loadedBytes;
+
+    /**
+     * @param rootDirectory storage root directory
+     * @param runId the run whose batches are cataloged
+     */
+    BatchCatalog(Path rootDirectory, String runId) {
+        this.rootDirectory = rootDirectory;
+        this.runDirectory = rootDirectory.resolve(runId);
+        this.file = runDirectory.resolve(FILE_NAME);
+    }
+
+    /**
+     * Creates the catalog entry of a batch file.
+     *
+     * @param physicalPath physical path relative to the storage root
+     * @param firstTick first tick of the batch
+     * @param lastTick last tick of the batch
+     * @param sizeBytes size of the batch file
+     * @param crc32c CRC32C of the batch file, 0 if unknown
+     * @return the entry
+     */
+    static BatchCatalogEntry entryOf(String physicalPath, long firstTick, long lastTick, long sizeBytes, int crc32c) {
+        return BatchCatalogEntry.newBuilder()
+            .setTickStart(firstTick)
+            .setTickEnd(lastTick)
+            .setPath(physicalPath)
+            .setSizeBytes(sizeBytes)
+            .setCodec(CompressionCodecFactory.detectFromExtension(physicalPath).getName())
+            .setCrc32C(crc32c)
+            .build();
+    }
+
+    /**
+     * Appends an entry for a batch file that was written completely. If the catalog file does
+     * not exist yet, it is first rebuilt from the run directory.
+     *
+     * @param entry the entry to append
+     * @throws IOException if the catalog cannot be written
+     */
+    synchronized void append(BatchCatalogEntry entry) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        entry.writeDelimitedTo(record);
+        appendLocked(record.toByteArray());
+        refreshOrRebuild();
+    }
+
+    /**
+     * Lists the batch files of the run in tick order, which is their lexicographic order for
+     * the standard folder layout. Files deleted since they were cataloged are skipped.
+     *
+     * @param prefix only paths starting with this prefix are returned
+     * @param continuationToken last path of the previous page, or null
+     * @param maxResults maximum number of paths to return
+     * @param startTick minimum batch start tick (nullable)
+     * @param endTick maximum batch start tick (nullable)
+     * @return physical paths relative to the storage root
+     * @throws IOException if the catalog cannot be read or rebuilt
+     */
+    synchronized List<String> list(String prefix, String continuationToken, int maxResults,
+                                   Long startTick, Long endTick) throws IOException {
+        if (!Files.isDirectory(runDirectory)) {
+            return Collections.emptyList();
+        }
+        if (loadedBytes == 0 && !Files.exists(file)) {
+            appendLocked(null);
+        }
+        refreshOrRebuild();
+
+        long from = startTick != null ? startTick : Long.MIN_VALUE;
+        if (continuationToken != null) {
+            from = Math.max(from, parseTick(continuationToken, 0));
+        }
+        List<String> results = new ArrayList<>();
+        for (int i = lowerBound(from); i < entries.size() && results.size() < maxResults; i++) {
+            BatchCatalogEntry entry = entries.get(i);
+            if (endTick != null && entry.getTickStart() > endTick) {
+                break;
+            }
+            String path = entry.getPath();
+            if ((continuationToken != null && path.compareTo(continuationToken) <= 0) || !path.startsWith(prefix)) {
+                continue;
+            }
+            if (!Files.exists(rootDirectory.resolve(path))) {
+                continue;  // Deleted since it was cataloged
+            }
+            results.add(path);
+        }
+        return results;
+    }
+
+    /**
+     * Appends a record under the catalog lock, rebuilding an empty catalog from the run
+     * directory first. A partial record left by a writer that died while appending is truncated,
+     * so the new record starts at a record boundary.
+     *
+     * @param record length-delimited entry, or null to only rebuild
+     */
+    private void appendLocked(byte[] record) throws IOException {
+        synchronized (APPEND_LOCKS.computeIfAbsent(file, f -> new Object())) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.READ);
+                 FileLock lock = channel.lock()) {
+                long size = channel.size();
+                if (size == 0) {
+                    size = rebuildLocked(channel);
+                } else if (record != null) {
+                    // Everything up to loadedBytes was parsed as complete records of this file
+                    long from = loadedBytes <= size ? loadedBytes : 0;
+                    try {
+                        long complete = from + readRecords(read(channel, from, size), null);
+                        if (complete < size) {
+                            channel.truncate(complete);
+                            size = complete;
+                        }
+                    } catch (InvalidProtocolBufferException e) {
+                        size = rebuildLocked(channel);
+                    }
+                }
+                if (record != null) {
+                    channel.position(size);
+                    writeFully(channel, record);
+                }
+            }
+        }
+    }
+
+    /**
+     * Refreshes the entries, rebuilding the catalog from the run directory if it fails to parse.
+     * A catalog written before partial records were truncated may contain appends behind one.
+     */
+    private void refreshOrRebuild() throws IOException {
+        try {
+            refresh();
+        } catch (InvalidProtocolBufferException e) {
+            synchronized (APPEND_LOCKS.computeIfAbsent(file, f -> new Object())) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                     FileLock lock = channel.lock()) {
+                    rebuildLocked(channel);
+                }
+            }
+            refresh();
+        }
+    }
+
+    /**
+     * Replaces the catalog content with a scan of the run directory. Must hold the catalog lock.
+     *
+     * @return the new size of the catalog file
+     */
+    private long rebuildLocked(FileChannel channel) throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        writeFully(channel, scanRunDirectory());
+        entries.clear();
+        loadedBytes = 0;
+        return channel.size();
+    }
+
+    /**
+     * Reads the entries appended since the last refresh. A trailing entry that is still being
+     * written is left for the next refresh.
+     *
+     * @throws InvalidProtocolBufferException if a complete record is not a valid entry
+     */
+    private void refresh() throws IOException {
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (NoSuchFileException e) {
+            size = 0;
+        }
+        if (size < loadedBytes) {
+            // Catalog was deleted (and possibly rebuilt) since it was loaded
+            entries.clear();
+            loadedBytes = 0;
+        }
+        if (size == loadedBytes) {
+            return;
+        }
+
+        ByteBuffer tail;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            tail = read(channel, loadedBytes, size);
+        }
+        loadedBytes += readRecords(tail, this::add);
+    }
+
+    /**
+     * Parses the complete records at the start of a buffer.
+     *
+     * @param bytes records, starting at a record boundary and possibly ending in a partial record
+     * @param consumer receives the parsed entries, or null to only find the record boundary
+     * @return the number of bytes of complete records
+     * @throws InvalidProtocolBufferException if a complete record is not a valid entry
+     */
+    private static int readRecords(ByteBuffer bytes, Consumer<BatchCatalogEntry> consumer)
+            throws InvalidProtocolBufferException {
+        CodedInputStream in = CodedInputStream.newInstance(bytes.array(), 0, bytes.position());
+        int consumed = 0;
+        while (!in.isAtEnd()) {
+            ByteString record;
+            try {
+                record = in.readBytes();
+            } catch (InvalidProtocolBufferException e) {
+                break;  // Truncated: trailing entry still being appended, or left by a dead writer
+            }
+            BatchCatalogEntry entry = BatchCatalogEntry.parseFrom(record);
+            if (consumer != null) {
+                consumer.accept(entry);
+            }
+            consumed = in.getTotalBytesRead();
+        }
+        return consumed;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long from, long to) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(to - from));
+        channel.position(from);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        return buffer;
+    }
+
+    private void add(BatchCatalogEntry entry) {
+        // Batches are usually written in tick order, which appends at the end
+        if (entries.isEmpty() || TICK_ORDER.compare(entries.get(entries.size() - 1), entry) < 0) {
+            entries.add(entry);
+            return;
+        }
+        int index = Collections.binarySearch(entries, entry, TICK_ORDER);
+        if (index >= 0) {
+            entries.set(index, entry);
+        } else {
+            entries.add(-index - 1, entry);
+        }
+    }
+
+    private int lowerBound(long tickStart) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries.get(mid).getTickStart() < tickStart) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Creates the length-delimited entries of all batch files in the run directory.
+     */
+    private byte[] scanRunDirectory() throws IOException {
+        List<BatchCatalogEntry> scanned = new ArrayList<>();
+        try (Stream<Path> stream = Files.walk(runDirectory)) {
+            for (Path path : (Iterable<Path>) stream::iterator) {
+                String filename = path.getFileName().toString();
+                if (!filename.startsWith("batch_") || !filename.contains(".pb")
+                        || filename.endsWith(".tmp") || filename.endsWith(".idx")) {
+                    continue;
+                }
+                long firstTick = parseTick(filename, 0);
+                long lastTick = parseTick(filename, 1);
+                if (firstTick < 0 || lastTick < 0) {
+                    continue;
+                }
+                long size;
+                try {
+                    size = Files.size(path);
+                } catch (NoSuchFileException e) {
+                    continue;  // Deleted during the scan
+                }
+                String physicalPath = rootDirectory.relativize(path).toString().replace(File.separatorChar, '/');
+                scanned.add(entryOf(physicalPath, firstTick, lastTick, size, 0));
+            }
+        }
+        scanned.sort(TICK_ORDER);
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        for (BatchCatalogEntry entry : scanned) {
+            entry.writeDelimitedTo(records);
+        }
+        return records.toByteArray();
+    }
+
+    /**
+     * Parses a tick from a batch file name ({@code batch_<first>_<last>.pb...}).
+     *
+     * @param path batch file name or path
+     * @param field 0 for the first tick, 1 for the last tick
+     * @return the tick, or -1 if the name does not follow the batch pattern
+     */
+    private static long parseTick(String path, int field) {
+        String[] parts = path.substring(path.lastIndexOf('/') + 1).split("[_.]");
+        if (parts.length < 3 || !parts[0].equals("batch")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(parts[1 + field]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
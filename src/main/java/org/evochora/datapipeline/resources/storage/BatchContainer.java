@@ -0,0 +1,227 @@
+package org.evochora.datapipeline.resources.storage;
+
+import org.evochora.datapipeline.api.contracts.BatchIndex;
+import org.evochora.datapipeline.utils.compression.ICompressionCodec;
+import org.evochora.datapipeline.utils.compression.NoneCodec;
+import org.evochora.datapipeline.utils.compression.ZstdCodec;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * Versioned container format of batch files.
+ * <p>
+ * Layout (all integers big-endian):
+ * <pre>
+ * header   32 bytes  magic "EVTB" (4), format version (2), codec ID (1), reserved (1),
+ *                    zstd dictionary ID or 0 (8), first tick (8), last tick (8)
+ * chunks             independently compressed frames of length-delimited TickData
+ * footer             BatchIndex: ticks, chunk of each tick, chunk offsets followed by the footer
+ *                    offset, CRC32C and uncompressed size of each chunk
+ * trailer  12 bytes  footer length (4), CRC32C of the footer (4), magic "EVTB" (4)
+ * </pre>
+ * The header and trailer describe a batch without decompressing it, and the footer lets a
+ * reader verify and decompress single chunks. A bare batch file (concatenated frames without
+ * header) never starts with the magic: as a varint tick length followed by a tag, it would
+ * use the invalid wire type 6.
+ * <p>
+ * <strong>Thread Safety:</strong> Instances are immutable; the buffer they read must not be
+ * modified.
+ */
+final class BatchContainer {
+
+    static final int MAGIC = 0x45565442;  // "EVTB"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int TRAILER_BYTES = 12;
+
+    private static final byte CODEC_NONE = 0;
+    private static final byte CODEC_ZSTD = 1;
+
+    private final ByteBuffer data;
+    private final int version;
+    private final byte codecId;
+    private final long dictionaryId;
+    private final long firstTick;
+    private final long lastTick;
+    private final BatchIndex footer;
+
+    private BatchContainer(ByteBuffer data, int version, byte codecId, long dictionaryId,
+                           long firstTick, long lastTick, BatchIndex footer) {
+        this.data = data;
+        this.version = version;
+        this.codecId = codecId;
+        this.dictionaryId = dictionaryId;
+        this.firstTick = firstTick;
+        this.lastTick = lastTick;
+        this.footer = footer;
+    }
+
+    /**
+     * @param data a batch file, positioned at its start
+     * @return true if the file starts with the container magic
+     */
+    static boolean isContainer(ByteBuffer data) {
+        return data.remaining() >= HEADER_BYTES + TRAILER_BYTES && data.getInt(data.position()) == MAGIC;
+    }
+
+    /**
+     * Reads header and footer of a container. Chunks are only verified on access.
+     *
+     * @param data a batch file starting with the container magic, positioned at its start
+     * @return the container
+     * @throws IOException if header, trailer or footer are invalid or the version is not supported
+     */
+    static BatchContainer open(ByteBuffer data) throws IOException {
+        ByteBuffer file = data.slice();
+        if (!isContainer(file)) {
+            throw new IOException("Not a batch container");
+        }
+        int version = Short.toUnsignedInt(file.getShort(4));
+        if (version != VERSION) {
+            throw new IOException("Unsupported batch container version " + version);
+        }
+        byte codecId = file.get(6);
+        if (codecId != CODEC_NONE && codecId != CODEC_ZSTD) {
+            throw new IOException("Unknown codec ID " + codecId + " in batch container");
+        }
+
+        int trailer = file.limit() - TRAILER_BYTES;
+        int footerLength = file.getInt(trailer);
+        int footerStart = trailer - footerLength;
+        if (file.getInt(trailer + 8) != MAGIC || footerLength < 0 || footerStart < HEADER_BYTES) {
+            throw new IOException("Batch container is truncated or has no valid trailer");
+        }
+        ByteBuffer footerBytes = file.duplicate().position(footerStart).limit(trailer);
+        if (crc32c(footerBytes) != file.getInt(trailer + 4)) {
+            throw new IOException("Batch container footer is corrupt (CRC32C mismatch)");
+        }
+        BatchIndex footer = BatchIndex.parseFrom(footerBytes.duplicate());
+        int chunks = footer.getFrameOffsetsCount() - 1;
+        if (chunks < 0 || footer.getFrameOffsets(0) != HEADER_BYTES || footer.getFrameOffsets(chunks) != footerStart
+                || footer.getFrameCrc32CCount() != chunks || footer.getFrameUncompressedBytesCount() != chunks
+                || footer.getTickFramesCount() != footer.getTickNumbersCount()) {
+            throw new IOException("Batch container footer does not match the file");
+        }
+        return new BatchContainer(file, version, codecId, file.getLong(8), file.getLong(16), file.getLong(24), footer);
+    }
+
+    /**
+     * Writes the header of a container.
+     *
+     * @param out stream at the start of the file
+     * @param codec codec the chunks are compressed with
+     * @param firstTick first tick of the batch
+     * @param lastTick last tick of the batch
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if the codec has no container codec ID
+     */
+    static void writeHeader(OutputStream out, ICompressionCodec codec, long firstTick, long lastTick) throws IOException {
+        long dictionaryId = codec instanceof ZstdCodec zstd && zstd.getDictionary() != null
+            ? zstd.getDictionary().getId()
+            : 0;
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeShort(VERSION);
+        header.writeByte(codecIdOf(codec));
+        header.writeByte(0);
+        header.writeLong(dictionaryId);
+        header.writeLong(firstTick);
+        header.writeLong(lastTick);
+        header.flush();
+    }
+
+    /**
+     * Writes footer and trailer of a container.
+     *
+     * @param out stream after the last chunk
+     * @param footer the index of the chunks, including their checksums and uncompressed sizes
+     * @throws IOException if writing fails
+     */
+    static void writeFooter(OutputStream out, BatchIndex footer) throws IOException {
+        byte[] footerBytes = footer.toByteArray();
+        DataOutputStream trailer = new DataOutputStream(out);
+        trailer.write(footerBytes);
+        trailer.writeInt(footerBytes.length);
+        trailer.writeInt(crc32c(ByteBuffer.wrap(footerBytes)));
+        trailer.writeInt(MAGIC);
+        trailer.flush();
+    }
+
+    private static byte codecIdOf(ICompressionCodec codec) {
+        return switch (codec.getName()) {
+            case "none" -> CODEC_NONE;
+            case "zstd" -> CODEC_ZSTD;
+            default -> throw new IllegalArgumentException("Codec " + codec.getName() + " cannot be stored in a batch container");
+        };
+    }
+
+    private static int crc32c(ByteBuffer bytes) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(bytes.duplicate());
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * @return a codec for decompressing the chunks (without dictionary resolver)
+     */
+    ICompressionCodec codec() {
+        return codecId == CODEC_ZSTD ? new ZstdCodec() : new NoneCodec();
+    }
+
+    int version() {
+        return version;
+    }
+
+    long dictionaryId() {
+        return dictionaryId;
+    }
+
+    long firstTick() {
+        return firstTick;
+    }
+
+    long lastTick() {
+        return lastTick;
+    }
+
+    /**
+     * @return the footer, whose frame offsets are byte offsets of the chunks in the file
+     */
+    BatchIndex index() {
+        return footer;
+    }
+
+    int chunkCount() {
+        return footer.getFrameOffsetsCount() - 1;
+    }
+
+    /**
+     * @param chunk chunk number
+     * @return the compressed bytes of the chunk
+     */
+    ByteBuffer chunk(int chunk) {
+        return data.duplicate()
+            .limit((int) footer.getFrameOffsets(chunk + 1))
+            .position((int) footer.getFrameOffsets(chunk))
+            .slice();
+    }
+
+    /**
+     * @param chunk chunk number
+     * @return true if the chunk matches its CRC32C
+     */
+    boolean isChunkIntact(int chunk) {
+        return crc32c(chunk(chunk)) == footer.getFrameCrc32C(chunk);
+    }
+
+    /**
+     * @return the sum of the uncompressed chunk sizes
+     */
+    long uncompressedBytes() {
+        return footer.getFrameUncompressedBytesList().stream().mapToLong(Long::longValue).sum();
+    }
+}
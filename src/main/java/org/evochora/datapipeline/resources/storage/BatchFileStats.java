@@ -0,0 +1,32 @@
+package org.evochora.datapipeline.resources.storage;
+
+import java.util.List;
+
+/**
+ * Description of a stored batch file, read from its container header and footer (or from the
+ * index of a bare batch file) without decompressing the ticks.
+ *
+ * @param formatVersion container format version, or 0 for a bare batch file
+ * @param codec name of the compression codec
+ * @param dictionaryId zstd dictionary ID, or 0 if none or unknown
+ * @param firstTick first tick of the batch
+ * @param lastTick last tick of the batch
+ * @param tickCount number of stored ticks, or -1 if unknown (bare batch without index)
+ * @param chunkCount number of independently compressed chunks, or -1 if unknown
+ * @param fileBytes size of the file
+ * @param uncompressedBytes size of the stored ticks before compression, or -1 if unknown
+ * @param corruptChunks chunks whose CRC32C does not match (always empty for bare batch files)
+ */
+public record BatchFileStats(
+    int formatVersion,
+    String codec,
+    long dictionaryId,
+    long firstTick,
+    long lastTick,
+    int tickCount,
+    int chunkCount,
+    long fileBytes,
+    long uncompressedBytes,
+    List<Integer> corruptChunks
+) {
+}
@@ -0,0 +1,209 @@
+package org.evochora.datapipeline.resources.storage;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.evochora.datapipeline.api.resources.storage.IDecodedBatchCache;
+import org.evochora.datapipeline.api.resources.storage.StoragePath;
+import org.evochora.datapipeline.resources.AbstractResource;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory {@link IDecodedBatchCache} bounded by the size of the cached batches.
+ * <p>
+ * Batches are evicted in least-recently-used order once the cached ticks exceed
+ * {@code maxBytes}. The size of a batch is the serialized size of its ticks, which
+ * underestimates their heap footprint (roughly two to three times larger for typical ticks);
+ * size {@code maxBytes} with that in mind. Batches larger than {@code maxBytes} are returned
+ * but not cached.
+ * <p>
+ * <strong>Usage in evochora.conf:</strong>
+ * <pre>
+ * batch-cache {
+ *   className = "org.evochora.datapipeline.resources.storage.DecodedBatchCache"
+ *   options {
+ *     maxBytes = 512M
+ *   }
+ * }
+ * </pre>
+ * Services reference it with {@code batchCache = "batch-cache:batch-cache"}. Since
+ * resources are created once per pipeline, all services using it share the same cache.
+ * <p>
+ * <strong>Single-Flight:</strong> The first caller of a missing batch loads it on its own
+ * thread; concurrent callers for the same batch wait for that load.
+ * <p>
+ * <strong>Thread Safety:</strong> Thread-safe. Loads run outside the cache lock, so loads of
+ * different batches proceed in parallel.
+ */
+public class DecodedBatchCache extends AbstractResource implements IDecodedBatchCache {
+
+    private record Entry(List<TickData> ticks, long bytes) {
+    }
+
+    private final long maxBytes;
+
+    // Guarded by this: cached batches in access order, and loads in progress
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<List<TickData>>> loading = new HashMap<>();
+    private long bytesHeld = 0;
+
+    // Metrics - O(1) atomic operations
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private final AtomicLong sharedLoads = new AtomicLong(0);
+    private final AtomicLong evictions = new AtomicLong(0);
+    private final AtomicLong oversizedBatches = new AtomicLong(0);
+
+    /**
+     * Creates a decoded-batch cache from configuration.
+     *
+     * @param name The resource name (from configuration).
+     * @param options Configuration options:
+     *                <ul>
+     *                  <li>maxBytes: Maximum serialized size of the cached ticks (default: 512 MiB)</li>
+     *                </ul>
+     */
+    public DecodedBatchCache(String name, Config options) {
+        super(name, options);
+
+        Config defaults = ConfigFactory.parseMap(Map.of(
+            "maxBytes", 512L * 1024 * 1024
+        ));
+        Config config = options.withFallback(defaults);
+
+        this.maxBytes = config.getBytes("maxBytes");
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+    }
+
+    @Override
+    public List<TickData> get(StoragePath path, BatchLoader loader) throws IOException, InterruptedException {
+        String key = path.asString();
+        CompletableFuture<List<TickData>> load;
+        boolean loadHere = false;
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached.ticks();
+            }
+            load = loading.get(key);
+            if (load == null) {
+                load = new CompletableFuture<>();
+                loading.put(key, load);
+                loadHere = true;
+                misses.incrementAndGet();
+            } else {
+                sharedLoads.incrementAndGet();
+            }
+        }
+
+        if (!loadHere) {
+            return awaitLoad(load);
+        }
+
+        List<TickData> ticks;
+        try {
+            ticks = List.copyOf(loader.load(path));
+        } catch (IOException | RuntimeException | Error e) {
+            synchronized (this) {
+                loading.remove(key);
+            }
+            load.completeExceptionally(e);
+            throw e;
+        }
+
+        long bytes = sizeOf(ticks);
+        synchronized (this) {
+            loading.remove(key);
+            if (bytes <= maxBytes) {
+                Entry previous = entries.put(key, new Entry(ticks, bytes));
+                bytesHeld += bytes - (previous != null ? previous.bytes() : 0);
+                evictOverLimit();
+            } else {
+                oversizedBatches.incrementAndGet();
+            }
+        }
+        load.complete(ticks);
+        return ticks;
+    }
+
+    private static List<TickData> awaitLoad(CompletableFuture<List<TickData>> load)
+            throws IOException, InterruptedException {
+        try {
+            return load.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException("Failed to load batch", cause);
+        }
+    }
+
+    private void evictOverLimit() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytesHeld > maxBytes && eldest.hasNext()) {
+            bytesHeld -= eldest.next().bytes();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static long sizeOf(List<TickData> ticks) {
+        long bytes = 0;
+        for (TickData tick : ticks) {
+            bytes += tick.getSerializedSize();
+        }
+        return bytes;
+    }
+
+    /**
+     * Removes all cached batches. Loads in progress are not affected.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytesHeld = 0;
+    }
+
+    @Override
+    protected void addCustomMetrics(Map<String, Number> metrics) {
+        super.addCustomMetrics(metrics);
+
+        long hitCount = hits.get();
+        long lookups = hitCount + misses.get() + sharedLoads.get();
+        metrics.put("cache_hits", hitCount);
+        metrics.put("cache_misses", misses.get());
+        metrics.put("cache_shared_loads", sharedLoads.get());
+        metrics.put("cache_hit_rate_percent", lookups > 0 ? (hitCount + sharedLoads.get()) * 100.0 / lookups : 0.0);
+        metrics.put("cache_evictions", evictions.get());
+        metrics.put("cache_oversized_batches", oversizedBatches.get());
+        synchronized (this) {
+            metrics.put("cache_bytes_held", bytesHeld);
+            metrics.put("cache_entries", entries.size());
+        }
+        metrics.put("cache_max_bytes", maxBytes);
+    }
+
+    @Override
+    public UsageState getUsageState(String usageType) {
+        // Always active (no state transitions)
+        return UsageState.ACTIVE;
+    }
+}
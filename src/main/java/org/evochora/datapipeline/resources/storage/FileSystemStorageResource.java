@@ -5,11 +5,16 @@ import org.evochora.datapipeline.utils.PathExpansion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -17,14 +22,28 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class FileSystemStorageResource extends AbstractBatchStorageResource {
 
     private static final Logger log = LoggerFactory.getLogger(FileSystemStorageResource.class);
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_CATALOG_RUNS = 16;
+
     private final File rootDirectory;
+    private final boolean batchCatalogEnabled;
+
+    // Batch catalogs of recently written or listed runs
+    private final Map<String, BatchCatalog> batchCatalogs = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BatchCatalog> eldest) {
+            return size() > MAX_CATALOG_RUNS;
+        }
+    };
 
     public FileSystemStorageResource(String name, Config options) {
         super(name, options);
@@ -40,10 +59,21 @@ public class FileSystemStorageResource extends AbstractBatchStorageResource {
         if (!this.rootDirectory.exists() && !this.rootDirectory.mkdirs()) {
             throw new IllegalArgumentException("Failed to create rootDirectory: " + expandedPath);
         }
+        this.batchCatalogEnabled = !options.hasPath("batchCatalog.enabled") || options.getBoolean("batchCatalog.enabled");
     }
 
     @Override
     protected void putRaw(String physicalPath, byte[] data) throws IOException {
+        writeAtomically(physicalPath, out -> out.write(data));
+    }
+
+    @Override
+    protected void putRawStreaming(String physicalPath, RawWriter writer) throws IOException {
+        writeAtomically(physicalPath, writer);
+        recordWriteBuffer(WRITE_BUFFER_SIZE);
+    }
+
+    private void writeAtomically(String physicalPath, RawWriter writer) throws IOException {
         validateKey(physicalPath);
         File file = new File(rootDirectory, physicalPath);
         
@@ -58,20 +88,37 @@ public class FileSystemStorageResource extends AbstractBatchStorageResource {
         
         // Use suffix .UUID.tmp instead of prefix to ensure temp files are filtered correctly
         File tempFile = new File(parentDir, file.getName() + "." + java.util.UUID.randomUUID() + ".tmp");
-        Files.write(tempFile.toPath(), data);
-        
+        boolean moved = false;
         try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()), WRITE_BUFFER_SIZE)) {
+                writer.writeTo(out);
+            }
             Files.move(tempFile.toPath(), file.toPath(), java.nio.file.StandardCopyOption.ATOMIC_MOVE);
-        } catch (IOException e) {
-            // Clean up temp file on failure
-            try {
-                if (tempFile.exists()) {
-                    Files.delete(tempFile.toPath());
+            moved = true;
+        } finally {
+            if (!moved) {
+                // Clean up temp file on failure
+                try {
+                    Files.deleteIfExists(tempFile.toPath());
+                } catch (IOException cleanupEx) {
+                    log.warn("Failed to clean up temp file after write failure: {}", tempFile, cleanupEx);
                 }
-            } catch (IOException cleanupEx) {
-                log.warn("Failed to clean up temp file after move failure: {}", tempFile, cleanupEx);
             }
-            throw e;
+        }
+    }
+
+    @Override
+    protected void onBatchWritten(String physicalPath, long firstTick, long lastTick, long sizeBytes, int crc32c)
+            throws IOException {
+        if (batchCatalogEnabled) {
+            String runId = physicalPath.substring(0, physicalPath.indexOf('/'));
+            catalogOf(runId).append(BatchCatalog.entryOf(physicalPath, firstTick, lastTick, sizeBytes, crc32c));
+        }
+    }
+
+    private BatchCatalog catalogOf(String runId) {
+        synchronized (batchCatalogs) {
+            return batchCatalogs.computeIfAbsent(runId, id -> new BatchCatalog(rootDirectory.toPath(), id));
         }
     }
 
@@ -85,6 +132,19 @@ public class FileSystemStorageResource extends AbstractBatchStorageResource {
         return Files.readAllBytes(file.toPath());
     }
 
+    @Override
+    protected ByteBuffer getRawMapped(String physicalPath) throws IOException {
+        validateKey(physicalPath);
+        File file = new File(rootDirectory, physicalPath);
+        if (!file.exists()) {
+            throw new IOException("File does not exist: " + physicalPath);
+        }
+        // The mapping stays valid after the channel is closed and is released when the buffer is collected
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
     @Override
     protected List<String> listRaw(String prefix, boolean listDirectories, String continuationToken, int maxResults,
                                     Long startTick, Long endTick) throws IOException {
@@ -113,6 +173,14 @@ public class FileSystemStorageResource extends AbstractBatchStorageResource {
                 .collect(java.util.stream.Collectors.toList());
         }
 
+        // Batch listings of a run are served from its catalog
+        int runIdEnd = finalPrefix.indexOf('/');
+        if (batchCatalogEnabled && runIdEnd > 0 && finalPrefix.endsWith("/")) {
+            validateKey(finalPrefix);
+            return catalogOf(finalPrefix.substring(0, runIdEnd))
+                .list(finalPrefix, continuationToken, maxResults, startTick, endTick);
+        }
+
         // List files recursively
         File prefixFile = new File(rootDirectory, finalPrefix);
         File searchDir;
@@ -126,19 +194,20 @@ public class FileSystemStorageResource extends AbstractBatchStorageResource {
             filePattern = prefixFile.getName();
         }
         
-        if (searchDir == null || !searchDir.exists()) {
+        if (searchDir == null || !searchDir.isDirectory()) {
             return Collections.emptyList();
         }
 
         List<String> results = new ArrayList<>();
 
-        try (Stream<Path> stream = Files.walk(searchDir.toPath())) {
+        // A file pattern only matches files directly in the search directory
+        try (Stream<Path> stream = filePattern != null ? Files.list(searchDir.toPath()) : Files.walk(searchDir.toPath())) {
             List<String> allFiles = stream
                     // Filter .tmp files BEFORE checking isRegularFile to avoid race conditions
                     .filter(p -> {
                         String filename = p.getFileName().toString();
-                        // Filter out temporary files (.UUID.tmp suffix)
-                        return !filename.endsWith(".tmp");
+                        // Filter out temporary files (.UUID.tmp suffix) and batch indexes
+                        return !filename.endsWith(".tmp") && !filename.endsWith(".idx");
                     })
                     .filter(Files::isRegularFile)
                     .map(p -> rootPath.relativize(p))
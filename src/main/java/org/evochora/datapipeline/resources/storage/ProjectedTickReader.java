@@ -0,0 +1,85 @@
+package org.evochora.datapipeline.resources.storage;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.evochora.datapipeline.api.resources.storage.TickProjection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads length-delimited {@link TickData} messages, parsing only the fields of a projection.
+ * <p>
+ * Each tick is scanned field by field: fields of the projection are copied into a reused
+ * buffer, all others are skipped without being decoded (a length-delimited field such as the
+ * cells costs one bounds check, not one object per element). The copied fields are then parsed
+ * as a {@link TickData}, so the skipped fields never reach the heap.
+ * <p>
+ * <strong>Thread Safety:</strong> Not thread-safe. Use one instance per stream.
+ */
+final class ProjectedTickReader {
+
+    private final CodedInputStream input;
+    private final TickProjection projection;
+    private final KeptFields kept = new KeptFields();
+    private final CodedOutputStream keptOutput = CodedOutputStream.newInstance(kept);
+    private long bytesRead = 0;
+
+    /**
+     * @param stream decompressed stream of length-delimited ticks
+     * @param projection fields to parse
+     */
+    ProjectedTickReader(InputStream stream, TickProjection projection) {
+        this.input = CodedInputStream.newInstance(stream);
+        this.projection = projection;
+    }
+
+    /**
+     * Reads the next tick.
+     *
+     * @return the tick with only the projected fields set, or null at the end of the stream
+     * @throws IOException if the stream cannot be read or is not valid TickData
+     */
+    TickData next() throws IOException {
+        if (input.isAtEnd()) {
+            return null;
+        }
+        int length = input.readRawVarint32();
+        int previousLimit = input.pushLimit(length);
+        kept.reset();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (projection.includes(WireFormat.getTagFieldNumber(tag))) {
+                input.skipField(tag, keptOutput);
+            } else {
+                input.skipField(tag);
+            }
+        }
+        input.popLimit(previousLimit);
+        keptOutput.flush();
+
+        // The size counter limits the bytes read by one CodedInputStream; count per tick instead
+        bytesRead += input.getTotalBytesRead();
+        input.resetSizeCounter();
+        return TickData.parseFrom(kept.asInput());
+    }
+
+    /**
+     * @return uncompressed bytes read so far, including skipped fields
+     */
+    long bytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Buffer of the projected fields of one tick, parsed in place without copying.
+     */
+    private static final class KeptFields extends ByteArrayOutputStream {
+        CodedInputStream asInput() {
+            return CodedInputStream.newInstance(buf, 0, count);
+        }
+    }
+}
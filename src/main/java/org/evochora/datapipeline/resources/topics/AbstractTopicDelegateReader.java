@@ -11,6 +11,8 @@ import org.evochora.datapipeline.utils.monitoring.SlidingWindowCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -37,6 +39,9 @@ import java.util.concurrent.atomic.AtomicLong;
  * <ul>
  *   <li>Implement {@link #receiveEnvelope(long, TimeUnit)} to read from the underlying topic</li>
  *   <li>Implement {@link #acknowledgeMessage(Object)} for technology-specific acknowledgment</li>
+ *   <li>Optionally override {@link #receiveEnvelopes(int, long, TimeUnit)} and
+ *       {@link #acknowledgeMessages(List)} to claim and acknowledge several messages at once
+ *       (defaults: one message per call)</li>
  *   <li>Optionally override {@link #onSimulationRunSet(String)} for run-specific setup (inherited from {@link AbstractTopicDelegate})</li>
  * </ul>
  *
@@ -125,6 +130,43 @@ public abstract class AbstractTopicDelegateReader<P extends AbstractTopicResourc
         messagesAcknowledged.incrementAndGet();
     }
     
+    @Override
+    public final List<TopicMessage<T, ACK>> receive(int maxMessages) throws InterruptedException {
+        validateMaxMessages(maxMessages);
+        List<ReceivedEnvelope<ACK>> received = receiveEnvelopes(maxMessages, 0, null);  // Block indefinitely
+        if (received.isEmpty()) {
+            throw new IllegalStateException("receiveEnvelopes() returned no messages in blocking mode");
+        }
+        return unwrapEnvelopes(received);
+    }
+    
+    @Override
+    public final List<TopicMessage<T, ACK>> poll(int maxMessages, long timeout, TimeUnit unit) throws InterruptedException {
+        validateMaxMessages(maxMessages);
+        return unwrapEnvelopes(receiveEnvelopes(maxMessages, timeout, unit));
+    }
+    
+    @Override
+    public final void ackAll(List<TopicMessage<T, ACK>> messages) {
+        if (messages == null) {
+            throw new NullPointerException("Messages cannot be null");
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<ACK> tokens = new ArrayList<>(messages.size());
+        for (TopicMessage<T, ACK> message : messages) {
+            if (message == null) {
+                throw new NullPointerException("Message cannot be null");
+            }
+            tokens.add(message.acknowledgeToken());
+        }
+        acknowledgeMessages(tokens);
+        
+        // Track acknowledgments (O(1), after successful ack)
+        messagesAcknowledged.addAndGet(tokens.size());
+    }
+    
     @Override
     protected void addCustomMetrics(Map<String, Number> metrics) {
         super.addCustomMetrics(metrics);  // Parent's aggregate metrics
@@ -172,6 +214,64 @@ public abstract class AbstractTopicDelegateReader<P extends AbstractTopicResourc
      */
     protected abstract void acknowledgeMessage(ACK acknowledgeToken);
     
+    /**
+     * Receives up to {@code maxMessages} wrapped envelopes from the underlying topic.
+     * <p>
+     * Same blocking behavior as {@link #receiveEnvelope(long, TimeUnit)}: returns as soon as at
+     * least one message is claimed. The default implementation claims a single message;
+     * implementations that can claim several messages in one round trip override it.
+     *
+     * @param maxMessages Maximum number of envelopes to return (positive).
+     * @param timeout Maximum time to wait (0 for indefinite blocking).
+     * @param unit Time unit (null for indefinite blocking).
+     * @return The received envelopes in topic order, or an empty list if timeout.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    protected List<ReceivedEnvelope<ACK>> receiveEnvelopes(int maxMessages, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        ReceivedEnvelope<ACK> received = receiveEnvelope(timeout, unit);
+        return received != null ? List.of(received) : List.of();
+    }
+    
+    /**
+     * Acknowledges several messages using their implementation-specific tokens.
+     * <p>
+     * The default implementation acknowledges each token with {@link #acknowledgeMessage(Object)};
+     * implementations that can acknowledge in one transaction override it.
+     *
+     * @param acknowledgeTokens The acknowledgment tokens (not empty).
+     */
+    protected void acknowledgeMessages(List<ACK> acknowledgeTokens) {
+        for (ACK token : acknowledgeTokens) {
+            acknowledgeMessage(token);
+        }
+    }
+    
+    private static void validateMaxMessages(int maxMessages) {
+        if (maxMessages <= 0) {
+            throw new IllegalArgumentException("maxMessages must be positive, got: " + maxMessages);
+        }
+    }
+    
+    /**
+     * Unwraps received envelopes and tracks them as received.
+     *
+     * @param received The received envelopes.
+     * @return The unwrapped messages, in the same order.
+     */
+    private List<TopicMessage<T, ACK>> unwrapEnvelopes(List<ReceivedEnvelope<ACK>> received) {
+        List<TopicMessage<T, ACK>> messages = new ArrayList<>(received.size());
+        for (ReceivedEnvelope<ACK> envelope : received) {
+            messages.add(unwrapEnvelope(envelope));
+        }
+        
+        // Track messages received (O(1), after successful receive)
+        messagesReceived.addAndGet(messages.size());
+        readThroughput.recordSum(messages.size());
+        
+        return messages;
+    }
+    
     /**
      * Unwraps a TopicEnvelope to extract the payload and create a TopicMessage.
      * <p>
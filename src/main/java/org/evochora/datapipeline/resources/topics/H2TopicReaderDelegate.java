@@ -8,6 +8,7 @@ import org.evochora.datapipeline.api.contracts.TopicEnvelope;
 import org.evochora.datapipeline.api.resources.ResourceContext;
 import org.evochora.datapipeline.utils.H2SchemaUtil;
 import org.evochora.datapipeline.utils.monitoring.SlidingWindowCounter;
+import org.evochora.datapipeline.utils.monitoring.SlidingWindowPercentiles;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,6 +16,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -41,10 +44,22 @@ import java.util.concurrent.atomic.AtomicLong;
  * Acknowledged messages are recorded in {@code topic_consumer_group_acks} table.
  * Messages remain in {@code topic_messages} permanently (no deletion).
  * <p>
+ * <strong>Batching:</strong>
+ * {@link #receiveEnvelopes(int, long, TimeUnit)} claims up to the requested number of messages
+ * in one transaction, and {@link #acknowledgeMessages(List)} acknowledges all tokens with one
+ * JDBC batch in one transaction. Each acknowledgment keeps the {@code claim_version} check, so
+ * stale tokens are rejected individually.
+ * <p>
  * <strong>PreparedStatement Pooling:</strong>
  * Each delegate holds a HikariCP connection and prepares SQL statements once during
  * construction. Read and ACK operations reuse these statements, improving performance.
  * <p>
+ * <strong>Waiting for Messages:</strong>
+ * If the candidate query finds no message, the reader blocks until a writer of the same
+ * resource signals a new message, the {@code topic_notifications} sequence of the topic changes
+ * (writes of other processes, checked every {@code notificationCheckIntervalMs}), the claim
+ * timeout has passed or the poll timeout expires. Only then is the candidate query repeated.
+ * <p>
  * <strong>Thread Safety:</strong>
  * Safe for concurrent readers in the same consumer group (competing consumers).
  * Lock conflicts are handled via {@code SKIP LOCKED}.
@@ -55,12 +70,18 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
     
     private static final Logger log = LoggerFactory.getLogger(H2TopicReaderDelegate.class);
     
+    // Minimum number of candidates selected per claim attempt (headroom for claim conflicts)
+    private static final int MIN_CANDIDATES = 10;
+    
     private final Connection connection;
     private final String serviceName;  // Service name from config (used in claimed_by)
     private PreparedStatement readStatementWithTimeout;       // SELECT candidates (lazy init after schema switch)
     private PreparedStatement insertClaimStatement;           // INSERT new claim (first time)
     private PreparedStatement updateClaimStatement;           // UPDATE existing claim (reassignment)
+    private PreparedStatement claimVersionStatement;          // SELECT claim_version after reassignment
     private PreparedStatement ackStatement;                   // Mark as acknowledged
+    private PreparedStatement ackByRowIdStatement;            // Mark as acknowledged, by row ID (batched)
+    private PreparedStatement notificationStatement;          // Read write sequence of the topic
     private final int claimTimeout;  // Store for lazy init
     
     // H2-specific metrics (in addition to abstract delegate metrics)
@@ -68,6 +89,12 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
     private final AtomicLong ackErrors = new AtomicLong(0);
     private final AtomicLong staleAcksRejected = new AtomicLong(0);
     
+    // Wait metrics (O(1)): candidate queries without result, notification checks, wake-ups
+    private final AtomicLong idleQueries = new AtomicLong(0);
+    private final AtomicLong notificationChecks = new AtomicLong(0);
+    private final AtomicLong notificationWakeups = new AtomicLong(0);
+    private final SlidingWindowPercentiles notifyLatency;  // Write to claim, for messages written while idle
+    
     // Claim conflict tracking (O(1) metrics)
     private final SlidingWindowCounter claimAttemptsWindow;
     private final SlidingWindowCounter claimConflictsWindow;
@@ -103,6 +130,10 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
                 : 5;
             this.claimAttemptsWindow = new SlidingWindowCounter(conflictWindowSeconds);
             this.claimConflictsWindow = new SlidingWindowCounter(conflictWindowSeconds);
+            int metricsWindow = options.hasPath("metricsWindowSeconds")
+                ? options.getInt("metricsWindowSeconds")
+                : 60;
+            this.notifyLatency = new SlidingWindowPercentiles(metricsWindow);
             
             // Note: PreparedStatements will be created in onSimulationRunSet() after schema switch
             
@@ -123,26 +154,11 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
             
             // Now prepare all SQL statements (schema is set, tables exist)
             
+            // Register the consumer group, so retention keeps messages it has not acknowledged yet
+            registerSubscription();
+            
             // SELECT candidate messages (no locking, race-safe claim via INSERT/UPDATE)
-            String sql = String.format("""
-                SELECT tm.id, tm.message_id, tm.envelope
-                FROM %s tm
-                LEFT JOIN %s cg 
-                    ON tm.topic_name = cg.topic_name 
-                    AND tm.message_id = cg.message_id 
-                    AND cg.consumer_group = ?
-                WHERE tm.topic_name = ?
-                AND (
-                    cg.message_id IS NULL
-                    OR (cg.acknowledged_at IS NULL
-                        AND (cg.claimed_at IS NULL
-                             OR cg.claimed_at < DATEADD('SECOND', -?, CURRENT_TIMESTAMP)
-                        )
-                    )
-                )
-                ORDER BY tm.id
-                LIMIT 10
-                """, parent.getMessagesTable(), parent.getConsumerGroupTable());
+            String sql = candidateQuery(parent.getMessagesTable(), parent.getConsumerGroupTable());
             this.readStatementWithTimeout = connection.prepareStatement(sql);
             
             // INSERT to claim message (first time this group sees this message)
@@ -166,6 +182,12 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
                 """, parent.getConsumerGroupTable());
             this.updateClaimStatement = connection.prepareStatement(updateClaimSql);
             
+            // SELECT claim_version of a reassigned message
+            String claimVersionSql = String.format(
+                "SELECT claim_version FROM %s WHERE topic_name = ? AND consumer_group = ? AND message_id = ?",
+                parent.getConsumerGroupTable());
+            this.claimVersionStatement = connection.prepareStatement(claimVersionSql);
+            
             // UPDATE to mark as acknowledged (with version check)
             String ackSql = String.format("""
                 UPDATE %s
@@ -180,6 +202,25 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
                 """, parent.getConsumerGroupTable());
             this.ackStatement = connection.prepareStatement(ackSql);
             
+            // UPDATE to mark as acknowledged by row ID (with version check, no message_id lookup)
+            String ackByRowIdSql = String.format("""
+                UPDATE %s
+                SET acknowledged_at = CURRENT_TIMESTAMP,
+                    claimed_by = NULL,
+                    claimed_at = NULL
+                WHERE topic_name = ?
+                AND consumer_group = ?
+                AND message_id = (SELECT message_id FROM %s WHERE id = ?)
+                AND claim_version = ?
+                AND acknowledged_at IS NULL
+                """, parent.getConsumerGroupTable(), parent.getMessagesTable());
+            this.ackByRowIdStatement = connection.prepareStatement(ackByRowIdSql);
+            
+            // SELECT write sequence of the topic (maintained by TopicNotificationTrigger)
+            String notificationSql = String.format(
+                "SELECT write_sequence FROM %s WHERE topic_name = ?", parent.getNotificationsTable());
+            this.notificationStatement = connection.prepareStatement(notificationSql);
+            
             log.debug("H2 topic reader '{}' (group='{}') prepared for run: {}", 
                 parent.getResourceName(), consumerGroup, simulationRunId);
                 
@@ -194,61 +235,204 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
         }
     }
     
+    /**
+     * Builds the query selecting candidate messages for a consumer group.
+     * <p>
+     * Parameters: consumer group, topic name, claim timeout in seconds, candidate limit.
+     * Also used by {@link H2TopicRetention} to measure the query latency.
+     *
+     * @param messagesTable The messages table.
+     * @param consumerGroupTable The consumer group table.
+     * @return The SQL query.
+     */
+    static String candidateQuery(String messagesTable, String consumerGroupTable) {
+        return String.format("""
+            SELECT tm.id, tm.message_id, tm.envelope
+            FROM %s tm
+            LEFT JOIN %s cg 
+                ON tm.topic_name = cg.topic_name 
+                AND tm.message_id = cg.message_id 
+                AND cg.consumer_group = ?
+            WHERE tm.topic_name = ?
+            AND (
+                cg.message_id IS NULL
+                OR (cg.acknowledged_at IS NULL
+                    AND (cg.claimed_at IS NULL
+                         OR cg.claimed_at < DATEADD('SECOND', -?, CURRENT_TIMESTAMP)
+                    )
+                )
+            )
+            ORDER BY tm.id
+            LIMIT ?
+            """, messagesTable, consumerGroupTable);
+    }
+    
+    /**
+     * Records this reader's consumer group in {@code topic_subscriptions} (idempotent).
+     *
+     * @throws SQLException if the insert fails for reasons other than an existing entry.
+     */
+    private void registerSubscription() throws SQLException {
+        String sql = String.format(
+            "INSERT INTO %s (topic_name, consumer_group) VALUES (?, ?)", parent.getSubscriptionsTable());
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, parent.getResourceName());
+            stmt.setString(2, consumerGroup);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            if (e.getErrorCode() != 23505) {  // H2 duplicate key: group already registered
+                throw e;
+            }
+        }
+    }
+    
     @Override
     protected ReceivedEnvelope<AckToken> receiveEnvelope(long timeout, TimeUnit unit) throws InterruptedException {
-        // Handle blocking mode (timeout=0, unit=null) - poll indefinitely
+        List<ReceivedEnvelope<AckToken>> received = receiveEnvelopes(1, timeout, unit);
+        return received.isEmpty() ? null : received.get(0);
+    }
+    
+    @Override
+    protected List<ReceivedEnvelope<AckToken>> receiveEnvelopes(int maxMessages, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        // Handle blocking mode (timeout=0, unit=null) - wait indefinitely
         boolean blockIndefinitely = (unit == null);
         long timeoutMs = blockIndefinitely ? Long.MAX_VALUE : unit.toMillis(timeout);
         long startTime = System.currentTimeMillis();
-        long pollIntervalMs = 500;
+        TopicMessageSignal signal = parent.getMessageSignal();
+        boolean woken = false;
         
         while (true) {
-            // Try to read a message
-            ReceivedEnvelope<AckToken> message = tryReadMessage();
-            if (message != null) {
-                return message;
+            // Observe notifications BEFORE querying: a message committed during the query
+            // changes them, so the wait below returns immediately instead of missing it
+            long observedSignal = signal.generation();
+            long observedSequence = readWriteSequence();
+            
+            // Try to read messages
+            List<ReceivedEnvelope<AckToken>> messages = tryReadMessages(maxMessages);
+            if (!messages.isEmpty()) {
+                if (woken) {
+                    long now = System.currentTimeMillis();
+                    for (ReceivedEnvelope<AckToken> message : messages) {
+                        long latencyMs = Math.max(0, now - message.envelope().getTimestamp());
+                        notifyLatency.record(latencyMs * 1_000_000);
+                    }
+                }
+                return messages;
             }
+            idleQueries.incrementAndGet();
             
             // Check if timeout expired
             long elapsedMs = System.currentTimeMillis() - startTime;
             if (elapsedMs >= timeoutMs) {
-                return null; // Timeout reached, no message available
+                return List.of(); // Timeout reached, no message available
             }
             
-            // Sleep for poll interval or remaining time, whichever is shorter
-            long remainingMs = timeoutMs - elapsedMs;
-            long sleepMs = Math.min(pollIntervalMs, remainingMs);
-            Thread.sleep(sleepMs);
+            // Wait for a write; query again at the latest after the claim timeout (stuck
+            // messages of other consumers become claimable) or when the poll timeout expires
+            long waitMs = timeoutMs - elapsedMs;
+            if (claimTimeout > 0) {
+                waitMs = Math.min(waitMs, claimTimeout * 1000L);
+            }
+            woken = awaitWrite(signal, observedSignal, observedSequence, waitMs);
+        }
+    }
+    
+    /**
+     * Blocks until a message is written to the topic or the wait time has passed.
+     *
+     * @param signal The in-JVM signal of the parent resource.
+     * @param observedSignal Signal generation observed before the last query.
+     * @param observedSequence Write sequence observed before the last query.
+     * @param waitMs Maximum time to wait.
+     * @return true if a write was detected, false if the wait time has passed.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    private boolean awaitWrite(TopicMessageSignal signal, long observedSignal, long observedSequence, long waitMs)
+            throws InterruptedException {
+        long now = System.currentTimeMillis();
+        long deadline = waitMs > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + waitMs;  // Blocking mode
+        while (true) {
+            long remainingMs = deadline - System.currentTimeMillis();
+            if (remainingMs <= 0) {
+                return false;
+            }
+            // Writers of this resource signal directly
+            if (signal.awaitChange(observedSignal, Math.min(remainingMs, parent.getNotificationCheckIntervalMs()))) {
+                notificationWakeups.incrementAndGet();
+                return true;
+            }
+            // Writers of other processes change the write sequence (via trigger)
+            notificationChecks.incrementAndGet();
+            long sequence = readWriteSequence();
+            if (sequence < 0 || sequence != observedSequence) {
+                notificationWakeups.incrementAndGet();
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Reads the write sequence of this topic from {@code topic_notifications}.
+     *
+     * @return The sequence (0 before the first write), or -1 if it cannot be read.
+     */
+    private long readWriteSequence() {
+        // Clear interrupt flag temporarily to allow H2 operations (see tryReadMessages)
+        boolean wasInterrupted = Thread.interrupted();
+        try {
+            notificationStatement.setString(1, parent.getResourceName());
+            try (ResultSet rs = notificationStatement.executeQuery()) {
+                return rs.next() ? rs.getLong("write_sequence") : 0;
+            }
+        } catch (SQLException e) {
+            // Reported as change, so the reader falls back to querying every check interval
+            log.debug("Failed to read write sequence of topic '{}': {}", parent.getResourceName(), e.getMessage());
+            return -1;
+        } finally {
+            if (wasInterrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
     
     /**
-     * Attempts to claim and read one message from the database.
+     * Attempts to claim and read up to {@code maxMessages} messages from the database.
      * <p>
-     * Uses atomic UPDATE...RETURNING to claim a message for this consumer group.
-     * Handles both normal claims and stuck message reassignment.
+     * Selects candidate messages and claims each with an INSERT (first claim for this consumer
+     * group) or a conditional UPDATE (reassignment of a stuck message). All claims of one call
+     * are committed in one transaction; if a SQL error occurs, they are rolled back and the
+     * messages stay available. Candidates are claimed in topic order, so competing consumers
+     * never wait on each other's claims in a cycle.
      *
-     * @return The received envelope with AckToken, or null if no message available.
+     * @param maxMessages Maximum number of messages to claim.
+     * @return The received envelopes with AckTokens, empty if no message is available.
      */
-    private ReceivedEnvelope<AckToken> tryReadMessage() {
+    private List<ReceivedEnvelope<AckToken>> tryReadMessages(int maxMessages) {
         int claimTimeout = parent.getClaimTimeoutSeconds();
+        List<ReceivedEnvelope<AckToken>> received = new ArrayList<>();
+        int reassignments = 0;
         
         // Clear interrupt flag temporarily to allow H2 operations
         // H2 Database's internal locking mechanism (MVMap.tryLock()) uses Thread.sleep()
         // which throws InterruptedException if thread is interrupted
         boolean wasInterrupted = Thread.interrupted();
         try {
+            // One transaction for all claims of this call
+            connection.setAutoCommit(false);
+            
             // Use same statement for both (timeout is always in WHERE clause, just with 0 or actual value)
             PreparedStatement stmt = readStatementWithTimeout;
             
-            // Step 1: SELECT candidate messages (up to 10)
+            // Step 1: SELECT candidate messages
             stmt.setString(1, consumerGroup);                    // consumer_group filter in JOIN
             stmt.setString(2, parent.getResourceName());         // topic_name filter
             stmt.setInt(3, claimTimeout > 0 ? claimTimeout : Integer.MAX_VALUE);  // timeout (or very large value if disabled)
+            stmt.setInt(4, (int) Math.min(Integer.MAX_VALUE, Math.max(MIN_CANDIDATES, 2L * maxMessages)));  // candidate limit
             
             try (ResultSet rs = stmt.executeQuery()) {
-                // Try to claim each candidate until one succeeds
-                while (rs.next()) {
+                // Try to claim candidates until enough succeeded
+                while (received.size() < maxMessages && rs.next()) {
                     long rowId = rs.getLong("id");
                     String messageId = rs.getString("message_id");
                     byte[] envelopeBytes = rs.getBytes("envelope");
@@ -285,16 +469,12 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
                                 claimed = true;
                                 isReassignment = true;
                                 // Fetch new claim_version
-                                try (PreparedStatement versionStmt = connection.prepareStatement(
-                                    "SELECT claim_version FROM " + parent.getConsumerGroupTable() + 
-                                    " WHERE topic_name = ? AND consumer_group = ? AND message_id = ?")) {
-                                    versionStmt.setString(1, parent.getResourceName());
-                                    versionStmt.setString(2, consumerGroup);
-                                    versionStmt.setString(3, messageId);
-                                    try (ResultSet versionRs = versionStmt.executeQuery()) {
-                                        if (versionRs.next()) {
-                                            newClaimVersion = versionRs.getInt("claim_version");
-                                        }
+                                claimVersionStatement.setString(1, parent.getResourceName());
+                                claimVersionStatement.setString(2, consumerGroup);
+                                claimVersionStatement.setString(3, messageId);
+                                try (ResultSet versionRs = claimVersionStatement.executeQuery()) {
+                                    if (versionRs.next()) {
+                                        newClaimVersion = versionRs.getInt("claim_version");
                                     }
                                 }
                             }
@@ -311,47 +491,62 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
                         continue;  // Try next candidate
                     }
                     
-                    // Successfully claimed! Parse and return
-                    TopicEnvelope envelope = TopicEnvelope.parseFrom(envelopeBytes);
-                    
-                    // Track metrics
-                    parent.recordRead();
+                    // Successfully claimed! Parse it (an unparseable message stays claimed until the claim timeout)
+                    TopicEnvelope envelope;
+                    try {
+                        envelope = TopicEnvelope.parseFrom(envelopeBytes);
+                    } catch (InvalidProtocolBufferException e) {
+                        readErrors.incrementAndGet();
+                        log.warn("Failed to parse envelope from topic '{}': consumerGroup={}", 
+                            parent.getResourceName(), consumerGroup);
+                        recordError("PARSE_FAILED", "Protobuf parse failed", 
+                            "Topic: " + parent.getResourceName() + ", ConsumerGroup: " + consumerGroup);
+                        continue;
+                    }
                     
                     // Log reassignment if applicable
                     if (isReassignment) {
                         log.debug("Reassigned stuck message from topic '{}': messageId={}, serviceName={}, claimVersion={}, timeout={}s", 
                             parent.getResourceName(), messageId, serviceName, newClaimVersion, claimTimeout);
-                        parent.recordStuckMessageReassignment();
+                        reassignments++;
                     } else {
                         log.debug("Claimed message from topic '{}': messageId={}, serviceName={}, claimVersion={}", 
                             parent.getResourceName(), messageId, serviceName, newClaimVersion);
                     }
                     
-                    // Return with ACK token
+                    // Collect with ACK token
                     AckToken ackToken = new AckToken(rowId, newClaimVersion);
-                    return new ReceivedEnvelope<>(envelope, ackToken);
+                    received.add(new ReceivedEnvelope<>(envelope, ackToken));
                 }
             }
+            
+            connection.commit();
         } catch (SQLException e) {
+            rollback();
+            received.clear();  // Claims were rolled back
+            reassignments = 0;
             readErrors.incrementAndGet();
             log.warn("Failed to query/claim message from topic '{}': consumerGroup={}, errorCode={}, sqlState={}, message='{}'", 
                 parent.getResourceName(), consumerGroup, e.getErrorCode(), e.getSQLState(), e.getMessage());
             recordError("CLAIM_FAILED", "SQL error during claim attempt", 
                 "Topic: " + parent.getResourceName() + ", ConsumerGroup: " + consumerGroup);
-        } catch (InvalidProtocolBufferException e) {
-            readErrors.incrementAndGet();
-            log.warn("Failed to parse envelope from topic '{}': consumerGroup={}", 
-                parent.getResourceName(), consumerGroup);
-            recordError("PARSE_FAILED", "Protobuf parse failed", 
-                "Topic: " + parent.getResourceName() + ", ConsumerGroup: " + consumerGroup);
         } finally {
+            restoreAutoCommit();
             // Restore interrupt flag for proper shutdown handling
             if (wasInterrupted) {
                 Thread.currentThread().interrupt();
             }
         }
         
-        return null;  // No message available or all claims failed
+        // Track metrics (committed claims only)
+        for (int i = 0; i < received.size(); i++) {
+            parent.recordRead();
+        }
+        for (int i = 0; i < reassignments; i++) {
+            parent.recordStuckMessageReassignment();
+        }
+        
+        return received;
     }
     
     @Override
@@ -457,6 +652,98 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
         }
     }
     
+    /**
+     * Acknowledges all tokens with one JDBC batch in one transaction.
+     * <p>
+     * Each token is checked like in {@link #acknowledgeMessage(AckToken)}: only the claim with
+     * the token's {@code claim_version} is acknowledged. A token whose claim was reassigned, was
+     * already acknowledged or whose message no longer exists is rejected as stale, without
+     * affecting the other tokens.
+     *
+     * @param tokens The acknowledgment tokens.
+     */
+    @Override
+    protected void acknowledgeMessages(List<AckToken> tokens) {
+        // Clear interrupt flag temporarily to allow H2 operations (see acknowledgeMessage)
+        boolean wasInterrupted = Thread.interrupted();
+        try {
+            connection.setAutoCommit(false);
+            
+            for (AckToken token : tokens) {
+                ackByRowIdStatement.setString(1, parent.getResourceName());  // topic_name
+                ackByRowIdStatement.setString(2, consumerGroup);             // consumer_group
+                ackByRowIdStatement.setLong(3, token.rowId());               // message row ID
+                ackByRowIdStatement.setInt(4, token.claimVersion());         // claim_version (WHERE clause)
+                ackByRowIdStatement.addBatch();
+            }
+            int[] rowsUpdated = ackByRowIdStatement.executeBatch();
+            connection.commit();
+            
+            int acknowledged = 0;
+            for (int i = 0; i < tokens.size(); i++) {
+                if (rowsUpdated[i] != 0) {
+                    parent.recordAcknowledge();
+                    acknowledged++;
+                    continue;
+                }
+                // Stale ACK detected - claim version mismatch or entry doesn't exist
+                AckToken token = tokens.get(i);
+                staleAcksRejected.incrementAndGet();
+                log.warn("Stale ACK rejected in topic '{}': rowId={}, expectedVersion={}", 
+                    parent.getResourceName(), token.rowId(), token.claimVersion());
+                recordError("STALE_ACK_REJECTED", "Stale acknowledgment rejected", 
+                    "Topic: " + parent.getResourceName() + ", RowId: " + token.rowId() + 
+                    ", ExpectedVersion: " + token.claimVersion());
+            }
+            
+            log.debug("Acknowledged {} of {} messages in topic '{}'", 
+                acknowledged, tokens.size(), parent.getResourceName());
+            
+        } catch (SQLException e) {
+            rollback();
+            try {
+                ackByRowIdStatement.clearBatch();
+            } catch (SQLException clearEx) {
+                log.debug("Failed to clear ACK batch in topic '{}': {}", parent.getResourceName(), clearEx.getMessage());
+            }
+            ackErrors.incrementAndGet();
+            log.warn("Failed to acknowledge {} messages in topic '{}': errorCode={}, sqlState={}, message='{}'", 
+                tokens.size(), parent.getResourceName(), e.getErrorCode(), e.getSQLState(), e.getMessage());
+            recordError("ACK_FAILED", "Failed to acknowledge messages", 
+                "Topic: " + parent.getResourceName() + ", Messages: " + tokens.size());
+        } finally {
+            restoreAutoCommit();
+            // Restore interrupt flag for proper shutdown handling
+            if (wasInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    /**
+     * Rolls back the current transaction, logging failures.
+     */
+    private void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            log.warn("Failed to rollback transaction in topic '{}': errorCode={}, sqlState={}, message='{}'", 
+                parent.getResourceName(), e.getErrorCode(), e.getSQLState(), e.getMessage());
+        }
+    }
+    
+    /**
+     * Switches the connection back to auto-commit after a transaction.
+     */
+    private void restoreAutoCommit() {
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            log.warn("Failed to restore auto-commit in topic '{}': errorCode={}, sqlState={}, message='{}'", 
+                parent.getResourceName(), e.getErrorCode(), e.getSQLState(), e.getMessage());
+        }
+    }
+    
     @Override
     protected void addCustomMetrics(Map<String, Number> metrics) {
         super.addCustomMetrics(metrics);  // Includes parent + abstract delegate metrics (including delegate_read_throughput_per_sec)
@@ -476,6 +763,13 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
         metrics.put("claim_attempts_in_window", attemptsInWindow);
         metrics.put("claim_conflicts_in_window", conflictsInWindow);
         metrics.put("claim_conflict_ratio", conflictRatio);
+        
+        // Wait metrics: idle candidate queries should stay low, as idle readers wait for writes
+        metrics.put("delegate_idle_queries", idleQueries.get());
+        metrics.put("delegate_notification_checks", notificationChecks.get());
+        metrics.put("delegate_notification_wakeups", notificationWakeups.get());
+        metrics.put("delegate_notify_latency_p50_ms", notifyLatency.getPercentile(50) / 1_000_000.0);
+        metrics.put("delegate_notify_latency_p99_ms", notifyLatency.getPercentile(99) / 1_000_000.0);
     }
     
     @Override
@@ -501,9 +795,18 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
             if (updateClaimStatement == null || updateClaimStatement.isClosed()) {
                 return UsageState.FAILED;
             }
+            if (claimVersionStatement == null || claimVersionStatement.isClosed()) {
+                return UsageState.FAILED;
+            }
             if (ackStatement == null || ackStatement.isClosed()) {
                 return UsageState.FAILED;
             }
+            if (ackByRowIdStatement == null || ackByRowIdStatement.isClosed()) {
+                return UsageState.FAILED;
+            }
+            if (notificationStatement == null || notificationStatement.isClosed()) {
+                return UsageState.FAILED;
+            }
             
             // This delegate is ready to read
             return UsageState.ACTIVE;
@@ -529,9 +832,18 @@ public class H2TopicReaderDelegate<T extends Message> extends AbstractTopicDeleg
         if (updateClaimStatement != null && !updateClaimStatement.isClosed()) {
             updateClaimStatement.close();
         }
+        if (claimVersionStatement != null && !claimVersionStatement.isClosed()) {
+            claimVersionStatement.close();
+        }
         if (ackStatement != null && !ackStatement.isClosed()) {
             ackStatement.close();
         }
+        if (ackByRowIdStatement != null && !ackByRowIdStatement.isClosed()) {
+            ackByRowIdStatement.close();
+        }
+        if (notificationStatement != null && !notificationStatement.isClosed()) {
+            notificationStatement.close();
+        }
         
         // Return connection to HikariCP pool
         if (connection != null && !connection.isClosed()) {
@@ -14,10 +14,14 @@ import org.evochora.datapipeline.utils.PathExpansion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -44,11 +48,28 @@ record AckToken(long rowId, int claimVersion) {}
  *   <li><strong>Explicit ACK:</strong> Junction table tracks acknowledgments per consumer group</li>
  *   <li><strong>Consumer Groups:</strong> Junction table ensures proper isolation</li>
  *   <li><strong>Competing Consumers:</strong> FOR UPDATE SKIP LOCKED for automatic load balancing</li>
- *   <li><strong>Permanent Storage:</strong> Messages never deleted (historical replay support)</li>
+ *   <li><strong>Push Notifications:</strong> Idle readers wait for writes instead of polling (see below)</li>
+ *   <li><strong>Permanent Storage:</strong> Messages never deleted (historical replay support),
+ *       unless retention is configured (see below)</li>
  *   <li><strong>Type Agnostic:</strong> Dynamic type resolution from google.protobuf.Any (no config needed)</li>
  *   <li><strong>Simplicity:</strong> Standard JDBC, no API limitations</li>
  * </ul>
  * <p>
+ * <strong>Push Notifications:</strong>
+ * A reader that finds no message blocks until a message is written, its poll timeout expires
+ * or the claim timeout has passed (stuck messages become claimable). Writers of this resource
+ * wake up its readers directly through a {@link TopicMessageSignal}. Writes from other processes
+ * sharing the database are detected through {@code topic_notifications}, a per-topic sequence
+ * maintained by the {@link TopicNotificationTrigger} on {@code topic_messages}: idle readers
+ * check it every {@code notificationCheckIntervalMs}, a primary key lookup instead of the
+ * candidate query.
+ * <p>
+ * <strong>Retention:</strong>
+ * With {@code retention.enabled}, a background thread periodically prunes messages that all
+ * consumer groups have acknowledged and that exceed the configured age or count policy, in
+ * chunks, optionally archiving them to batch storage first (see {@link H2TopicRetention}).
+ * Enable retention in one process per database only.
+ * <p>
  * <strong>Thread Safety:</strong>
  * This class is thread-safe. Multiple writers and readers can operate concurrently.
  * HikariCP manages connection thread safety internally.
@@ -62,6 +83,18 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
     private final HikariDataSource dataSource;
     private final int claimTimeoutSeconds;  // 0 = disabled, > 0 = timeout for stuck message reassignment
     private final AtomicLong stuckMessagesReassigned;  // O(1) metric for reassignments
+    private final int notificationCheckIntervalMs;
+    private final TopicMessageSignal messageSignal = new TopicMessageSignal();
+    private final AtomicLong notificationsSent = new AtomicLong(0);
+    
+    // Retention (null = disabled), run by a background thread once the simulation run is set
+    private final H2TopicRetention retention;
+    private ScheduledExecutorService retentionScheduler;
+    private final AtomicLong retentionPasses = new AtomicLong(0);
+    private final AtomicLong retentionMessagesPruned = new AtomicLong(0);
+    private final AtomicLong retentionMessagesArchived = new AtomicLong(0);
+    private final AtomicLong retentionFailures = new AtomicLong(0);
+    private volatile H2TopicRetention.Pass lastRetentionPass;
     // Note: writeThroughput and readThroughput are now inherited from AbstractTopicResource
     
     // Synchronization for schema setup
@@ -70,6 +103,8 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
     // Centralized table names (shared by all topics)
     private static final String MESSAGES_TABLE = "topic_messages";
     private static final String CONSUMER_GROUP_TABLE = "topic_consumer_group";
+    static final String NOTIFICATIONS_TABLE = "topic_notifications";
+    private static final String SUBSCRIPTIONS_TABLE = "topic_subscriptions";
     
     /**
      * Creates a new H2TopicResource with HikariCP connection pooling.
@@ -86,6 +121,10 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
      *   <li>{@code username} - Database username (default: "sa")</li>
      *   <li>{@code password} - Database password (default: "")</li>
      *   <li>{@code claimTimeout} - Seconds before stuck message reassignment (default: 300, 0=disabled)</li>
+     *   <li>{@code notificationCheckIntervalMs} - Interval at which idle readers check for writes
+     *       of other processes (default: 500)</li>
+     *   <li>{@code retention} - Pruning of acknowledged messages: {@code enabled} (default: false)
+     *       and the options of {@link H2TopicRetention#H2TopicRetention(H2TopicResource, Config)}</li>
      * </ul>
      *
      * @param name The resource name.
@@ -126,6 +165,15 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
         this.claimTimeoutSeconds = options.hasPath("claimTimeout")
             ? options.getInt("claimTimeout")
             : 300;  // Default: 5 minutes
+        this.notificationCheckIntervalMs = options.hasPath("notificationCheckIntervalMs")
+            ? options.getInt("notificationCheckIntervalMs")
+            : 500;
+        if (notificationCheckIntervalMs <= 0) {
+            throw new IllegalArgumentException("notificationCheckIntervalMs must be positive");
+        }
+        this.retention = options.hasPath("retention.enabled") && options.getBoolean("retention.enabled")
+            ? new H2TopicRetention(this, options.getConfig("retention"))
+            : null;
         
         try {
             this.dataSource = new HikariDataSource(hikariConfig);
@@ -175,6 +223,50 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
         return CONSUMER_GROUP_TABLE;
     }
     
+    /**
+     * Returns the notification sequence table name.
+     *
+     * @return "topic_notifications"
+     */
+    protected String getNotificationsTable() {
+        return NOTIFICATIONS_TABLE;
+    }
+    
+    /**
+     * Returns the consumer group registration table name.
+     *
+     * @return "topic_subscriptions"
+     */
+    protected String getSubscriptionsTable() {
+        return SUBSCRIPTIONS_TABLE;
+    }
+    
+    /**
+     * Returns the interval at which idle readers check for writes of other processes.
+     *
+     * @return Check interval in milliseconds.
+     */
+    protected int getNotificationCheckIntervalMs() {
+        return notificationCheckIntervalMs;
+    }
+    
+    /**
+     * Returns the signal that wakes up idle readers of this resource.
+     *
+     * @return The in-JVM message signal.
+     */
+    TopicMessageSignal getMessageSignal() {
+        return messageSignal;
+    }
+    
+    /**
+     * Wakes up idle readers after a message was committed by a writer of this resource.
+     */
+    protected void notifyMessageWritten() {
+        notificationsSent.incrementAndGet();
+        messageSignal.signal();
+    }
+    
     /**
      * Returns the claim timeout in seconds.
      *
@@ -194,6 +286,46 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
         stuckMessagesReassigned.incrementAndGet();
     }
     
+    /**
+     * Runs one retention pass on the tables of the current simulation run.
+     * <p>
+     * Called periodically by the retention thread; package-private for tests.
+     *
+     * @return The result of the pass.
+     * @throws IllegalStateException if retention is disabled or the simulation run is not set.
+     * @throws SQLException if the pass fails (chunks deleted before the failure stay deleted).
+     * @throws IOException if archiving fails.
+     */
+    H2TopicRetention.Pass runRetentionPass() throws SQLException, IOException {
+        String simulationRunId = getSimulationRunId();
+        if (retention == null || simulationRunId == null) {
+            throw new IllegalStateException("Retention of topic '" + getResourceName() + "' is not active");
+        }
+        try (Connection conn = getConnection()) {
+            H2SchemaUtil.setSchema(conn, simulationRunId);
+            H2TopicRetention.Pass pass = retention.run(conn, simulationRunId);
+            retentionPasses.incrementAndGet();
+            retentionMessagesPruned.addAndGet(pass.pruned());
+            retentionMessagesArchived.addAndGet(pass.archived());
+            lastRetentionPass = pass;
+            return pass;
+        }
+    }
+    
+    /**
+     * Scheduled retention task: runs a pass and reports failures without stopping the schedule.
+     */
+    private void runScheduledRetention() {
+        try {
+            runRetentionPass();
+        } catch (Exception e) {
+            retentionFailures.incrementAndGet();
+            log.warn("Retention pass failed for topic '{}': {}", getResourceName(), e.getMessage());
+            recordError("RETENTION_FAILED", "Retention pass failed",
+                "Topic: " + getResourceName() + ", Cause: " + e.getMessage());
+        }
+    }
+    
     /**
      * Setup callback for H2SchemaUtil: creates tables.
      * <p>
@@ -201,6 +333,8 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
      * <ul>
      *   <li>Creates centralized topic tables ({@code topic_messages}, {@code topic_consumer_group_acks})</li>
      *   <li>Creates all necessary indexes</li>
+     *   <li>Creates {@code topic_notifications} and the trigger maintaining it</li>
+     *   <li>Creates {@code topic_subscriptions}, the consumer groups known to retention</li>
      * </ul>
      * <p>
      * <strong>Thread Safety:</strong>
@@ -276,6 +410,27 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
         String createIndexClaimed = 
             "CREATE INDEX IF NOT EXISTS idx_consumer_group_claimed ON topic_consumer_group (topic_name, consumer_group, claimed_at)";
         
+        // Create notification sequence table, maintained by a trigger on topic_messages
+        // Lets idle readers in other processes detect writes with a primary key lookup
+        String createNotificationsSql = """
+            CREATE TABLE IF NOT EXISTS topic_notifications (
+                topic_name VARCHAR(255) NOT NULL PRIMARY KEY,
+                write_sequence BIGINT NOT NULL
+            )
+            """;
+        // Create consumer group registry (readers register on run setup, retention protects them)
+        String createSubscriptionsSql = """
+            CREATE TABLE IF NOT EXISTS topic_subscriptions (
+                topic_name VARCHAR(255) NOT NULL,
+                consumer_group VARCHAR(255) NOT NULL,
+                
+                PRIMARY KEY (topic_name, consumer_group)
+            )
+            """;
+        String createNotificationTrigger = String.format(
+            "CREATE TRIGGER IF NOT EXISTS trg_topic_messages_notify AFTER INSERT ON topic_messages FOR EACH ROW CALL '%s'",
+            TopicNotificationTrigger.class.getName());
+        
         // Execute all CREATE statements (connection already provided by H2SchemaUtil.setupRunSchema)
         try (Statement stmt = connection.createStatement()) {
             // Use H2SchemaUtil for CREATE TABLE to handle concurrent initialization race conditions
@@ -284,6 +439,9 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
             H2SchemaUtil.executeDdlIfNotExists(stmt, createConsumerGroupSql, "topic_consumer_group");
             executeIndexCreation(stmt, createIndexUnclaimed, "idx_consumer_group_unclaimed");
             executeIndexCreation(stmt, createIndexClaimed, "idx_consumer_group_claimed");
+            H2SchemaUtil.executeDdlIfNotExists(stmt, createNotificationsSql, "topic_notifications");
+            H2SchemaUtil.executeDdlIfNotExists(stmt, createNotificationTrigger, "trg_topic_messages_notify");
+            H2SchemaUtil.executeDdlIfNotExists(stmt, createSubscriptionsSql, "topic_subscriptions");
             log.debug("Created centralized topic tables for resource '{}'", getResourceName());
         }
     }
@@ -354,6 +512,25 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
         
         // H2-specific metrics
         metrics.put("stuck_messages_reassigned", stuckMessagesReassigned.get());
+        metrics.put("notifications_sent", notificationsSent.get());
+        
+        // Retention metrics (totals and the table sizes and query latency of the last pass)
+        if (retention != null) {
+            metrics.put("retention_passes", retentionPasses.get());
+            metrics.put("retention_failures", retentionFailures.get());
+            metrics.put("retention_messages_pruned", retentionMessagesPruned.get());
+            metrics.put("retention_messages_archived", retentionMessagesArchived.get());
+            H2TopicRetention.Pass pass = lastRetentionPass;
+            if (pass != null) {
+                metrics.put("retention_low_water_mark", pass.lowWaterMark());
+                metrics.put("retention_messages_before", pass.messagesBefore());
+                metrics.put("retention_messages_after", pass.messagesAfter());
+                metrics.put("retention_consumer_group_rows_before", pass.groupRowsBefore());
+                metrics.put("retention_consumer_group_rows_after", pass.groupRowsAfter());
+                metrics.put("retention_candidate_query_before_ms", pass.candidateQueryBeforeNanos() / 1_000_000.0);
+                metrics.put("retention_candidate_query_after_ms", pass.candidateQueryAfterNanos() / 1_000_000.0);
+            }
+        }
     }
     
     @Override
@@ -365,6 +542,10 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
                 
                 log.debug("H2 topic '{}' setup complete for run: {}", getResourceName(), simulationRunId);
                 
+                if (retention != null) {
+                    startRetention();
+                }
+                
             } catch (SQLException e) {
                 log.error("Failed to setup schema for topic '{}', run: {} - Cause: {}", getResourceName(), simulationRunId, e.getMessage());
                 recordError("SCHEMA_SETUP_FAILED", "Schema setup failed", 
@@ -374,8 +555,32 @@ public class H2TopicResource<T extends Message> extends AbstractTopicResource<T,
         }
     }
     
+    /**
+     * Starts the retention thread (daemon, one pass every {@code retention.intervalSeconds}).
+     */
+    private void startRetention() {
+        retentionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, getResourceName() + "-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        int interval = retention.getIntervalSeconds();
+        retentionScheduler.scheduleWithFixedDelay(this::runScheduledRetention, interval, interval, TimeUnit.SECONDS);
+        log.debug("Retention started for topic '{}' (interval={}s, archive={})",
+            getResourceName(), interval, retention.isArchiveEnabled());
+    }
+    
     @Override
     public void close() throws Exception {
+        // Step 0: Stop retention (a running pass ends after its current chunk)
+        if (retentionScheduler != null) {
+            retention.stop();
+            retentionScheduler.shutdown();
+            if (!retentionScheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Retention of topic '{}' did not stop within 10 seconds", getResourceName());
+            }
+        }
+        
         // Step 1: Close all delegates (releases connections back to pool)
         super.close();
         
@@ -0,0 +1,370 @@
+package org.evochora.datapipeline.resources.topics;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.typesafe.config.Config;
+import org.evochora.datapipeline.api.contracts.TopicArchiveSegment;
+import org.evochora.datapipeline.api.contracts.TopicEnvelope;
+import org.evochora.datapipeline.api.resources.storage.IBatchStorageWrite;
+import org.evochora.datapipeline.resources.storage.FileSystemStorageResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Retention of an {@link H2TopicResource}: prunes acknowledged messages in chunks.
+ * <p>
+ * A message is pruned once every consumer group of the topic has acknowledged it and it exceeds
+ * a retention policy: it is older than {@code maxAgeSeconds}, or at least {@code maxMessages}
+ * newer messages exist in the topic. The consumer groups are those of all readers that connected
+ * to the topic in this run ({@code topic_subscriptions}) plus the groups listed in
+ * {@code consumerGroups}; list groups that start late, or they miss the pruned messages.
+ * <p>
+ * <strong>Low-Water Mark:</strong>
+ * The low-water mark of a consumer group is its oldest unacknowledged message. Only messages
+ * below the lowest mark of all groups are pruned, so no group ever loses a message it has not
+ * acknowledged.
+ * <p>
+ * <strong>Chunks:</strong>
+ * Messages are deleted with their consumer group rows in chunks of {@code chunkSize}, one
+ * transaction per chunk, so readers are never blocked for long. If {@code archive} is configured,
+ * each chunk is first written to batch storage as a {@link TopicArchiveSegment}, which keeps the
+ * messages available for replay. A failed archive write ends the pass before the chunk is deleted.
+ * <p>
+ * <strong>Thread Safety:</strong> A pass must not run concurrently with another pass;
+ * {@link #stop()} may be called from any thread.
+ */
+final class H2TopicRetention {
+
+    private static final Logger log = LoggerFactory.getLogger(H2TopicRetention.class);
+
+    // Candidate limit of the probe query (same as a single-message read)
+    private static final int PROBE_CANDIDATES = 10;
+
+    private final String topicName;
+    private final int maxAgeSeconds;
+    private final int maxMessages;
+    private final int chunkSize;
+    private final int intervalSeconds;
+    private final int claimTimeoutSeconds;
+    private final Set<String> consumerGroups;
+    private final IBatchStorageWrite archive;  // null = pruned messages are discarded
+    private volatile boolean stopped = false;
+
+    private final String countMessagesSql;
+    private final String countGroupRowsSql;
+    private final String subscribedGroupsSql;
+    private final String lowWaterMarkSql;
+    private final String countCutoffSql;
+    private final String chunkSql;
+    private final String deleteGroupRowSql;
+    private final String deleteMessageSql;
+    private final String candidateSql;
+
+    /**
+     * Result of one retention pass.
+     *
+     * @param messagesBefore Messages of the topic before the pass.
+     * @param messagesAfter Messages of the topic after the pass.
+     * @param groupRowsBefore Consumer group rows of the topic before the pass.
+     * @param groupRowsAfter Consumer group rows of the topic after the pass.
+     * @param lowWaterMark Lowest low-water mark of all consumer groups (row ID), or -1 if the topic has no consumer group.
+     * @param pruned Messages deleted.
+     * @param archived Messages written to the archive.
+     * @param candidateQueryBeforeNanos Latency of the candidate query of the slowest group before the pass.
+     * @param candidateQueryAfterNanos Latency of the candidate query of the slowest group after the pass.
+     */
+    record Pass(long messagesBefore, long messagesAfter, long groupRowsBefore, long groupRowsAfter,
+                long lowWaterMark, long pruned, long archived,
+                long candidateQueryBeforeNanos, long candidateQueryAfterNanos) {}
+
+    /**
+     * Creates the retention of a topic.
+     * <p>
+     * <strong>Options:</strong>
+     * <ul>
+     *   <li>{@code maxAgeSeconds} - Prune acknowledged messages older than this (default: 0 = no age limit)</li>
+     *   <li>{@code maxMessages} - Prune acknowledged messages beyond the newest N (default: 0 = no count limit)</li>
+     *   <li>{@code intervalSeconds} - Time between passes (default: 60)</li>
+     *   <li>{@code chunkSize} - Messages deleted per transaction (default: 1000)</li>
+     *   <li>{@code consumerGroups} - Groups to protect before their readers connect (default: none)</li>
+     *   <li>{@code archive} - Options of a {@link FileSystemStorageResource} receiving pruned
+     *       messages (default: none, pruned messages are discarded)</li>
+     * </ul>
+     *
+     * @param parent The topic resource.
+     * @param options The {@code retention} options of the topic.
+     * @throws IllegalArgumentException if no policy is configured or an option is out of range.
+     */
+    H2TopicRetention(H2TopicResource<?> parent, Config options) {
+        this.topicName = parent.getResourceName();
+        this.maxAgeSeconds = options.hasPath("maxAgeSeconds") ? options.getInt("maxAgeSeconds") : 0;
+        this.maxMessages = options.hasPath("maxMessages") ? options.getInt("maxMessages") : 0;
+        this.chunkSize = options.hasPath("chunkSize") ? options.getInt("chunkSize") : 1000;
+        this.intervalSeconds = options.hasPath("intervalSeconds") ? options.getInt("intervalSeconds") : 60;
+        this.claimTimeoutSeconds = parent.getClaimTimeoutSeconds();
+        this.consumerGroups = options.hasPath("consumerGroups")
+            ? new LinkedHashSet<>(options.getStringList("consumerGroups"))
+            : Set.of();
+        if (maxAgeSeconds < 0 || maxMessages < 0) {
+            throw new IllegalArgumentException("retention.maxAgeSeconds and retention.maxMessages must not be negative");
+        }
+        if (maxAgeSeconds == 0 && maxMessages == 0) {
+            throw new IllegalArgumentException(
+                "retention of topic '" + topicName + "' requires maxAgeSeconds or maxMessages");
+        }
+        if (chunkSize <= 0 || intervalSeconds <= 0) {
+            throw new IllegalArgumentException("retention.chunkSize and retention.intervalSeconds must be positive");
+        }
+        this.archive = options.hasPath("archive")
+            ? new FileSystemStorageResource(topicName + "-archive", options.getConfig("archive"))
+            : null;
+
+        String messages = parent.getMessagesTable();
+        String groups = parent.getConsumerGroupTable();
+        this.countMessagesSql = "SELECT COUNT(*) FROM " + messages + " WHERE topic_name = ?";
+        this.countGroupRowsSql = "SELECT COUNT(*) FROM " + groups + " WHERE topic_name = ?";
+        this.subscribedGroupsSql = "SELECT consumer_group FROM " + parent.getSubscriptionsTable()
+            + " WHERE topic_name = ?";
+        this.lowWaterMarkSql = String.format("""
+            SELECT MIN(tm.id)
+            FROM %s tm
+            LEFT JOIN %s cg
+                ON tm.topic_name = cg.topic_name
+                AND tm.message_id = cg.message_id
+                AND cg.consumer_group = ?
+            WHERE tm.topic_name = ?
+            AND cg.acknowledged_at IS NULL
+            """, messages, groups);
+        // Row ID of the newest message beyond the count limit (IDs are shared by all topics, so count rows)
+        this.countCutoffSql = "SELECT id FROM " + messages + " WHERE topic_name = ? ORDER BY id DESC LIMIT 1 OFFSET ?";
+        String agePolicy = maxAgeSeconds > 0
+            ? "created_at < DATEADD('SECOND', -" + maxAgeSeconds + ", CURRENT_TIMESTAMP)"
+            : "FALSE";
+        this.chunkSql = String.format("""
+            SELECT id, message_id, envelope
+            FROM %s
+            WHERE topic_name = ?
+            AND id < ?
+            AND (%s OR id <= ?)
+            ORDER BY id
+            LIMIT ?
+            """, messages, agePolicy);
+        this.deleteGroupRowSql = "DELETE FROM " + groups + " WHERE topic_name = ? AND message_id = ?";
+        this.deleteMessageSql = "DELETE FROM " + messages + " WHERE id = ?";
+        this.candidateSql = H2TopicReaderDelegate.candidateQuery(messages, groups);
+    }
+
+    /**
+     * @return time between passes in seconds
+     */
+    int getIntervalSeconds() {
+        return intervalSeconds;
+    }
+
+    /**
+     * @return whether pruned messages are archived
+     */
+    boolean isArchiveEnabled() {
+        return archive != null;
+    }
+
+    /**
+     * Ends a running pass after its current chunk and skips later passes.
+     */
+    void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Runs one retention pass.
+     *
+     * @param connection Connection switched to the schema of the run.
+     * @param simulationRunId The simulation run (used for archive keys).
+     * @return The result of the pass.
+     * @throws SQLException if a query or a chunk deletion fails (the failed chunk is rolled back).
+     * @throws IOException if a chunk cannot be archived (the chunk is not deleted).
+     */
+    Pass run(Connection connection, String simulationRunId) throws SQLException, IOException {
+        long messagesBefore = count(connection, countMessagesSql);
+        long groupRowsBefore = count(connection, countGroupRowsSql);
+
+        // Lowest low-water mark of all consumer groups
+        long lowWaterMark = Long.MAX_VALUE;
+        String slowestGroup = null;
+        for (String group : consumerGroups(connection)) {
+            long groupMark = lowWaterMark(connection, group);
+            if (slowestGroup == null || groupMark < lowWaterMark) {
+                lowWaterMark = groupMark;
+                slowestGroup = group;
+            }
+        }
+        if (slowestGroup == null) {
+            // Nobody consumes the topic yet: keep everything
+            return new Pass(messagesBefore, messagesBefore, groupRowsBefore, groupRowsBefore, -1, 0, 0, 0, 0);
+        }
+
+        long queryBefore = timeCandidateQuery(connection, slowestGroup);
+        long countCutoff = countCutoff(connection);
+        long pruned = 0;
+        long archived = 0;
+        while (!stopped) {
+            List<PrunedMessage> chunk = selectChunk(connection, lowWaterMark, countCutoff);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            if (archive != null) {
+                archiveChunk(chunk, simulationRunId);
+                archived += chunk.size();
+            }
+            deleteChunk(connection, chunk);
+            pruned += chunk.size();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        long queryAfter = timeCandidateQuery(connection, slowestGroup);
+
+        long messagesAfter = pruned > 0 ? count(connection, countMessagesSql) : messagesBefore;
+        long groupRowsAfter = pruned > 0 ? count(connection, countGroupRowsSql) : groupRowsBefore;
+        log.debug("Retention of topic '{}': pruned {} messages below low-water mark {} (group '{}'), {} -> {} messages",
+            topicName, pruned, lowWaterMark, slowestGroup, messagesBefore, messagesAfter);
+        return new Pass(messagesBefore, messagesAfter, groupRowsBefore, groupRowsAfter,
+            lowWaterMark, pruned, archived, queryBefore, queryAfter);
+    }
+
+    private Set<String> consumerGroups(Connection connection) throws SQLException {
+        Set<String> groups = new LinkedHashSet<>(consumerGroups);
+        try (PreparedStatement stmt = connection.prepareStatement(subscribedGroupsSql)) {
+            stmt.setString(1, topicName);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    groups.add(rs.getString(1));
+                }
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * @return row ID of the group's oldest unacknowledged message, or Long.MAX_VALUE if it acknowledged all
+     */
+    private long lowWaterMark(Connection connection, String group) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(lowWaterMarkSql)) {
+            stmt.setString(1, group);
+            stmt.setString(2, topicName);
+            try (ResultSet rs = stmt.executeQuery()) {
+                long mark = rs.next() ? rs.getLong(1) : 0;
+                return rs.wasNull() ? Long.MAX_VALUE : mark;
+            }
+        }
+    }
+
+    /**
+     * @return row ID up to which messages exceed the count policy, or Long.MIN_VALUE if none does
+     */
+    private long countCutoff(Connection connection) throws SQLException {
+        if (maxMessages == 0) {
+            return Long.MIN_VALUE;
+        }
+        try (PreparedStatement stmt = connection.prepareStatement(countCutoffSql)) {
+            stmt.setString(1, topicName);
+            stmt.setInt(2, maxMessages);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : Long.MIN_VALUE;
+            }
+        }
+    }
+
+    private List<PrunedMessage> selectChunk(Connection connection, long lowWaterMark, long countCutoff)
+            throws SQLException {
+        List<PrunedMessage> chunk = new ArrayList<>();
+        try (PreparedStatement stmt = connection.prepareStatement(chunkSql)) {
+            stmt.setString(1, topicName);
+            stmt.setLong(2, lowWaterMark);
+            stmt.setLong(3, countCutoff);
+            stmt.setInt(4, chunkSize);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    chunk.add(new PrunedMessage(rs.getLong("id"), rs.getString("message_id"),
+                        archive != null ? rs.getBytes("envelope") : null));
+                }
+            }
+        }
+        return chunk;
+    }
+
+    private void archiveChunk(List<PrunedMessage> chunk, String simulationRunId) throws IOException {
+        TopicArchiveSegment.Builder segment = TopicArchiveSegment.newBuilder().setTopicName(topicName);
+        for (PrunedMessage message : chunk) {
+            try {
+                segment.addEnvelopes(TopicEnvelope.parseFrom(message.envelope()));
+            } catch (InvalidProtocolBufferException e) {
+                throw new IOException("Unparseable envelope in topic '" + topicName + "': rowId=" + message.id(), e);
+            }
+        }
+        String key = String.format("%s/topic-archive/%s/%019d_%019d.pb", simulationRunId, topicName,
+            chunk.get(0).id(), chunk.get(chunk.size() - 1).id());
+        archive.writeMessage(key, segment.build());
+    }
+
+    private void deleteChunk(Connection connection, List<PrunedMessage> chunk) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement deleteGroupRows = connection.prepareStatement(deleteGroupRowSql);
+             PreparedStatement deleteMessages = connection.prepareStatement(deleteMessageSql)) {
+            for (PrunedMessage message : chunk) {
+                deleteGroupRows.setString(1, topicName);
+                deleteGroupRows.setString(2, message.messageId());
+                deleteGroupRows.addBatch();
+                deleteMessages.setLong(1, message.id());
+                deleteMessages.addBatch();
+            }
+            deleteGroupRows.executeBatch();
+            deleteMessages.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Measures the candidate query a reader of the group runs, without claiming.
+     */
+    private long timeCandidateQuery(Connection connection, String group) throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement stmt = connection.prepareStatement(candidateSql)) {
+            stmt.setString(1, group);
+            stmt.setString(2, topicName);
+            stmt.setInt(3, claimTimeoutSeconds > 0 ? claimTimeoutSeconds : Integer.MAX_VALUE);
+            stmt.setInt(4, PROBE_CANDIDATES);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    // Fetch all candidates like a reader
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long count(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, topicName);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+
+    private record PrunedMessage(long id, String messageId, byte[] envelope) {}
+}
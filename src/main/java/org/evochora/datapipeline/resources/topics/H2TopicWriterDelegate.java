@@ -141,6 +141,9 @@ public class H2TopicWriterDelegate<T extends Message> extends AbstractTopicDeleg
             
             insertStatement.executeUpdate();  // Atomic commit in auto-commit mode
             
+            // Wake up idle readers of this resource (readers in other processes see the trigger)
+            parent.notifyMessageWritten();
+            
             // Record metrics (O(1) operations, cannot fail)
             parent.recordWrite();  // Parent's aggregate counter + throughput
             // Note: messagesSent + writeThroughput are tracked by AbstractTopicDelegateWriter in send() method
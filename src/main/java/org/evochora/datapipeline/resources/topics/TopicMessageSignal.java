@@ -0,0 +1,51 @@
+package org.evochora.datapipeline.resources.topics;
+
+/**
+ * In-JVM wake-up signal for readers of a topic.
+ * <p>
+ * Writers call {@link #signal()} after each committed message. A reader remembers the
+ * {@link #generation()} before it queries for messages and, if the query finds none, waits
+ * with {@link #awaitChange(long, long)} for a later generation. Because the generation is read
+ * before the query, a message committed while the query runs is never missed.
+ * <p>
+ * <strong>Thread Safety:</strong> Thread-safe.
+ */
+final class TopicMessageSignal {
+
+    private long generation = 0;
+
+    /**
+     * @return the number of signals so far
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Wakes up all waiting readers.
+     */
+    synchronized void signal() {
+        generation++;
+        notifyAll();
+    }
+
+    /**
+     * Waits until the generation differs from an observed one.
+     *
+     * @param observed generation observed before querying for messages
+     * @param timeoutMs maximum time to wait
+     * @return true if signaled, false if the timeout expired
+     * @throws InterruptedException if interrupted while waiting
+     */
+    synchronized boolean awaitChange(long observed, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (generation == observed) {
+            long remainingMs = deadline - System.currentTimeMillis();
+            if (remainingMs <= 0) {
+                return false;
+            }
+            wait(remainingMs);
+        }
+        return true;
+    }
+}
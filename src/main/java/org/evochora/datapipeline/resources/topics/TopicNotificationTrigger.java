@@ -0,0 +1,61 @@
+package org.evochora.datapipeline.resources.topics;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * H2 trigger that counts the messages written to each topic, for readers in other processes.
+ * <p>
+ * Installed by {@link H2TopicResource} as {@code AFTER INSERT} row trigger on
+ * {@code topic_messages}. It increments the write sequence of the message's topic in
+ * {@code topic_notifications} within the writer's transaction, so the sequence changes exactly
+ * when a message becomes visible. Idle readers check this single row (a primary key lookup)
+ * instead of repeating the candidate query; readers in the writer's JVM are woken up directly
+ * by {@link TopicMessageSignal}.
+ * <p>
+ * Must be public with a public no-arg constructor, as H2 instantiates it by class name.
+ */
+public class TopicNotificationTrigger implements Trigger {
+
+    // Column index of topic_name in topic_messages (see H2TopicResource)
+    private static final int TOPIC_NAME_COLUMN = 1;
+
+    private String updateSql;
+    private String insertSql;
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName,
+                     boolean before, int type) {
+        String table = "\"" + schemaName + "\"." + H2TopicResource.NOTIFICATIONS_TABLE;
+        this.updateSql = "UPDATE " + table + " SET write_sequence = write_sequence + 1 WHERE topic_name = ?";
+        this.insertSql = "INSERT INTO " + table + " (topic_name, write_sequence) VALUES (?, 1)";
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        String topicName = (String) newRow[TOPIC_NAME_COLUMN];
+        if (increment(conn, topicName)) {
+            return;
+        }
+        // First message of the topic in this run
+        try (PreparedStatement insert = conn.prepareStatement(insertSql)) {
+            insert.setString(1, topicName);
+            insert.executeUpdate();
+        } catch (SQLException e) {
+            if (e.getErrorCode() != 23505) {  // H2 duplicate key: inserted concurrently by another writer
+                throw e;
+            }
+            increment(conn, topicName);
+        }
+    }
+
+    private boolean increment(Connection conn, String topicName) throws SQLException {
+        try (PreparedStatement update = conn.prepareStatement(updateSql)) {
+            update.setString(1, topicName);
+            return update.executeUpdate() > 0;
+        }
+    }
+}
@@ -13,11 +13,18 @@ import org.evochora.datapipeline.api.resources.storage.IBatchStorageWrite;
 import org.evochora.datapipeline.api.resources.storage.StoragePath;
 import org.evochora.datapipeline.api.resources.topics.ITopicWriter;
 
+import org.evochora.datapipeline.utils.monitoring.SlidingWindowPercentiles;
+
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -32,13 +39,23 @@ import java.util.concurrent.atomic.AtomicLong;
  *   <li>Retry logic with exponential backoff for transient failures</li>
  *   <li>Dead letter queue support for unrecoverable failures</li>
  *   <li>Graceful shutdown that persists partial batches without data loss</li>
+ *   <li>Pipelined writes: draining continues while earlier batches are written</li>
  * </ul>
  * <p>
+ * <strong>Pipeline:</strong> The service thread drains and validates batches, a pool of
+ * {@code writerThreads} serializes, compresses and writes them (storage streams these into one
+ * pass), and a single publisher thread sends the {@code BatchInfo} notifications in drain order.
+ * At most {@code maxInFlightBatches} batches are between drain and publication; when the window
+ * is full the service thread stops draining, so backpressure reaches the input queue. An
+ * instance holds up to {@code maxInFlightBatches + 1} batches in memory.
+ * <p>
  * Multiple instances can run concurrently as competing consumers on the same queue.
  * All instances should share the same idempotencyTracker and dlq resources.
  * <p>
- * <strong>Thread Safety:</strong> Each instance runs in its own thread. No synchronization
- * needed between instances - queue handles distribution, idempotency tracker is thread-safe.
+ * <strong>Thread Safety:</strong> Draining, validation and deduplication run on the service
+ * thread; writes on the writer pool; notifications, DLQ handling and success metrics on the
+ * publisher thread. No synchronization needed between instances - queue handles distribution,
+ * idempotency tracker is thread-safe.
  */
 public class PersistenceService extends AbstractService {
 
@@ -56,6 +73,8 @@ public class PersistenceService extends AbstractService {
     private final int batchTimeoutSeconds;
     private final int maxRetries;
     private final int retryBackoffMs;
+    private final int writerThreads;
+    private final int maxInFlightBatches;
 
     // Metrics
     private final AtomicLong batchesWritten = new AtomicLong(0);
@@ -66,6 +85,24 @@ public class PersistenceService extends AbstractService {
     private final AtomicInteger currentBatchSize = new AtomicInteger(0);
     private final AtomicLong notificationsSent = new AtomicLong(0);
     private final AtomicLong notificationsFailed = new AtomicLong(0);
+
+    // Pipeline metrics (per stage)
+    private final AtomicInteger batchesInFlight = new AtomicInteger(0);
+    private final AtomicInteger writesQueued = new AtomicInteger(0);
+    private final AtomicInteger writesAwaitingPublish = new AtomicInteger(0);
+    private final SlidingWindowPercentiles backpressureWaitLatency;
+    private final SlidingWindowPercentiles writeQueueWaitLatency;
+    private final SlidingWindowPercentiles writeLatency;
+    private final SlidingWindowPercentiles publishWaitLatency;
+    private final SlidingWindowPercentiles publishLatency;
+    private final SlidingWindowPercentiles batchLatency;
+
+    // Pipeline stages (created per run, see run())
+    private ExecutorService writerPool;
+    private ExecutorService publisher;
+    private Semaphore inFlightPermits;
+    private CompletableFuture<Void> lastPublication;
+    private volatile Thread runThread;
     
     // State tracking
     private volatile boolean topicInitialized = false;
@@ -95,6 +132,9 @@ public class PersistenceService extends AbstractService {
         this.batchTimeoutSeconds = options.hasPath("batchTimeoutSeconds") ? options.getInt("batchTimeoutSeconds") : 5;
         this.maxRetries = options.hasPath("maxRetries") ? options.getInt("maxRetries") : 3;
         this.retryBackoffMs = options.hasPath("retryBackoffMs") ? options.getInt("retryBackoffMs") : 1000;
+        this.writerThreads = options.hasPath("writerThreads") ? options.getInt("writerThreads") : 1;
+        this.maxInFlightBatches = options.hasPath("maxInFlightBatches") ? options.getInt("maxInFlightBatches") : writerThreads;
+        int metricsWindowSeconds = options.hasPath("metricsWindowSeconds") ? options.getInt("metricsWindowSeconds") : 5;
 
         // Validation
         if (maxBatchSize <= 0) {
@@ -109,25 +149,50 @@ public class PersistenceService extends AbstractService {
         if (retryBackoffMs < 0) {
             throw new IllegalArgumentException("retryBackoffMs cannot be negative");
         }
+        if (writerThreads <= 0) {
+            throw new IllegalArgumentException("writerThreads must be positive");
+        }
+        if (maxInFlightBatches < writerThreads) {
+            throw new IllegalArgumentException("maxInFlightBatches must be at least writerThreads");
+        }
+
+        this.backpressureWaitLatency = new SlidingWindowPercentiles(metricsWindowSeconds);
+        this.writeQueueWaitLatency = new SlidingWindowPercentiles(metricsWindowSeconds);
+        this.writeLatency = new SlidingWindowPercentiles(metricsWindowSeconds);
+        this.publishWaitLatency = new SlidingWindowPercentiles(metricsWindowSeconds);
+        this.publishLatency = new SlidingWindowPercentiles(metricsWindowSeconds);
+        this.batchLatency = new SlidingWindowPercentiles(metricsWindowSeconds);
 
-        log.debug("PersistenceService initialized: maxBatchSize={}, batchTimeout={}s, maxRetries={}, idempotency={}",
-            maxBatchSize, batchTimeoutSeconds, maxRetries, idempotencyTracker != null ? "enabled" : "disabled");
+        log.debug("PersistenceService initialized: maxBatchSize={}, batchTimeout={}s, maxRetries={}, writers={}, maxInFlight={}, idempotency={}",
+            maxBatchSize, batchTimeoutSeconds, maxRetries, writerThreads, maxInFlightBatches,
+            idempotencyTracker != null ? "enabled" : "disabled");
     }
 
     @Override
     protected void logStarted() {
-        log.info("PersistenceService started: batch=[size={}, timeout={}s], retry=[max={}, backoff={}ms], dlq={}, idempotency={}",
-            maxBatchSize, batchTimeoutSeconds, maxRetries, retryBackoffMs,
+        log.info("PersistenceService started: batch=[size={}, timeout={}s], retry=[max={}, backoff={}ms], pipeline=[writers={}, maxInFlight={}], dlq={}, idempotency={}",
+            maxBatchSize, batchTimeoutSeconds, maxRetries, retryBackoffMs, writerThreads, maxInFlightBatches,
             dlq != null ? "configured" : "none", idempotencyTracker != null ? "enabled" : "disabled");
     }
 
     @Override
     protected void run() throws InterruptedException {
+        runThread = Thread.currentThread();
+        writerPool = Executors.newFixedThreadPool(writerThreads, stageThreadFactory("writer"));
+        publisher = Executors.newSingleThreadExecutor(stageThreadFactory("publisher"));
+        inFlightPermits = new Semaphore(maxInFlightBatches);
+        lastPublication = CompletableFuture.completedFuture(null);
         try {
             while (!Thread.currentThread().isInterrupted()) {
                 checkPause();
 
+                // Backpressure: only drain when the in-flight window has room
+                long waitStart = System.nanoTime();
+                inFlightPermits.acquire();
+                backpressureWaitLatency.record(System.nanoTime() - waitStart);
+
                 currentBatch = new ArrayList<>();
+                boolean submitted = false;
 
                 try {
                     // Drain batch from queue with timeout
@@ -141,39 +206,68 @@ public class PersistenceService extends AbstractService {
 
                     log.debug("Drained {} ticks from queue", count);
 
-                    // Process and persist batch
-                    processBatch(currentBatch);
-                    currentBatch = null;  // Successfully processed
+                    // Validate and hand batch to the write stage
+                    submitted = processBatch(currentBatch);
+                    currentBatch = null;  // Processed or handed over to the pipeline
                     
                 } catch (InterruptedException e) {
                     // Keep currentBatch for finally-block (even if partially filled by drainTo)
                     // drainTo() may have transferred data to collection before interruption!
                     throw e;  // Re-throw to exit loop
+                } finally {
+                    if (!submitted) {
+                        inFlightPermits.release();  // Otherwise released once the batch is published
+                    }
                 }
             }
         } finally {
-            // Final batch completion (if interrupted during processing)
-            if (currentBatch != null && !currentBatch.isEmpty()) {
-                log.info("Shutdown: Completing batch of {} ticks", currentBatch.size());
-                
-                // Clear interrupt flag to allow DB operations
-                boolean wasInterrupted = Thread.interrupted();
-                try {
-                    processBatch(currentBatch);
-                } catch (Exception e) {
-                    log.warn("Failed to complete shutdown batch of {} ticks", currentBatch.size());
-                } finally {
-                    if (wasInterrupted) {
-                        Thread.currentThread().interrupt();
+            // Clear interrupt flag to allow storage and topic operations
+            boolean wasInterrupted = Thread.interrupted();
+            try {
+                // Final batch completion (if interrupted during draining or waiting for the window)
+                if (currentBatch != null && !currentBatch.isEmpty()) {
+                    log.info("Shutdown: Completing batch of {} ticks", currentBatch.size());
+                    inFlightPermits.acquire();
+                    boolean submitted = false;
+                    try {
+                        submitted = processBatch(currentBatch);
+                    } catch (Exception e) {
+                        log.warn("Failed to complete shutdown batch of {} ticks", currentBatch.size());
+                    } finally {
+                        if (!submitted) {
+                            inFlightPermits.release();
+                        }
                     }
                 }
+
+                // Written batches must not be left without notification
+                awaitInFlightBatches();
+            } catch (InterruptedException e) {
+                log.debug("Interrupted while completing in-flight batches");
+                wasInterrupted = true;
+            } finally {
+                writerPool.shutdown();
+                publisher.shutdown();
+                runThread = null;
+                if (wasInterrupted) {
+                    Thread.currentThread().interrupt();
+                }
             }
         }
     }
 
-    private void processBatch(List<TickData> batch) {
+    /**
+     * Validates and deduplicates a drained batch and hands it to the write stage.
+     * <p>
+     * The caller must hold an in-flight permit; it passes to the pipeline if the batch is
+     * submitted.
+     *
+     * @param batch The drained batch.
+     * @return true if the batch was submitted, false if it was rejected or empty.
+     */
+    private boolean processBatch(List<TickData> batch) {
         if (batch.isEmpty()) {
-            return;
+            return false;
         }
 
         // Validate batch consistency (first and last tick must have same simulationRunId)
@@ -190,7 +284,7 @@ public class PersistenceService extends AbstractService {
             sendToDLQ(batch, "Empty or null simulationRunId", 0,
                 new IllegalStateException("Empty or null simulationRunId"));
             batchesFailed.incrementAndGet();
-            return;
+            return false;
         }
 
         String lastSimRunId = batch.get(batch.size() - 1).getSimulationRunId();
@@ -206,7 +300,7 @@ public class PersistenceService extends AbstractService {
             sendToDLQ(batch, "Batch contains mixed simulationRunIds", 0,
                 new IllegalStateException("Mixed simulationRunIds"));
             batchesFailed.incrementAndGet();
-            return;
+            return false;
         }
 
         // Extract tick range from original batch (before deduplication)
@@ -224,7 +318,7 @@ public class PersistenceService extends AbstractService {
 
             if (dedupedBatch.isEmpty()) {
                 log.warn("[{}] Entire batch was duplicates ({} ticks), skipping", serviceName, originalSize);
-                return;
+                return false;
             }
 
             if (duplicatesRemoved > 0) {
@@ -236,7 +330,8 @@ public class PersistenceService extends AbstractService {
         }
 
         // Write batch with retry logic (storage handles folders, filenames, compression)
-        writeBatchWithRetry(dedupedBatch, startTick, endTick);
+        submitBatch(dedupedBatch, startTick, endTick);
+        return true;
     }
 
     private List<TickData> deduplicateBatch(List<TickData> batch) {
@@ -263,109 +358,240 @@ public class PersistenceService extends AbstractService {
     }
 
     /**
-     * Writes a batch to storage with retry logic and sends a notification to the batch topic.
-     * <p>
-     * Both storage write and topic notification must succeed for the operation to complete.
-     * If either fails, the entire operation is retried (including both storage write and notification).
+     * Hands a batch to the write stage. The in-flight permit held by the caller is released
+     * once the batch is published.
      * <p>
-     * <strong>Thread Safety:</strong> This method is called from the service's run loop thread.
+     * The publication of each batch is chained to the publication of the batch before it, so
+     * notifications are sent in drain order even if a later batch finishes writing first. A
+     * publication that fails unexpectedly is logged and does not hold up the batches after it.
      *
      * @param batch The batch of ticks to write (must not be empty).
      * @param firstTick The first tick number in the original batch.
      * @param lastTick The last tick number in the original batch.
      */
-    private void writeBatchWithRetry(List<TickData> batch, long firstTick, long lastTick) {
-        int attempt = 0;
-        int backoff = retryBackoffMs;
-        Exception lastException = null;
-
-        while (attempt <= maxRetries) {
-            try {
-                // Storage handles everything: folders, compression, manifests
-                StoragePath storagePath = storage.writeBatch(batch, firstTick, lastTick);
-
-                // Send notification to topic (if configured)
-                if (batchTopic != null) {
-                    // Initialize topic with simulation run ID on first batch
-                    String simulationRunId = batch.get(0).getSimulationRunId();
-                    if (!topicInitialized) {
-                        batchTopic.setSimulationRun(simulationRunId);
-                        topicInitialized = true;
-                    }
-
-                    // Send notification to topic (must succeed for operation to complete)
-                    BatchInfo notification = BatchInfo.newBuilder()
-                        .setSimulationRunId(simulationRunId)
-                        .setStoragePath(storagePath.asString())
-                        .setTickStart(firstTick)
-                        .setTickEnd(lastTick)
-                        .setWrittenAtMs(System.currentTimeMillis())
-                        .build();
-                    
-                    batchTopic.send(notification);
-                    notificationsSent.incrementAndGet();
+    private void submitBatch(List<TickData> batch, long firstTick, long lastTick) {
+        batchesInFlight.incrementAndGet();
+        writesQueued.incrementAndGet();
+        long submittedAt = System.nanoTime();
+        CompletableFuture<WriteResult> write = CompletableFuture
+            .supplyAsync(() -> writeWithRetry(batch, firstTick, lastTick, submittedAt), writerPool)
+            .handle((result, failure) -> failure == null ? result : WriteResult.failed(asException(failure), 1));
+        // An exceptionally completed stage would skip all later ones, leaking their in-flight permits
+        lastPublication = lastPublication
+            .handle((previous, failure) -> (Void) null)
+            .thenCombineAsync(write, (previous, result) -> {
+                try {
+                    publish(batch, firstTick, lastTick, result, submittedAt);
+                } finally {
+                    batchesInFlight.decrementAndGet();
+                    inFlightPermits.release();
+                }
+                return (Void) null;
+            }, publisher)
+            .whenComplete((ignored, failure) -> {
+                if (failure != null) {
+                    log.warn("Failed to publish batch [ticks {}-{}]: {}", firstTick, lastTick, failure.toString());
                 }
+            });
+    }
 
-                // Success - update metrics
-                batchesWritten.incrementAndGet();
-                ticksWritten.addAndGet(batch.size());
+    private static Exception asException(Throwable failure) {
+        return failure instanceof Exception exception ? exception : new RuntimeException(failure);
+    }
 
-                // Calculate uncompressed bytes for metrics
-                long bytesInBatch = batch.stream()
-                    .mapToLong(TickData::getSerializedSize)
-                    .sum();
-                bytesWritten.addAndGet(bytesInBatch);
+    /**
+     * Waits until every submitted batch is written and published.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    private void awaitInFlightBatches() throws InterruptedException {
+        inFlightPermits.acquire(maxInFlightBatches);
+        inFlightPermits.release(maxInFlightBatches);
+    }
+
+    /**
+     * Write stage: serializes, compresses and writes a batch with retry logic. Runs on the
+     * writer pool; storage streams serialization and compression into the write, so they
+     * are one stage.
+     *
+     * @param batch The batch of ticks to write (must not be empty).
+     * @param firstTick The first tick number in the original batch.
+     * @param lastTick The last tick number in the original batch.
+     * @param submittedAt {@link System#nanoTime()} when the batch was submitted.
+     * @return The storage path, or the failure after all retries.
+     */
+    private WriteResult writeWithRetry(List<TickData> batch, long firstTick, long lastTick, long submittedAt) {
+        long writeStart = System.nanoTime();
+        writesQueued.decrementAndGet();
+        writeQueueWaitLatency.record(writeStart - submittedAt);
 
-                log.debug("Successfully wrote batch {} with {} ticks and sent notification", storagePath, batch.size());
-                return;
+        int attempt = 0;
+        int backoff = retryBackoffMs;
+        Exception lastException = null;
 
-            } catch (IOException | InterruptedException e) {
-                lastException = e;
-                
-                // Handle interruption immediately (topic send failed)
-                if (e instanceof InterruptedException) {
-                    Thread.currentThread().interrupt();
-                    log.debug("Interrupted during batch write or notification, aborting retries");
-                    notificationsFailed.incrementAndGet();
+        try {
+            while (attempt <= maxRetries) {
+                try {
+                    // Storage handles everything: folders, compression, manifests
+                    return WriteResult.written(storage.writeBatch(batch, firstTick, lastTick));
+
+                } catch (IOException e) {
+                    lastException = e;
+                    attempt++;
+
+                    if (attempt <= maxRetries) {
+                        log.debug("Failed to write batch [ticks {}-{}] (attempt {}/{}): {}, retrying in {}ms",
+                            firstTick, lastTick, attempt, maxRetries, e.getMessage(), backoff);
+
+                        try {
+                            Thread.sleep(backoff);
+                        } catch (InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                            log.debug("Interrupted during retry backoff, aborting retries");
+                            break;
+                        }
+
+                        // Exponential backoff with cap to prevent overflow
+                        backoff = Math.min(backoff * 2, 60000); // Max 60 seconds
+                    } else {
+                        log.warn("Failed to write batch or send notification [ticks {}-{}] after {} retries, sending to DLQ",
+                            firstTick, lastTick, maxRetries);
+                    }
+                } catch (RuntimeException e) {
+                    // Not transient: do not retry, but keep the pipeline and publication order intact
+                    log.warn("Failed to write batch [ticks {}-{}] due to {}, sending to DLQ",
+                        firstTick, lastTick, e.getClass().getSimpleName());
+                    lastException = e;
+                    attempt++;
                     break;
                 }
-                
-                // IOException - storage write failed (topic was never called)
-                attempt++;
+            }
+            return WriteResult.failed(lastException, attempt);
+        } finally {
+            writeLatency.record(System.nanoTime() - writeStart);
+            writesAwaitingPublish.incrementAndGet();
+        }
+    }
 
-                if (attempt <= maxRetries) {
-                    log.debug("Failed to write batch or send notification [ticks {}-{}] (attempt {}/{}): {}, retrying in {}ms",
-                        firstTick, lastTick, attempt, maxRetries, e.getMessage(), backoff);
+    /**
+     * Publish stage: sends the notification of a written batch to the batch topic, or hands a
+     * failed batch to the DLQ. Runs on the single publisher thread, in drain order.
+     * <p>
+     * A batch only counts as written once its notification is sent. An interrupted send
+     * means the pipeline is being torn down: the batch fails and the service stops, as it
+     * would if the service thread had sent the notification itself.
+     */
+    private void publish(List<TickData> batch, long firstTick, long lastTick, WriteResult result, long submittedAt) {
+        long publishStart = System.nanoTime();
+        writesAwaitingPublish.decrementAndGet();
+        publishWaitLatency.record(publishStart - result.completedAt);
 
-                    try {
-                        Thread.sleep(backoff);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.debug("Interrupted during retry backoff, aborting retries");
-                        break;
-                    }
+        if (result.path == null) {
+            failBatch(batch, firstTick, lastTick, result.exception, result.attempts - 1);
+            return;
+        }
 
-                    // Exponential backoff with cap to prevent overflow
-                    backoff = Math.min(backoff * 2, 60000); // Max 60 seconds
-                } else {
-                    log.warn("Failed to write batch or send notification [ticks {}-{}] after {} retries, sending to DLQ",
-                        firstTick, lastTick, maxRetries);
+        StoragePath storagePath = result.path;
+        try {
+            // Send notification to topic (if configured)
+            if (batchTopic != null) {
+                // Initialize topic with simulation run ID on first batch
+                String simulationRunId = batch.get(0).getSimulationRunId();
+                if (!topicInitialized) {
+                    batchTopic.setSimulationRun(simulationRunId);
+                    topicInitialized = true;
                 }
+
+                // Send notification to topic (must succeed for operation to complete)
+                BatchInfo notification = BatchInfo.newBuilder()
+                    .setSimulationRunId(simulationRunId)
+                    .setStoragePath(storagePath.asString())
+                    .setTickStart(firstTick)
+                    .setTickEnd(lastTick)
+                    .setWrittenAtMs(System.currentTimeMillis())
+                    .build();
+
+                batchTopic.send(notification);
+                notificationsSent.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            log.debug("Interrupted during batch notification, stopping service");
+            notificationsFailed.incrementAndGet();
+            failBatch(batch, firstTick, lastTick, e, 0);
+            Thread service = runThread;
+            if (service != null) {
+                service.interrupt();
             }
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Failed to send notification for batch [ticks {}-{}] due to {}, sending to DLQ",
+                firstTick, lastTick, e.getClass().getSimpleName());
+            notificationsFailed.incrementAndGet();
+            failBatch(batch, firstTick, lastTick, e, 0);
+            return;
+        } finally {
+            publishLatency.record(System.nanoTime() - publishStart);
         }
 
-        // All retries exhausted - record error
+        // Success - update metrics
+        batchesWritten.incrementAndGet();
+        ticksWritten.addAndGet(batch.size());
+
+        // Calculate uncompressed bytes for metrics
+        long bytesInBatch = batch.stream()
+            .mapToLong(TickData::getSerializedSize)
+            .sum();
+        bytesWritten.addAndGet(bytesInBatch);
+        batchLatency.record(System.nanoTime() - submittedAt);
+
+        log.debug("Successfully wrote batch {} with {} ticks and sent notification", storagePath, batch.size());
+    }
+
+    private void failBatch(List<TickData> batch, long firstTick, long lastTick, Exception exception, int retryAttempts) {
         String errorDetails = String.format("Batch: [ticks %d-%d], Retries: %d, Exception: %s",
-            firstTick, lastTick, maxRetries, lastException != null ? lastException.getMessage() : "Unknown");
+            firstTick, lastTick, maxRetries, exception != null ? exception.getMessage() : "Unknown");
         recordError(
             "BATCH_WRITE_OR_NOTIFY_FAILED",
             "Failed to write batch or send notification after all retries",
             errorDetails
         );
-        sendToDLQ(batch, lastException != null ? lastException.getMessage() : "Unknown error", attempt - 1, lastException);
+        sendToDLQ(batch, exception != null ? exception.getMessage() : "Unknown error", retryAttempts, exception);
         batchesFailed.incrementAndGet();
     }
 
+    /**
+     * Outcome of the write stage: the storage path, or the last exception and number of attempts.
+     */
+    private static final class WriteResult {
+        final StoragePath path;
+        final Exception exception;
+        final int attempts;
+        final long completedAt = System.nanoTime();
+
+        private WriteResult(StoragePath path, Exception exception, int attempts) {
+            this.path = path;
+            this.exception = exception;
+            this.attempts = attempts;
+        }
+
+        static WriteResult written(StoragePath path) {
+            return new WriteResult(path, null, 0);
+        }
+
+        static WriteResult failed(Exception exception, int attempts) {
+            return new WriteResult(null, exception, attempts);
+        }
+    }
+
+    private ThreadFactory stageThreadFactory(String stage) {
+        AtomicInteger threadNumber = new AtomicInteger(0);
+        return runnable -> {
+            Thread thread = new Thread(runnable, serviceName + "-" + stage + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     private void sendToDLQ(List<TickData> batch, String errorMessage, int retryAttempts, Exception exception) {
         if (dlq == null) {
             log.warn("Failed batch has no DLQ configured, data will be lost: {} ticks", batch.size());
@@ -454,5 +680,20 @@ public class PersistenceService extends AbstractService {
         metrics.put("current_batch_size", currentBatchSize.get());
         metrics.put("notifications_sent", notificationsSent.get());
         metrics.put("notifications_failed", notificationsFailed.get());
+
+        // Pipeline queue depths
+        metrics.put("batches_in_flight", batchesInFlight.get());
+        metrics.put("writes_queued", writesQueued.get());
+        metrics.put("writes_awaiting_publish", writesAwaitingPublish.get());
+
+        // Pipeline stage latencies (sliding window)
+        metrics.put("backpressure_wait_ms", backpressureWaitLatency.getAverage() / 1_000_000.0);
+        metrics.put("write_queue_wait_ms", writeQueueWaitLatency.getAverage() / 1_000_000.0);
+        metrics.put("write_latency_ms", writeLatency.getAverage() / 1_000_000.0);
+        metrics.put("write_latency_p99_ms", writeLatency.getPercentile(99) / 1_000_000.0);
+        metrics.put("publish_wait_ms", publishWaitLatency.getAverage() / 1_000_000.0);
+        metrics.put("publish_latency_ms", publishLatency.getAverage() / 1_000_000.0);
+        metrics.put("batch_latency_ms", batchLatency.getAverage() / 1_000_000.0);
+        metrics.put("batch_latency_p99_ms", batchLatency.getPercentile(99) / 1_000_000.0);
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.evochora.datapipeline.services;
 import com.google.protobuf.ByteString;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigRenderOptions;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import org.evochora.compiler.Compiler;
 import org.evochora.compiler.api.CompilationException;
 import org.evochora.compiler.api.ProgramArtifact;
@@ -11,6 +12,7 @@ import org.evochora.datapipeline.api.resources.IMonitorable;
 import org.evochora.datapipeline.api.resources.IResource;
 import org.evochora.datapipeline.api.resources.OperationalError;
 import org.evochora.datapipeline.api.resources.queues.IOutputQueueResource;
+import org.evochora.datapipeline.utils.cells.TickCells;
 import org.evochora.runtime.Simulation;
 import org.evochora.runtime.internal.services.SeededRandomProvider;
 import org.evochora.runtime.isa.IEnergyDistributionCreator;
@@ -18,6 +20,7 @@ import org.evochora.runtime.model.Environment;
 import org.evochora.runtime.model.EnvironmentProperties;
 import org.evochora.runtime.model.Organism;
 import org.evochora.runtime.model.Organism.ProcFrame;
+import org.evochora.runtime.model.RegisterValueView;
 import org.evochora.runtime.spi.IRandomProvider;
 
 import java.io.IOException;
@@ -26,11 +29,11 @@ import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -45,6 +48,10 @@ public class SimulationEngine extends AbstractService implements IMonitorable {
     private final IOutputQueueResource<TickData> tickDataOutput;
     private final IOutputQueueResource<SimulationMetadata> metadataOutput;
     private final int samplingInterval;
+    private final int keyframeInterval;
+    private final boolean columnarCells;
+    private final boolean sortedCellIndices;
+    private final int tickParallelism;
     private final int metricsWindowSeconds;
     private final List<Long> pauseTicks;
     private final String runId;
@@ -59,6 +66,14 @@ public class SimulationEngine extends AbstractService implements IMonitorable {
     private long lastTickCount = 0;
     private double ticksPerSecond = 0.0;
 
+    // Delta encoding state (only used when keyframeInterval > 0)
+    private long lastKeyframeTick = -1;
+    private long lastCapturedTick = -1;
+    private Map<Integer, OrganismState> lastOrganismStates = Collections.emptyMap();
+
+    // Flat indices of the cells to encode, reused across captures
+    private final IntArrayList cellIndexBuffer = new IntArrayList();
+
     // Helper record bundling program path, ID, and artifact for initialization and metadata building
     private record ProgramInfo(String programPath, String programId, ProgramArtifact artifact) {}
     
@@ -77,6 +92,25 @@ public class SimulationEngine extends AbstractService implements IMonitorable {
         this.samplingInterval = options.hasPath("samplingInterval") ? options.getInt("samplingInterval") : 1;
         if (this.samplingInterval < 1) throw new IllegalArgumentException("samplingInterval must be >= 1");
 
+        this.keyframeInterval = options.hasPath("deltaKeyframeInterval") ? options.getInt("deltaKeyframeInterval") : 0;
+        if (this.keyframeInterval < 0 || this.keyframeInterval % this.samplingInterval != 0) {
+            throw new IllegalArgumentException("deltaKeyframeInterval must be 0 (disabled) or a positive multiple of samplingInterval");
+        }
+
+        String cellEncoding = options.hasPath("cellEncoding") ? options.getString("cellEncoding") : "messages";
+        switch (cellEncoding) {
+            case "messages" -> { this.columnarCells = false; this.sortedCellIndices = false; }
+            case "columnar" -> { this.columnarCells = true; this.sortedCellIndices = false; }
+            case "columnar-sorted" -> { this.columnarCells = true; this.sortedCellIndices = true; }
+            default -> throw new IllegalArgumentException("cellEncoding must be 'messages', 'columnar' or 'columnar-sorted', got '" + cellEncoding + "'");
+        }
+
+        this.tickParallelism = options.hasPath("tickParallelism") ? options.getInt("tickParallelism") : 1;
+        if (this.tickParallelism < 1) throw new IllegalArgumentException("tickParallelism must be >= 1");
+        int deadOrganismGraceTicks = options.hasPath("deadOrganismGraceTicks") ? options.getInt("deadOrganismGraceTicks") : 0;
+        int organismArchiveCapacity = options.hasPath("organismArchiveCapacity")
+                ? options.getInt("organismArchiveCapacity") : Simulation.DEFAULT_ORGANISM_ARCHIVE_CAPACITY;
+
         this.metricsWindowSeconds = options.hasPath("metricsWindowSeconds") ? options.getInt("metricsWindowSeconds") : 1;
         this.pauseTicks = options.hasPath("pauseTicks") ? options.getLongList("pauseTicks") : Collections.emptyList();
         this.seed = options.hasPath("seed") ? options.getLong("seed") : System.currentTimeMillis();
@@ -118,10 +152,14 @@ public class SimulationEngine extends AbstractService implements IMonitorable {
         this.randomProvider = new SeededRandomProvider(seed);
         this.energyStrategies = initializeEnergyStrategies(options.getConfigList("energyStrategies"), this.randomProvider, envProps);
 
-        Environment environment = new Environment(envProps);
+        Environment environment = Environment.create(envProps);
+        environment.setChangeTrackingEnabled(keyframeInterval > 0);
         this.simulation = new Simulation(environment);
         this.simulation.setRandomProvider(this.randomProvider);
         this.simulation.setProgramArtifacts(compiledPrograms);
+        this.simulation.setParallelism(this.tickParallelism);
+        this.simulation.setDeadOrganismGraceTicks(deadOrganismGraceTicks);
+        this.simulation.setOrganismArchiveCapacity(organismArchiveCapacity);
 
         // Validate organism placement coordinates match world dimensions
         int worldDimensions = envProps.getWorldShape().length;
@@ -168,8 +206,8 @@ public class SimulationEngine extends AbstractService implements IMonitorable {
                 .map(s -> s.strategy().getClass().getSimpleName())
                 .collect(java.util.stream.Collectors.joining(", "));
 
-        log.info("SimulationEngine started: world=[{}, {}], organisms={}, energyStrategies={} ({}), seed={}, samplingInterval={}, runId={}",
-                worldDims, topology, simulation.getOrganisms().size(), energyStrategies.size(), strategyNames, seed, samplingInterval, runId);
+        log.info("SimulationEngine started: world=[{}, {}], organisms={}, energyStrategies={} ({}), seed={}, samplingInterval={}, tickParallelism={}, runId={}",
+                worldDims, topology, simulation.getOrganisms().size(), energyStrategies.size(), strategyNames, seed, samplingInterval, tickParallelism, runId);
     }
 
     @Override
@@ -182,50 +220,58 @@ public class SimulationEngine extends AbstractService implements IMonitorable {
             throw e; // Let AbstractService handle it as normal shutdown
         }
 
-        while ((getCurrentState() == State.RUNNING || getCurrentState() == State.PAUSED)
-                && !Thread.currentThread().isInterrupted()) {
-            checkPause();
-
-            simulation.tick();
-            long tick = currentTick.incrementAndGet();
+        try {
+            while ((getCurrentState() == State.RUNNING || getCurrentState() == State.PAUSED)
+                    && !Thread.currentThread().isInterrupted()) {
+                checkPause();
+
+                // Per-instruction debug data is only needed on ticks that are captured below
+                simulation.setExecutionDataCollected((currentTick.get() + 1) % samplingInterval == 0);
+                simulation.tick();
+                long tick = currentTick.incrementAndGet();
+
+                // Apply energy distribution strategies after the tick
+                if (!energyStrategies.isEmpty()) {
+                    for (StrategyWithConfig strategyWithConfig : energyStrategies) {
+                        try {
+                            strategyWithConfig.strategy().distributeEnergy(simulation.getEnvironment(), tick);
+                        } catch (Exception ex) {
+                            log.warn("Energy strategy '{}' failed at tick {}", 
+                                    strategyWithConfig.strategy().getClass().getSimpleName(), tick);
+                            recordError(
+                                "ENERGY_STRATEGY_FAILED",
+                                "Energy distribution strategy failed",
+                                String.format("Strategy: %s, Tick: %d", 
+                                    strategyWithConfig.strategy().getClass().getSimpleName(), tick)
+                            );
+                        }
+                    }
+                }
 
-            // Apply energy distribution strategies after the tick
-            if (!energyStrategies.isEmpty()) {
-                for (StrategyWithConfig strategyWithConfig : energyStrategies) {
+                if (tick % samplingInterval == 0) {
                     try {
-                        strategyWithConfig.strategy().distributeEnergy(simulation.getEnvironment(), tick);
-                    } catch (Exception ex) {
-                        log.warn("Energy strategy '{}' failed at tick {}", 
-                                strategyWithConfig.strategy().getClass().getSimpleName(), tick);
-                        recordError(
-                            "ENERGY_STRATEGY_FAILED",
-                            "Energy distribution strategy failed",
-                            String.format("Strategy: %s, Tick: %d", 
-                                strategyWithConfig.strategy().getClass().getSimpleName(), tick)
-                        );
+                        tickDataOutput.put(captureTickData(tick));
+                        messagesSent.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        // Shutdown signal received while sending tick data - this is expected
+                        log.debug("Interrupted while sending tick data for tick {} during shutdown", tick);
+                        throw e; // Re-throw to exit cleanly
+                    } catch (Exception e) {
+                        log.warn("Failed to capture or send tick data for tick {}", tick);
+                        // Later deltas would build on the lost tick
+                        lastKeyframeTick = -1;
+                        recordError("SEND_ERROR", "Failed to send tick data", String.format("Tick: %d", tick));
                     }
                 }
-            }
 
-            if (tick % samplingInterval == 0) {
-                try {
-                    tickDataOutput.put(captureTickData(tick));
-                    messagesSent.incrementAndGet();
-                } catch (InterruptedException e) {
-                    // Shutdown signal received while sending tick data - this is expected
-                    log.debug("Interrupted while sending tick data for tick {} during shutdown", tick);
-                    throw e; // Re-throw to exit cleanly
-                } catch (Exception e) {
-                    log.warn("Failed to capture or send tick data for tick {}", tick);
-                    recordError("SEND_ERROR", "Failed to send tick data", String.format("Tick: %d", tick));
+                if (shouldAutoPause(tick)) {
+                    log.info("{} auto-paused at tick {} due to pauseTicks configuration", getClass().getSimpleName(), tick);
+                    pause();
+                    continue;
                 }
             }
-
-            if (shouldAutoPause(tick)) {
-                log.info("{} auto-paused at tick {} due to pauseTicks configuration", getClass().getSimpleName(), tick);
-                pause();
-                continue;
-            }
+        } finally {
+            simulation.shutdown();
         }
         log.info("Simulation loop finished.");
     }
@@ -242,16 +288,26 @@ public class SimulationEngine extends AbstractService implements IMonitorable {
             lastTickCount = currentTick.get();
         }
 
-        // Take snapshot to avoid ConcurrentModificationException when simulation thread modifies list
-        List<Organism> organismsSnapshot = new ArrayList<>(simulation.getOrganisms());
-
         // Add SimulationEngine-specific metrics
         metrics.put("current_tick", currentTick.get());
-        metrics.put("organisms_alive", organismsSnapshot.stream().filter(o -> !o.isDead()).count());
-        metrics.put("organisms_total", (long) organismsSnapshot.size());
+        metrics.put("organisms_alive", simulation.getAliveOrganismCount());
+        metrics.put("organisms_total", simulation.getTotalOrganismCount());
+        metrics.put("organisms_archived", simulation.getArchivedOrganismCount());
         metrics.put("messages_sent", messagesSent.get());
         metrics.put("sampling_interval", samplingInterval);
         metrics.put("ticks_per_second", ticksPerSecond);
+        metrics.put("tick_parallelism", tickParallelism);
+        metrics.put("conflict_resolution_ms", simulation.getLastConflictResolutionNanos() / 1_000_000.0);
+        metrics.put("conflict_claims", simulation.getLastConflictClaims());
+        metrics.put("conflict_collisions", simulation.getLastConflictCollisions());
+        metrics.put("conflict_collisions_total", simulation.getTotalConflictCollisions());
+    }
+
+    /**
+     * @return The simulation driven by this engine. Package-private for benchmarks.
+     */
+    Simulation getSimulation() {
+        return simulation;
     }
 
     private boolean shouldAutoPause(long tick) { return pauseTicks.contains(tick); }
@@ -322,13 +378,43 @@ public class SimulationEngine extends AbstractService implements IMonitorable {
         return builder.build();
     }
 
-    private TickData captureTickData(long tick) {
+    /**
+     * Captures the state of the simulation for the given tick.
+     * <p>
+     * Without delta encoding every capture is complete. With {@code deltaKeyframeInterval}
+     * set, ticks that are multiples of the interval (and the first capture) are complete
+     * keyframes, and all other captures are deltas against the previous capture: the cells
+     * reported by the environment's change journal and the organisms whose state changed. If
+     * the journal no longer covers all writes since the previous capture, a keyframe is
+     * captured instead.
+     * Package-private so benchmarks can measure capturing in isolation.
+     *
+     * @param tick The tick number to record; must follow the previously captured tick.
+     * @return The captured tick data.
+     */
+    TickData captureTickData(long tick) {
         TickData.Builder builder = TickData.newBuilder();
         builder.setSimulationRunId(runId);
         builder.setTickNumber(tick);
         builder.setCaptureTimeMs(System.currentTimeMillis());
-        simulation.getOrganisms().stream().filter(o -> !o.isDead()).forEach(o -> builder.addOrganisms(extractOrganismState(o)));
-        extractCellStates(simulation.getEnvironment(), builder);
+        Environment environment = simulation.getEnvironment();
+        boolean delta = keyframeInterval > 0 && lastKeyframeTick >= 0 && tick % keyframeInterval != 0
+                && captureDelta(environment, builder);
+        if (!delta) {
+            // Dead organisms are only still listed during their grace period, so their final state is captured
+            for (Organism o : simulation.getOrganisms()) {
+                builder.addOrganisms(extractOrganismState(o));
+            }
+            extractCellStates(environment, builder);
+            if (keyframeInterval > 0) {
+                Map<Integer, OrganismState> states = new LinkedHashMap<>();
+                builder.getOrganismsList().forEach(state -> states.put(state.getOrganismId(), state));
+                lastOrganismStates = states;
+                lastKeyframeTick = tick;
+                builder.setKeyframeTick(tick);
+            }
+        }
+        lastCapturedTick = tick;
         builder.setRngState(ByteString.copyFrom(randomProvider.saveState()));
         energyStrategies.forEach(s -> builder.addStrategyStates(StrategyState.newBuilder()
                 .setStrategyType(s.strategy().getClass().getName())
@@ -358,20 +444,25 @@ public class SimulationEngine extends AbstractService implements IMonitorable {
         }
         builder.setActiveDpIndex(o.getActiveDpIndex());
 
-        for (Object rv : o.getDrs()) {
-            builder.addDataRegisters(convertRegisterValueReuse(rv, registerBuilder, vectorBuilder));
+        // Registers and data stack are read through copy-free views of the organism's primitive storage
+        RegisterValueView drs = o.getDrView();
+        for (int i = 0; i < drs.size(); i++) {
+            builder.addDataRegisters(convertRegisterValueReuse(drs, i, registerBuilder, vectorBuilder));
         }
-        for (Object rv : o.getPrs()) {
-            builder.addProcedureRegisters(convertRegisterValueReuse(rv, registerBuilder, vectorBuilder));
+        RegisterValueView prs = o.getPrView();
+        for (int i = 0; i < prs.size(); i++) {
+            builder.addProcedureRegisters(convertRegisterValueReuse(prs, i, registerBuilder, vectorBuilder));
         }
-        for (Object rv : o.getFprs()) {
-            builder.addFormalParamRegisters(convertRegisterValueReuse(rv, registerBuilder, vectorBuilder));
+        RegisterValueView fprs = o.getFprView();
+        for (int i = 0; i < fprs.size(); i++) {
+            builder.addFormalParamRegisters(convertRegisterValueReuse(fprs, i, registerBuilder, vectorBuilder));
         }
-        for (Object loc : o.getLrs()) {
-            builder.addLocationRegisters(convertVectorReuse((int[]) loc, vectorBuilder));
+        for (int i = 0; i < o.getLrCount(); i++) {
+            builder.addLocationRegisters(convertVectorReuse(o.getLrView(i), vectorBuilder));
         }
-        for (Object rv : o.getDataStack()) {
-            builder.addDataStack(convertRegisterValueReuse(rv, registerBuilder, vectorBuilder));
+        RegisterValueView dataStack = o.getDataStack();
+        for (int i = 0; i < dataStack.size(); i++) {
+            builder.addDataStack(convertRegisterValueReuse(dataStack, i, registerBuilder, vectorBuilder));
         }
         for (int[] loc : o.getLocationStack()) {
             builder.addLocationStack(convertVectorReuse(loc, vectorBuilder));
@@ -417,7 +508,65 @@ public class SimulationEngine extends AbstractService implements IMonitorable {
         return builder.build();
     }
 
+    /**
+     * Adds the cells and organisms that changed since the previous capture to the builder.
+     *
+     * @return {@code false} without modifying the builder if the environment's change journal no
+     *         longer covers all writes since the previous capture; a keyframe is captured instead.
+     */
+    private boolean captureDelta(Environment env, TickData.Builder builder) {
+        // Changed cells with their current content; emptied cells are sent as all-zero cells
+        IntArrayList changed = cellIndexBuffer;
+        changed.clear();
+        if (!env.forEachChangedIndexSince(lastCapturedTick, changed::add)) {
+            log.debug("Change journal does not cover ticks {} to {}, capturing a keyframe", lastCapturedTick + 1, builder.getTickNumber());
+            return false;
+        }
+        if (columnarCells) {
+            builder.setCellColumns(TickCells.encode(env, changed, sortedCellIndices));
+        } else {
+            CellState.Builder cellBuilder = CellState.newBuilder();
+            for (int i = 0; i < changed.size(); i++) {
+                int flatIndex = changed.getInt(i);
+                int moleculeInt = env.getMoleculeInt(flatIndex);
+                cellBuilder.clear();
+                cellBuilder.setFlatIndex(flatIndex)
+                        .setMoleculeType(moleculeInt & org.evochora.runtime.Config.TYPE_MASK)
+                        .setMoleculeValue(extractSignedValue(moleculeInt))
+                        .setOwnerId(env.getOwnerIdByIndex(flatIndex));
+                builder.addCells(cellBuilder.build());
+            }
+        }
+
+        builder.setIsDelta(true)
+                .setKeyframeTick(lastKeyframeTick)
+                .setDeltaBaseTick(lastCapturedTick);
+
+        Map<Integer, OrganismState> states = new LinkedHashMap<>();
+        for (Organism o : simulation.getOrganisms()) {
+            OrganismState state = extractOrganismState(o);
+            states.put(state.getOrganismId(), state);
+            if (!state.equals(lastOrganismStates.get(state.getOrganismId()))) {
+                builder.addOrganisms(state);
+            }
+        }
+        for (Integer organismId : lastOrganismStates.keySet()) {
+            if (!states.containsKey(organismId)) {
+                builder.addRemovedOrganismIds(organismId);
+            }
+        }
+        lastOrganismStates = states;
+        return true;
+    }
+
     private void extractCellStates(Environment env, TickData.Builder tickBuilder) {
+        if (columnarCells) {
+            // Columnar encoding: three packed int columns read straight from the environment, no message per cell
+            cellIndexBuffer.clear();
+            env.forEachOccupiedIndex(cellIndexBuffer::add);
+            tickBuilder.setCellColumns(TickCells.encode(env, cellIndexBuffer, sortedCellIndices));
+            return;
+        }
         CellState.Builder cellBuilder = CellState.newBuilder();
 
         // FLAT_INDEX OPTIMIZATION: Use flat_index directly in protobuf
@@ -659,6 +808,17 @@ public class SimulationEngine extends AbstractService implements IMonitorable {
         return registerBuilder.build();
     }
 
+    private static org.evochora.datapipeline.api.contracts.RegisterValue convertRegisterValueReuse(
+            RegisterValueView view, int index, org.evochora.datapipeline.api.contracts.RegisterValue.Builder registerBuilder, Vector.Builder vectorBuilder) {
+        registerBuilder.clear();
+        if (view.isVector(index)) {
+            registerBuilder.setVector(convertVectorReuse(view.vectorAt(index), vectorBuilder));
+        } else {
+            registerBuilder.setScalar(view.scalarAt(index));
+        }
+        return registerBuilder.build();
+    }
+
     private static org.evochora.datapipeline.api.contracts.ProcFrame convertProcFrameReuse(
             ProcFrame frame, Vector.Builder vectorBuilder, org.evochora.datapipeline.api.contracts.RegisterValue.Builder registerBuilder) {
         org.evochora.datapipeline.api.contracts.ProcFrame.Builder builder =
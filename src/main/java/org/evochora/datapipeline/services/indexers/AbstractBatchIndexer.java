@@ -5,7 +5,9 @@ import org.evochora.datapipeline.api.contracts.BatchInfo;
 import org.evochora.datapipeline.api.contracts.SimulationMetadata;
 import org.evochora.datapipeline.api.contracts.TickData;
 import org.evochora.datapipeline.api.resources.IResource;
+import org.evochora.datapipeline.api.resources.storage.IDecodedBatchCache;
 import org.evochora.datapipeline.api.resources.storage.StoragePath;
+import org.evochora.datapipeline.api.resources.storage.TickProjection;
 import org.evochora.datapipeline.api.resources.topics.TopicMessage;
 import org.evochora.datapipeline.services.indexers.components.DlqComponent;
 import org.evochora.datapipeline.services.indexers.components.IdempotencyComponent;
@@ -16,10 +18,16 @@ import org.evochora.datapipeline.api.resources.IIdempotencyTracker;
 import org.evochora.datapipeline.api.resources.IRetryTracker;
 import org.evochora.datapipeline.api.resources.queues.IDeadLetterQueueResource;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -31,7 +39,10 @@ import java.util.concurrent.atomic.AtomicLong;
  *   <li>Subscribes to batch-topic for BatchInfo notifications</li>
  *   <li>Reads TickDataBatch from storage (length-delimited format)</li>
  *   <li>Optional components: metadata reading, buffering, DLQ, idempotency</li>
+ *   <li>Projected batch reads: only the fields of {@link #getTickProjection()} are parsed</li>
+ *   <li>Optional {@code batchCache} resource to share decoded batches with other indexers</li>
  *   <li>Template method {@link #flushTicks(List)} for database writes</li>
+ *   <li>Optional template method {@link #flushTicksAsync(List)} for write-behind databases</li>
  * </ul>
  * <p>
  * <strong>Component System:</strong> Subclasses declare which components to use via
@@ -63,12 +74,22 @@ public abstract class AbstractBatchIndexer<ACK> extends AbstractIndexer<BatchInf
     
     private final BatchIndexerComponents components;
     private final int topicPollTimeoutMs;
+    private final IDecodedBatchCache batchCache;  // Optional, null if not configured
     
     // Metrics (shared by all batch indexers)
     private final AtomicLong batchesProcessed = new AtomicLong(0);
     private final AtomicLong ticksProcessed = new AtomicLong(0);
     private final AtomicLong batchesMovedToDlq = new AtomicLong(0);
     
+    // Buffered flushes handed to the database but not yet acknowledged (in flush order)
+    private final Deque<PendingFlush<ACK>> unacknowledgedFlushes = new ArrayDeque<>();
+    
+    // Batches with ticks in a failed flush: never acknowledged, left for redelivery
+    private final Set<String> failedBatchIds = new HashSet<>();
+    
+    private record PendingFlush<A>(TickBufferingComponent.FlushResult<A> result, CompletableFuture<Void> written) {
+    }
+    
     /**
      * Creates a new batch indexer.
      * <p>
@@ -87,6 +108,9 @@ public abstract class AbstractBatchIndexer<ACK> extends AbstractIndexer<BatchInf
         // Template method: Let subclass configure components
         this.components = createComponents();
         
+        // Optional shared cache: indexers of other consumer groups decode the same batches
+        this.batchCache = getOptionalResource("batchCache", IDecodedBatchCache.class).orElse(null);
+        
         // Automatically set topicPollTimeout to flushTimeout if buffering enabled
         if (components != null && components.buffering != null) {
             this.topicPollTimeoutMs = (int) components.buffering.getFlushTimeoutMs();
@@ -320,6 +344,9 @@ public abstract class AbstractBatchIndexer<ACK> extends AbstractIndexer<BatchInf
             
             // Step 3: Topic loop
             while (!Thread.currentThread().isInterrupted()) {
+                // Acknowledge batches whose ticks were committed since the last iteration
+                acknowledgeWrittenFlushes(false);
+                
                 TopicMessage<BatchInfo, ACK> msg = topic.poll(topicPollTimeoutMs, TimeUnit.MILLISECONDS);
                 
                 if (msg == null) {
@@ -335,14 +362,16 @@ public abstract class AbstractBatchIndexer<ACK> extends AbstractIndexer<BatchInf
             }
         } finally {
             // Final flush of remaining buffered ticks (always executed, even on interrupt!)
+            // and acknowledgment of all flushes still being written
             if (components != null && components.buffering != null 
-                && components.buffering.getBufferSize() > 0) {
+                && (components.buffering.getBufferSize() > 0 || !unacknowledgedFlushes.isEmpty())) {
                 // Clear interrupt flag temporarily to allow final flush to complete.
                 // H2 Database's internal locking mechanism fails if thread is interrupted
                 // (MVMap.tryLock() uses Thread.sleep() which throws InterruptedException).
                 boolean wasInterrupted = Thread.interrupted();
                 try {
                     flushAndAcknowledge();
+                    acknowledgeWrittenFlushes(true);
                 } catch (Exception e) {
                     throw e;
                 } finally {
@@ -393,8 +422,7 @@ public abstract class AbstractBatchIndexer<ACK> extends AbstractIndexer<BatchInf
         try {
             // Read from storage (GENERIC for all batch indexers!)
             // Storage handles length-delimited format automatically
-            StoragePath storagePath = StoragePath.of(batch.getStoragePath());
-            List<TickData> ticks = storage.readBatch(storagePath);
+            List<TickData> ticks = readTicks(StoragePath.of(batch.getStoragePath()));
             
             if (components != null && components.buffering != null) {
                 // WITH buffering: Add to buffer, ACK after flush
@@ -471,48 +499,124 @@ public abstract class AbstractBatchIndexer<ACK> extends AbstractIndexer<BatchInf
         }
     }
     
+    /**
+     * Reads the ticks of a batch: complete ticks through the shared cache if configured (decoded
+     * once for all indexers), otherwise only the fields of {@link #getTickProjection()}.
+     */
+    private List<TickData> readTicks(StoragePath storagePath) throws IOException, InterruptedException {
+        if (batchCache != null) {
+            return batchCache.get(storagePath, storage::readBatch);
+        }
+        TickProjection projection = getTickProjection();
+        return projection == TickProjection.FULL
+            ? storage.readBatch(storagePath)
+            : storage.readBatch(storagePath, projection);
+    }
+    
     /**
      * Flushes buffered ticks and acknowledges completed batches.
      * <p>
-     * Called when buffer is full or timeout occurs. Flushes ticks to database,
-     * acknowledges only fully completed batches, and updates metrics.
+     * Called when buffer is full or timeout occurs. Hands ticks to the database via
+     * {@link #flushTicksAsync(List)} and acknowledges fully completed batches once the ticks
+     * are committed: immediately for synchronous writes, otherwise on a later call of
+     * {@link #acknowledgeWrittenFlushes(boolean)}.
      * <p>
      * <strong>Buffer State:</strong> The {@code buffering.flush()} call removes ticks
-     * from the buffer BEFORE calling {@code flushTicks()}. If {@code flushTicks()}
-     * throws an exception, the buffer is already empty and ticks must be re-read
-     * from storage on batch redelivery.
+     * from the buffer BEFORE calling {@code flushTicksAsync()}. If the write fails,
+     * the buffer is already empty and ticks must be re-read from storage on batch
+     * redelivery. Batches with ticks in the failed flush are therefore never acknowledged,
+     * even if a later flush completes them.
      * <p>
      * Marks batches as processed AFTER ACK (critical for correctness!).
      *
-     * @throws Exception if flush or ACK fails
+     * @throws Exception if a synchronous flush or ACK fails
      */
     private void flushAndAcknowledge() throws Exception {
         TickBufferingComponent.FlushResult<ACK> result = components.buffering.flush();
-        if (result.ticks().isEmpty()) {
-            return;
+        if (!result.ticks().isEmpty()) {
+            // 1. Flush ticks to DB (MERGE ensures idempotency)
+            CompletableFuture<Void> written;
+            try {
+                written = flushTicksAsync(result.ticks());
+            } catch (Exception e) {
+                failedBatchIds.addAll(result.flushedBatchIds());
+                acknowledgeFlush(result, false);
+                throw e;
+            }
+            unacknowledgedFlushes.add(new PendingFlush<>(result, written));
         }
         
-        // 1. Flush ticks to DB (MERGE ensures idempotency)
-        flushTicks(result.ticks());
-        
-        // 2. ACK completed batches
-        for (TopicMessage<?, ACK> completedMsg : result.completedMessages()) {
+        // 2. ACK batches completed by committed flushes
+        acknowledgeWrittenFlushes(false);
+    }
+    
+    /**
+     * Acknowledges the batches completed by flushes whose write has finished, in flush order.
+     * <p>
+     * A failed write is logged and its batches are marked as failed, so they are redelivered
+     * after claimTimeout instead of being acknowledged.
+     *
+     * @param waitForAll true to wait until all pending flushes are written (shutdown)
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void acknowledgeWrittenFlushes(boolean waitForAll) throws InterruptedException {
+        while (!unacknowledgedFlushes.isEmpty()) {
+            PendingFlush<ACK> flush = unacknowledgedFlushes.peek();
+            if (!waitForAll && !flush.written().isDone()) {
+                return;  // Later flushes may complete batches that span this one
+            }
+            
+            boolean written = true;
+            try {
+                flush.written().get();
+            } catch (ExecutionException e) {
+                written = false;
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("Failed to write {} buffered ticks (batches will be redelivered after claimTimeout): {}",
+                    flush.result().ticks().size(), cause.getMessage());
+                recordError("FLUSH_FAILED", "Buffered ticks could not be written",
+                    "Ticks: " + flush.result().ticks().size() + ", Batches: " + flush.result().flushedBatchIds().size()
+                        + ", Error: " + cause.getClass().getSimpleName() + ": " + cause.getMessage());
+                failedBatchIds.addAll(flush.result().flushedBatchIds());
+            }
+            
+            unacknowledgedFlushes.poll();
+            acknowledgeFlush(flush.result(), written);
+        }
+    }
+    
+    /**
+     * Acknowledges the batches completed by a flush, skipping batches with ticks in a failed
+     * flush, and updates metrics.
+     *
+     * @param result Result of the flush
+     * @param written Whether the ticks of the flush were committed
+     */
+    private void acknowledgeFlush(TickBufferingComponent.FlushResult<ACK> result, boolean written) {
+        int acknowledged = 0;
+        for (int i = 0; i < result.completedMessages().size(); i++) {
+            String batchId = result.completedBatchIds().get(i);
+            if (failedBatchIds.remove(batchId)) {
+                log.debug("Not acknowledging batch with unwritten ticks (will be redelivered): {}", batchId);
+                continue;
+            }
+            
             @SuppressWarnings("unchecked")
-            TopicMessage<BatchInfo, ACK> batchMsg = (TopicMessage<BatchInfo, ACK>) completedMsg;
+            TopicMessage<BatchInfo, ACK> batchMsg = (TopicMessage<BatchInfo, ACK>) result.completedMessages().get(i);
             topic.ack(batchMsg);
-        }
-        
-        // 3. CRITICAL: Mark processed ONLY AFTER ACK (safe!)
-        // This prevents data loss: Read → Buffer → Flush → ACK → markProcessed()
-        if (components != null && components.idempotency != null) {
-            for (String batchId : result.completedBatchIds()) {
+            
+            // CRITICAL: Mark processed ONLY AFTER ACK (safe!)
+            // This prevents data loss: Read → Buffer → Flush → Commit → ACK → markProcessed()
+            if (components != null && components.idempotency != null) {
                 components.idempotency.markProcessed(batchId);
             }
+            acknowledged++;
         }
         
-        // 4. Update metrics
-        batchesProcessed.addAndGet(result.completedMessages().size());
-        ticksProcessed.addAndGet(result.ticks().size());
+        batchesProcessed.addAndGet(acknowledged);
+        if (written) {
+            ticksProcessed.addAndGet(result.ticks().size());
+        }
     }
     
     /**
@@ -556,6 +660,21 @@ public abstract class AbstractBatchIndexer<ACK> extends AbstractIndexer<BatchInf
         // Default: no-op (subclasses override to create tables)
     }
     
+    /**
+     * Returns the {@link TickData} fields this indexer reads from batches.
+     * <p>
+     * Fields outside the projection are skipped while parsing and are unset in the ticks passed
+     * to {@link #flushTicks(List)}. Ignored if a {@code batchCache} is configured, which holds
+     * complete ticks shared with indexers that need other fields.
+     * <p>
+     * <strong>Default implementation:</strong> {@link TickProjection#FULL}.
+     *
+     * @return The projection used to read batches
+     */
+    protected TickProjection getTickProjection() {
+        return TickProjection.FULL;
+    }
+    
     /**
      * Flush ticks to database/log.
      * <p>
@@ -568,6 +687,29 @@ public abstract class AbstractBatchIndexer<ACK> extends AbstractIndexer<BatchInf
      */
     protected abstract void flushTicks(List<TickData> ticks) throws Exception;
     
+    /**
+     * Hands the ticks of a buffered flush to the database, possibly without waiting for the commit.
+     * <p>
+     * The batches completed by this flush are acknowledged only after the returned future has
+     * completed successfully; if it fails, they are left for redelivery. Indexers whose database
+     * supports write-behind override this so the database commits while the indexer keeps
+     * reading batches.
+     * <p>
+     * <strong>Default implementation:</strong> Calls {@link #flushTicks(List)} and returns a
+     * completed future.
+     * <p>
+     * <strong>Thread Safety:</strong> Called from single service thread only. The returned
+     * future may complete on another thread.
+     *
+     * @param ticks Ticks to flush (buffered mode only)
+     * @return Future completing once the ticks are committed
+     * @throws Exception if a synchronous flush fails
+     */
+    protected CompletableFuture<Void> flushTicksAsync(List<TickData> ticks) throws Exception {
+        flushTicks(ticks);
+        return CompletableFuture.completedFuture(null);
+    }
+    
     /**
      * Adds batch indexer metrics to the metrics map.
      * <p>
@@ -5,12 +5,15 @@ import org.evochora.datapipeline.api.contracts.SimulationMetadata;
 import org.evochora.datapipeline.api.contracts.TickData;
 import org.evochora.datapipeline.api.resources.IResource;
 import org.evochora.datapipeline.api.resources.database.IResourceSchemaAwareEnvironmentDataWriter;
+import org.evochora.datapipeline.api.resources.storage.TickProjection;
+import org.evochora.datapipeline.utils.cells.TickCells;
 import org.evochora.runtime.model.EnvironmentProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Indexes environment cell states from TickData for efficient spatial queries.
@@ -91,6 +94,14 @@ public class EnvironmentIndexer<ACK> extends AbstractBatchIndexer<ACK> {
         log.debug("Environment tables prepared: {} dimensions", dimensions);
     }
     
+    /**
+     * Only cells are indexed; organisms and checkpoint state are skipped while parsing.
+     */
+    @Override
+    protected TickProjection getTickProjection() {
+        return TickProjection.CELLS;
+    }
+
     /**
      * Flushes buffered ticks to the database.
      * <p>
@@ -111,12 +122,24 @@ public class EnvironmentIndexer<ACK> extends AbstractBatchIndexer<ACK> {
         database.writeEnvironmentCells(ticks, envProps);
         
         int totalCells = ticks.stream()
-            .mapToInt(t -> t.getCellsList().size())
+            .mapToInt(TickCells::count)
             .sum();
         
         log.debug("Flushed {} cells from {} ticks", totalCells, ticks.size());
     }
     
+    /**
+     * Hands buffered ticks to the database, which may commit them later (write-behind).
+     *
+     * @param ticks Ticks to flush (buffered mode)
+     * @return Future completing once the ticks are committed
+     * @throws Exception if a synchronous write fails
+     */
+    @Override
+    protected CompletableFuture<Void> flushTicksAsync(List<TickData> ticks) throws Exception {
+        return database.writeEnvironmentCellsAsync(ticks, envProps);
+    }
+    
     /**
      * Extracts EnvironmentProperties from SimulationMetadata.
      * <p>
@@ -4,11 +4,13 @@ import com.typesafe.config.Config;
 import org.evochora.datapipeline.api.contracts.TickData;
 import org.evochora.datapipeline.api.resources.IResource;
 import org.evochora.datapipeline.api.resources.database.IResourceSchemaAwareOrganismDataWriter;
+import org.evochora.datapipeline.api.resources.storage.TickProjection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Indexer for organism data (static and per-tick state) based on TickData.
@@ -55,6 +57,14 @@ public class OrganismIndexer<ACK> extends AbstractBatchIndexer<ACK> {
         log.debug("Organism tables prepared for run '{}'", runId);
     }
 
+    /**
+     * Only organisms are indexed; cells and checkpoint state are skipped while parsing.
+     */
+    @Override
+    protected TickProjection getTickProjection() {
+        return TickProjection.ORGANISMS;
+    }
+
     /**
      * Flushes buffered ticks to the organism tables.
      * <p>
@@ -80,6 +90,18 @@ public class OrganismIndexer<ACK> extends AbstractBatchIndexer<ACK> {
         log.debug("Flushed {} organisms from {} ticks", totalOrganisms, ticks.size());
     }
 
+    /**
+     * Hands buffered ticks to the database, which may commit them later (write-behind).
+     *
+     * @param ticks Ticks to flush
+     * @return Future completing once the ticks are committed
+     * @throws Exception if a synchronous write fails
+     */
+    @Override
+    protected CompletableFuture<Void> flushTicksAsync(List<TickData> ticks) throws Exception {
+        return database.writeOrganismStatesAsync(ticks);
+    }
+
     @Override
     protected void logStarted() {
         log.info("OrganismIndexer started: metadata=[pollInterval={}ms, maxPollDuration={}ms], topicPollTimeout={}ms",
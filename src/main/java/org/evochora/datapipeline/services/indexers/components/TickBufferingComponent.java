@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Component for buffering ticks across batches to enable efficient bulk inserts.
@@ -163,7 +164,7 @@ public class TickBufferingComponent {
      */
     public <ACK> FlushResult<ACK> flush() {
         if (buffer.isEmpty()) {
-            return new FlushResult<>(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+            return new FlushResult<>(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptySet());
         }
         
         int ticksToFlush = Math.min(buffer.size(), insertBatchSize);
@@ -204,7 +205,7 @@ public class TickBufferingComponent {
         
         lastFlushMs = System.currentTimeMillis();
         
-        return new FlushResult<>(ticksForFlush, completedMessages, completedBatchIds);
+        return new FlushResult<>(ticksForFlush, completedMessages, completedBatchIds, batchTickCounts.keySet());
     }
     
     /**
@@ -241,6 +242,7 @@ public class TickBufferingComponent {
         private final List<TickData> ticks;
         private final List<TopicMessage<?, ACK>> completedMessages;
         private final List<String> completedBatchIds;
+        private final Set<String> flushedBatchIds;
         
         /**
          * Creates a flush result.
@@ -252,9 +254,25 @@ public class TickBufferingComponent {
         public FlushResult(List<TickData> ticks, 
                           List<TopicMessage<?, ACK>> completedMessages,
                           List<String> completedBatchIds) {
+            this(ticks, completedMessages, completedBatchIds, Set.copyOf(completedBatchIds));
+        }
+        
+        /**
+         * Creates a flush result.
+         *
+         * @param ticks Ticks to flush (must not be null)
+         * @param completedMessages Messages to ACK (must not be null)
+         * @param completedBatchIds Batch IDs for completed batches (must not be null)
+         * @param flushedBatchIds Batch IDs of all flushed ticks, complete or not (must not be null)
+         */
+        public FlushResult(List<TickData> ticks,
+                          List<TopicMessage<?, ACK>> completedMessages,
+                          List<String> completedBatchIds,
+                          Set<String> flushedBatchIds) {
             this.ticks = List.copyOf(ticks);
             this.completedMessages = List.copyOf(completedMessages);
             this.completedBatchIds = List.copyOf(completedBatchIds);
+            this.flushedBatchIds = Set.copyOf(flushedBatchIds);
         }
         
         /**
@@ -290,6 +308,18 @@ public class TickBufferingComponent {
         public List<String> completedBatchIds() {
             return completedBatchIds;
         }
+        
+        /**
+         * Returns the batch IDs of all ticks in this flush.
+         * <p>
+         * Includes partially flushed batches. If writing this flush fails, none of these
+         * batches may be acknowledged, even when a later flush completes them.
+         *
+         * @return Immutable set of batch IDs
+         */
+        public Set<String> flushedBatchIds() {
+            return flushedBatchIds;
+        }
     }
 }
 
@@ -0,0 +1,172 @@
+package org.evochora.datapipeline.utils.cells;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.evochora.datapipeline.api.contracts.CellColumns;
+import org.evochora.datapipeline.api.contracts.CellState;
+import org.evochora.datapipeline.api.contracts.CellStateList;
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.evochora.runtime.Config;
+import org.evochora.runtime.model.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes the cells of a {@link TickData} in either of its two encodings: a list of
+ * {@link CellState} messages ({@code cells}) or the columnar {@link CellColumns}
+ * ({@code cell_columns}), which stores flat indices, packed molecule ints and owner IDs as three
+ * packed int arrays.
+ * <p>
+ * Readers should visit cells through {@link #forEach(TickData, CellVisitor)}, which works for
+ * both encodings and does not allocate per cell for columnar ticks. Cells are reported with the
+ * packed molecule int as stored in {@link Environment}; use {@link #moleculeType(int)} and
+ * {@link #moleculeValue(int)} for the values of {@link CellState}.
+ */
+public final class TickCells {
+
+    /**
+     * Callback for one cell.
+     */
+    @FunctionalInterface
+    public interface CellVisitor {
+        /**
+         * @param flatIndex The flat index of the cell.
+         * @param molecule The packed molecule int (type bits OR'ed with the value bits).
+         * @param ownerId The owner ID, 0 if unowned.
+         */
+        void accept(int flatIndex, int molecule, int ownerId);
+    }
+
+    private TickCells() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @param tick The tick data.
+     * @return The number of cells in the tick, in either encoding.
+     */
+    public static int count(TickData tick) {
+        return tick.getCellsCount() + tick.getCellColumns().getFlatIndicesCount();
+    }
+
+    /**
+     * Calls the visitor for every cell of the tick, in stored order.
+     *
+     * @param tick The tick data.
+     * @param visitor Callback invoked for each cell.
+     */
+    public static void forEach(TickData tick, CellVisitor visitor) {
+        forEach(tick.getCellsList(), visitor);
+        forEach(tick.getCellColumns(), visitor);
+    }
+
+    /**
+     * Calls the visitor for every cell of the list, in stored order.
+     *
+     * @param list The cell list, e.g. a database BLOB.
+     * @param visitor Callback invoked for each cell.
+     */
+    public static void forEach(CellStateList list, CellVisitor visitor) {
+        forEach(list.getCellsList(), visitor);
+        forEach(list.getColumns(), visitor);
+    }
+
+    private static void forEach(List<CellState> cells, CellVisitor visitor) {
+        for (int i = 0; i < cells.size(); i++) {
+            CellState cell = cells.get(i);
+            visitor.accept(cell.getFlatIndex(), moleculeInt(cell), cell.getOwnerId());
+        }
+    }
+
+    /**
+     * Calls the visitor for every cell of the columns, in stored order, without allocating.
+     *
+     * @param columns The columnar cells.
+     * @param visitor Callback invoked for each cell.
+     * @throws IllegalArgumentException if the columns have different lengths.
+     */
+    public static void forEach(CellColumns columns, CellVisitor visitor) {
+        int count = columns.getFlatIndicesCount();
+        if (columns.getMoleculesCount() != count || columns.getOwnerIdsCount() != count) {
+            throw new IllegalArgumentException(String.format("Cell columns differ in length: %d flat indices, %d molecules, %d owner IDs",
+                    count, columns.getMoleculesCount(), columns.getOwnerIdsCount()));
+        }
+        boolean deltaEncoded = columns.getFlatIndicesDeltaEncoded();
+        int flatIndex = 0;
+        for (int i = 0; i < count; i++) {
+            flatIndex = deltaEncoded ? flatIndex + columns.getFlatIndices(i) : columns.getFlatIndices(i);
+            visitor.accept(flatIndex, columns.getMolecules(i), columns.getOwnerIds(i));
+        }
+    }
+
+    /**
+     * Encodes the given cells of the environment as columns, reading their current content
+     * directly from the environment.
+     *
+     * @param environment The environment to read from.
+     * @param flatIndices The flat indices of the cells to encode; sorted in place if
+     *                    {@code sortedDeltaIndices} is set.
+     * @param sortedDeltaIndices Whether to sort the cells and delta-encode their flat indices.
+     * @return The encoded columns.
+     */
+    public static CellColumns encode(Environment environment, IntArrayList flatIndices, boolean sortedDeltaIndices) {
+        if (sortedDeltaIndices) {
+            flatIndices.sort(null);
+        }
+        CellColumns.Builder builder = CellColumns.newBuilder().setFlatIndicesDeltaEncoded(sortedDeltaIndices);
+        int previous = 0;
+        for (int i = 0; i < flatIndices.size(); i++) {
+            int flatIndex = flatIndices.getInt(i);
+            builder.addFlatIndices(sortedDeltaIndices ? flatIndex - previous : flatIndex);
+            builder.addMolecules(environment.getMoleculeInt(flatIndex));
+            builder.addOwnerIds(environment.getOwnerIdByIndex(flatIndex));
+            previous = flatIndex;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Converts columns to {@link CellState} messages, for consumers that need message objects.
+     *
+     * @param columns The columnar cells.
+     * @return The cells in stored order.
+     */
+    public static List<CellState> toCellStates(CellColumns columns) {
+        List<CellState> cells = new ArrayList<>(columns.getFlatIndicesCount());
+        forEach(columns, (flatIndex, molecule, ownerId) -> cells.add(toCellState(flatIndex, molecule, ownerId)));
+        return cells;
+    }
+
+    /**
+     * @return A cell message with the values {@code SimulationEngine} captures for this cell.
+     */
+    public static CellState toCellState(int flatIndex, int molecule, int ownerId) {
+        return CellState.newBuilder()
+                .setFlatIndex(flatIndex)
+                .setMoleculeType(moleculeType(molecule))
+                .setMoleculeValue(moleculeValue(molecule))
+                .setOwnerId(ownerId)
+                .build();
+    }
+
+    /**
+     * @return The packed molecule int of a cell message.
+     */
+    public static int moleculeInt(CellState cell) {
+        return cell.getMoleculeType() | (cell.getMoleculeValue() & Config.VALUE_MASK);
+    }
+
+    /**
+     * @return The type bits of a packed molecule int, as in {@code CellState.molecule_type}.
+     */
+    public static int moleculeType(int molecule) {
+        return molecule & Config.TYPE_MASK;
+    }
+
+    /**
+     * @return The sign-extended value of a packed molecule int, as in {@code CellState.molecule_value}.
+     */
+    public static int moleculeValue(int molecule) {
+        return (molecule << (Integer.SIZE - Config.VALUE_BITS)) >> (Integer.SIZE - Config.VALUE_BITS);
+    }
+}
@@ -0,0 +1,78 @@
+package org.evochora.datapipeline.utils.compression;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cumulative compression ratio and throughput of the payloads a component compresses and
+ * decompresses, for its {@code addCustomMetrics} hook.
+ * <p>
+ * Throughput is uncompressed bytes per second of the recorded time, so it reflects the codec
+ * (and dictionary) cost independently of how often payloads are written or read. Callers that
+ * compress while streaming to I/O record the time of the whole write, which then includes
+ * the I/O.
+ * <p>
+ * All operations are O(1).
+ * <p>
+ * <strong>Thread Safety:</strong> Thread-safe.
+ */
+public final class CompressionStats {
+
+    private final AtomicLong compressedPayloads = new AtomicLong();
+    private final AtomicLong compressInputBytes = new AtomicLong();
+    private final AtomicLong compressOutputBytes = new AtomicLong();
+    private final AtomicLong compressNanos = new AtomicLong();
+    private final AtomicLong decompressedPayloads = new AtomicLong();
+    private final AtomicLong decompressOutputBytes = new AtomicLong();
+    private final AtomicLong decompressNanos = new AtomicLong();
+
+    /**
+     * Records one compressed payload.
+     *
+     * @param uncompressedBytes size before compression
+     * @param compressedBytes size after compression
+     * @param nanos time spent compressing
+     */
+    public void recordCompression(long uncompressedBytes, long compressedBytes, long nanos) {
+        compressedPayloads.incrementAndGet();
+        compressInputBytes.addAndGet(uncompressedBytes);
+        compressOutputBytes.addAndGet(compressedBytes);
+        compressNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Records one decompressed payload.
+     *
+     * @param uncompressedBytes size after decompression
+     * @param nanos time spent decompressing
+     */
+    public void recordDecompression(long uncompressedBytes, long nanos) {
+        decompressedPayloads.incrementAndGet();
+        decompressOutputBytes.addAndGet(uncompressedBytes);
+        decompressNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Adds the metrics, each name starting with the given prefix:
+     * <ul>
+     *   <li>compression_ratio - uncompressed / compressed bytes of all compressed payloads</li>
+     *   <li>compressed_payloads / decompressed_payloads - cumulative counts</li>
+     *   <li>compress_mb_per_sec / decompress_mb_per_sec - uncompressed MB per second of codec time</li>
+     * </ul>
+     *
+     * @param metrics mutable map to add metrics to
+     * @param prefix prefix of the metric names, e.g. {@code "blob_"}
+     */
+    public void addMetrics(Map<String, Number> metrics, String prefix) {
+        long compressed = compressOutputBytes.get();
+        metrics.put(prefix + "compression_ratio", compressed > 0 ? (double) compressInputBytes.get() / compressed : 0.0);
+        metrics.put(prefix + "compressed_payloads", compressedPayloads.get());
+        metrics.put(prefix + "decompressed_payloads", decompressedPayloads.get());
+        metrics.put(prefix + "compress_mb_per_sec", megabytesPerSecond(compressInputBytes.get(), compressNanos.get()));
+        metrics.put(prefix + "decompress_mb_per_sec", megabytesPerSecond(decompressOutputBytes.get(), decompressNanos.get()));
+    }
+
+    private static double megabytesPerSecond(long bytes, long nanos) {
+        return nanos > 0 ? bytes / 1_048_576.0 / (nanos / 1_000_000_000.0) : 0.0;
+    }
+}
@@ -5,6 +5,7 @@ import com.github.luben.zstd.ZstdInputStream;
 import com.github.luben.zstd.ZstdOutputStream;
 import com.typesafe.config.Config;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -40,6 +41,11 @@ import java.io.OutputStream;
  *   level = 3  # Optional, default: 3
  * }
  * </pre>
+ * <p>
+ * <strong>Dictionaries:</strong> {@link #withDictionary(ZstdDictionary)} returns a codec that
+ * compresses with a trained dictionary, {@link #withResolver(ZstdDictionary.Resolver)} one that
+ * decompresses frames compressed with any dictionary the resolver can find. The dictionary of a
+ * frame is identified by the ID in its header, so plain frames stay readable by both.
  *
  * @see ICompressionCodec
  * @see CompressionCodecFactory
@@ -50,13 +56,18 @@ public class ZstdCodec implements ICompressionCodec {
     private static final int MAX_LEVEL = 22;
     private static final int DEFAULT_LEVEL = 3;
 
+    // Longest zstd frame header; the dictionary ID is part of it
+    private static final int FRAME_HEADER_MAX_BYTES = 18;
+
     private final int level;
+    private final ZstdDictionary dictionary;
+    private final ZstdDictionary.Resolver resolver;
 
     /**
      * Creates a ZstdCodec with default compression level (3).
      */
     public ZstdCodec() {
-        this.level = DEFAULT_LEVEL;
+        this(DEFAULT_LEVEL);
     }
 
     /**
@@ -70,6 +81,8 @@ public class ZstdCodec implements ICompressionCodec {
     public ZstdCodec(Config config) {
         int configuredLevel = config.hasPath("level") ? config.getInt("level") : DEFAULT_LEVEL;
         this.level = Math.max(MIN_LEVEL, Math.min(MAX_LEVEL, configuredLevel));
+        this.dictionary = null;
+        this.resolver = null;
 
         if (configuredLevel != this.level) {
             // Log warning if level was clamped (using System.err since we don't have logger here)
@@ -84,17 +97,69 @@ public class ZstdCodec implements ICompressionCodec {
      * @param level compression level (1-22), will be clamped to valid range
      */
     public ZstdCodec(int level) {
-        this.level = Math.max(MIN_LEVEL, Math.min(MAX_LEVEL, level));
+        this(Math.max(MIN_LEVEL, Math.min(MAX_LEVEL, level)), null, null);
+    }
+
+    private ZstdCodec(int level, ZstdDictionary dictionary, ZstdDictionary.Resolver resolver) {
+        this.level = level;
+        this.dictionary = dictionary;
+        this.resolver = resolver;
+    }
+
+    /**
+     * Returns a codec with the same level and resolver that compresses with the given dictionary.
+     *
+     * @param dictionary the dictionary to compress with, or null to compress without
+     * @return the codec
+     */
+    public ZstdCodec withDictionary(ZstdDictionary dictionary) {
+        return new ZstdCodec(level, dictionary, resolver);
+    }
+
+    /**
+     * Returns a codec with the same level and dictionary that decompresses frames compressed
+     * with a dictionary by looking the dictionary up by its ID.
+     *
+     * @param resolver finds dictionaries by ID
+     * @return the codec
+     */
+    public ZstdCodec withResolver(ZstdDictionary.Resolver resolver) {
+        return new ZstdCodec(level, dictionary, resolver);
+    }
+
+    /**
+     * @return the dictionary this codec compresses with, or null
+     */
+    public ZstdDictionary getDictionary() {
+        return dictionary;
     }
 
     @Override
     public OutputStream wrapOutputStream(OutputStream out) throws IOException {
-        return new ZstdOutputStream(out, level);
+        ZstdOutputStream stream = new ZstdOutputStream(out, level);
+        if (dictionary != null) {
+            stream.setDict(dictionary.forCompression(level));
+        }
+        return stream;
     }
 
     @Override
     public InputStream wrapInputStream(InputStream in) throws IOException {
-        return new ZstdInputStream(in);
+        if (resolver == null) {
+            return new ZstdInputStream(in);
+        }
+        // Peek at the frame header for the dictionary ID
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        buffered.mark(FRAME_HEADER_MAX_BYTES);
+        byte[] header = buffered.readNBytes(FRAME_HEADER_MAX_BYTES);
+        buffered.reset();
+
+        ZstdInputStream stream = new ZstdInputStream(buffered);
+        long dictionaryId = ZstdDictionary.idOfFrame(header);
+        if (dictionaryId != 0) {
+            stream.setDict(resolver.resolve(dictionaryId).forDecompression());
+        }
+        return stream;
     }
 
     @Override
@@ -170,6 +235,7 @@ public class ZstdCodec implements ICompressionCodec {
 
     @Override
     public String toString() {
-        return String.format("ZstdCodec{name='zstd', level=%d}", level);
+        return String.format("ZstdCodec{name='zstd', level=%d, dictionary=%s}", level,
+            dictionary != null ? dictionary.getId() : "none");
     }
 }
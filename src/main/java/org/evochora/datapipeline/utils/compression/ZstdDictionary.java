@@ -0,0 +1,158 @@
+package org.evochora.datapipeline.utils.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A trained zstd dictionary, identified by the dictionary ID zstd stores in its content.
+ * <p>
+ * Small payloads compress poorly on their own because every frame starts with an empty
+ * history. A dictionary trained on typical payloads (e.g. the first ticks of a run) gives every
+ * frame that history up front, which matters most for the many small per-tick blobs. Frames
+ * compressed with a dictionary carry its ID in their header ({@link #idOfFrame(byte[])}), so a
+ * reader can find the dictionary it needs without any side channel.
+ * <p>
+ * The digested native forms used by {@link ZstdCodec} are created once per level and shared.
+ * <p>
+ * <strong>Thread Safety:</strong> Thread-safe. Digested dictionaries are read-only and may be
+ * used by concurrent streams.
+ */
+public final class ZstdDictionary {
+
+    /**
+     * Recommended dictionary size (the zstd CLI default of 110 KiB).
+     */
+    public static final int DEFAULT_MAX_SIZE = 112_640;
+
+    // Training works on samples of at most this size; larger payloads are split
+    private static final int SAMPLE_CHUNK_BYTES = 64 * 1024;
+    // zstd recommends about 100 times the dictionary size of training data
+    private static final int SAMPLE_BYTES_PER_DICTIONARY_BYTE = 100;
+
+    private final long id;
+    private final byte[] content;
+    private final Map<Integer, ZstdDictCompress> compressDictionaries = new ConcurrentHashMap<>();
+    private volatile ZstdDictDecompress decompressDictionary;
+
+    /**
+     * Wraps the content of a trained dictionary, e.g. one read back from storage.
+     *
+     * @param content dictionary content as returned by {@link #train(List, int)}
+     * @throws IllegalArgumentException if the content carries no dictionary ID
+     */
+    public ZstdDictionary(byte[] content) {
+        this.id = Zstd.getDictIdFromDict(content);
+        if (id == 0) {
+            throw new IllegalArgumentException("Content is not a zstd dictionary with an ID");
+        }
+        this.content = content.clone();
+    }
+
+    /**
+     * Trains a dictionary from sample payloads. Samples larger than 64 KiB are split, and
+     * training data beyond about 100 times the dictionary size is ignored.
+     *
+     * @param samples uncompressed payloads typical for the data to compress
+     * @param maxSize maximum dictionary size in bytes
+     * @return the trained dictionary
+     * @throws CompressionException if the samples are not enough to train a dictionary
+     */
+    public static ZstdDictionary train(List<byte[]> samples, int maxSize) throws CompressionException {
+        ZstdDictTrainer trainer = new ZstdDictTrainer(maxSize * SAMPLE_BYTES_PER_DICTIONARY_BYTE, maxSize);
+        addSamples:
+        for (byte[] sample : samples) {
+            for (int offset = 0; offset < sample.length; offset += SAMPLE_CHUNK_BYTES) {
+                int length = Math.min(SAMPLE_CHUNK_BYTES, sample.length - offset);
+                byte[] chunk = offset == 0 && length == sample.length
+                    ? sample
+                    : Arrays.copyOfRange(sample, offset, offset + length);
+                if (!trainer.addSample(chunk)) {
+                    break addSamples;  // Training buffer full
+                }
+            }
+        }
+        try {
+            return new ZstdDictionary(trainer.trainSamples());
+        } catch (RuntimeException e) {
+            throw new CompressionException("Failed to train zstd dictionary from " + samples.size() + " samples", e);
+        }
+    }
+
+    /**
+     * Returns how much sample data {@link #train(List, int)} uses at most, so callers collecting
+     * samples can stop early.
+     *
+     * @param maxSize maximum dictionary size in bytes
+     * @return the number of sample bytes used for training
+     */
+    public static long maxTrainingBytes(int maxSize) {
+        return (long) maxSize * SAMPLE_BYTES_PER_DICTIONARY_BYTE;
+    }
+
+    /**
+     * Returns the ID of the dictionary a zstd frame was compressed with.
+     *
+     * @param frame the start of a zstd frame (at least its header, up to 18 bytes)
+     * @return the dictionary ID, or 0 if the frame was compressed without dictionary
+     */
+    public static long idOfFrame(byte[] frame) {
+        return Zstd.getDictIdFromFrame(frame);
+    }
+
+    /**
+     * @return the dictionary ID (never 0)
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @return a copy of the dictionary content, for persisting it
+     */
+    public byte[] getContent() {
+        return content.clone();
+    }
+
+    ZstdDictCompress forCompression(int level) {
+        return compressDictionaries.computeIfAbsent(level, l -> new ZstdDictCompress(content, l));
+    }
+
+    ZstdDictDecompress forDecompression() {
+        ZstdDictDecompress dictionary = decompressDictionary;
+        if (dictionary == null) {
+            synchronized (this) {
+                if (decompressDictionary == null) {
+                    decompressDictionary = new ZstdDictDecompress(content);
+                }
+                dictionary = decompressDictionary;
+            }
+        }
+        return dictionary;
+    }
+
+    /**
+     * Looks up dictionaries by ID for decompression.
+     */
+    @FunctionalInterface
+    public interface Resolver {
+        /**
+         * @param id dictionary ID from a frame header (never 0)
+         * @return the dictionary with this ID
+         * @throws IOException if the dictionary cannot be found or loaded
+         */
+        ZstdDictionary resolve(long id) throws IOException;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ZstdDictionary{id=%d, size=%d}", id, content.length);
+    }
+}
@@ -0,0 +1,147 @@
+package org.evochora.datapipeline.utils.delta;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.evochora.datapipeline.api.contracts.CellColumns;
+import org.evochora.datapipeline.api.contracts.OrganismState;
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.evochora.datapipeline.utils.cells.TickCells;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Materializes delta-encoded {@link TickData} into complete ticks.
+ * <p>
+ * A delta-encoded run consists of keyframes carrying the complete state and deltas carrying
+ * only the cells and organisms that changed since the previously captured tick (see the
+ * {@code is_delta} field of {@code TickData}). The reconstructor keeps the cell and organism
+ * state of the last applied tick: a keyframe replaces it, a delta is applied on top of it and
+ * returned as a complete tick, exactly as if it had been captured without delta encoding.
+ * <p>
+ * Cells are kept as primitive (molecule, owner) pairs keyed by flat index and organisms by ID,
+ * so applying a delta costs time proportional to its size; only building the materialized
+ * message is proportional to the number of occupied cells. A materialized tick uses the cell
+ * encoding of the delta (see {@link TickCells}). The {@link OrganismState} messages of the
+ * input are shared, not copied.
+ * <p>
+ * <strong>Thread Safety:</strong> Not thread-safe. Use one instance per reading thread.
+ */
+public final class TickDeltaReconstructor {
+
+    // Flat index -> molecule (high 32 bits) and owner ID (low 32 bits)
+    private final Int2LongOpenHashMap cells = new Int2LongOpenHashMap();
+    // Insertion-ordered so materialized ticks list organisms in capture order
+    private final Map<Integer, OrganismState> organisms = new LinkedHashMap<>();
+    private String runId;
+    private long tickNumber = -1;
+
+    /**
+     * Creates a reconstructor without state; the first applied tick must be a keyframe.
+     */
+    public TickDeltaReconstructor() {
+    }
+
+    /**
+     * Creates a reconstructor positioned at an already materialized tick, so deltas based on
+     * that tick can be applied directly.
+     *
+     * @param materialized A keyframe or a tick previously returned by {@link #apply(TickData)}.
+     * @return The positioned reconstructor.
+     * @throws IllegalArgumentException if the tick is a delta.
+     */
+    public static TickDeltaReconstructor startingAt(TickData materialized) {
+        TickDeltaReconstructor reconstructor = new TickDeltaReconstructor();
+        reconstructor.apply(materialized);
+        return reconstructor;
+    }
+
+    /**
+     * Applies a tick to the reconstructed state.
+     *
+     * @param tick A keyframe, or a delta whose {@code delta_base_tick} is the tick applied last.
+     * @return The complete tick: the keyframe itself, or the materialized delta.
+     * @throws IllegalArgumentException if the tick is a delta that does not apply to the current state.
+     */
+    public TickData apply(TickData tick) {
+        if (!tick.getIsDelta()) {
+            cells.clear();
+            TickCells.forEach(tick, (flatIndex, molecule, ownerId) -> cells.put(flatIndex, pack(molecule, ownerId)));
+            organisms.clear();
+            for (OrganismState organism : tick.getOrganismsList()) {
+                organisms.put(organism.getOrganismId(), organism);
+            }
+            runId = tick.getSimulationRunId();
+            tickNumber = tick.getTickNumber();
+            return tick;
+        }
+
+        if (tickNumber < 0 || tick.getDeltaBaseTick() != tickNumber || !tick.getSimulationRunId().equals(runId)) {
+            throw new IllegalArgumentException(String.format(
+                    "Delta for tick %d of run %s applies to tick %d, but the reconstructed state is at tick %d of run %s",
+                    tick.getTickNumber(), tick.getSimulationRunId(), tick.getDeltaBaseTick(), tickNumber, runId));
+        }
+        TickCells.forEach(tick, (flatIndex, molecule, ownerId) -> {
+            if (molecule == 0 && ownerId == 0) {
+                cells.remove(flatIndex);
+            } else {
+                cells.put(flatIndex, pack(molecule, ownerId));
+            }
+        });
+        for (int organismId : tick.getRemovedOrganismIdsList()) {
+            organisms.remove(organismId);
+        }
+        for (OrganismState organism : tick.getOrganismsList()) {
+            organisms.put(organism.getOrganismId(), organism);
+        }
+        tickNumber = tick.getTickNumber();
+
+        TickData.Builder builder = tick.toBuilder()
+                .clearIsDelta()
+                .clearDeltaBaseTick()
+                .clearRemovedOrganismIds()
+                .clearCells()
+                .clearCellColumns()
+                .clearOrganisms()
+                .addAllOrganisms(organisms.values());
+        if (tick.hasCellColumns()) {
+            builder.setCellColumns(buildColumns(tick.getCellColumns().getFlatIndicesDeltaEncoded()));
+        } else {
+            for (Int2LongMap.Entry cell : cells.int2LongEntrySet()) {
+                long value = cell.getLongValue();
+                builder.addCells(TickCells.toCellState(cell.getIntKey(), (int) (value >>> 32), (int) value));
+            }
+        }
+        return builder.build();
+    }
+
+    private CellColumns buildColumns(boolean sortedDeltaIndices) {
+        IntArrayList flatIndices = new IntArrayList(cells.keySet());
+        if (sortedDeltaIndices) {
+            flatIndices.sort(null);
+        }
+        CellColumns.Builder columns = CellColumns.newBuilder().setFlatIndicesDeltaEncoded(sortedDeltaIndices);
+        int previous = 0;
+        for (int i = 0; i < flatIndices.size(); i++) {
+            int flatIndex = flatIndices.getInt(i);
+            long value = cells.get(flatIndex);
+            columns.addFlatIndices(sortedDeltaIndices ? flatIndex - previous : flatIndex)
+                    .addMolecules((int) (value >>> 32))
+                    .addOwnerIds((int) value);
+            previous = flatIndex;
+        }
+        return columns.build();
+    }
+
+    private static long pack(int molecule, int ownerId) {
+        return ((long) molecule << 32) | (ownerId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return The tick number of the reconstructed state, or -1 if nothing was applied yet.
+     */
+    public long getTickNumber() {
+        return tickNumber;
+    }
+}
@@ -9,8 +9,19 @@ import org.evochora.runtime.spi.IRandomProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 
 /**
  * Manages the core simulation loop, including organism lifecycle, instruction execution,
@@ -21,6 +32,7 @@ public class Simulation {
     private static final Logger LOG = LoggerFactory.getLogger(Simulation.class);
     private final Environment environment;
     private final VirtualMachine vm;
+    /** Organisms that are alive or still within their post-mortem grace period, in ID order. */
     private final List<Organism> organisms;
     private long currentTick = 0L;
     /**
@@ -30,6 +42,43 @@ public class Simulation {
     private final List<Organism> newOrganismsThisTick = new ArrayList<>();
     private int nextOrganismId = 1;
     private IRandomProvider randomProvider;
+    private int parallelism = 1;
+    private ExecutorService workerPool;
+    private volatile boolean executionDataCollected = true;
+
+    /**
+     * Below this number of living organisms the parallel tick falls back to sequential
+     * execution, because hand-off to the worker pool costs more than it saves.
+     */
+    private static final int PARALLEL_MIN_ORGANISMS = 64;
+
+    /** Sentinel returned by {@link #lowestClaimantByIndex} for unclaimed cells. Organism IDs start at 1. */
+    private static final int NO_CLAIMANT = 0;
+    private final Int2IntOpenHashMap lowestClaimantByIndex = new Int2IntOpenHashMap();
+
+    // Conflict resolution metrics, written by the tick thread and read by metric collectors.
+    private volatile long lastConflictResolutionNanos;
+    private volatile int lastConflictClaims;
+    private volatile int lastConflictCollisions;
+    private volatile long totalConflictCollisions;
+
+    /**
+     * Dead organisms removed from {@link #organisms}, keyed by ID in order of archival.
+     * Bounded by {@link #organismArchiveCapacity}; the oldest entries are evicted first.
+     */
+    private final Int2ObjectLinkedOpenHashMap<Organism> organismArchive = new Int2ObjectLinkedOpenHashMap<>();
+    private int organismArchiveCapacity = DEFAULT_ORGANISM_ARCHIVE_CAPACITY;
+    private int deadOrganismGraceTicks = 0;
+    /** Tick at which a dead organism was first observed during compaction. Only used with a grace period. */
+    private final Int2LongOpenHashMap deathTickById = new Int2LongOpenHashMap();
+
+    /** Default number of dead organisms kept in the archive for lookups by ID. */
+    public static final int DEFAULT_ORGANISM_ARCHIVE_CAPACITY = 100_000;
+
+    // Population counters, written by the tick thread and read by metric collectors.
+    private volatile int aliveOrganismCount;
+    private volatile long totalOrganismCount;
+    private volatile int archivedOrganismCount;
 
     private Map<String, ProgramArtifact> programArtifacts = new HashMap<>();
 
@@ -65,6 +114,10 @@ public class Simulation {
      */
     public void addOrganism(Organism organism) {
         this.organisms.add(organism);
+        this.totalOrganismCount++;
+        if (!organism.isDead()) {
+            this.aliveOrganismCount++;
+        }
     }
 
     /**
@@ -99,29 +152,130 @@ public class Simulation {
         return LOG;
     }
 
+    /**
+     * Sets the number of worker threads used to plan and execute organisms.
+     * <p>
+     * A value of 1 (the default) runs the classic sequential tick. Larger values enable the
+     * parallel two-phase tick: all organisms are planned concurrently, conflicts are resolved
+     * on the calling thread, and organism-local instructions are then executed concurrently
+     * while all other instructions run sequentially in organism order. Both modes produce
+     * bit-for-bit identical results for the same seed.
+     *
+     * @param parallelism The number of worker threads (must be &gt;= 1).
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be >= 1, got " + parallelism);
+        }
+        if (parallelism != this.parallelism) {
+            shutdown();
+            this.parallelism = parallelism;
+        }
+    }
+
+    /**
+     * Returns the number of worker threads used per tick.
+     * @return The configured parallelism (1 = sequential).
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Enables or disables collection of per-instruction execution data (raw arguments, register
+     * values before execution and energy cost, see {@link Organism#getLastInstructionExecution()}).
+     * <p>
+     * Collection is enabled by default. Callers that only observe some ticks, such as a sampling
+     * data pipeline, disable it for all other ticks; the VM then skips the debug bookkeeping and
+     * only collects data for organisms flagged with {@link Organism#setTraced(boolean)}.
+     *
+     * @param collected true to collect execution data for all organisms in the following ticks.
+     */
+    public void setExecutionDataCollected(boolean collected) {
+        this.executionDataCollected = collected;
+    }
+
+    /**
+     * Returns whether execution data is collected for all organisms.
+     * @return true if execution data is collected for every executed instruction.
+     */
+    public boolean isExecutionDataCollected() {
+        return executionDataCollected;
+    }
+
+    /**
+     * Sets how many ticks a dead organism stays in {@link #getOrganisms()} before it is moved
+     * to the archive. A value of 0 (the default) archives organisms at the end of the tick in
+     * which they died; larger values keep their final state visible to per-tick consumers.
+     *
+     * @param graceTicks The number of ticks to keep dead organisms (must be &gt;= 0).
+     */
+    public void setDeadOrganismGraceTicks(int graceTicks) {
+        if (graceTicks < 0) {
+            throw new IllegalArgumentException("deadOrganismGraceTicks must be >= 0, got " + graceTicks);
+        }
+        this.deadOrganismGraceTicks = graceTicks;
+    }
+
+    /**
+     * Sets the maximum number of dead organisms kept in the archive. When the archive is full,
+     * the organism archived first is evicted. A value of 0 disables archiving entirely.
+     *
+     * @param capacity The archive capacity (must be &gt;= 0).
+     */
+    public void setOrganismArchiveCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("organismArchiveCapacity must be >= 0, got " + capacity);
+        }
+        this.organismArchiveCapacity = capacity;
+        while (organismArchive.size() > capacity) {
+            organismArchive.removeFirst();
+        }
+        this.archivedOrganismCount = organismArchive.size();
+    }
+
+    /**
+     * Releases the worker pool of the parallel tick mode. The pool is recreated lazily
+     * if {@link #tick()} is called again, so this is safe to call on service restarts.
+     */
+    public void shutdown() {
+        if (workerPool != null) {
+            workerPool.shutdownNow();
+            workerPool = null;
+        }
+    }
+
     /**
      * Executes a single simulation tick. During a tick, each organism plans an instruction,
      * conflicts are resolved, and the winning instructions are executed.
      */
     public void tick() {
         newOrganismsThisTick.clear();
+        environment.beginTick(currentTick);
 
-        List<Instruction> plannedInstructions = new ArrayList<>();
+        List<Organism> living = new ArrayList<>(this.organisms.size());
         for (Organism organism : this.organisms) {
             if (!organism.isDead()) {
-                Instruction instruction = vm.plan(organism);
-                instruction.setExecutedInTick(false);
-                instruction.setConflictStatus(Instruction.ConflictResolutionStatus.NOT_APPLICABLE);
-                plannedInstructions.add(instruction);
+                living.add(organism);
             }
         }
+        boolean parallel = parallelism > 1 && living.size() >= PARALLEL_MIN_ORGANISMS;
+
+        List<Instruction> plannedInstructions = parallel ? planParallel(living) : planSequential(living);
 
         resolveConflicts(plannedInstructions);
 
-        for (Instruction instruction : plannedInstructions) {
-            if (instruction.isExecutedInTick()) {
-                vm.execute(instruction, this);
+        if (parallel) {
+            executeParallel(plannedInstructions);
+        } else {
+            for (Instruction instruction : plannedInstructions) {
+                if (instruction.isExecutedInTick()) {
+                    vm.execute(instruction, this);
+                }
             }
+        }
+
+        for (Instruction instruction : plannedInstructions) {
             Organism organism = instruction.getOrganism();
             if (organism.isLoggingEnabled()) {
                 LOG.debug("Tick={} Org={} Instr={} Status={}",
@@ -143,27 +297,273 @@ public class Simulation {
         }
 
         this.organisms.addAll(newOrganismsThisTick);
+        this.totalOrganismCount += newOrganismsThisTick.size();
+        compactDeadOrganisms();
         this.currentTick++;
     }
 
+    /**
+     * Moves dead organisms whose grace period has elapsed from the live list into the archive,
+     * preserving the order of the remaining organisms. Runs in O(live) and recounts the
+     * living population for metrics.
+     */
+    private void compactDeadOrganisms() {
+        int write = 0;
+        int alive = 0;
+        for (int read = 0; read < organisms.size(); read++) {
+            Organism organism = organisms.get(read);
+            if (organism.isDead() && graceElapsed(organism)) {
+                archive(organism);
+                continue;
+            }
+            if (!organism.isDead()) {
+                alive++;
+            }
+            organisms.set(write++, organism);
+        }
+        organisms.subList(write, organisms.size()).clear();
+        this.aliveOrganismCount = alive;
+    }
+
+    private boolean graceElapsed(Organism organism) {
+        if (deadOrganismGraceTicks == 0) {
+            return true;
+        }
+        int id = organism.getId();
+        if (!deathTickById.containsKey(id)) {
+            deathTickById.put(id, currentTick);
+            return false;
+        }
+        if (currentTick - deathTickById.get(id) < deadOrganismGraceTicks) {
+            return false;
+        }
+        deathTickById.remove(id);
+        return true;
+    }
+
+    private void archive(Organism organism) {
+        if (organismArchiveCapacity == 0) {
+            return;
+        }
+        if (organismArchive.size() >= organismArchiveCapacity) {
+            organismArchive.removeFirst();
+        }
+        organismArchive.put(organism.getId(), organism);
+        this.archivedOrganismCount = organismArchive.size();
+    }
+
+    private Instruction planFor(Organism organism) {
+        Instruction instruction = vm.plan(organism);
+        instruction.setExecutedInTick(false);
+        instruction.setConflictStatus(Instruction.ConflictResolutionStatus.NOT_APPLICABLE);
+        return instruction;
+    }
+
+    private List<Instruction> planSequential(List<Organism> living) {
+        List<Instruction> plannedInstructions = new ArrayList<>(living.size());
+        for (Organism organism : living) {
+            plannedInstructions.add(planFor(organism));
+        }
+        return plannedInstructions;
+    }
+
+    /**
+     * Plans all organisms concurrently. Planning only reads the environment and mutates the
+     * planning organism, and each result is stored at the organism's position, so the
+     * returned list has exactly the same order and content as {@link #planSequential}.
+     */
+    private List<Instruction> planParallel(List<Organism> living) {
+        Instruction[] planned = new Instruction[living.size()];
+        runOnWorkers(planned.length, i -> planned[i] = planFor(living.get(i)));
+        return Arrays.asList(planned);
+    }
+
+    /**
+     * Executes the winning instructions of a tick using the worker pool.
+     * <p>
+     * An instruction is executed concurrently only if it is organism-local and none of its own
+     * code cells is written by an environment-modifying instruction in this tick. Such an
+     * instruction observes exactly the same state regardless of when it runs, so running it
+     * ahead of the sequential remainder is indistinguishable from the sequential tick.
+     * Everything else is executed afterwards on the calling thread in organism order.
+     */
+    private void executeParallel(List<Instruction> plannedInstructions) {
+        IntSet writtenIndices = collectWrittenIndices(plannedInstructions);
+        if (writtenIndices == null) {
+            // A modifying instruction resolves its target only during execution; stay sequential.
+            for (Instruction instruction : plannedInstructions) {
+                if (instruction.isExecutedInTick()) {
+                    vm.execute(instruction, this);
+                }
+            }
+            return;
+        }
+
+        List<Instruction> localInstructions = new ArrayList<>(plannedInstructions.size());
+        List<Instruction> sequentialInstructions = new ArrayList<>();
+        for (Instruction instruction : plannedInstructions) {
+            if (!instruction.isExecutedInTick()) {
+                continue;
+            }
+            if (instruction.isOrganismLocal() && !readsAnyOf(instruction, writtenIndices)) {
+                localInstructions.add(instruction);
+            } else {
+                sequentialInstructions.add(instruction);
+            }
+        }
+
+        runOnWorkers(localInstructions.size(), i -> vm.execute(localInstructions.get(i), this));
+
+        for (Instruction instruction : sequentialInstructions) {
+            vm.execute(instruction, this);
+        }
+    }
+
+    /**
+     * Collects the flat indices of all cells that executed environment-modifying instructions
+     * will write in this tick.
+     *
+     * @return The written indices, or {@code null} if a target is not known before execution.
+     */
+    private IntSet collectWrittenIndices(List<Instruction> plannedInstructions) {
+        IntSet written = new IntOpenHashSet();
+        for (Instruction instruction : plannedInstructions) {
+            if (instruction.isExecutedInTick() && instruction instanceof IEnvironmentModifyingInstruction modInstruction) {
+                List<int[]> targetCoords = modInstruction.getTargetCoordinates();
+                if (targetCoords == null || targetCoords.isEmpty()) {
+                    return null;
+                }
+                for (int[] coord : targetCoords) {
+                    int index = environment.getFlatIndex(coord);
+                    if (index != -1) {
+                        written.add(index);
+                    }
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Checks whether any cell of the instruction itself (opcode and arguments) is in the given set.
+     */
+    private boolean readsAnyOf(Instruction instruction, IntSet indices) {
+        if (indices.isEmpty()) {
+            return false;
+        }
+        Organism organism = instruction.getOrganism();
+        int[] position = organism.getIpBeforeFetch();
+        int[] direction = organism.getDvBeforeFetch();
+        int length = instruction.getLength(environment);
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                position = organism.getNextInstructionPosition(position, direction, environment);
+            }
+            if (indices.contains(environment.getFlatIndex(position))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs {@code task} for every index in {@code [0, count)} on the worker pool, splitting the
+     * range into one contiguous chunk per worker, and waits for all chunks to finish.
+     */
+    private void runOnWorkers(int count, IntConsumer task) {
+        if (count == 0) {
+            return;
+        }
+        if (workerPool == null) {
+            AtomicInteger threadCounter = new AtomicInteger();
+            workerPool = Executors.newFixedThreadPool(parallelism, r -> {
+                Thread thread = new Thread(r, "simulation-worker-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        int chunkSize = (count + parallelism - 1) / parallelism;
+        List<Future<?>> chunks = new ArrayList<>(parallelism);
+        for (int start = 0; start < count; start += chunkSize) {
+            int from = start;
+            int to = Math.min(count, start + chunkSize);
+            chunks.add(workerPool.submit(() -> {
+                for (int i = from; i < to; i++) {
+                    task.accept(i);
+                }
+            }));
+        }
+
+        // A tick must never be left half-executed, so interrupts are deferred until all chunks are done.
+        boolean interrupted = false;
+        try {
+            for (Future<?> chunk : chunks) {
+                while (true) {
+                    try {
+                        chunk.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Simulation worker failed at tick " + currentTick, cause);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     /**
      * Resolves conflicts between organisms attempting to modify the same environment coordinates.
-     * The winning instruction is determined based on organism ID.
+     * The winning instruction is determined based on organism ID: at every contested cell the
+     * organism with the lowest ID wins.
+     * <p>
+     * Claims are keyed on the flat cell index in a primitive map that is reused across ticks,
+     * so resolution does not allocate per target coordinate. An instruction with several targets
+     * only wins if it holds the lowest ID at each of them.
+     * <p>
+     * A modifying instruction without target coordinates only executes if it is the only
+     * instruction planned in the tick, i.e. if there is no other living organism. Dead organisms
+     * do not count, whether or not they are still listed during their grace period.
+     *
      * @param allPlannedInstructions A list of all instructions planned for the current tick.
      */
     private void resolveConflicts(List<Instruction> allPlannedInstructions) {
-        Map<List<Integer>, List<IEnvironmentModifyingInstruction>> actionsByCoordinate = new HashMap<>();
+        long start = System.nanoTime();
+        Int2IntOpenHashMap lowestClaimant = this.lowestClaimantByIndex;
+        lowestClaimant.clear();
+        int claims = 0;
 
+        // Pass 1: record the lowest organism ID claiming each target cell.
         for (Instruction instruction : allPlannedInstructions) {
             if (instruction instanceof IEnvironmentModifyingInstruction modInstruction) {
                 List<int[]> targetCoords = modInstruction.getTargetCoordinates();
                 if (targetCoords != null && !targetCoords.isEmpty()) {
+                    int organismId = instruction.getOrganism().getId();
                     for (int[] coord : targetCoords) {
-                        List<Integer> coordAsList = Arrays.stream(coord).boxed().collect(Collectors.toList());
-                        actionsByCoordinate.computeIfAbsent(coordAsList, k -> new ArrayList<>()).add(modInstruction);
+                        int flatIndex = environment.getFlatIndex(coord);
+                        if (flatIndex == -1) {
+                            continue; // Outside a bounded world: nothing to compete for.
+                        }
+                        claims++;
+                        int current = lowestClaimant.get(flatIndex);
+                        if (current == NO_CLAIMANT || organismId < current) {
+                            lowestClaimant.put(flatIndex, organismId);
+                        }
                     }
                 } else {
-                    if (this.organisms.size() == 1) {
+                    if (allPlannedInstructions.size() == 1) {
                         instruction.setExecutedInTick(true);
                     } else {
                         instruction.setExecutedInTick(false);
@@ -175,34 +575,119 @@ public class Simulation {
             }
         }
 
-        for (Map.Entry<List<Integer>, List<IEnvironmentModifyingInstruction>> entry : actionsByCoordinate.entrySet()) {
-            List<IEnvironmentModifyingInstruction> actionsAtCoord = entry.getValue();
-            if (actionsAtCoord.isEmpty()) continue;
-
-            if (actionsAtCoord.size() > 1) {
-                actionsAtCoord.sort(Comparator.comparingInt(action -> ((Instruction)action).getOrganism().getId()));
-                IEnvironmentModifyingInstruction winningAction = actionsAtCoord.get(0);
-                ((Instruction)winningAction).setExecutedInTick(true);
-                ((Instruction)winningAction).setConflictStatus(Instruction.ConflictResolutionStatus.WON_EXECUTION);
-
-                for (int i = 1; i < actionsAtCoord.size(); i++) {
-                    IEnvironmentModifyingInstruction losingAction = actionsAtCoord.get(i);
-                    ((Instruction)losingAction).setExecutedInTick(false);
-                    ((Instruction)losingAction).setConflictStatus(Instruction.ConflictResolutionStatus.LOST_LOWER_ID_WON);
+        // Pass 2: an instruction wins if it is the lowest claimant at all of its targets.
+        int collisions = 0;
+        for (Instruction instruction : allPlannedInstructions) {
+            if (!(instruction instanceof IEnvironmentModifyingInstruction modInstruction)) {
+                continue;
+            }
+            List<int[]> targetCoords = modInstruction.getTargetCoordinates();
+            if (targetCoords == null || targetCoords.isEmpty()) {
+                continue;
+            }
+            int organismId = instruction.getOrganism().getId();
+            boolean won = true;
+            for (int[] coord : targetCoords) {
+                int flatIndex = environment.getFlatIndex(coord);
+                if (flatIndex != -1 && lowestClaimant.get(flatIndex) != organismId) {
+                    won = false;
+                    break;
                 }
+            }
+            if (won) {
+                instruction.setExecutedInTick(true);
+                instruction.setConflictStatus(Instruction.ConflictResolutionStatus.WON_EXECUTION);
             } else {
-                ((Instruction)actionsAtCoord.get(0)).setExecutedInTick(true);
-                ((Instruction)actionsAtCoord.get(0)).setConflictStatus(Instruction.ConflictResolutionStatus.WON_EXECUTION);
+                collisions++;
+                instruction.setExecutedInTick(false);
+                instruction.setConflictStatus(Instruction.ConflictResolutionStatus.LOST_LOWER_ID_WON);
             }
         }
+
+        this.lastConflictClaims = claims;
+        this.lastConflictCollisions = collisions;
+        this.totalConflictCollisions += collisions;
+        this.lastConflictResolutionNanos = System.nanoTime() - start;
     }
 
     /**
-     * Returns the list of all organisms in the simulation.
+     * Returns the wall-clock time spent in conflict resolution during the last tick.
+     * @return The duration in nanoseconds.
+     */
+    public long getLastConflictResolutionNanos() { return lastConflictResolutionNanos; }
+
+    /**
+     * Returns the number of cell claims made by environment-modifying instructions in the last tick.
+     * @return The number of claims.
+     */
+    public int getLastConflictClaims() { return lastConflictClaims; }
+
+    /**
+     * Returns the number of instructions that lost conflict resolution to a lower organism ID in the last tick.
+     * @return The number of losing instructions.
+     */
+    public int getLastConflictCollisions() { return lastConflictCollisions; }
+
+    /**
+     * Returns the number of instructions that lost conflict resolution since the simulation started.
+     * @return The cumulative number of losing instructions.
+     */
+    public long getTotalConflictCollisions() { return totalConflictCollisions; }
+
+    /**
+     * Returns the organisms currently in the simulation, in ID order. Dead organisms are
+     * removed at the end of the tick in which they died (or after the configured grace period)
+     * and can then be looked up via {@link #getOrganismById(int)} while they remain archived.
      * @return A list of organisms.
      */
     public List<Organism> getOrganisms() { return organisms; }
 
+    /**
+     * Looks up an organism by ID among the live organisms and the archive.
+     * @param id The organism ID.
+     * @return The organism, or {@code null} if it is unknown or has been evicted from the archive.
+     */
+    public Organism getOrganismById(int id) {
+        Organism archived = organismArchive.get(id);
+        if (archived != null) {
+            return archived;
+        }
+        // The live list is kept in ID order
+        int low = 0;
+        int high = organisms.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = organisms.get(mid).getId();
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return organisms.get(mid);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of living organisms as of the end of the last tick.
+     * @return The number of living organisms.
+     */
+    public int getAliveOrganismCount() { return aliveOrganismCount; }
+
+    /**
+     * Returns the number of organisms ever added to the simulation, including archived
+     * and evicted ones.
+     * @return The total number of organisms.
+     */
+    public long getTotalOrganismCount() { return totalOrganismCount; }
+
+    /**
+     * Returns the number of dead organisms currently held in the archive.
+     * @return The archive size.
+     */
+    public int getArchivedOrganismCount() { return archivedOrganismCount; }
+
     /**
      * Returns the simulation environment.
      * @return The environment.
@@ -2,14 +2,17 @@ package org.evochora.runtime;
 
 import org.evochora.compiler.api.ProgramArtifact;
 import org.evochora.runtime.internal.services.ExecutionContext;
+import org.evochora.runtime.isa.DecodedInstructionCache;
 import org.evochora.runtime.isa.Instruction;
 import org.evochora.runtime.isa.InstructionArgumentType;
 import org.evochora.runtime.isa.InstructionSignature;
+import org.evochora.runtime.model.DataStack;
 import org.evochora.runtime.model.Molecule;
 import org.evochora.runtime.model.Organism;
 import org.evochora.runtime.model.Environment;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -22,6 +25,7 @@ import java.util.Optional;
 public class VirtualMachine {
 
     private final Environment environment;
+    private final DecodedInstructionCache decodedInstructions;
 
     /**
      * Creates a new VM bound to a specific environment.
@@ -30,19 +34,40 @@ public class VirtualMachine {
      */
     public VirtualMachine(Simulation simulation) {
         this.environment = simulation.getEnvironment();
+        this.decodedInstructions = new DecodedInstructionCache(this.environment);
+    }
+
+    /**
+     * Gets the cache of decoded instructions used by {@link #plan(Organism)}.
+     *
+     * @return The decoded instruction cache.
+     */
+    public DecodedInstructionCache getDecodedInstructionCache() {
+        return decodedInstructions;
     }
 
     /**
      * Phase 1: Plans the next instruction for an organism.
      * Reads the opcode at the organism's current instruction pointer and uses
      * the instruction registry to instantiate the corresponding instruction class.
+     * Code cells that were decoded before are served from the {@link DecodedInstructionCache}
+     * without reading the environment.
      *
      * @param organism The organism for which the instruction is to be planned.
      * @return The planned, but not yet executed, instruction.
      */
     public Instruction plan(Organism organism) {
         organism.resetTickState();
-        Molecule molecule = this.environment.getMolecule(organism.getIp());
+        int ipIndex = organism.getIpFlatIndex(this.environment);
+        if (ipIndex >= 0) {
+            Instruction cached = decodedInstructions.plan(organism, ipIndex);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Molecule molecule = ipIndex >= 0
+                ? Molecule.fromInt(this.environment.getMoleculeInt(ipIndex))
+                : Molecule.fromInt(0);
 
         if (Config.STRICT_TYPING) {
             if (molecule.type() != Config.TYPE_CODE && !molecule.isEmpty()) {
@@ -52,9 +77,13 @@ public class VirtualMachine {
         }
 
         int opcodeId = molecule.toInt();
-        java.util.function.BiFunction<Organism, Environment, Instruction> planner = Instruction.getPlannerById(opcodeId);
-        if (planner != null) {
-            return planner.apply(organism, this.environment);
+        Instruction.InstructionFactory factory = Instruction.getFactoryById(opcodeId);
+        if (factory != null) {
+            Instruction instruction = factory.create(organism, opcodeId);
+            if (ipIndex >= 0) {
+                decodedInstructions.store(organism, ipIndex, instruction);
+            }
+            return instruction;
         }
 
         organism.instructionFailed("Unknown opcode: " + opcodeId);
@@ -64,6 +93,12 @@ public class VirtualMachine {
     /**
      * Phase 2: Executes a previously planned instruction.
      * This method potentially modifies the state of the organism and the environment.
+     * <p>
+     * Execution data for history tracking (raw arguments, register values before execution and
+     * energy cost) is only collected if the simulation {@link Simulation#isExecutionDataCollected()
+     * collects it} for the current tick or the organism is {@link Organism#isTraced() traced}.
+     * Otherwise the instruction runs without any debug bookkeeping and
+     * {@link Organism#getLastInstructionExecution()} stays {@code null} for this tick.
      *
      * @param instruction The planned instruction to be executed.
      * @param simulation  The simulation that provides the context for execution.
@@ -74,15 +109,68 @@ public class VirtualMachine {
             return;
         }
 
-        // Logic moved from Organism.processTickAction() here
-        java.util.List<Integer> rawArgs = organism.getRawArgumentsFromEnvironment(instruction.getLength(this.environment), this.environment);
+        boolean collectExecutionData = simulation.isExecutionDataCollected() || organism.isTraced();
+        int instructionLength = instruction.getLength(this.environment);
+
+        List<Integer> rawArgs;
+        Map<Integer, Object> registerValuesBefore;
+        if (collectExecutionData) {
+            rawArgs = organism.getRawArgumentsFromEnvironment(instructionLength, this.environment);
+            // Collect register values BEFORE execution (for annotation display)
+            registerValuesBefore = collectRegisterValuesBefore(instruction, organism, rawArgs);
+        } else {
+            // No Instruction.getCost implementation inspects the raw arguments.
+            rawArgs = List.of();
+            registerValuesBefore = null;
+        }
+
+        // Track energy before execution to calculate total cost
+        int energyBefore = organism.getEr();
         
-        // Collect register values BEFORE execution (for annotation display)
+        organism.takeEr(instruction.getCost(organism, this.environment, rawArgs));
+
+        ExecutionContext context = new ExecutionContext(organism, this.environment, !collectExecutionData);
+        ProgramArtifact artifact = simulation.getProgramArtifacts().get(organism.getProgramId());
+        try {
+            instruction.execute(context, artifact);
+        } catch (DataStack.OverflowException e) {
+            organism.instructionFailed(e.getMessage());
+        }
+
+        if (organism.isInstructionFailed()) {
+            organism.takeEr(Config.ERROR_PENALTY_COST);
+        }
+
+        if (collectExecutionData) {
+            // Calculate total energy cost
+            int energyCost = energyBefore - organism.getEr();
+
+            // Store instruction execution data for history tracking
+            Organism.InstructionExecutionData executionData = new Organism.InstructionExecutionData(
+                instruction.getFullOpcodeId(),
+                rawArgs,
+                energyCost,
+                registerValuesBefore
+            );
+            organism.setLastInstructionExecution(executionData);
+        }
+
+        if (organism.getEr() <= 0) {
+            organism.kill("Ran out of energy");
+            return;
+        }
+
+        if (!organism.shouldSkipIpAdvance()) {
+            organism.advanceIpBy(instructionLength, this.environment);
+        }
+    }
+
+    private Map<Integer, Object> collectRegisterValuesBefore(Instruction instruction, Organism organism, List<Integer> rawArgs) {
         Map<Integer, Object> registerValuesBefore = new HashMap<>();
         Optional<InstructionSignature> signatureOpt = Instruction.getSignatureById(instruction.getFullOpcodeId());
         if (signatureOpt.isPresent()) {
             InstructionSignature signature = signatureOpt.get();
-            java.util.List<InstructionArgumentType> argTypes = signature.argumentTypes();
+            List<InstructionArgumentType> argTypes = signature.argumentTypes();
             int argIndex = 0;
             
             for (InstructionArgumentType argType : argTypes) {
@@ -131,40 +219,6 @@ public class VirtualMachine {
                 }
             }
         }
-        
-        // Track energy before execution to calculate total cost
-        int energyBefore = organism.getEr();
-        
-        organism.takeEr(instruction.getCost(organism, this.environment, rawArgs));
-
-        ExecutionContext context = new ExecutionContext(organism, this.environment, false); // Always run in debug mode
-        ProgramArtifact artifact = simulation.getProgramArtifacts().get(organism.getProgramId());
-        instruction.execute(context, artifact);
-
-        if (organism.isInstructionFailed()) {
-            organism.takeEr(Config.ERROR_PENALTY_COST);
-        }
-
-        // Calculate total energy cost
-        int energyAfter = organism.getEr();
-        int energyCost = energyBefore - energyAfter;
-
-        // Store instruction execution data for history tracking
-        Organism.InstructionExecutionData executionData = new Organism.InstructionExecutionData(
-            instruction.getFullOpcodeId(),
-            rawArgs,
-            energyCost,
-            registerValuesBefore
-        );
-        organism.setLastInstructionExecution(executionData);
-
-        if (organism.getEr() <= 0) {
-            organism.kill("Ran out of energy");
-            return;
-        }
-
-        if (!organism.shouldSkipIpAdvance()) {
-            organism.advanceIpBy(instruction.getLength(this.environment), this.environment);
-        }
+        return registerValuesBefore;
     }
-}
\ No newline at end of file
+}
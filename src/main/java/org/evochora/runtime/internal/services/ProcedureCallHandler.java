@@ -47,7 +47,7 @@ public class ProcedureCallHandler {
         Map<Integer, Integer> fprBindings = new HashMap<>();
         if (bindings != null) {
             for (int i = 0; i < bindings.length; i++) {
-                if (i < organism.getFprs().size()) {
+                if (i < organism.getFprView().size()) {
                     fprBindings.put(Instruction.FPR_BASE + i, bindings[i]);
                 }
             }
@@ -59,8 +59,8 @@ public class ProcedureCallHandler {
             returnIp = organism.getNextInstructionPosition(returnIp, organism.getDvBeforeFetch(), environment); // CORRECTED
         }
 
-        Object[] prsSnapshot = organism.getPrs().toArray();
-        Object[] fprsSnapshot = organism.getFprs().toArray();
+        Object[] prsSnapshot = organism.snapshotPrs();
+        Object[] fprsSnapshot = organism.snapshotFprs();
 
         String procName = "";
 
@@ -0,0 +1,324 @@
+package org.evochora.runtime.isa;
+
+import org.evochora.runtime.Config;
+import org.evochora.runtime.model.Environment;
+import org.evochora.runtime.model.Molecule;
+import org.evochora.runtime.model.Organism;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches decoded instructions per code cell, keyed by the flat index of the opcode cell.
+ * <p>
+ * Decoding an instruction means reading the opcode, locating the instruction family and
+ * fetching every argument cell along the direction vector. For the usual case of organisms
+ * executing unchanged code, the result of this work is identical every time the cell is
+ * executed, so an {@link Entry} stores the factory and the pre-resolved operand layout
+ * (register IDs, immediates and vector components) for the direction it was decoded with.
+ * <p>
+ * Entries are invalidated whenever a cell they cover is written. The cache registers itself
+ * as a cell write listener of the environment, and a write at a cell removes every entry whose
+ * opcode or argument cells might include it. An invalidated entry that was already attached to
+ * a planned instruction is flagged as such, so the instruction falls back to fetching its
+ * operands from the environment. This keeps the semantics of writes that happen earlier in the
+ * same tick.
+ * <p>
+ * <strong>Thread Safety:</strong> Lookups and insertions may happen concurrently during the plan
+ * phase. Entries are immutable apart from their validity flag, and a lost insertion race only
+ * costs a repeated decode. Invalidation happens from environment writes, which are never
+ * concurrent with the plan phase.
+ */
+public final class DecodedInstructionCache {
+
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final Environment environment;
+    private final int[] shape;
+    private final int[] strides;
+    private final boolean toroidal;
+    // Longest entry stored so far; bounds how far back a write can reach an opcode cell.
+    private volatile int maxStoredLength = 1;
+    private final AtomicReferenceArray<Entry[]> pages;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * A decoded instruction at a specific cell for a specific direction vector.
+     */
+    public static final class Entry {
+        private final int fullOpcodeId;
+        private final int[] dv;
+        private final int length;
+        private final Instruction.InstructionFactory factory;
+        private final Instruction.OperandSource[] sources;
+        private final int[] scalarOperands;
+        private final int[][] vectorOperands;
+        private volatile boolean valid = true;
+
+        private Entry(int fullOpcodeId, int[] dv, int length, Instruction.InstructionFactory factory,
+                      Instruction.OperandSource[] sources, int[] scalarOperands, int[][] vectorOperands) {
+            this.fullOpcodeId = fullOpcodeId;
+            this.dv = dv;
+            this.length = length;
+            this.factory = factory;
+            this.sources = sources;
+            this.scalarOperands = scalarOperands;
+            this.vectorOperands = vectorOperands;
+        }
+
+        /**
+         * @return The full opcode ID stored in the opcode cell.
+         */
+        public int getFullOpcodeId() {
+            return fullOpcodeId;
+        }
+
+        /**
+         * @return The number of cells the instruction occupies along its direction vector.
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * @return {@code true} until a cell covered by this entry is written.
+         */
+        public boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * Resolves the operands from the pre-decoded layout. Registers are read at call time and
+         * vectors are copied, so the result is equivalent to fetching from the environment.
+         *
+         * @param instruction The instruction whose operands are resolved.
+         * @return The resolved operands.
+         */
+        List<Instruction.Operand> resolveOperands(Instruction instruction) {
+            List<Instruction.Operand> resolved = new ArrayList<>(sources.length);
+            for (int i = 0; i < sources.length; i++) {
+                switch (sources[i]) {
+                    case STACK -> resolved.add(new Instruction.Operand(instruction.organism.getDataStack().pop(), -1));
+                    case REGISTER -> resolved.add(new Instruction.Operand(instruction.readOperand(scalarOperands[i]), scalarOperands[i]));
+                    case IMMEDIATE -> resolved.add(new Instruction.Operand(scalarOperands[i], -1));
+                    case VECTOR, LABEL -> resolved.add(new Instruction.Operand(vectorOperands[i].clone(), -1));
+                    case LOCATION_REGISTER -> resolved.add(new Instruction.Operand(null, scalarOperands[i]));
+                }
+            }
+            return resolved;
+        }
+    }
+
+    /**
+     * Creates a cache for the given environment and registers it as a cell write listener.
+     *
+     * @param environment The environment whose code cells are cached.
+     */
+    public DecodedInstructionCache(Environment environment) {
+        this.environment = environment;
+        this.shape = environment.getShape();
+        this.toroidal = environment.properties.isToroidal();
+        this.strides = new int[shape.length];
+        int stride = 1;
+        for (int i = shape.length - 1; i >= 0; i--) {
+            strides[i] = stride;
+            stride *= shape[i];
+        }
+        this.pages = new AtomicReferenceArray<>((stride + PAGE_SIZE - 1) >>> PAGE_BITS);
+        environment.addCellWriteListener(this::invalidateCell);
+    }
+
+    /**
+     * Plans the instruction at the organism's IP from the cache. Must be called after
+     * {@link Organism#resetTickState()}.
+     *
+     * @param organism The organism to plan for.
+     * @param ipIndex The flat index of the organism's IP.
+     * @return The planned instruction, or {@code null} if the cell has no valid entry for the
+     *         organism's direction vector.
+     */
+    public Instruction plan(Organism organism, int ipIndex) {
+        Entry[] page = pages.get(ipIndex >>> PAGE_BITS);
+        Entry entry = page != null ? page[ipIndex & PAGE_MASK] : null;
+        if (entry == null || !entry.valid || !organism.isDvBeforeFetch(entry.dv)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        Instruction instruction = entry.factory.create(organism, entry.fullOpcodeId);
+        instruction.decoded = entry;
+        return instruction;
+    }
+
+    /**
+     * Decodes the instruction at the organism's IP and stores it for later ticks. Cells that are
+     * not CODE, unknown opcodes and instructions reaching beyond the edge of a bounded world are
+     * not cached.
+     *
+     * @param organism The organism that is about to execute the cell.
+     * @param ipIndex The flat index of the organism's IP.
+     * @param instruction The instruction planned without the cache; receives the new entry.
+     */
+    public void store(Organism organism, int ipIndex, Instruction instruction) {
+        int fullOpcodeId = instruction.getFullOpcodeId();
+        Instruction.InstructionFactory factory = Instruction.getFactoryById(fullOpcodeId);
+        Instruction.OperandSource[] sources = Instruction.operandSourcesById(fullOpcodeId);
+        if (factory == null || sources == null || Molecule.fromInt(fullOpcodeId).type() != Config.TYPE_CODE) {
+            return;
+        }
+
+        int[] dv = organism.getDvBeforeFetch();
+        if (!isUnitVector(dv)) {
+            // Invalidation only looks along the axes, so diagonal layouts are never cached.
+            return;
+        }
+        int[] position = organism.getIpBeforeFetch();
+        int[] scalarOperands = new int[sources.length];
+        int[][] vectorOperands = new int[sources.length][];
+        int length = 1;
+        for (int i = 0; i < sources.length; i++) {
+            Instruction.OperandSource source = sources[i];
+            if (source == Instruction.OperandSource.STACK) {
+                continue;
+            }
+            boolean vector = source == Instruction.OperandSource.VECTOR || source == Instruction.OperandSource.LABEL;
+            int components = vector ? shape.length : 1;
+            int[] values = new int[components];
+            for (int c = 0; c < components; c++) {
+                environment.properties.advance(position, dv);
+                int index = environment.getFlatIndex(position);
+                if (index < 0) {
+                    return;
+                }
+                Molecule molecule = Molecule.fromInt(environment.getMoleculeInt(index));
+                values[c] = vector ? molecule.toScalarValue() : molecule.toInt();
+                length++;
+            }
+            if (vector) {
+                vectorOperands[i] = values;
+            } else if (source == Instruction.OperandSource.IMMEDIATE) {
+                scalarOperands[i] = values[0];
+            } else {
+                scalarOperands[i] = Molecule.fromInt(values[0]).toScalarValue();
+            }
+        }
+
+        Entry entry = new Entry(fullOpcodeId, dv, length, factory, sources, scalarOperands, vectorOperands);
+        int pageIndex = ipIndex >>> PAGE_BITS;
+        Entry[] page = pages.get(pageIndex);
+        if (page == null) {
+            Entry[] created = new Entry[PAGE_SIZE];
+            page = pages.compareAndSet(pageIndex, null, created) ? created : pages.get(pageIndex);
+        }
+        if (length > maxStoredLength) {
+            maxStoredLength = length;
+        }
+        page[ipIndex & PAGE_MASK] = entry;
+        instruction.decoded = entry;
+    }
+
+    private static boolean isUnitVector(int[] vector) {
+        int sum = 0;
+        for (int component : vector) {
+            sum += Math.abs(component);
+        }
+        return sum == 1;
+    }
+
+    /**
+     * Invalidates all entries that may cover the given cell: the entry of the cell itself and the
+     * entries of every cell from which an instruction running along an axis could reach it.
+     *
+     * @param index The flat index of the written cell.
+     */
+    void invalidateCell(int index) {
+        invalidateEntry(index, -1, 0, 0);
+        int maxLength = maxStoredLength;
+        for (int axis = 0; axis < shape.length; axis++) {
+            int coordinate = (index / strides[axis]) % shape[axis];
+            for (int sign = -1; sign <= 1; sign += 2) {
+                for (int k = 1; k < maxLength; k++) {
+                    int head = coordinate - sign * k;
+                    if (toroidal) {
+                        head = Math.floorMod(head, shape[axis]);
+                    } else if (head < 0 || head >= shape[axis]) {
+                        break;
+                    }
+                    invalidateEntry(index + (head - coordinate) * strides[axis], axis, sign, k);
+                }
+            }
+        }
+    }
+
+    private void invalidateEntry(int headIndex, int axis, int sign, int distance) {
+        Entry[] page = pages.get(headIndex >>> PAGE_BITS);
+        if (page == null) {
+            return;
+        }
+        int slot = headIndex & PAGE_MASK;
+        Entry entry = page[slot];
+        if (entry == null) {
+            return;
+        }
+        // The head cell itself is always covered; otherwise only entries decoded along this axis
+        // and direction that are long enough to reach the written cell.
+        if (axis >= 0 && (entry.dv[axis] != sign || distance >= entry.length)) {
+            return;
+        }
+        entry.valid = false;
+        page[slot] = null;
+        invalidations.increment();
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        for (int i = 0; i < pages.length(); i++) {
+            Entry[] page = pages.get(i);
+            if (page != null) {
+                for (Entry entry : page) {
+                    if (entry != null) {
+                        entry.valid = false;
+                    }
+                }
+                pages.set(i, null);
+            }
+        }
+    }
+
+    /**
+     * @return The number of plans served from the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of plans that had to decode from the environment.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of entries removed because a covered cell was written.
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "DecodedInstructionCache{hits=" + getHits() + ", misses=" + getMisses()
+                + ", invalidations=" + getInvalidations() + ", shape=" + Arrays.toString(shape) + "}";
+    }
+}
@@ -10,7 +10,6 @@ import org.evochora.runtime.model.Environment;
 import org.evochora.runtime.model.Molecule;
 import org.evochora.runtime.model.Organism;
 
-import java.lang.reflect.Constructor;
 import java.util.*;
 import java.util.function.BiFunction;
 
@@ -36,14 +35,23 @@ public abstract class Instruction {
      */
     public record Operand(Object value, int rawSourceId) {}
 
-    // Runtime Registries
-    private static final Map<Integer, Class<? extends Instruction>> REGISTERED_INSTRUCTIONS_BY_ID = new HashMap<>();
-    private static final Map<String, Integer> NAME_TO_ID = new HashMap<>();
-    private static final Map<Integer, String> ID_TO_NAME = new HashMap<>();
-    private static final Map<Integer, Integer> ID_TO_LENGTH = new HashMap<>();
-    private static final Map<Integer, BiFunction<Organism, Environment, Instruction>> REGISTERED_PLANNERS_BY_ID = new HashMap<>();
-    protected static final Map<Integer, List<OperandSource>> OPERAND_SOURCES = new HashMap<>();
-    private static final Map<Integer, InstructionSignature> SIGNATURES_BY_ID = new HashMap<>();
+    /**
+     * Creates an instruction instance for an already decoded opcode.
+     */
+    @FunctionalInterface
+    public interface InstructionFactory {
+        /**
+         * @param organism The organism executing the instruction.
+         * @param fullOpcodeId The full opcode ID of the instruction.
+         * @return The new instruction.
+         */
+        Instruction create(Organism organism, int fullOpcodeId);
+    }
+
+    // Runtime Registry: compiled by init() and replaced as a whole. The table is immutable with
+    // final fields only, so readers always see a fully built table without synchronization.
+    private static OpcodeTable opcodeTable = OpcodeTable.EMPTY;
+    private static OpcodeTable.Builder registration;
 
     /**
      * Base address for procedure registers.
@@ -64,6 +72,9 @@ public abstract class Instruction {
         this.fullOpcodeId = fullOpcodeId;
     }
 
+    // Pre-decoded operand layout of the opcode cell, attached by the DecodedInstructionCache.
+    DecodedInstructionCache.Entry decoded;
+
     /**
      * Reads an operand's value from the organism.
      * @param id The ID of the operand to read.
@@ -89,11 +100,16 @@ public abstract class Instruction {
      * @return A list of resolved operands.
      */
     public List<Operand> resolveOperands(Environment environment) {
-        List<Operand> resolved = new ArrayList<>();
-        List<OperandSource> sources = OPERAND_SOURCES.get(fullOpcodeId);
-        if (sources == null) return resolved;
+        if (decoded != null && decoded.isValid()) {
+            return decoded.resolveOperands(this);
+        }
+        OperandSource[] sources = opcodeTable.operandSources(fullOpcodeId);
+        if (sources == null) return new ArrayList<>();
+        List<Operand> resolved = new ArrayList<>(sources.length);
 
-        int[] currentIp = organism.getIpBeforeFetch();
+        // Walk the argument cells with a single scratch position instead of a new array per step.
+        int[] position = organism.getIpBeforeFetch();
+        int[] dv = organism.getDvBeforeFetch();
 
         for (OperandSource source : sources) {
             switch (source) {
@@ -102,46 +118,27 @@ public abstract class Instruction {
                     resolved.add(new Operand(val, -1));
                     break;
                 case REGISTER: {
-                    Organism.FetchResult arg = organism.fetchArgument(currentIp, environment);
-                    int regId = Molecule.fromInt(arg.value()).toScalarValue();
+                    int regId = Molecule.fromInt(fetchNext(environment, position, dv)).toScalarValue();
                     resolved.add(new Operand(readOperand(regId), regId));
-                    currentIp = arg.nextIp();
                     break;
                 }
-                case IMMEDIATE: {
-                    Organism.FetchResult arg = organism.fetchArgument(currentIp, environment);
-                    resolved.add(new Operand(arg.value(), -1));
-                    currentIp = arg.nextIp();
+                case IMMEDIATE:
+                    resolved.add(new Operand(fetchNext(environment, position, dv), -1));
                     break;
-                }
-                case VECTOR: {
-                    int dims = environment.getShape().length;
+                case VECTOR:
+                case LABEL: {
+                    int dims = environment.properties.getDimensions();
                     int[] vec = new int[dims];
-                    for(int i=0; i<dims; i++) {
-                        Organism.FetchResult res = organism.fetchSignedArgument(currentIp, environment);
-                        vec[i] = res.value();
-                        currentIp = res.nextIp();
+                    for (int i = 0; i < dims; i++) {
+                        vec[i] = Molecule.fromInt(fetchNext(environment, position, dv)).toScalarValue();
                     }
                     resolved.add(new Operand(vec, -1));
                     break;
                 }
-                case LABEL: {
-                    int dims = environment.getShape().length;
-                    int[] delta = new int[dims];
-                    for(int i=0; i<dims; i++) {
-                        Organism.FetchResult res = organism.fetchSignedArgument(currentIp, environment);
-                        delta[i] = res.value();
-                        currentIp = res.nextIp();
-                    }
-                    resolved.add(new Operand(delta, -1));
-                    break;
-                }
                 case LOCATION_REGISTER: {
-                    Organism.FetchResult arg = organism.fetchArgument(currentIp, environment);
-                    int regId = Molecule.fromInt(arg.value()).toScalarValue();
+                    int regId = Molecule.fromInt(fetchNext(environment, position, dv)).toScalarValue();
                     // LOCATION_REGISTER operands use rawSourceId() directly (no readOperand)
                     resolved.add(new Operand(null, regId)); // Value resolved in LocationInstruction
-                    currentIp = arg.nextIp();
                     break;
                 }
             }
@@ -149,6 +146,11 @@ public abstract class Instruction {
         return resolved;
     }
 
+    private static int fetchNext(Environment environment, int[] position, int[] dv) {
+        environment.properties.advance(position, dv);
+        return environment.getMoleculeIntAt(position);
+    }
+
     /**
      * Executes the instruction.
      * @param context The execution context.
@@ -160,7 +162,8 @@ public abstract class Instruction {
      * Gets the energy cost of executing this instruction.
      * @param organism The organism executing the instruction.
      * @param environment The environment.
-     * @param rawArguments The raw arguments of the instruction.
+     * @param rawArguments The raw arguments of the instruction. Empty when the VM does not collect
+     *                     execution data for this tick, see {@link org.evochora.runtime.Simulation#isExecutionDataCollected()}.
      * @return The energy cost.
      */
     public int getCost(Organism organism, Environment environment, List<Integer> rawArguments) {
@@ -168,219 +171,209 @@ public abstract class Instruction {
     }
 
     /**
-     * Initializes the instruction set by registering all instruction families.
+     * Checks whether this instruction only touches the state of its own organism.
+     * <p>
+     * An organism-local instruction reads nothing from the environment except its own
+     * opcode and argument cells, writes nothing to the environment and does not interact
+     * with the simulation (e.g. by creating organisms). Such instructions commute with
+     * every other instruction of the same tick and may therefore be executed concurrently.
+     * <p>
+     * Defaults to {@code false}; families that never touch shared state override this.
+     *
+     * @return true if the instruction is organism-local, false otherwise.
+     */
+    public boolean isOrganismLocal() {
+        return false;
+    }
+
+    /**
+     * Initializes the instruction set by registering all instruction families and compiling them
+     * into the dense dispatch table used at runtime. Calling this method again rebuilds the table.
      */
-    public static void init() {
+    public static synchronized void init() {
+        registration = new OpcodeTable.Builder();
         // Arithmetic-Family
-        registerFamily(ArithmeticInstruction.class, Map.of(4, "ADDR", 6, "SUBR", 40, "MULR", 42, "DIVR", 44, "MODR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(ArithmeticInstruction.class, Map.of(30, "ADDI", 31, "SUBI", 41, "MULI", 43, "DIVI", 45, "MODI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
-        registerFamily(ArithmeticInstruction.class, Map.of(70, "ADDS", 71, "SUBS", 72, "MULS", 73, "DIVS", 74, "MODS"), List.of(OperandSource.STACK, OperandSource.STACK));
+        registerFamily(ArithmeticInstruction::new, Map.of(4, "ADDR", 6, "SUBR", 40, "MULR", 42, "DIVR", 44, "MODR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(ArithmeticInstruction::new, Map.of(30, "ADDI", 31, "SUBI", 41, "MULI", 43, "DIVI", 45, "MODI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
+        registerFamily(ArithmeticInstruction::new, Map.of(70, "ADDS", 71, "SUBS", 72, "MULS", 73, "DIVS", 74, "MODS"), List.of(OperandSource.STACK, OperandSource.STACK));
 
         // Bitwise-Family
-        registerFamily(BitwiseInstruction.class, Map.of(5, "NADR", 46, "ANDR", 48, "ORR", 50, "XORR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(BitwiseInstruction.class, Map.of(32, "NADI", 47, "ANDI", 49, "ORI", 51, "XORI", 53, "SHLI", 54, "SHRI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
-        registerFamily(BitwiseInstruction.class, Map.of(78, "NADS", 75, "ANDS", 76, "ORS", 77, "XORS", 80, "SHLS", 81, "SHRS"), List.of(OperandSource.STACK, OperandSource.STACK));
+        registerFamily(BitwiseInstruction::new, Map.of(5, "NADR", 46, "ANDR", 48, "ORR", 50, "XORR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(BitwiseInstruction::new, Map.of(32, "NADI", 47, "ANDI", 49, "ORI", 51, "XORI", 53, "SHLI", 54, "SHRI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
+        registerFamily(BitwiseInstruction::new, Map.of(78, "NADS", 75, "ANDS", 76, "ORS", 77, "XORS", 80, "SHLS", 81, "SHRS"), List.of(OperandSource.STACK, OperandSource.STACK));
         // New register shift variants
-        registerFamily(BitwiseInstruction.class, Map.of(103, "SHLR", 104, "SHRR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(BitwiseInstruction.class, Map.of(52, "NOT"), List.of(OperandSource.REGISTER));
-        registerFamily(BitwiseInstruction.class, Map.of(79, "NOTS"), List.of(OperandSource.STACK));
+        registerFamily(BitwiseInstruction::new, Map.of(103, "SHLR", 104, "SHRR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(BitwiseInstruction::new, Map.of(52, "NOT"), List.of(OperandSource.REGISTER));
+        registerFamily(BitwiseInstruction::new, Map.of(79, "NOTS"), List.of(OperandSource.STACK));
 
         // New: Rotate (ROT), Population Count (PCN), Bit Scan N-th (BSN)
         // Allocate new IDs beyond current max (>=134)
-        registerFamily(BitwiseInstruction.class, Map.of(135, "ROTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(BitwiseInstruction.class, Map.of(136, "ROTI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
-        registerFamily(BitwiseInstruction.class, Map.of(137, "ROTS"), List.of(OperandSource.STACK, OperandSource.STACK));
+        registerFamily(BitwiseInstruction::new, Map.of(135, "ROTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(BitwiseInstruction::new, Map.of(136, "ROTI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
+        registerFamily(BitwiseInstruction::new, Map.of(137, "ROTS"), List.of(OperandSource.STACK, OperandSource.STACK));
 
-        registerFamily(BitwiseInstruction.class, Map.of(138, "PCNR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(BitwiseInstruction.class, Map.of(139, "PCNS"), List.of(OperandSource.STACK));
+        registerFamily(BitwiseInstruction::new, Map.of(138, "PCNR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(BitwiseInstruction::new, Map.of(139, "PCNS"), List.of(OperandSource.STACK));
 
-        registerFamily(BitwiseInstruction.class, Map.of(140, "BSNR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(BitwiseInstruction.class, Map.of(141, "BSNI"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.IMMEDIATE));
-        registerFamily(BitwiseInstruction.class, Map.of(142, "BSNS"), List.of(OperandSource.STACK, OperandSource.STACK));
+        registerFamily(BitwiseInstruction::new, Map.of(140, "BSNR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(BitwiseInstruction::new, Map.of(141, "BSNI"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.IMMEDIATE));
+        registerFamily(BitwiseInstruction::new, Map.of(142, "BSNS"), List.of(OperandSource.STACK, OperandSource.STACK));
 
         // Data-Family
-        registerFamily(DataInstruction.class, Map.of(1, "SETI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
-        registerFamily(DataInstruction.class, Map.of(2, "SETR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(DataInstruction.class, Map.of(3, "SETV"), List.of(OperandSource.REGISTER, OperandSource.VECTOR));
-        registerFamily(DataInstruction.class, Map.of(22, "PUSH"), List.of(OperandSource.REGISTER));
-        registerFamily(DataInstruction.class, Map.of(23, "POP"), List.of(OperandSource.REGISTER));
-        registerFamily(DataInstruction.class, Map.of(58, "PUSI"), List.of(OperandSource.IMMEDIATE));
-        registerFamily(DataInstruction.class, Map.of(178, "PUSV"), List.of(OperandSource.VECTOR));
+        registerFamily(DataInstruction::new, Map.of(1, "SETI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
+        registerFamily(DataInstruction::new, Map.of(2, "SETR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(DataInstruction::new, Map.of(3, "SETV"), List.of(OperandSource.REGISTER, OperandSource.VECTOR));
+        registerFamily(DataInstruction::new, Map.of(22, "PUSH"), List.of(OperandSource.REGISTER));
+        registerFamily(DataInstruction::new, Map.of(23, "POP"), List.of(OperandSource.REGISTER));
+        registerFamily(DataInstruction::new, Map.of(58, "PUSI"), List.of(OperandSource.IMMEDIATE));
+        registerFamily(DataInstruction::new, Map.of(178, "PUSV"), List.of(OperandSource.VECTOR));
 
         // Stack-Family
-        registerFamily(StackInstruction.class, Map.of(60, "DUP", 61, "SWAP", 62, "DROP", 63, "ROT"), List.of());
+        registerFamily(StackInstruction::new, Map.of(60, "DUP", 61, "SWAP", 62, "DROP", 63, "ROT"), List.of());
 
         // Conditional-Family
-        registerFamily(ConditionalInstruction.class, Map.of(7, "IFR", 8, "LTR", 9, "GTR", 33, "IFTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(ConditionalInstruction.class, Map.of(24, "IFI", 25, "LTI", 26, "GTI", 29, "IFTI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
-        registerFamily(ConditionalInstruction.class, Map.of(85, "IFS", 86, "GTS", 87, "LTS", 88, "IFTS"), List.of(OperandSource.STACK, OperandSource.STACK));
-        registerFamily(ConditionalInstruction.class, Map.of(93, "IFMR"), List.of(OperandSource.REGISTER));
-        registerFamily(ConditionalInstruction.class, Map.of(94, "IFMI"), List.of(OperandSource.VECTOR));
-        registerFamily(ConditionalInstruction.class, Map.of(95, "IFMS"), List.of(OperandSource.STACK));
-        registerFamily(ConditionalInstruction.class, Map.of(182, "IFPR"), List.of(OperandSource.REGISTER));
-        registerFamily(ConditionalInstruction.class, Map.of(183, "IFPI"), List.of(OperandSource.VECTOR));
-        registerFamily(ConditionalInstruction.class, Map.of(184, "IFPS"), List.of(OperandSource.STACK));
+        registerFamily(ConditionalInstruction::new, Map.of(7, "IFR", 8, "LTR", 9, "GTR", 33, "IFTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(ConditionalInstruction::new, Map.of(24, "IFI", 25, "LTI", 26, "GTI", 29, "IFTI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
+        registerFamily(ConditionalInstruction::new, Map.of(85, "IFS", 86, "GTS", 87, "LTS", 88, "IFTS"), List.of(OperandSource.STACK, OperandSource.STACK));
+        registerFamily(ConditionalInstruction::new, Map.of(93, "IFMR"), List.of(OperandSource.REGISTER));
+        registerFamily(ConditionalInstruction::new, Map.of(94, "IFMI"), List.of(OperandSource.VECTOR));
+        registerFamily(ConditionalInstruction::new, Map.of(95, "IFMS"), List.of(OperandSource.STACK));
+        registerFamily(ConditionalInstruction::new, Map.of(182, "IFPR"), List.of(OperandSource.REGISTER));
+        registerFamily(ConditionalInstruction::new, Map.of(183, "IFPI"), List.of(OperandSource.VECTOR));
+        registerFamily(ConditionalInstruction::new, Map.of(184, "IFPS"), List.of(OperandSource.STACK));
 
         // Negated Conditional-Family
-        registerFamily(ConditionalInstruction.class, Map.of(163, "INR", 164, "GETR", 165, "LETR", 166, "INTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(ConditionalInstruction.class, Map.of(167, "GETI", 168, "LETI", 169, "INTI", 170, "INI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
-        registerFamily(ConditionalInstruction.class, Map.of(171, "INS", 172, "GETS", 173, "LETS", 174, "INTS"), List.of(OperandSource.STACK, OperandSource.STACK));
-        registerFamily(ConditionalInstruction.class, Map.of(175, "INMR"), List.of(OperandSource.REGISTER));
-        registerFamily(ConditionalInstruction.class, Map.of(176, "INMI"), List.of(OperandSource.VECTOR));
-        registerFamily(ConditionalInstruction.class, Map.of(177, "INMS"), List.of(OperandSource.STACK));
-        registerFamily(ConditionalInstruction.class, Map.of(185, "INPR"), List.of(OperandSource.REGISTER));
-        registerFamily(ConditionalInstruction.class, Map.of(186, "INPI"), List.of(OperandSource.VECTOR));
-        registerFamily(ConditionalInstruction.class, Map.of(187, "INPS"), List.of(OperandSource.STACK));
+        registerFamily(ConditionalInstruction::new, Map.of(163, "INR", 164, "GETR", 165, "LETR", 166, "INTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(ConditionalInstruction::new, Map.of(167, "GETI", 168, "LETI", 169, "INTI", 170, "INI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
+        registerFamily(ConditionalInstruction::new, Map.of(171, "INS", 172, "GETS", 173, "LETS", 174, "INTS"), List.of(OperandSource.STACK, OperandSource.STACK));
+        registerFamily(ConditionalInstruction::new, Map.of(175, "INMR"), List.of(OperandSource.REGISTER));
+        registerFamily(ConditionalInstruction::new, Map.of(176, "INMI"), List.of(OperandSource.VECTOR));
+        registerFamily(ConditionalInstruction::new, Map.of(177, "INMS"), List.of(OperandSource.STACK));
+        registerFamily(ConditionalInstruction::new, Map.of(185, "INPR"), List.of(OperandSource.REGISTER));
+        registerFamily(ConditionalInstruction::new, Map.of(186, "INPI"), List.of(OperandSource.VECTOR));
+        registerFamily(ConditionalInstruction::new, Map.of(187, "INPS"), List.of(OperandSource.STACK));
 
         // ControlFlow-Family
-        registerFamily(ControlFlowInstruction.class, Map.of(20, "JMPI", 34, "CALL"), List.of(OperandSource.LABEL));
-        registerFamily(ControlFlowInstruction.class, Map.of(10, "JMPR"), List.of(OperandSource.REGISTER));
-        registerFamily(ControlFlowInstruction.class, Map.of(89, "JMPS"), List.of(OperandSource.STACK));
-        registerFamily(ControlFlowInstruction.class, Map.of(35, "RET"), List.of());
+        registerFamily(ControlFlowInstruction::new, Map.of(20, "JMPI", 34, "CALL"), List.of(OperandSource.LABEL));
+        registerFamily(ControlFlowInstruction::new, Map.of(10, "JMPR"), List.of(OperandSource.REGISTER));
+        registerFamily(ControlFlowInstruction::new, Map.of(89, "JMPS"), List.of(OperandSource.STACK));
+        registerFamily(ControlFlowInstruction::new, Map.of(35, "RET"), List.of());
 
         // WorldInteraction (POKE & PEEK)
-        registerFamily(EnvironmentInteractionInstruction.class, Map.of(15, "POKE", 14, "PEEK"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(EnvironmentInteractionInstruction.class, Map.of(57, "POKI", 56, "PEKI"), List.of(OperandSource.REGISTER, OperandSource.VECTOR));
-        registerFamily(EnvironmentInteractionInstruction.class, Map.of(91, "POKS"), List.of(OperandSource.STACK, OperandSource.STACK));
-        registerFamily(EnvironmentInteractionInstruction.class, Map.of(90, "PEKS"), List.of(OperandSource.STACK));
+        registerFamily(EnvironmentInteractionInstruction::new, Map.of(15, "POKE", 14, "PEEK"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(EnvironmentInteractionInstruction::new, Map.of(57, "POKI", 56, "PEKI"), List.of(OperandSource.REGISTER, OperandSource.VECTOR));
+        registerFamily(EnvironmentInteractionInstruction::new, Map.of(91, "POKS"), List.of(OperandSource.STACK, OperandSource.STACK));
+        registerFamily(EnvironmentInteractionInstruction::new, Map.of(90, "PEKS"), List.of(OperandSource.STACK));
         // Combined PEEK+POKE instructions
-        registerFamily(EnvironmentInteractionInstruction.class, Map.of(179, "PPKR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(EnvironmentInteractionInstruction.class, Map.of(180, "PPKI"), List.of(OperandSource.REGISTER, OperandSource.VECTOR));
-        registerFamily(EnvironmentInteractionInstruction.class, Map.of(181, "PPKS"), List.of(OperandSource.STACK, OperandSource.STACK));
+        registerFamily(EnvironmentInteractionInstruction::new, Map.of(179, "PPKR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(EnvironmentInteractionInstruction::new, Map.of(180, "PPKI"), List.of(OperandSource.REGISTER, OperandSource.VECTOR));
+        registerFamily(EnvironmentInteractionInstruction::new, Map.of(181, "PPKS"), List.of(OperandSource.STACK, OperandSource.STACK));
 
         // State (SCAN, SEEK & Rest)
-        registerFamily(StateInstruction.class, Map.of(16, "SCAN"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(StateInstruction.class, Map.of(82, "SCNI"), List.of(OperandSource.REGISTER, OperandSource.VECTOR));
-        registerFamily(StateInstruction.class, Map.of(83, "SCNS"), List.of(OperandSource.STACK));
+        registerFamily(StateInstruction::new, Map.of(16, "SCAN"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(StateInstruction::new, Map.of(82, "SCNI"), List.of(OperandSource.REGISTER, OperandSource.VECTOR));
+        registerFamily(StateInstruction::new, Map.of(83, "SCNS"), List.of(OperandSource.STACK));
         // New: SPNP (Scan Passable Neighbors): SPNR/SPNS
-        registerFamily(StateInstruction.class, Map.of(152, "SPNR"), List.of(OperandSource.REGISTER));
-        registerFamily(StateInstruction.class, Map.of(153, "SPNS"), List.of());
+        registerFamily(StateInstruction::new, Map.of(152, "SPNR"), List.of(OperandSource.REGISTER));
+        registerFamily(StateInstruction::new, Map.of(153, "SPNS"), List.of());
         // New: SNT* (Scan Neighbors by Type): SNTR/SNTI/SNTS
-        registerFamily(StateInstruction.class, Map.of(154, "SNTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(StateInstruction.class, Map.of(155, "SNTI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
-        registerFamily(StateInstruction.class, Map.of(156, "SNTS"), List.of(OperandSource.STACK));
-        registerFamily(StateInstruction.class, Map.of(12, "SEEK"), List.of(OperandSource.REGISTER));
-        registerFamily(StateInstruction.class, Map.of(59, "SEKI"), List.of(OperandSource.VECTOR));
-        registerFamily(StateInstruction.class, Map.of(84, "SEKS"), List.of(OperandSource.STACK));
-        registerFamily(StateInstruction.class, Map.of(11, "TURN", 17, "NRG", 19, "DIFF", 21, "POS", 55, "RAND"), List.of(OperandSource.REGISTER));
-        registerFamily(StateInstruction.class, Map.of(18, "FORK"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(StateInstruction.class, Map.of(13, "SYNC", 92, "NRGS"), List.of());
+        registerFamily(StateInstruction::new, Map.of(154, "SNTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(StateInstruction::new, Map.of(155, "SNTI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
+        registerFamily(StateInstruction::new, Map.of(156, "SNTS"), List.of(OperandSource.STACK));
+        registerFamily(StateInstruction::new, Map.of(12, "SEEK"), List.of(OperandSource.REGISTER));
+        registerFamily(StateInstruction::new, Map.of(59, "SEKI"), List.of(OperandSource.VECTOR));
+        registerFamily(StateInstruction::new, Map.of(84, "SEKS"), List.of(OperandSource.STACK));
+        registerFamily(StateInstruction::new, Map.of(11, "TURN", 17, "NRG", 19, "DIFF", 21, "POS", 55, "RAND"), List.of(OperandSource.REGISTER));
+        registerFamily(StateInstruction::new, Map.of(18, "FORK"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(StateInstruction::new, Map.of(13, "SYNC", 92, "NRGS"), List.of());
         // New: TRNI, TRNS, POSS, DIFS (allocate new IDs > current max 95?)
-        registerFamily(StateInstruction.class, Map.of(96, "TRNI"), List.of(OperandSource.VECTOR));
-        registerFamily(StateInstruction.class, Map.of(97, "TRNS"), List.of());
-        registerFamily(StateInstruction.class, Map.of(98, "POSS"), List.of());
-        registerFamily(StateInstruction.class, Map.of(99, "DIFS"), List.of());
+        registerFamily(StateInstruction::new, Map.of(96, "TRNI"), List.of(OperandSource.VECTOR));
+        registerFamily(StateInstruction::new, Map.of(97, "TRNS"), List.of());
+        registerFamily(StateInstruction::new, Map.of(98, "POSS"), List.of());
+        registerFamily(StateInstruction::new, Map.of(99, "DIFS"), List.of());
         // New: RNDS (pops from stack in handler)
-        registerFamily(StateInstruction.class, Map.of(105, "RNDS"), List.of());
+        registerFamily(StateInstruction::new, Map.of(105, "RNDS"), List.of());
         // New: Active DP selection ADPR/ADPI/ADPS
-        registerFamily(StateInstruction.class, Map.of(100, "ADPR"), List.of(OperandSource.REGISTER));
-        registerFamily(StateInstruction.class, Map.of(101, "ADPI"), List.of(OperandSource.IMMEDIATE));
-        registerFamily(StateInstruction.class, Map.of(102, "ADPS"), List.of());
+        registerFamily(StateInstruction::new, Map.of(100, "ADPR"), List.of(OperandSource.REGISTER));
+        registerFamily(StateInstruction::new, Map.of(101, "ADPI"), List.of(OperandSource.IMMEDIATE));
+        registerFamily(StateInstruction::new, Map.of(102, "ADPS"), List.of());
         // New: FRKI and FRKS
-        registerFamily(StateInstruction.class, Map.of(106, "FRKI"), List.of(OperandSource.VECTOR, OperandSource.IMMEDIATE, OperandSource.VECTOR));
-        registerFamily(StateInstruction.class, Map.of(107, "FRKS"), List.of());
+        registerFamily(StateInstruction::new, Map.of(106, "FRKI"), List.of(OperandSource.VECTOR, OperandSource.IMMEDIATE, OperandSource.VECTOR));
+        registerFamily(StateInstruction::new, Map.of(107, "FRKS"), List.of());
 
         // NOP
-        registerFamily(NopInstruction.class, Map.of(0, "NOP"), List.of());
+        registerFamily(NopInstruction::new, Map.of(0, "NOP"), List.of());
 
         // Arithmetic extensions: DOT and CRS
-        registerFamily(ArithmeticInstruction.class, Map.of(108, "DOTR", 109, "CRSR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(ArithmeticInstruction.class, Map.of(110, "DOTS", 111, "CRSS"), List.of(OperandSource.STACK, OperandSource.STACK));
+        registerFamily(ArithmeticInstruction::new, Map.of(108, "DOTR", 109, "CRSR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(ArithmeticInstruction::new, Map.of(110, "DOTS", 111, "CRSS"), List.of(OperandSource.STACK, OperandSource.STACK));
 
         // Location instruction family registrations
-        registerFamily(LocationInstruction.class, Map.of(112, "DUPL", 113, "SWPL", 114, "DRPL", 115, "ROTL", 116, "DPLS", 117, "SKLS", 122, "LSDS"), List.of());
-        registerFamily(LocationInstruction.class, Map.of(118, "DPLR", 120, "SKLR", 121, "PUSL", 123, "LRDS", 125, "POPL", 191, "CRLR"), List.of(OperandSource.LOCATION_REGISTER));
-        registerFamily(LocationInstruction.class, Map.of(190, "LRLR"), List.of(OperandSource.LOCATION_REGISTER, OperandSource.LOCATION_REGISTER));
-        registerFamily(LocationInstruction.class, Map.of(124, "LRDR"), List.of(OperandSource.REGISTER, OperandSource.LOCATION_REGISTER));
-        registerFamily(LocationInstruction.class, Map.of(126, "LSDR"), List.of(OperandSource.REGISTER));
+        registerFamily(LocationInstruction::new, Map.of(112, "DUPL", 113, "SWPL", 114, "DRPL", 115, "ROTL", 116, "DPLS", 117, "SKLS", 122, "LSDS"), List.of());
+        registerFamily(LocationInstruction::new, Map.of(118, "DPLR", 120, "SKLR", 121, "PUSL", 123, "LRDS", 125, "POPL", 191, "CRLR"), List.of(OperandSource.LOCATION_REGISTER));
+        registerFamily(LocationInstruction::new, Map.of(190, "LRLR"), List.of(OperandSource.LOCATION_REGISTER, OperandSource.LOCATION_REGISTER));
+        registerFamily(LocationInstruction::new, Map.of(124, "LRDR"), List.of(OperandSource.REGISTER, OperandSource.LOCATION_REGISTER));
+        registerFamily(LocationInstruction::new, Map.of(126, "LSDR"), List.of(OperandSource.REGISTER));
 
         // Vector Manipulation Instruction Family
-        registerFamily(VectorInstruction.class, Map.of(127, "VGTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(VectorInstruction.class, Map.of(128, "VGTI"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.IMMEDIATE));
-        registerFamily(VectorInstruction.class, Map.of(129, "VGTS"), List.of()); // Operands from stack
-        registerFamily(VectorInstruction.class, Map.of(130, "VSTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(VectorInstruction.class, Map.of(131, "VSTI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE, OperandSource.IMMEDIATE));
-        registerFamily(VectorInstruction.class, Map.of(132, "VSTS"), List.of()); // Operands from stack
-        registerFamily(VectorInstruction.class, Map.of(133, "VBLD"), List.of(OperandSource.REGISTER));
-        registerFamily(VectorInstruction.class, Map.of(134, "VBLS"), List.of());
+        registerFamily(VectorInstruction::new, Map.of(127, "VGTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(VectorInstruction::new, Map.of(128, "VGTI"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.IMMEDIATE));
+        registerFamily(VectorInstruction::new, Map.of(129, "VGTS"), List.of()); // Operands from stack
+        registerFamily(VectorInstruction::new, Map.of(130, "VSTR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(VectorInstruction::new, Map.of(131, "VSTI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE, OperandSource.IMMEDIATE));
+        registerFamily(VectorInstruction::new, Map.of(132, "VSTS"), List.of()); // Operands from stack
+        registerFamily(VectorInstruction::new, Map.of(133, "VBLD"), List.of(OperandSource.REGISTER));
+        registerFamily(VectorInstruction::new, Map.of(134, "VBLS"), List.of());
 
         // New: B2V family (bit to vector)
-        registerFamily(VectorInstruction.class, Map.of(146, "B2VR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(VectorInstruction.class, Map.of(147, "B2VI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
-        registerFamily(VectorInstruction.class, Map.of(148, "B2VS"), List.of());
+        registerFamily(VectorInstruction::new, Map.of(146, "B2VR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(VectorInstruction::new, Map.of(147, "B2VI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
+        registerFamily(VectorInstruction::new, Map.of(148, "B2VS"), List.of());
 
         // New: V2B family (vector to bit)
-        registerFamily(VectorInstruction.class, Map.of(157, "V2BR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(VectorInstruction.class, Map.of(158, "V2BI"), List.of(OperandSource.REGISTER, OperandSource.VECTOR));
-        registerFamily(VectorInstruction.class, Map.of(159, "V2BS"), List.of());
+        registerFamily(VectorInstruction::new, Map.of(157, "V2BR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(VectorInstruction::new, Map.of(158, "V2BI"), List.of(OperandSource.REGISTER, OperandSource.VECTOR));
+        registerFamily(VectorInstruction::new, Map.of(159, "V2BS"), List.of());
         // New: RTR* family (Rotate Right by 90° in plane of two axes)
-        registerFamily(VectorInstruction.class, Map.of(160, "RTRR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(VectorInstruction.class, Map.of(161, "RTRI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE, OperandSource.IMMEDIATE));
-        registerFamily(VectorInstruction.class, Map.of(162, "RTRS"), List.of());
+        registerFamily(VectorInstruction::new, Map.of(160, "RTRR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(VectorInstruction::new, Map.of(161, "RTRI"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE, OperandSource.IMMEDIATE));
+        registerFamily(VectorInstruction::new, Map.of(162, "RTRS"), List.of());
         // New: RBIT family (random bit from mask)
-        registerFamily(StateInstruction.class, Map.of(149, "RBIR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
-        registerFamily(StateInstruction.class, Map.of(150, "RBII"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
-        registerFamily(StateInstruction.class, Map.of(151, "RBIS"), List.of());
+        registerFamily(StateInstruction::new, Map.of(149, "RBIR"), List.of(OperandSource.REGISTER, OperandSource.REGISTER));
+        registerFamily(StateInstruction::new, Map.of(150, "RBII"), List.of(OperandSource.REGISTER, OperandSource.IMMEDIATE));
+        registerFamily(StateInstruction::new, Map.of(151, "RBIS"), List.of());
         // New: GDVR and GDVS (get DV value)
-        registerFamily(StateInstruction.class, Map.of(188, "GDVR"), List.of(OperandSource.REGISTER));
-        registerFamily(StateInstruction.class, Map.of(189, "GDVS"), List.of());
+        registerFamily(StateInstruction::new, Map.of(188, "GDVR"), List.of(OperandSource.REGISTER));
+        registerFamily(StateInstruction::new, Map.of(189, "GDVS"), List.of());
+
+        opcodeTable = registration.build();
+        registration = null;
     }
 
     private static final int DEFAULT_VECTOR_DIMS = 2;
 
-    private static void registerFamily(Class<? extends Instruction> familyClass, Map<Integer, String> variants, List<OperandSource> sources) {
-        try {
-            Constructor<? extends Instruction> constructor = familyClass.getConstructor(Organism.class, int.class);
-            List<InstructionArgumentType> argTypesForSignature = new ArrayList<>();
-            int length = 1;
-            for (OperandSource s : sources) {
-                if (s == OperandSource.REGISTER) {
-                    length++;
-                    argTypesForSignature.add(InstructionArgumentType.REGISTER);
-                } else if (s == OperandSource.LOCATION_REGISTER) {
-                    length++;
-                    argTypesForSignature.add(InstructionArgumentType.LOCATION_REGISTER);
-                } else if (s == OperandSource.IMMEDIATE) {
-                    length++;
-                    argTypesForSignature.add(InstructionArgumentType.LITERAL);
-                } else if (s == OperandSource.VECTOR) {
-                    length += DEFAULT_VECTOR_DIMS;
-                    argTypesForSignature.add(InstructionArgumentType.VECTOR);
-                } else if (s == OperandSource.LABEL) {
-                    length += DEFAULT_VECTOR_DIMS;
-                    argTypesForSignature.add(InstructionArgumentType.LABEL);
-                }
-            }
-            InstructionSignature signature = new InstructionSignature(argTypesForSignature);
-
-            for (Map.Entry<Integer, String> entry : variants.entrySet()) {
-                int id = entry.getKey();
-                String name = entry.getValue();
-
-                BiFunction<Organism, Environment, Instruction> planner = (org, world) -> {
-                    try {
-                        return constructor.newInstance(org, world.getMolecule(org.getIp()).toInt());
-                    } catch (Exception e) { throw new RuntimeException("Failed to plan instruction " + name, e); }
-                };
-
-                registerInstruction(familyClass, id, name, length, planner, signature);
-                OPERAND_SOURCES.put(id | Config.TYPE_CODE, sources);
+    private static void registerFamily(InstructionFactory factory, Map<Integer, String> variants, List<OperandSource> sources) {
+        List<InstructionArgumentType> argTypesForSignature = new ArrayList<>();
+        for (OperandSource s : sources) {
+            if (s == OperandSource.REGISTER) {
+                argTypesForSignature.add(InstructionArgumentType.REGISTER);
+            } else if (s == OperandSource.LOCATION_REGISTER) {
+                argTypesForSignature.add(InstructionArgumentType.LOCATION_REGISTER);
+            } else if (s == OperandSource.IMMEDIATE) {
+                argTypesForSignature.add(InstructionArgumentType.LITERAL);
+            } else if (s == OperandSource.VECTOR) {
+                argTypesForSignature.add(InstructionArgumentType.VECTOR);
+            } else if (s == OperandSource.LABEL) {
+                argTypesForSignature.add(InstructionArgumentType.LABEL);
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to register instruction family " + familyClass.getSimpleName(), e);
         }
-    }
+        InstructionSignature signature = new InstructionSignature(argTypesForSignature);
 
-    private static void registerInstruction(Class<? extends Instruction> instructionClass, int id, String name, int length,
-                                            BiFunction<Organism, Environment, Instruction> planner, InstructionSignature signature) {
-        String upperCaseName = name.toUpperCase();
-        int fullId = id | Config.TYPE_CODE;
-        REGISTERED_INSTRUCTIONS_BY_ID.put(fullId, instructionClass);
-        NAME_TO_ID.put(upperCaseName, fullId);
-        ID_TO_NAME.put(fullId, name);
-        ID_TO_LENGTH.put(fullId, length);
-        REGISTERED_PLANNERS_BY_ID.put(fullId, planner);
-        SIGNATURES_BY_ID.put(fullId, signature);
+        for (Map.Entry<Integer, String> entry : variants.entrySet()) {
+            BiFunction<Organism, Environment, Instruction> planner =
+                    (org, world) -> factory.create(org, world.getMolecule(org.getIp()).toInt());
+            registration.register(entry.getKey() | Config.TYPE_CODE, entry.getValue(), planner, factory, sources, signature);
+        }
     }
 
     /**
@@ -441,7 +434,7 @@ public abstract class Instruction {
      * Gets the name of this instruction.
      * @return The instruction's name.
      */
-    public final String getName() { return ID_TO_NAME.getOrDefault(this.fullOpcodeId, "UNKNOWN"); }
+    public final String getName() { return getInstructionNameById(this.fullOpcodeId); }
 
     /**
      * Gets the full opcode ID of this instruction.
@@ -454,14 +447,17 @@ public abstract class Instruction {
      * @param id The instruction ID.
      * @return The name of the instruction.
      */
-    public static String getInstructionNameById(int id) { return ID_TO_NAME.getOrDefault(id, "UNKNOWN"); }
+    public static String getInstructionNameById(int id) {
+        String name = opcodeTable.name(id);
+        return name != null ? name : "UNKNOWN";
+    }
 
     /**
      * Gets the length of an instruction by its ID.
      * @param id The instruction ID.
      * @return The length of the instruction.
      */
-    public static int getInstructionLengthById(int id) { return ID_TO_LENGTH.getOrDefault(id, 1); }
+    public static int getInstructionLengthById(int id) { return opcodeTable.length(id, DEFAULT_VECTOR_DIMS); }
 
     /**
      * Gets the length of an instruction by its ID in a given environment.
@@ -470,43 +466,47 @@ public abstract class Instruction {
      * @return The length of the instruction.
      */
     public static int getInstructionLengthById(int id, Environment env) {
-        int baseId = id;
-        List<OperandSource> sources = OPERAND_SOURCES.get(baseId);
-        if (sources == null) return 1;
-        int length = 1;
-        int dims = env.getShape().length;
-        for (OperandSource s : sources) {
-            if (s == OperandSource.REGISTER || s == OperandSource.IMMEDIATE || s == OperandSource.LOCATION_REGISTER || s == OperandSource.STACK) {
-                // For STACK we assume no encoded operand in code
-                // LOCATION_REGISTER is encoded like REGISTER (one slot)
-                if (s != OperandSource.STACK) length++;
-            } else if (s == OperandSource.VECTOR || s == OperandSource.LABEL) {
-                length += dims;
-            }
-        }
-        return length;
+        // STACK operands are not encoded in code; VECTOR and LABEL take one cell per dimension.
+        return opcodeTable.length(id, env.properties.getDimensions());
     }
 
+    /**
+     * Gets the operand sources of an instruction by its ID.
+     * @param id The instruction ID.
+     * @return An unmodifiable list of operand sources, or null if the ID is not registered.
+     */
+    public static List<OperandSource> getOperandSourcesById(int id) { return opcodeTable.operandSourceList(id); }
+
+    static OperandSource[] operandSourcesById(int id) { return opcodeTable.operandSources(id); }
+
     /**
      * Gets the ID of an instruction by its name.
      * @param name The name of the instruction.
      * @return The instruction ID.
      */
-    public static Integer getInstructionIdByName(String name) { return NAME_TO_ID.get(name.toUpperCase()); }
+    public static Integer getInstructionIdByName(String name) { return opcodeTable.idByName(name.toUpperCase()); }
 
     /**
      * Gets the planner function for an instruction by its ID.
      * @param id The instruction ID.
      * @return The planner function.
      */
-    public static BiFunction<Organism, Environment, Instruction> getPlannerById(int id) { return REGISTERED_PLANNERS_BY_ID.get(id); }
+    public static BiFunction<Organism, Environment, Instruction> getPlannerById(int id) { return opcodeTable.planner(id); }
+
+    /**
+     * Gets the factory for an instruction by its ID. Unlike the planner, the factory does not
+     * read the opcode from the environment.
+     * @param id The instruction ID.
+     * @return The factory, or null if the ID is not registered.
+     */
+    public static InstructionFactory getFactoryById(int id) { return opcodeTable.factory(id); }
 
     /**
      * Gets the signature of an instruction by its ID.
      * @param id The instruction ID.
      * @return An Optional containing the instruction signature.
      */
-    public static Optional<InstructionSignature> getSignatureById(int id) { return Optional.ofNullable(SIGNATURES_BY_ID.get(id)); }
+    public static Optional<InstructionSignature> getSignatureById(int id) { return Optional.ofNullable(opcodeTable.signature(id)); }
 
 
     // --- Conflict Resolution Logic ---
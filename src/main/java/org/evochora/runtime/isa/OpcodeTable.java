@@ -0,0 +1,148 @@
+package org.evochora.runtime.isa;
+
+import org.evochora.runtime.model.Environment;
+import org.evochora.runtime.model.Organism;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Dense, immutable dispatch table of the instruction set, indexed directly by full opcode ID.
+ * <p>
+ * {@link Instruction#init()} registers all families into a {@link Builder} and publishes the
+ * compiled table in one step. Every per-opcode property is a plain array element, so the lookups
+ * on the execution path (planner, operand layout, length) are a bounds check and an array load
+ * instead of boxing the ID and probing a hash map.
+ * <p>
+ * Instruction lengths depend on the dimensionality of the world, because vector and label
+ * arguments occupy one cell per dimension. The table therefore stores the number of fixed
+ * argument cells and the number of vector arguments per opcode, and the length for any world is
+ * {@code 1 + fixed + vectors * dims}.
+ * <p>
+ * <strong>Thread Safety:</strong> All fields are final and never modified after construction,
+ * so a table can be shared freely once published.
+ */
+final class OpcodeTable {
+
+    static final OpcodeTable EMPTY = new Builder().build();
+
+    private static final Instruction.OperandSource[] NO_SOURCES = new Instruction.OperandSource[0];
+
+    private final String[] names;
+    private final BiFunction<Organism, Environment, Instruction>[] planners;
+    private final Instruction.InstructionFactory[] factories;
+    private final Instruction.OperandSource[][] operandSources;
+    private final List<Instruction.OperandSource>[] operandSourceLists;
+    private final InstructionSignature[] signatures;
+    private final int[] fixedArgumentCells;
+    private final int[] vectorArguments;
+    private final Map<String, Integer> nameToId;
+
+    @SuppressWarnings("unchecked")
+    private OpcodeTable(Builder builder) {
+        int size = builder.maxId + 1;
+        this.names = new String[size];
+        this.planners = new BiFunction[size];
+        this.factories = new Instruction.InstructionFactory[size];
+        this.operandSources = new Instruction.OperandSource[size][];
+        this.operandSourceLists = new List[size];
+        this.signatures = new InstructionSignature[size];
+        this.fixedArgumentCells = new int[size];
+        this.vectorArguments = new int[size];
+        for (Map.Entry<Integer, Builder.Registration> e : builder.registrations.entrySet()) {
+            int id = e.getKey();
+            Builder.Registration r = e.getValue();
+            names[id] = r.name;
+            planners[id] = r.planner;
+            factories[id] = r.factory;
+            operandSources[id] = r.sources.toArray(NO_SOURCES);
+            operandSourceLists[id] = Collections.unmodifiableList(Arrays.asList(operandSources[id]));
+            signatures[id] = r.signature;
+            for (Instruction.OperandSource source : r.sources) {
+                if (source == Instruction.OperandSource.VECTOR || source == Instruction.OperandSource.LABEL) {
+                    vectorArguments[id]++;
+                } else if (source != Instruction.OperandSource.STACK) {
+                    fixedArgumentCells[id]++;
+                }
+            }
+        }
+        this.nameToId = Map.copyOf(builder.nameToId);
+    }
+
+    private boolean isRegistered(int id) {
+        return id >= 0 && id < names.length && names[id] != null;
+    }
+
+    String name(int id) {
+        return isRegistered(id) ? names[id] : null;
+    }
+
+    Integer idByName(String upperCaseName) {
+        return nameToId.get(upperCaseName);
+    }
+
+    BiFunction<Organism, Environment, Instruction> planner(int id) {
+        return isRegistered(id) ? planners[id] : null;
+    }
+
+    Instruction.InstructionFactory factory(int id) {
+        return isRegistered(id) ? factories[id] : null;
+    }
+
+    /**
+     * @return The operand sources of the opcode, or {@code null} if it is not registered.
+     *         The array is shared and must not be modified.
+     */
+    Instruction.OperandSource[] operandSources(int id) {
+        return isRegistered(id) ? operandSources[id] : null;
+    }
+
+    List<Instruction.OperandSource> operandSourceList(int id) {
+        return isRegistered(id) ? operandSourceLists[id] : null;
+    }
+
+    InstructionSignature signature(int id) {
+        return isRegistered(id) ? signatures[id] : null;
+    }
+
+    /**
+     * @return The number of cells the instruction occupies in a world with the given number of
+     *         dimensions, or 1 for unregistered opcodes.
+     */
+    int length(int id, int dims) {
+        return isRegistered(id) ? 1 + fixedArgumentCells[id] + vectorArguments[id] * dims : 1;
+    }
+
+    /**
+     * Collects registrations while {@link Instruction#init()} runs.
+     */
+    static final class Builder {
+
+        private record Registration(String name, BiFunction<Organism, Environment, Instruction> planner,
+                                    Instruction.InstructionFactory factory, List<Instruction.OperandSource> sources,
+                                    InstructionSignature signature) {}
+
+        private final Map<Integer, Registration> registrations = new HashMap<>();
+        private final Map<String, Integer> nameToId = new HashMap<>();
+        private int maxId = -1;
+
+        void register(int fullId, String name, BiFunction<Organism, Environment, Instruction> planner,
+                      Instruction.InstructionFactory factory, List<Instruction.OperandSource> sources,
+                      InstructionSignature signature) {
+            if (fullId < 0) {
+                throw new IllegalArgumentException("Opcode ID must be non-negative: " + fullId);
+            }
+            registrations.put(fullId, new Registration(name, planner, factory, List.copyOf(sources), signature));
+            nameToId.put(name.toUpperCase(), fullId);
+            maxId = Math.max(maxId, fullId);
+        }
+
+        OpcodeTable build() {
+            return new OpcodeTable(this);
+        }
+    }
+}
@@ -26,6 +26,11 @@ public class ArithmeticInstruction extends Instruction {
         super(organism, fullOpcodeId);
     }
 
+    @Override
+    public boolean isOrganismLocal() {
+        return true;
+    }
+
     @Override
     public void execute(ExecutionContext context, ProgramArtifact artifact) {
         try {
@@ -27,6 +27,11 @@ public class BitwiseInstruction extends Instruction {
         super(organism, fullOpcodeId);
     }
 
+    @Override
+    public boolean isOrganismLocal() {
+        return true;
+    }
+
     @Override
     public void execute(ExecutionContext context, ProgramArtifact artifact) {
         Organism organism = context.getOrganism();
@@ -27,23 +27,8 @@ public class ControlFlowInstruction extends Instruction {
     }
 
     @Override
-    public java.util.List<Operand> resolveOperands(Environment environment) {
-        String opName = getName();
-        if ("CALL".equals(opName) || "JMPI".equals(opName)) {
-            java.util.List<Operand> resolved = new java.util.ArrayList<>();
-            int[] currentIp = organism.getIpBeforeFetch();
-
-            int dims = environment.getShape().length;
-            int[] delta = new int[dims];
-            for (int i = 0; i < dims; i++) {
-                Organism.FetchResult res = organism.fetchSignedArgument(currentIp, environment);
-                delta[i] = res.value();
-                currentIp = res.nextIp();
-            }
-            resolved.add(new Operand(delta, -1));
-            return resolved;
-        }
-        return super.resolveOperands(environment);
+    public boolean isOrganismLocal() {
+        return true;
     }
 
     @Override
@@ -25,6 +25,11 @@ public class DataInstruction extends Instruction {
         super(organism, fullOpcodeId);
     }
 
+    @Override
+    public boolean isOrganismLocal() {
+        return true;
+    }
+
     @Override
     public void execute(ExecutionContext context, ProgramArtifact artifact) {
         Organism organism = context.getOrganism();
@@ -139,6 +139,11 @@ public class EnvironmentInteractionInstruction extends Instruction implements IE
             organism.instructionFailed("PEEK: Target cell is empty.");
             return;
         }
+        // Fail before taking energy or clearing the cell, a full stack must not leave either half done
+        if (targetReg == -1 && organism.getDataStack().size() >= Config.DS_MAX_DEPTH) {
+            organism.instructionFailed("Stack Overflow for " + getName() + ".");
+            return;
+        }
 
         Object valueToStore;
         if (s.type() == Config.TYPE_ENERGY) {
@@ -204,6 +209,11 @@ public class EnvironmentInteractionInstruction extends Instruction implements IE
 
         if (getConflictStatus() == ConflictResolutionStatus.WON_EXECUTION || getConflictStatus() == ConflictResolutionStatus.NOT_APPLICABLE) {
             
+            if (targetReg == -1 && organism.getDataStack().size() >= Config.DS_MAX_DEPTH) {
+                organism.instructionFailed("Stack Overflow for PPKS.");
+                return;
+            }
+
             // First, handle the PEEK part
             Molecule currentMolecule = environment.getMolecule(targetCoordinate);
             
@@ -25,6 +25,11 @@ public class LocationInstruction extends Instruction {
         super(organism, fullOpcodeId);
     }
 
+    @Override
+    public boolean isOrganismLocal() {
+        return true;
+    }
+
     @Override
     public void execute(ExecutionContext context, ProgramArtifact artifact) {
         Organism org = context.getOrganism();
@@ -120,6 +125,7 @@ public class LocationInstruction extends Instruction {
                 int lrIdx = ops.get(0).rawSourceId();
                 int[] vec = org.getLr(lrIdx);
                 if (vec == null) { org.instructionFailed("Invalid LR index"); return; }
+                if (org.getDataStack().size() >= Config.DS_MAX_DEPTH) { org.instructionFailed("Stack Overflow for LRDS."); return; }
                 org.getDataStack().push(vec);
                 break;
             }
@@ -135,6 +141,7 @@ public class LocationInstruction extends Instruction {
             }
             case "LSDS": {
                 if (ls.isEmpty()) { org.instructionFailed("LSDS on empty LS"); return; }
+                if (org.getDataStack().size() >= Config.DS_MAX_DEPTH) { org.instructionFailed("Stack Overflow for LSDS."); return; }
                 int[] vec = ls.pop();
                 org.getDataStack().push(vec);
                 break;
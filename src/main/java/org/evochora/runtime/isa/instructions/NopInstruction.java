@@ -25,6 +25,11 @@ public class NopInstruction extends Instruction {
         super(organism, fullOpcodeId);
     }
 
+    @Override
+    public boolean isOrganismLocal() {
+        return true;
+    }
+
     @Override
     public void execute(ExecutionContext context, ProgramArtifact artifact) {
         // This instruction intentionally does nothing.
@@ -11,6 +11,7 @@ import org.evochora.runtime.model.Environment;
 
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 /**
  * Handles a wide variety of state-related instructions, such as TURN, SYNC, NRG, FORK,
@@ -27,6 +28,20 @@ public class StateInstruction extends Instruction {
         super(organism, fullOpcodeId);
     }
 
+    /**
+     * State operations that neither read the environment beyond their own arguments
+     * nor create organisms. SEEK, SCAN and the neighbor scans read foreign cells,
+     * and the FORK variants allocate organism IDs, so they are excluded.
+     */
+    private static final Set<String> ORGANISM_LOCAL_OPS = Set.of(
+            "TURN", "TRNI", "TRNS", "SYNC", "NRG", "NRGS", "DIFF", "DIFS", "POS", "POSS",
+            "RAND", "RNDS", "RBIR", "RBII", "RBIS", "ADPR", "ADPI", "ADPS", "GDVR", "GDVS");
+
+    @Override
+    public boolean isOrganismLocal() {
+        return ORGANISM_LOCAL_OPS.contains(getName());
+    }
+
     @Override
     public void execute(ExecutionContext context, ProgramArtifact artifact) {
         Organism organism = context.getOrganism();
@@ -131,6 +146,7 @@ public class StateInstruction extends Instruction {
 
     private void handleNrg(String opName, List<Operand> operands) {
         if ("NRGS".equals(opName)) {
+            if (organism.getDataStack().size() >= Config.DS_MAX_DEPTH) { organism.instructionFailed("Stack Overflow for NRGS."); return; }
             organism.getDataStack().push(new Molecule(Config.TYPE_DATA, organism.getEr()).toInt());
         } else {
             if (operands.size() != 1) { organism.instructionFailed("Invalid operands for NRG."); return; }
@@ -356,6 +372,7 @@ public class StateInstruction extends Instruction {
         int[] target = organism.getTargetCoordinate(organism.getActiveDp(), vector, environment);
         Molecule s = environment.getMolecule(target);
         if (opName.endsWith("S")) {
+            if (organism.getDataStack().size() >= Config.DS_MAX_DEPTH) { organism.instructionFailed("Stack Overflow for " + opName + "."); return; }
             organism.getDataStack().push(s.toInt());
         } else {
             writeOperand(targetReg, s.toInt());
@@ -380,6 +397,7 @@ public class StateInstruction extends Instruction {
     }
 
     private void handlePoss() {
+        if (organism.getDataStack().size() >= Config.DS_MAX_DEPTH) { organism.instructionFailed("Stack Overflow for POSS."); return; }
         int[] currentIp = organism.getIp();
         int[] initialPosition = organism.getInitialPosition();
         int[] delta = new int[currentIp.length];
@@ -390,6 +408,7 @@ public class StateInstruction extends Instruction {
     }
 
     private void handleDifs() {
+        if (organism.getDataStack().size() >= Config.DS_MAX_DEPTH) { organism.instructionFailed("Stack Overflow for DIFS."); return; }
         int[] ip = organism.getIp();
         int[] dp = organism.getActiveDp();
         int[] delta = new int[ip.length];
@@ -456,6 +475,7 @@ public class StateInstruction extends Instruction {
         }
 
         if ("SPNS".equals(opName)) {
+            if (organism.getDataStack().size() >= Config.DS_MAX_DEPTH) { organism.instructionFailed("Stack Overflow for SPNS."); return; }
             organism.getDataStack().push(new Molecule(Config.TYPE_DATA, mask).toInt());
         } else {
             if (operands.size() != 1) { organism.instructionFailed("SPNR requires one destination register."); return; }
@@ -548,6 +568,7 @@ public class StateInstruction extends Instruction {
                 organism.instructionFailed("GDVS expects no operands."); 
                 return; 
             }
+            if (organism.getDataStack().size() >= Config.DS_MAX_DEPTH) { organism.instructionFailed("Stack Overflow for GDVS."); return; }
             organism.getDataStack().push(currentDv);
         } else {
             // GDVR
@@ -0,0 +1,197 @@
+package org.evochora.runtime.model;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Records in which tick the cells of an {@link Environment} were written, so consumers can visit
+ * only the cells changed since an earlier tick instead of scanning every occupied cell.
+ * <p>
+ * Writes are appended as flat indices to a ring buffer. A cell written several times within one
+ * tick is recorded once, using a bitmap of the cells written in the current tick. For every tick
+ * with writes, the buffer position of its first write is kept as a tick mark. A query starts at
+ * the first mark after the requested tick and reports each cell once, using a second bitmap.
+ * Recording and querying therefore cost time proportional to the number of writes, not to the
+ * world size; memory is one {@code int} per cell for the buffer plus two bits per cell.
+ * <p>
+ * The buffer has one entry per cell: once a window holds more writes than the world has cells,
+ * replaying it is no cheaper than a full scan. Older writes are overwritten, and a query that
+ * reaches back into overwritten ticks (or before the journal was created) reports that it
+ * cannot answer, so the caller falls back to a full scan.
+ * <p>
+ * <strong>Thread Safety:</strong> Not thread-safe. Like all environment writes, recording and
+ * queries happen on the simulation thread.
+ */
+final class CellChangeJournal {
+
+    private final int[] entries;
+    private final long[] writtenInTick;
+    private final long[] visited;
+
+    private long head;         // Absolute position of the next entry
+    private int headSlot;      // head % entries.length
+    private long currentTick;
+    private long currentTickStart;
+
+    // Ring of tick marks, oldest first: ticks with writes and the position of their first write
+    private long[] markTicks = new long[16];
+    private long[] markPositions = new long[16];
+    private int markFirst;
+    private int markCount;
+
+    // Latest tick whose writes are not (completely) in the buffer
+    private long incompleteThroughTick;
+
+    /**
+     * Creates an empty journal. Writes before and during the current tick are unknown to it.
+     *
+     * @param cells The number of cells of the environment.
+     * @param currentTick The tick the environment is currently in.
+     */
+    CellChangeJournal(int cells, long currentTick) {
+        this.entries = new int[Math.max(cells, 1)];
+        this.writtenInTick = new long[(cells + 63) >>> 6];
+        this.visited = new long[(cells + 63) >>> 6];
+        this.currentTick = currentTick;
+        this.incompleteThroughTick = currentTick;
+    }
+
+    /**
+     * Starts recording the writes of a new tick.
+     *
+     * @param tick The new tick; must not be lower than the current tick.
+     */
+    void beginTick(long tick) {
+        if (tick < currentTick) {
+            throw new IllegalArgumentException("Tick " + tick + " is before the current tick " + currentTick);
+        }
+        // At most one entry per cell and tick, so the current tick's entries were never overwritten
+        int slot = slotOf(currentTickStart);
+        for (long p = currentTickStart; p < head; p++) {
+            int index = entries[slot];
+            writtenInTick[index >>> 6] &= ~(1L << index);
+            if (++slot == entries.length) slot = 0;
+        }
+        currentTick = tick;
+        currentTickStart = head;
+    }
+
+    /**
+     * Records a write of the given cell in the current tick.
+     *
+     * @param index The flat index of the written cell.
+     */
+    void record(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        if ((writtenInTick[word] & bit) != 0) {
+            return;
+        }
+        writtenInTick[word] |= bit;
+
+        if (markCount == 0 || markTicks[markSlot(markCount - 1)] != currentTick) {
+            addMark(currentTick, head);
+        }
+        if (head >= entries.length) {
+            dropOverwritten(head - entries.length);
+        }
+        entries[headSlot] = index;
+        head++;
+        if (++headSlot == entries.length) headSlot = 0;
+    }
+
+    /**
+     * Calls the consumer once with the flat index of every cell written after the given tick,
+     * including writes in the current tick. The consumer must not write to the environment.
+     *
+     * @param tick Writes in this tick and before are not reported.
+     * @param consumer Callback invoked with the flat index of each changed cell.
+     * @return {@code false} without calling the consumer if writes after the tick are no longer
+     *         (or were never) recorded.
+     */
+    boolean forEachChangedIndexSince(long tick, IntConsumer consumer) {
+        if (tick < incompleteThroughTick) {
+            return false;
+        }
+        long start = firstPositionAfter(tick);
+        long end = head;
+        int slot = slotOf(start);
+        for (long p = start; p < end; p++) {
+            int index = entries[slot];
+            int word = index >>> 6;
+            long bit = 1L << index;
+            if ((visited[word] & bit) == 0) {
+                visited[word] |= bit;
+                consumer.accept(index);
+            }
+            if (++slot == entries.length) slot = 0;
+        }
+        slot = slotOf(start);
+        for (long p = start; p < end; p++) {
+            int index = entries[slot];
+            visited[index >>> 6] &= ~(1L << index);
+            if (++slot == entries.length) slot = 0;
+        }
+        return true;
+    }
+
+    private long firstPositionAfter(long tick) {
+        // Binary search for the oldest mark with a tick after the requested one
+        int low = 0;
+        int high = markCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (markTicks[markSlot(mid)] > tick) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low < markCount ? markPositions[markSlot(low)] : head;
+    }
+
+    private void addMark(long tick, long position) {
+        if (markCount == markTicks.length) {
+            long[] ticks = new long[markCount * 2];
+            long[] positions = new long[markCount * 2];
+            for (int i = 0; i < markCount; i++) {
+                ticks[i] = markTicks[markSlot(i)];
+                positions[i] = markPositions[markSlot(i)];
+            }
+            markTicks = ticks;
+            markPositions = positions;
+            markFirst = 0;
+        }
+        int slot = markSlot(markCount);
+        markTicks[slot] = tick;
+        markPositions[slot] = position;
+        markCount++;
+    }
+
+    /**
+     * Accounts for overwriting the entry at the given position: marks whose writes are all
+     * overwritten are dropped, and the tick of the overwritten entry becomes incomplete.
+     */
+    private void dropOverwritten(long position) {
+        while (markCount > 1 && markPositions[markSlot(1)] <= position) {
+            markFirst = markSlot(1);
+            markCount--;
+        }
+        incompleteThroughTick = Math.max(incompleteThroughTick, markTicks[markFirst]);
+    }
+
+    private int markSlot(int i) {
+        int slot = markFirst + i;
+        return slot < markTicks.length ? slot : slot - markTicks.length;
+    }
+
+    private int slotOf(long position) {
+        return (int) (position % entries.length);
+    }
+
+    @Override
+    public String toString() {
+        return "CellChangeJournal{tick=" + currentTick + ", entries=" + Math.min(head, entries.length)
+                + ", incompleteThroughTick=" + incompleteThroughTick
+                + ", capacity=" + entries.length + ", marks=" + markCount + "}";
+    }
+}
@@ -0,0 +1,373 @@
+package org.evochora.runtime.model;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Fixed-capacity data stack (DS) of an organism, backed by primitive storage.
+ * <p>
+ * Like {@link RegisterFile}, every slot is tagged as scalar (stored unboxed) or vector (stored by
+ * reference). The class implements {@link Deque} with the head of the deque being the top of the
+ * stack, so instructions keep using {@code push}/{@code pop}/{@code peek} on {@code Integer} and
+ * {@code int[]} values. As a capacity-restricted deque, {@link #push} throws
+ * {@link OverflowException} when the stack is full; the offer methods return {@code false}.
+ * <p>
+ * The {@link RegisterValueView} indices run from the top of the stack (0) to the bottom, which is
+ * the same order as iteration.
+ */
+public final class DataStack extends AbstractCollection<Object> implements Deque<Object>, RegisterValueView {
+
+    /**
+     * Thrown when a value is pushed onto a full stack.
+     */
+    public static final class OverflowException extends IllegalStateException {
+        OverflowException(int capacity) {
+            super("Stack Overflow (capacity " + capacity + ")");
+        }
+    }
+
+    private static final int INITIAL_SLOTS = 8;
+    private static final int[][] NO_VECTORS = new int[0][];
+
+    // Slot 0 is the bottom of the stack, slot size-1 the top. The backing arrays grow on demand
+    // up to the capacity, because most organisms only ever use a few slots. The vector array is
+    // only allocated once the first vector is pushed and from then on has the same length.
+    private final int capacity;
+    private int[] scalars;
+    private int[][] vectors = NO_VECTORS;
+    private int size;
+
+    /**
+     * Creates an empty stack.
+     *
+     * @param capacity The maximum number of values the stack can hold.
+     */
+    public DataStack(int capacity) {
+        this.capacity = capacity;
+        this.scalars = new int[Math.min(INITIAL_SLOTS, capacity)];
+    }
+
+    /**
+     * @return The maximum number of values the stack can hold.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    // --- RegisterValueView (index 0 = top) ---
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isVector(int index) {
+        return vectorIn(slotOf(index)) != null;
+    }
+
+    @Override
+    public int scalarAt(int index) {
+        return scalars[slotOf(index)];
+    }
+
+    @Override
+    public int[] vectorAt(int index) {
+        return vectorIn(slotOf(index));
+    }
+
+    private int[] vectorIn(int slot) {
+        return slot < vectors.length ? vectors[slot] : null;
+    }
+
+    private int slotOf(int index) {
+        Objects.checkIndex(index, size);
+        return size - 1 - index;
+    }
+
+    // --- Primitive access ---
+
+    /**
+     * Pushes a scalar without boxing.
+     *
+     * @param value The scalar value.
+     * @throws OverflowException if the stack is full.
+     */
+    public void pushScalar(int value) {
+        ensureSpace();
+        scalars[size] = value;
+        clearVector(size);
+        size++;
+    }
+
+    private void ensureSpace() {
+        if (size == capacity) {
+            throw new OverflowException(capacity);
+        }
+        if (size == scalars.length) {
+            int grown = Math.min(scalars.length * 2, capacity);
+            scalars = Arrays.copyOf(scalars, grown);
+            if (vectors.length > 0) {
+                vectors = Arrays.copyOf(vectors, grown);
+            }
+        }
+    }
+
+    private void clearVector(int slot) {
+        if (slot < vectors.length) {
+            vectors[slot] = null;
+        }
+    }
+
+    private Object boxedAt(int slot) {
+        int[] vector = vectorIn(slot);
+        return vector != null ? vector : Integer.valueOf(scalars[slot]);
+    }
+
+    private void store(int slot, Object value) {
+        if (value instanceof Integer i) {
+            scalars[slot] = i;
+            clearVector(slot);
+        } else if (value instanceof int[] v) {
+            if (vectors.length == 0) {
+                vectors = new int[scalars.length][];
+            }
+            vectors[slot] = v;
+        } else {
+            throw new IllegalArgumentException("Unsupported stack value type: "
+                    + (value != null ? value.getClass().getSimpleName() : "null"));
+        }
+    }
+
+    private Object removeSlot(int slot) {
+        Object value = boxedAt(slot);
+        int tail = size - 1 - slot;
+        if (tail > 0) {
+            System.arraycopy(scalars, slot + 1, scalars, slot, tail);
+            if (vectors.length > 0) {
+                System.arraycopy(vectors, slot + 1, vectors, slot, tail);
+            }
+        }
+        size--;
+        clearVector(size);
+        return value;
+    }
+
+    // --- Deque: head = top of stack ---
+
+    @Override
+    public void addFirst(Object value) {
+        ensureSpace();
+        store(size, value);
+        size++;
+    }
+
+    @Override
+    public void addLast(Object value) {
+        ensureSpace();
+        System.arraycopy(scalars, 0, scalars, 1, size);
+        if (vectors.length > 0) {
+            System.arraycopy(vectors, 0, vectors, 1, size);
+        }
+        store(0, value);
+        size++;
+    }
+
+    @Override
+    public boolean offerFirst(Object value) {
+        if (size == capacity) {
+            return false;
+        }
+        addFirst(value);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(Object value) {
+        if (size == capacity) {
+            return false;
+        }
+        addLast(value);
+        return true;
+    }
+
+    @Override
+    public Object removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return removeSlot(size - 1);
+    }
+
+    @Override
+    public Object removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return removeSlot(0);
+    }
+
+    @Override
+    public Object pollFirst() {
+        return size == 0 ? null : removeSlot(size - 1);
+    }
+
+    @Override
+    public Object pollLast() {
+        return size == 0 ? null : removeSlot(0);
+    }
+
+    @Override
+    public Object getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return boxedAt(size - 1);
+    }
+
+    @Override
+    public Object getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return boxedAt(0);
+    }
+
+    @Override
+    public Object peekFirst() {
+        return size == 0 ? null : boxedAt(size - 1);
+    }
+
+    @Override
+    public Object peekLast() {
+        return size == 0 ? null : boxedAt(0);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        for (int slot = size - 1; slot >= 0; slot--) {
+            if (Objects.equals(boxedAt(slot), o)) {
+                removeSlot(slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        for (int slot = 0; slot < size; slot++) {
+            if (Objects.equals(boxedAt(slot), o)) {
+                removeSlot(slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean add(Object value) {
+        addLast(value);
+        return true;
+    }
+
+    @Override
+    public boolean offer(Object value) {
+        return offerLast(value);
+    }
+
+    @Override
+    public Object remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public Object poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public Object element() {
+        return getFirst();
+    }
+
+    @Override
+    public Object peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(Object value) {
+        addFirst(value);
+    }
+
+    @Override
+    public Object pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public void clear() {
+        if (vectors.length > 0) {
+            Arrays.fill(vectors, 0, size, null);
+        }
+        size = 0;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new SlotIterator(true);
+    }
+
+    @Override
+    public Iterator<Object> descendingIterator() {
+        return new SlotIterator(false);
+    }
+
+    private final class SlotIterator implements Iterator<Object> {
+        private final boolean fromTop;
+        private int next;
+        private int lastReturned = -1;
+
+        SlotIterator(boolean fromTop) {
+            this.fromTop = fromTop;
+            this.next = fromTop ? size - 1 : 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return fromTop ? next >= 0 : next < size;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next += fromTop ? -1 : 1;
+            return boxedAt(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            removeSlot(lastReturned);
+            if (!fromTop) {
+                next--;
+            }
+            lastReturned = -1;
+        }
+    }
+}
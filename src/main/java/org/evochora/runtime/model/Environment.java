@@ -15,12 +15,19 @@ import org.evochora.runtime.isa.IEnvironmentReader;
 public class Environment implements IEnvironmentReader {
     private final int[] shape;
     private final boolean isToroidal;
-    private final int[] grid;
-    private final int[] ownerGrid;
+    final int[] grid;
+    final int[] ownerGrid;
     private final int[] strides;
 
     // Sparse cell tracking for performance optimization (using primitive int indices)
     private final IntSet occupiedIndices;
+
+    // Journal of molecule and owner writes per tick; null while change tracking is disabled
+    private CellChangeJournal changeJournal;
+    private long currentTick = -1;
+
+    // Notified with the flat index of every molecule write (not for owner-only changes)
+    private volatile IntConsumer[] cellWriteListeners = new IntConsumer[0];
     
     /**
      * Environment properties that can be shared with other components.
@@ -28,6 +35,21 @@ public class Environment implements IEnvironmentReader {
      */
     public final EnvironmentProperties properties;
 
+    /**
+     * Creates the environment implementation best suited for the given properties: a
+     * {@link Environment2D} for two-dimensional worlds and the general N-dimensional
+     * implementation otherwise.
+     *
+     * @param properties The environment properties.
+     * @return A new environment.
+     */
+    public static Environment create(EnvironmentProperties properties) {
+        if (properties.getDimensions() == 2) {
+            return new Environment2D(properties);
+        }
+        return new Environment(properties);
+    }
+
     /**
      * Creates a new environment with the specified shape and toroidal setting.
      * 
@@ -84,20 +106,29 @@ public class Environment implements IEnvironmentReader {
         return normalized;
     }
 
-    private int getFlatIndex(int... coord) {
-        int[] normalizedCoord = getNormalizedCoordinate(coord);
-        if (!isToroidal) {
-            for(int i = 0; i < shape.length; i++) {
-                if (normalizedCoord[i] < 0 || normalizedCoord[i] >= shape[i]) {
-                    return -1;
-                }
-            }
-        }
-        int flatIndex = 0;
-        for (int i = 0; i < shape.length; i++) {
-            flatIndex += normalizedCoord[i] * this.strides[i];
+    /**
+     * Converts a coordinate into its flat index in the cell arrays, applying toroidal wrapping.
+     *
+     * @param coord The coordinate to convert.
+     * @return The flat index, or -1 if the coordinate lies outside a bounded world.
+     */
+    public int getFlatIndex(int... coord) {
+        if (coord.length != this.shape.length) {
+            throw new IllegalArgumentException("Coordinate dimensions do not match world dimensions.");
         }
-        return flatIndex;
+        return properties.toFlatIndex(coord);
+    }
+
+    /**
+     * Gets the packed molecule integer at the specified coordinate without creating a
+     * {@link Molecule}.
+     *
+     * @param coord The coordinate to read.
+     * @return The packed molecule integer, or 0 if the coordinate lies outside a bounded world.
+     */
+    public int getMoleculeIntAt(int[] coord) {
+        int index = getFlatIndex(coord);
+        return index == -1 ? 0 : this.grid[index];
     }
 
     /**
@@ -122,6 +153,8 @@ public class Environment implements IEnvironmentReader {
         int index = getFlatIndex(coord);
         if (index != -1) {
             this.grid[index] = molecule.toInt();
+            notifyCellWrite(index);
+            recordChange(index);
             
             // Update sparse cell tracking if enabled
             if (Config.ENABLE_SPARSE_CELL_TRACKING && occupiedIndices != null) {
@@ -142,6 +175,8 @@ public class Environment implements IEnvironmentReader {
             int packed = molecule.toInt();
             this.grid[index] = packed;
             this.ownerGrid[index] = ownerId;
+            notifyCellWrite(index);
+            recordChange(index);
             
             // Update sparse cell tracking if enabled
             if (Config.ENABLE_SPARSE_CELL_TRACKING && occupiedIndices != null) {
@@ -150,6 +185,87 @@ public class Environment implements IEnvironmentReader {
         }
     }
 
+    /**
+     * Registers a listener that is called with the flat index of every cell whose molecule is
+     * written through {@code setMolecule}, e.g. to invalidate caches derived from cell contents.
+     * Listeners run synchronously on the writing thread.
+     *
+     * @param listener The listener to add.
+     */
+    public synchronized void addCellWriteListener(IntConsumer listener) {
+        IntConsumer[] listeners = Arrays.copyOf(cellWriteListeners, cellWriteListeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        this.cellWriteListeners = listeners;
+    }
+
+    private void notifyCellWrite(int index) {
+        for (IntConsumer listener : cellWriteListeners) {
+            listener.accept(index);
+        }
+    }
+
+    /**
+     * Enables or disables the change journal that backs {@link #forEachChangedIndexSince(long, IntConsumer)}.
+     * A newly enabled journal knows nothing about writes before or during the current tick, and
+     * disabling it discards all recorded writes. Disabled by default, in which case writes only
+     * pay for a null check.
+     *
+     * @param enabled Whether to record changed cells.
+     */
+    public void setChangeTrackingEnabled(boolean enabled) {
+        if (enabled && changeJournal == null) {
+            changeJournal = new CellChangeJournal(grid.length, currentTick);
+        } else if (!enabled) {
+            changeJournal = null;
+        }
+    }
+
+    /**
+     * @return {@code true} if changed cells are recorded.
+     */
+    public boolean isChangeTrackingEnabled() {
+        return changeJournal != null;
+    }
+
+    /**
+     * Marks the start of a tick. Writes from now on belong to this tick until the next call.
+     * Called by the simulation before executing each tick.
+     *
+     * @param tick The tick that is about to be executed; ticks must not decrease.
+     */
+    public void beginTick(long tick) {
+        this.currentTick = tick;
+        if (changeJournal != null) {
+            changeJournal.beginTick(tick);
+        }
+    }
+
+    /**
+     * Calls the consumer once with the flat index of every cell whose molecule or owner was
+     * written after the given tick, including writes in the current tick. The cost is
+     * proportional to the number of writes since that tick, independent of the number of
+     * occupied cells. A cell may have been written back to its previous content or emptied, so
+     * consumers must read its current state, and must not write to the environment themselves.
+     * <p>
+     * The journal retains at most as many writes as the world has cells. If the writes after
+     * the tick are not completely retained, or change tracking is disabled, nothing is reported
+     * and the caller has to fall back to {@link #forEachOccupiedIndex(IntConsumer)}.
+     *
+     * @param tick Writes in this tick and before are not reported.
+     * @param consumer Callback invoked with the flat index of each changed cell.
+     * @return {@code true} if all changed cells were reported, {@code false} if the journal
+     *         cannot answer for this tick and the consumer was not called.
+     */
+    public boolean forEachChangedIndexSince(long tick, IntConsumer consumer) {
+        return changeJournal != null && changeJournal.forEachChangedIndexSince(tick, consumer);
+    }
+
+    private void recordChange(int index) {
+        if (changeJournal != null) {
+            changeJournal.record(index);
+        }
+    }
+
     /**
      * Gets the owner ID of the cell at the specified coordinate.
      * @param coord The coordinate to get the owner ID from.
@@ -172,6 +288,7 @@ public class Environment implements IEnvironmentReader {
         int index = getFlatIndex(coord);
         if (index != -1) {
             this.ownerGrid[index] = ownerId;
+            recordChange(index);
             
             // Update sparse cell tracking if enabled
             if (Config.ENABLE_SPARSE_CELL_TRACKING && occupiedIndices != null) {
@@ -0,0 +1,108 @@
+package org.evochora.runtime.model;
+
+/**
+ * Environment specialized for two-dimensional worlds, created by
+ * {@link Environment#create(EnvironmentProperties)}.
+ * <p>
+ * The general implementation walks every axis in a loop and wraps each coordinate with
+ * {@link Math#floorMod(int, int)}. Here the strides are fixed ({@code x * height + y}) and
+ * toroidal wrapping is a conditional add or subtract of the axis size, which covers every
+ * coordinate at most one world length away from the grid. Only coordinates further out fall
+ * back to {@code floorMod}. {@link #isAreaUnowned(int[], int)} scans the area as two nested
+ * loops over the owner grid instead of an N-dimensional offset counter.
+ * <p>
+ * Behaviour is identical to {@link Environment} for all inputs.
+ */
+final class Environment2D extends Environment {
+
+    private final int width;
+    private final int height;
+    private final boolean toroidal;
+
+    /**
+     * Creates a new two-dimensional environment.
+     *
+     * @param properties The environment properties; the world shape must have two dimensions.
+     */
+    Environment2D(EnvironmentProperties properties) {
+        super(properties);
+        int[] shape = properties.getWorldShape();
+        if (shape.length != 2) {
+            throw new IllegalArgumentException("Environment2D requires a 2D world shape, got " + shape.length + " dimensions.");
+        }
+        this.width = shape[0];
+        this.height = shape[1];
+        this.toroidal = properties.isToroidal();
+    }
+
+    @Override
+    public int getFlatIndex(int... coord) {
+        if (coord.length != 2) {
+            throw new IllegalArgumentException("Coordinate dimensions do not match world dimensions.");
+        }
+        return flatIndex(coord[0], coord[1]);
+    }
+
+    private int flatIndex(int x, int y) {
+        if (toroidal) {
+            return wrap(x, width) * height + wrap(y, height);
+        }
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        return x * height + y;
+    }
+
+    /**
+     * Wraps a coordinate onto {@code [0, size)}. Coordinates within one world length of the grid,
+     * which is every coordinate reached by stepping or by a short vector, need a single add or
+     * subtract.
+     */
+    private static int wrap(int c, int size) {
+        if (c < 0) {
+            c += size;
+            if (c < 0) {
+                c = Math.floorMod(c, size);
+            }
+        } else if (c >= size) {
+            c -= size;
+            if (c >= size) {
+                c = Math.floorMod(c, size);
+            }
+        }
+        return c;
+    }
+
+    @Override
+    public boolean isAreaUnowned(int[] centerCoord, int radius) {
+        if (centerCoord.length != 2) {
+            throw new IllegalArgumentException("Coordinate dimensions do not match world dimensions.");
+        }
+        int cx = centerCoord[0];
+        int cy = centerCoord[1];
+        for (int x = cx - radius; x <= cx + radius; x++) {
+            int row;
+            if (toroidal) {
+                row = wrap(x, width) * height;
+            } else if (x < 0 || x >= width) {
+                continue;
+            } else {
+                row = x * height;
+            }
+            for (int y = cy - radius; y <= cy + radius; y++) {
+                int column;
+                if (toroidal) {
+                    column = wrap(y, height);
+                } else if (y < 0 || y >= height) {
+                    continue;
+                } else {
+                    column = y;
+                }
+                if (ownerGrid[row + column] != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
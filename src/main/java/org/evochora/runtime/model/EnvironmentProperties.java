@@ -55,32 +55,55 @@ public class EnvironmentProperties {
      * @return The next coordinate position
      */
     public int[] getNextPosition(int[] currentPos, int[] directionVector) {
-        int[] nextPos = new int[currentPos.length];
-        for (int i = 0; i < currentPos.length; i++) {
-            nextPos[i] = currentPos[i] + directionVector[i];
-        }
-        
-        if (isToroidal) {
-            return normalizePosition(nextPos);
-        }
+        int[] nextPos = currentPos.clone();
+        advance(nextPos, directionVector);
         return nextPos;
     }
-    
+
     /**
-     * Normalizes a position to handle toroidal wrapping.
-     * 
-     * @param pos The position to normalize
-     * @return The normalized position
+     * Moves a position by one step along a direction vector, in place.
+     * <p>
+     * Allocation-free variant of {@link #getNextPosition(int[], int[])} for hot paths that walk
+     * along instructions. In a toroidal world every component is wrapped into the world shape;
+     * in a bounded world the position may leave the grid, like with {@code getNextPosition}.
+     *
+     * @param position The coordinate to move (modified)
+     * @param directionVector The direction vector to apply
      */
-    private int[] normalizePosition(int[] pos) {
-        int[] normalized = new int[pos.length];
-        for (int i = 0; i < pos.length; i++) {
-            normalized[i] = pos[i] % worldShape[i];
-            if (normalized[i] < 0) {
-                normalized[i] += worldShape[i];
+    public void advance(int[] position, int[] directionVector) {
+        for (int i = 0; i < position.length; i++) {
+            int c = position[i] + directionVector[i];
+            if (isToroidal) {
+                c %= worldShape[i];
+                if (c < 0) {
+                    c += worldShape[i];
+                }
             }
+            position[i] = c;
         }
-        return normalized;
+    }
+
+    /**
+     * Converts a coordinate to its flat index (row-major, see {@link #flatIndexToCoordinates(int)}),
+     * applying toroidal wrapping.
+     * <p>
+     * <strong>Performance:</strong> Allocation-free; uses the precomputed strides.
+     *
+     * @param coord The coordinate to convert (must have length == worldShape.length)
+     * @return The flat index, or -1 if the coordinate lies outside a bounded world
+     */
+    public int toFlatIndex(int[] coord) {
+        int flatIndex = 0;
+        for (int i = 0; i < worldShape.length; i++) {
+            int c = coord[i];
+            if (isToroidal) {
+                c = Math.floorMod(c, worldShape[i]);
+            } else if (c < 0 || c >= worldShape[i]) {
+                return -1;
+            }
+            flatIndex += c * strides[i];
+        }
+        return flatIndex;
     }
     
     /**
@@ -97,7 +120,9 @@ public class EnvironmentProperties {
         }
         
         if (isToroidal) {
-            return normalizePosition(targetPos);
+            for (int i = 0; i < targetPos.length; i++) {
+                targetPos[i] = Math.floorMod(targetPos[i], worldShape[i]);
+            }
         }
         return targetPos;
     }
@@ -62,14 +62,15 @@ public class Organism {
     private int activeDpIndex;
     private int[] dv;
     private int er;
-    private final List<Object> drs;
-    private final List<Object> prs;
-    private final List<Object> fprs;
-    private final List<Object> lrs;
-    private final Deque<Object> dataStack;
+    private final RegisterFile drs;
+    private final RegisterFile prs;
+    private final RegisterFile fprs;
+    private final int[][] lrs;
+    private final DataStack dataStack;
     private final Deque<int[]> locationStack;
     private final Deque<ProcFrame> callStack;
     private boolean isDead = false;
+    private boolean traced = false;
     private boolean loggingEnabled = false;
     private boolean instructionFailed = false;
     private String failureReason = null;
@@ -126,7 +127,7 @@ public class Organism {
      */
     Organism(int id, int[] startIp, int initialEnergy, Logger logger, Simulation simulation) {
         this.id = id;
-        this.ip = startIp;
+        this.ip = Arrays.copyOf(startIp, startIp.length);
         this.dps = new ArrayList<>(Config.NUM_DATA_POINTERS);
         for (int i = 0; i < Config.NUM_DATA_POINTERS; i++) {
             this.dps.add(Arrays.copyOf(startIp, startIp.length));
@@ -136,24 +137,15 @@ public class Organism {
         this.simulation = simulation;
         this.dv = new int[startIp.length];
         this.dv[0] = 1; // Default direction: +X
-        this.drs = new ArrayList<>(Config.NUM_DATA_REGISTERS);
-        for (int i = 0; i < Config.NUM_DATA_REGISTERS; i++) {
-            this.drs.add(0);
-        }
-        this.prs = new ArrayList<>(Config.NUM_PROC_REGISTERS);
-        for (int i = 0; i < Config.NUM_PROC_REGISTERS; i++) {
-            this.prs.add(0);
-        }
-        this.fprs = new ArrayList<>(Config.NUM_FORMAL_PARAM_REGISTERS);
-        for (int i = 0; i < Config.NUM_FORMAL_PARAM_REGISTERS; i++) {
-            this.fprs.add(0);
-        }
-        this.lrs = new ArrayList<>(Config.NUM_LOCATION_REGISTERS);
+        this.drs = new RegisterFile(Config.NUM_DATA_REGISTERS);
+        this.prs = new RegisterFile(Config.NUM_PROC_REGISTERS);
+        this.fprs = new RegisterFile(Config.NUM_FORMAL_PARAM_REGISTERS);
+        this.lrs = new int[Config.NUM_LOCATION_REGISTERS][];
         for (int i = 0; i < Config.NUM_LOCATION_REGISTERS; i++) {
-            this.lrs.add(new int[startIp.length]);
+            this.lrs[i] = new int[startIp.length];
         }
         this.locationStack = new ArrayDeque<>(Config.LOCATION_STACK_MAX_DEPTH);
-        this.dataStack = new ArrayDeque<>(Config.STACK_MAX_DEPTH);
+        this.dataStack = new DataStack(Config.DS_MAX_DEPTH);
         this.callStack = new ArrayDeque<>(Config.CALL_STACK_MAX_DEPTH);
         this.activeDpIndex = 0;
         this.ipBeforeFetch = Arrays.copyOf(startIp, startIp.length);
@@ -190,8 +182,9 @@ public class Organism {
         this.failureReason = null;
         this.failureCallStack = null;
         this.skipIpAdvance = false;
-        this.ipBeforeFetch = java.util.Arrays.copyOf(this.ip, this.ip.length);
-        this.dvBeforeFetch = java.util.Arrays.copyOf(this.dv, this.dv.length);
+        // Reuse the per-tick arrays; they never escape (getters return copies).
+        this.ipBeforeFetch = copyInto(this.ip, this.ipBeforeFetch);
+        this.dvBeforeFetch = copyInto(this.dv, this.dvBeforeFetch);
         this.lastInstructionExecution = null;
     }
 
@@ -203,8 +196,26 @@ public class Organism {
      */
     public void advanceIpBy(int steps, Environment environment) {
         for (int i = 0; i < steps; i++) {
-            this.ip = getNextInstructionPosition(this.ip, this.dvBeforeFetch, environment);
+            environment.properties.advance(this.ip, this.dvBeforeFetch);
+        }
+    }
+
+    private static int[] copyInto(int[] source, int[] target) {
+        if (target.length != source.length) {
+            return Arrays.copyOf(source, source.length);
         }
+        System.arraycopy(source, 0, target, 0, source.length);
+        return target;
+    }
+
+    /**
+     * Gets the flat index of the current IP without copying it.
+     *
+     * @param environment The simulation environment.
+     * @return The flat index of the IP, or -1 if it lies outside a bounded world.
+     */
+    public int getIpFlatIndex(Environment environment) {
+        return environment.getFlatIndex(this.ip);
     }
 
     /**
@@ -215,11 +226,11 @@ public class Organism {
      * @return A list of raw integer values representing the arguments.
      */
     public List<Integer> getRawArgumentsFromEnvironment(int instructionLength, Environment environment) {
-        List<Integer> rawArgs = new ArrayList<>();
+        List<Integer> rawArgs = new ArrayList<>(Math.max(0, instructionLength - 1));
         int[] tempIp = Arrays.copyOf(this.ipBeforeFetch, this.ipBeforeFetch.length);
         for (int i = 0; i < instructionLength - 1; i++) {
-            tempIp = getNextInstructionPosition(tempIp, this.dvBeforeFetch, environment);
-            rawArgs.add(environment.getMolecule(tempIp).toInt());
+            environment.properties.advance(tempIp, this.dvBeforeFetch);
+            rawArgs.add(environment.getMoleculeIntAt(tempIp));
         }
         return rawArgs;
     }
@@ -302,23 +313,21 @@ public class Organism {
      * @param environment The simulation environment.
      */
     public void skipNextInstruction(Environment environment) {
-        int[] currentInstructionIp = this.getIpBeforeFetch();
-        int currentInstructionOpcode = environment.getMolecule(currentInstructionIp).toInt();
+        int[] position = this.getIpBeforeFetch();
+        int currentInstructionOpcode = environment.getMoleculeIntAt(position);
         int currentInstructionLength = Instruction.getInstructionLengthById(currentInstructionOpcode, environment);
 
-        int[] nextInstructionIp = currentInstructionIp;
         for (int i = 0; i < currentInstructionLength; i++) {
-            nextInstructionIp = getNextInstructionPosition(nextInstructionIp, this.getDvBeforeFetch(), environment);
+            environment.properties.advance(position, this.dvBeforeFetch);
         }
 
-        int nextOpcode = environment.getMolecule(nextInstructionIp).toInt();
+        int nextOpcode = environment.getMoleculeIntAt(position);
         int lengthToSkip = Instruction.getInstructionLengthById(nextOpcode, environment);
 
-        int[] finalIp = nextInstructionIp;
         for (int i = 0; i < lengthToSkip; i++) {
-            finalIp = getNextInstructionPosition(finalIp, this.getDvBeforeFetch(), environment);
+            environment.properties.advance(position, this.dvBeforeFetch);
         }
-        this.setIp(finalIp);
+        this.ip = position;
         this.setSkipIpAdvance(true);
     }
 
@@ -402,7 +411,7 @@ public class Organism {
      * @param newIp The new coordinate for the IP.
      */
     public void setIp(int[] newIp) { 
-        this.ip = newIp; 
+        this.ip = copyInto(newIp, this.ip); 
     }
 
     /**
@@ -492,7 +501,7 @@ public class Organism {
      * @param newDv The new direction vector.
      */
     public void setDv(int[] newDv) { 
-        this.dv = newDv; 
+        this.dv = copyInto(newDv, this.dv); 
     }
 
     /**
@@ -574,6 +583,12 @@ public class Organism {
     public int[] getIpBeforeFetch() { return Arrays.copyOf(ipBeforeFetch, ipBeforeFetch.length); }
     /** @return A copy of the DV as it was at the beginning of the tick. */
     public int[] getDvBeforeFetch() { return Arrays.copyOf(dvBeforeFetch, dvBeforeFetch.length); }
+    /**
+     * Compares the direction vector of the current tick without copying it.
+     * @param vector The vector to compare with.
+     * @return {@code true} if the DV before fetch equals the given vector.
+     */
+    public boolean isDvBeforeFetch(int[] vector) { return Arrays.equals(dvBeforeFetch, vector); }
     /** @return The instruction execution data from the last executed instruction, or null if no instruction was executed. */
     public InstructionExecutionData getLastInstructionExecution() { return lastInstructionExecution; }
     /** Sets the instruction execution data for the last executed instruction.
@@ -583,9 +598,18 @@ public class Organism {
     /** @return The current energy level (ER). */
     public int getEr() { return er; }
     /** @return A copy of the list of Data Registers (DRs). */
-    public List<Object> getDrs() { return new ArrayList<>(drs); }
+    public List<Object> getDrs() { return drs.toList(); }
+    /** @return A live, copy-free view of the Data Registers (DRs) for serialization. */
+    public RegisterValueView getDrView() { return drs; }
     /** @return true if the organism is dead, false otherwise. */
     public boolean isDead() { return isDead; }
+    /** @return true if execution data is collected for this organism on every tick. */
+    public boolean isTraced() { return traced; }
+    /** Flags the organism for tracing, so execution data is collected even on ticks without
+     * {@link Simulation#isExecutionDataCollected() execution data collection}.
+     * @param traced true to always collect execution data for this organism.
+     */
+    public void setTraced(boolean traced) { this.traced = traced; }
     /** @return true if detailed logging is enabled for this organism. */
     public boolean isLoggingEnabled() { return loggingEnabled; }
     /** Enables or disables detailed logging for this organism.
@@ -604,8 +628,8 @@ public class Organism {
     public Simulation getSimulation() { return simulation; }
     /** @return A copy of the organism's initial starting position. */
     public int[] getInitialPosition() { return Arrays.copyOf(this.initialPosition, this.initialPosition.length); }
-    /** @return A reference to the Data Stack (DS). */
-    public Deque<Object> getDataStack() { 
+    /** @return A reference to the Data Stack (DS), bounded by {@link Config#DS_MAX_DEPTH}. */
+    public DataStack getDataStack() { 
         return this.dataStack;
     }
     /** @return A reference to the Call Stack (CS). */
@@ -614,7 +638,11 @@ public class Organism {
     }
 
     /** @return A copy of the list of Procedure-local Registers (PRs). */
-    public List<Object> getPrs() { return new ArrayList<>(this.prs); }
+    public List<Object> getPrs() { return this.prs.toList(); }
+    /** @return A live, copy-free view of the Procedure-local Registers (PRs) for serialization. */
+    public RegisterValueView getPrView() { return this.prs; }
+    /** @return A snapshot of all PR values, as stored in a {@link ProcFrame}. */
+    public Object[] snapshotPrs() { return this.prs.toArray(); }
 
     /**
      * Sets the value of a Procedure-local Register (PR).
@@ -666,7 +694,11 @@ public class Organism {
     }
 
     /** @return A copy of the list of Formal Parameter Registers (FPRs). */
-    public List<Object> getFprs() { return new ArrayList<>(this.fprs); }
+    public List<Object> getFprs() { return this.fprs.toList(); }
+    /** @return A live, copy-free view of the Formal Parameter Registers (FPRs) for serialization. */
+    public RegisterValueView getFprView() { return this.fprs; }
+    /** @return A snapshot of all FPR values, as stored in a {@link ProcFrame}. */
+    public Object[] snapshotFprs() { return this.fprs.toArray(); }
 
     /**
      * Sets the value of a Formal Parameter Register (FPR).
@@ -723,9 +755,21 @@ public class Organism {
      * @return A new list containing the vector values of all LRs.
      */
     public List<Object> getLrs() {
-        return new ArrayList<>(this.lrs);
+        return new ArrayList<>(Arrays.asList((Object[]) this.lrs));
     }
 
+    /** @return The number of Location Registers (LRs). */
+    public int getLrCount() { return this.lrs.length; }
+
+    /**
+     * Gets the value of a Location Register (LR) without copying, for serialization.
+     * The returned array must not be modified.
+     *
+     * @param index The index of the register.
+     * @return The stored vector.
+     */
+    public int[] getLrView(int index) { return this.lrs[index]; }
+
     /**
      * Sets the value of a Location Register (LR).
      *
@@ -734,8 +778,8 @@ public class Organism {
      * @return {@code true} on success, {@code false} on failure.
      */
     public boolean setLr(int index, int[] value) {
-        if (index >= 0 && index < this.lrs.size()) {
-            this.lrs.set(index, value);
+        if (index >= 0 && index < this.lrs.length) {
+            this.lrs[index] = value;
             return true;
         }
         this.instructionFailed("LR index out of bounds: " + index);
@@ -749,8 +793,8 @@ public class Organism {
      * @return The vector value, or {@code null} on failure.
      */
     public int[] getLr(int index) {
-        if (index >= 0 && index < this.lrs.size()) {
-            return (int[]) this.lrs.get(index);
+        if (index >= 0 && index < this.lrs.length) {
+            return this.lrs[index];
         }
         this.instructionFailed("LR index out of bounds: " + index);
         return null;
@@ -0,0 +1,130 @@
+package org.evochora.runtime.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A fixed-size bank of registers backed by primitive storage.
+ * <p>
+ * Every slot is tagged as either scalar or vector: scalars live unboxed in an {@code int[]},
+ * vectors are referenced from a parallel {@code int[][]} whose non-null entries act as the tag.
+ * The {@code Object}-based accessors keep the existing instruction API ({@code Integer} or
+ * {@code int[]} values) working, while {@link RegisterValueView} gives copy-free access for
+ * serialization.
+ */
+public final class RegisterFile implements RegisterValueView {
+    private static final int[][] NO_VECTORS = new int[0][];
+
+    private final int[] scalars;
+    // Allocated on the first vector write; most register files only ever hold scalars.
+    private int[][] vectors = NO_VECTORS;
+
+    /**
+     * Creates a register file with all registers set to scalar 0.
+     *
+     * @param size The number of registers.
+     */
+    public RegisterFile(int size) {
+        this.scalars = new int[size];
+    }
+
+    @Override
+    public int size() {
+        return scalars.length;
+    }
+
+    @Override
+    public boolean isVector(int index) {
+        return vectorAt(index) != null;
+    }
+
+    @Override
+    public int scalarAt(int index) {
+        return scalars[index];
+    }
+
+    @Override
+    public int[] vectorAt(int index) {
+        Objects.checkIndex(index, scalars.length);
+        return vectors.length > 0 ? vectors[index] : null;
+    }
+
+    /**
+     * Stores a scalar value in a register.
+     *
+     * @param index The register index.
+     * @param value The scalar value.
+     */
+    public void setScalar(int index, int value) {
+        scalars[index] = value;
+        if (vectors.length > 0) {
+            vectors[index] = null;
+        }
+    }
+
+    /**
+     * Stores a vector value in a register. The array is stored by reference.
+     *
+     * @param index The register index.
+     * @param value The vector value.
+     */
+    public void setVector(int index, int[] value) {
+        Objects.checkIndex(index, scalars.length);
+        if (vectors.length == 0) {
+            vectors = new int[scalars.length][];
+        }
+        vectors[index] = value;
+    }
+
+    /**
+     * Gets a register value in the boxed representation used by instructions.
+     *
+     * @param index The register index.
+     * @return An {@code Integer} for scalar registers or the stored {@code int[]} for vector registers.
+     */
+    public Object get(int index) {
+        int[] vector = vectorAt(index);
+        return vector != null ? vector : Integer.valueOf(scalars[index]);
+    }
+
+    /**
+     * Sets a register from its boxed representation.
+     *
+     * @param index The register index.
+     * @param value An {@code Integer} or {@code int[]}.
+     * @throws IllegalArgumentException if the value is of any other type.
+     */
+    public void set(int index, Object value) {
+        if (value instanceof Integer i) {
+            setScalar(index, i);
+        } else if (value instanceof int[] v) {
+            setVector(index, v);
+        } else {
+            throw new IllegalArgumentException("Unsupported register value type: "
+                    + (value != null ? value.getClass().getSimpleName() : "null"));
+        }
+    }
+
+    /**
+     * @return A new list with the boxed values of all registers.
+     */
+    public List<Object> toList() {
+        List<Object> list = new ArrayList<>(scalars.length);
+        for (int i = 0; i < scalars.length; i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+
+    /**
+     * @return A new array with the boxed values of all registers, e.g. for procedure frames.
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[scalars.length];
+        for (int i = 0; i < scalars.length; i++) {
+            array[i] = get(i);
+        }
+        return array;
+    }
+}
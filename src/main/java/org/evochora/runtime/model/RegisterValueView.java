@@ -0,0 +1,35 @@
+package org.evochora.runtime.model;
+
+/**
+ * Read-only, index-based view over a sequence of register values (registers or stack slots).
+ * <p>
+ * Each slot holds either a scalar (a packed molecule integer) or a vector. Views expose the
+ * underlying storage without copying or boxing, which makes them suitable for hot paths such
+ * as tick-data capture. Callers must not modify arrays returned by {@link #vectorAt(int)} and
+ * must not retain them beyond the current tick.
+ */
+public interface RegisterValueView {
+
+    /**
+     * @return The number of slots in this view.
+     */
+    int size();
+
+    /**
+     * @param index The slot index.
+     * @return {@code true} if the slot holds a vector, {@code false} if it holds a scalar.
+     */
+    boolean isVector(int index);
+
+    /**
+     * @param index The slot index.
+     * @return The scalar value of the slot; undefined if the slot holds a vector.
+     */
+    int scalarAt(int index);
+
+    /**
+     * @param index The slot index.
+     * @return The vector stored in the slot (not a copy), or {@code null} if the slot holds a scalar.
+     */
+    int[] vectorAt(int index);
+}
@@ -14,8 +14,14 @@ import org.junit.jupiter.api.io.TempDir;
 import org.evochora.junit.extensions.logging.LogWatchExtension;
 
 import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -188,5 +194,53 @@ class EnvironmentDataWriterWrapperTest {
             .build();
         wrapper.writeEnvironmentCells(List.of(tick), envProps);
     }
+    
+    @Test
+    void testWriteEnvironmentCellsAsync_WriteBehindCommitsQueuedFlushes() throws Exception {
+        // Given: Database with write-behind enabled
+        String dbPath = tempDir.toString().replace("\\", "/");
+        H2Database writeBehindDatabase = new H2Database("test-db-write-behind", ConfigFactory.parseString("""
+            jdbcUrl = "jdbc:h2:file:%s/test-write-behind"
+            writeBehind { enabled = true, maxPendingFlushes = 2, maxGroupFlushes = 8 }
+            """.formatted(dbPath)));
+        try {
+            ResourceContext context = new ResourceContext("test-service", "port", "db-env-write", "test-db-write-behind", Map.of());
+            EnvironmentDataWriterWrapper writeBehindWrapper =
+                (EnvironmentDataWriterWrapper) writeBehindDatabase.getWrappedResource(context);
+            writeBehindWrapper.setSimulationRun("test-run");
+            EnvironmentProperties envProps = new EnvironmentProperties(new int[]{10, 10}, false);
+            
+            // When: Five flushes are queued (more than maxPendingFlushes, so submitting blocks)
+            List<CompletableFuture<Void>> commits = new ArrayList<>();
+            for (long tickNumber = 1; tickNumber <= 5; tickNumber++) {
+                TickData tick = TickData.newBuilder()
+                    .setTickNumber(tickNumber)
+                    .addCells(CellState.newBuilder().setFlatIndex(0).setOwnerId(100).setMoleculeType(1).setMoleculeValue(50).build())
+                    .build();
+                commits.add(writeBehindWrapper.writeEnvironmentCellsAsync(List.of(tick), envProps));
+            }
+            CompletableFuture.allOf(commits.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            
+            // Then: All flushes are committed, in at most as many transactions
+            Map<String, Number> metrics = writeBehindWrapper.getMetrics();
+            assertThat(metrics.get("batches_written").longValue()).isEqualTo(5);
+            assertThat(metrics.get("write_behind_flushes_committed").longValue()).isEqualTo(5);
+            assertThat(metrics.get("write_behind_group_commits").longValue()).isBetween(1L, 5L);
+            assertThat(metrics.get("write_behind_flushes_failed").longValue()).isEqualTo(0);
+            assertThat(metrics.get("write_behind_pending_flushes").intValue()).isEqualTo(0);
+            
+            // And: Committed ticks are visible on other connections
+            Connection conn = (Connection) writeBehindDatabase.acquireDedicatedConnection();
+            try (Statement stmt = conn.createStatement()) {
+                writeBehindDatabase.doSetSchema(conn, "test-run");
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM environment_ticks");
+                rs.next();
+                assertThat(rs.getLong(1)).isEqualTo(5);
+            } finally {
+                conn.close();
+            }
+        } finally {
+            writeBehindDatabase.close();
+        }
+    }
 }
-
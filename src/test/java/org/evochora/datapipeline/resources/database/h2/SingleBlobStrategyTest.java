@@ -2,6 +2,7 @@ package org.evochora.datapipeline.resources.database.h2;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import org.evochora.datapipeline.api.contracts.CellColumns;
 import org.evochora.datapipeline.api.contracts.CellState;
 import org.evochora.datapipeline.api.contracts.CellStateList;
 import org.evochora.datapipeline.api.contracts.TickData;
@@ -225,6 +226,29 @@ class SingleBlobStrategyTest {
         }
     }
     
+    @Test
+    void testSerializeTickCells_ColumnarTickKeepsColumns() throws Exception {
+        // Given: Strategy with no compression and a tick with columnar cells
+        strategy = new SingleBlobStrategy(ConfigFactory.empty());
+        strategy.mergeSql = "MERGE INTO environment_ticks (tick_number, cells_blob) " +
+                           "KEY (tick_number) VALUES (?, ?)";
+        CellColumns columns = CellColumns.newBuilder()
+            .addFlatIndices(3).addMolecules(0x10005).addOwnerIds(0)
+            .addFlatIndices(7).addMolecules(0x2000A).addOwnerIds(2)
+            .build();
+        TickData tick = TickData.newBuilder().setTickNumber(1000L).setCellColumns(columns).build();
+
+        // When: Write tick
+        strategy.writeTicks(mockConnection, mockPreparedStatement, List.of(tick), new EnvironmentProperties(new int[]{10, 10}, false));
+
+        // Then: BLOB stores the columns, not one message per cell
+        ArgumentCaptor<byte[]> blobCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(mockPreparedStatement).setBytes(eq(2), blobCaptor.capture());
+        CellStateList deserialized = CellStateList.parseFrom(blobCaptor.getValue());
+        assertThat(deserialized.getCellsList()).isEmpty();
+        assertThat(deserialized.getColumns()).isEqualTo(columns);
+    }
+
     @Test
     void testSerializeTickCells_WithCompression() throws SQLException {
         // Given: Strategy with zstd compression
@@ -0,0 +1,158 @@
+package org.evochora.datapipeline.resources.storage;
+
+import com.typesafe.config.ConfigFactory;
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.evochora.datapipeline.api.resources.storage.StoragePath;
+import org.evochora.junit.extensions.logging.LogWatchExtension;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link DecodedBatchCache}.
+ */
+@Tag("unit")
+@ExtendWith(LogWatchExtension.class)
+class DecodedBatchCacheTest {
+
+    @Test
+    void testGet_LoadsOnceAndServesHits() throws Exception {
+        DecodedBatchCache cache = new DecodedBatchCache("batch-cache", ConfigFactory.empty());
+        AtomicInteger loads = new AtomicInteger();
+        StoragePath path = StoragePath.of("run/000/batch_0000000000000000000_0000000000000000009.pb");
+
+        List<TickData> first = cache.get(path, p -> {
+            loads.incrementAndGet();
+            return createTicks(0, 10);
+        });
+        List<TickData> second = cache.get(path, p -> {
+            loads.incrementAndGet();
+            return createTicks(0, 10);
+        });
+
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        Map<String, Number> metrics = cache.getMetrics();
+        assertEquals(1, metrics.get("cache_hits").longValue());
+        assertEquals(1, metrics.get("cache_misses").longValue());
+        assertEquals(1, metrics.get("cache_entries").intValue());
+        assertEquals(sizeOf(first), metrics.get("cache_bytes_held").longValue());
+    }
+
+    @Test
+    void testGet_ConcurrentCallersShareOneLoad() throws Exception {
+        DecodedBatchCache cache = new DecodedBatchCache("batch-cache", ConfigFactory.empty());
+        StoragePath path = StoragePath.of("run/000/batch_0000000000000000000_0000000000000000009.pb");
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<List<TickData>> loader = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.get(path, p -> {
+                    loads.incrementAndGet();
+                    loadStarted.countDown();
+                    try {
+                        releaseLoad.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    return createTicks(0, 10);
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<List<TickData>> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.get(path, p -> {
+                    loads.incrementAndGet();
+                    return createTicks(0, 10);
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        await().atMost(5, TimeUnit.SECONDS)
+            .until(() -> cache.getMetrics().get("cache_shared_loads").longValue() == 1);
+        releaseLoad.countDown();
+
+        assertSame(loader.get(5, TimeUnit.SECONDS), waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGet_EvictsLeastRecentlyUsedBatchesOverByteLimit() throws Exception {
+        // Tick numbers 100-399 all encode to the same size, so all three batches have equal size
+        long batchBytes = sizeOf(createTicks(100, 10));
+        DecodedBatchCache cache = new DecodedBatchCache("batch-cache",
+            ConfigFactory.parseMap(Map.of("maxBytes", 2 * batchBytes)));
+        StoragePath batch1 = StoragePath.of("run/000/batch_0000000000000000000_0000000000000000009.pb");
+        StoragePath batch2 = StoragePath.of("run/000/batch_0000000000000000010_0000000000000000019.pb");
+        StoragePath batch3 = StoragePath.of("run/000/batch_0000000000000000020_0000000000000000029.pb");
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(batch1, p -> countedLoad(loads, 100));
+        cache.get(batch2, p -> countedLoad(loads, 200));
+        cache.get(batch1, p -> countedLoad(loads, 100));  // Hit: batch2 becomes least recently used
+        cache.get(batch3, p -> countedLoad(loads, 300));  // Evicts batch2
+
+        assertEquals(3, loads.get());
+        cache.get(batch1, p -> countedLoad(loads, 100));
+        assertEquals(3, loads.get(), "batch1 should still be cached");
+        cache.get(batch2, p -> countedLoad(loads, 200));
+        assertEquals(4, loads.get(), "batch2 should have been evicted");
+
+        Map<String, Number> metrics = cache.getMetrics();
+        assertTrue(metrics.get("cache_bytes_held").longValue() <= 2 * batchBytes);
+        assertEquals(2, metrics.get("cache_evictions").longValue());
+    }
+
+    @Test
+    void testGet_FailedLoadIsNotCached() throws Exception {
+        DecodedBatchCache cache = new DecodedBatchCache("batch-cache", ConfigFactory.empty());
+        StoragePath path = StoragePath.of("run/000/batch_0000000000000000000_0000000000000000009.pb");
+
+        assertThrows(IOException.class, () -> cache.get(path, p -> {
+            throw new IOException("Simulated read error");
+        }));
+        List<TickData> ticks = cache.get(path, p -> createTicks(0, 10));
+
+        assertEquals(10, ticks.size());
+        assertEquals(2, cache.getMetrics().get("cache_misses").longValue());
+    }
+
+    private static List<TickData> countedLoad(AtomicInteger loads, long startTick) {
+        loads.incrementAndGet();
+        return createTicks(startTick, 10);
+    }
+
+    private static List<TickData> createTicks(long startTick, int count) {
+        List<TickData> ticks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ticks.add(TickData.newBuilder()
+                .setSimulationRunId("run")
+                .setTickNumber(startTick + i)
+                .build());
+        }
+        return ticks;
+    }
+
+    private static long sizeOf(List<TickData> ticks) {
+        return ticks.stream().mapToLong(TickData::getSerializedSize).sum();
+    }
+}
@@ -122,6 +122,31 @@ class FileSystemStorageResourceCompressionTest {
             assertThat(ratio).isGreaterThan(2.0);
         }
 
+        @Test
+        @DisplayName("Batches written as one frame per tick read back whole and per tick")
+        void framedBatchRoundTrip() throws IOException {
+            Config framedConfig = ConfigFactory.parseString(String.format("""
+                rootDirectory = "%s"
+                seekableFrameBytes = 1
+                compression {
+                  enabled = true
+                  codec = "zstd"
+                  level = 3
+                }
+                """, tempDir.resolve("framed").toString().replace("\\", "\\\\")));
+            FileSystemStorageResource framed = new FileSystemStorageResource("framed", framedConfig);
+            List<TickData> batch = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                batch.add(createTick(i));
+            }
+
+            StoragePath path = framed.writeBatch(batch, 0, 9);
+
+            // Concatenated zstd frames decompress as one stream
+            assertThat(framed.readBatch(path)).isEqualTo(batch);
+            assertThat(framed.readTick(path, 7)).contains(batch.get(7));
+        }
+
         @Test
         @DisplayName("readMessage works with compressed files")
         void readMessageWorksWithCompression() throws IOException {
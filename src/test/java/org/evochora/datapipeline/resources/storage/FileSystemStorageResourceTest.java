@@ -1,12 +1,20 @@
 package org.evochora.datapipeline.resources.storage;
 
+import com.google.protobuf.ByteString;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
 import org.evochora.datapipeline.api.resources.storage.BatchFileListResult;
 import org.evochora.datapipeline.api.resources.storage.StoragePath;
+import org.evochora.datapipeline.api.resources.storage.TickProjection;
+import org.evochora.datapipeline.api.contracts.CellState;
+import org.evochora.datapipeline.api.contracts.OrganismState;
+import org.evochora.datapipeline.api.contracts.StrategyState;
 import org.evochora.datapipeline.api.contracts.TickData;
 import org.evochora.datapipeline.api.contracts.SimulationMetadata;
-import org.evochora.datapipeline.api.contracts.SimulationMetadata;
+import org.evochora.datapipeline.utils.compression.ZstdDictionary;
+import org.evochora.junit.extensions.logging.ExpectLog;
+import org.evochora.junit.extensions.logging.LogLevel;
 import org.evochora.junit.extensions.logging.LogWatchExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,12 +23,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
@@ -28,6 +40,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -71,6 +84,285 @@ class FileSystemStorageResourceTest {
                 .build();
     }
 
+    private TickData keyframe(long tickNumber, int... cellValues) {
+        TickData.Builder builder = TickData.newBuilder()
+                .setTickNumber(tickNumber)
+                .setSimulationRunId("delta-sim")
+                .setKeyframeTick(tickNumber);
+        for (int i = 0; i < cellValues.length; i++) {
+            builder.addCells(CellState.newBuilder().setFlatIndex(i).setMoleculeValue(cellValues[i]));
+        }
+        return builder.build();
+    }
+
+    private TickData delta(long tickNumber, long keyframeTick, int flatIndex, int value) {
+        return TickData.newBuilder()
+                .setTickNumber(tickNumber)
+                .setSimulationRunId("delta-sim")
+                .setIsDelta(true)
+                .setKeyframeTick(keyframeTick)
+                .setDeltaBaseTick(tickNumber - 1)
+                .addCells(CellState.newBuilder().setFlatIndex(flatIndex).setMoleculeValue(value))
+                .build();
+    }
+
+    private static Map<Integer, Integer> cellValues(TickData tick) {
+        Map<Integer, Integer> values = new HashMap<>();
+        tick.getCellsList().forEach(cell -> values.put(cell.getFlatIndex(), cell.getMoleculeValue()));
+        return values;
+    }
+
+    @Test
+    void testReadBatch_MaterializesDeltasAcrossBatches() throws IOException {
+        storage.writeBatch(List.of(keyframe(0, 1, 2), delta(1, 0, 0, 5)), 0, 1);
+        StoragePath second = storage.writeBatch(List.of(delta(2, 0, 2, 7), delta(3, 0, 1, 0)), 2, 3);
+
+        // A fresh instance has no cached state and replays from the keyframe in the first batch
+        FileSystemStorageResource fresh = new FileSystemStorageResource("fresh-storage", config);
+        for (FileSystemStorageResource reader : List.of(fresh, storage)) {
+            List<TickData> ticks = reader.readBatch(second);
+
+            assertEquals(2, ticks.size());
+            assertFalse(ticks.get(0).getIsDelta());
+            assertEquals(Map.of(0, 5, 1, 2, 2, 7), cellValues(ticks.get(0)));
+            assertEquals(Map.of(0, 5, 2, 7), cellValues(ticks.get(1)));
+        }
+    }
+
+    @Test
+    void testReadBatch_FailsWhenKeyframeIsMissing() throws IOException {
+        StoragePath path = storage.writeBatch(List.of(delta(5, 4, 0, 1)), 5, 5);
+
+        assertThrows(IOException.class, () -> storage.readBatch(path));
+    }
+
+    @Test
+    void testReadBatch_ProjectionParsesOnlyProjectedFields() throws IOException {
+        TickData tick = createTick(7).toBuilder()
+                .addCells(CellState.newBuilder().setFlatIndex(3).setMoleculeValue(9))
+                .addOrganisms(OrganismState.newBuilder().setOrganismId(42).setEnergy(100))
+                .setRngState(ByteString.copyFromUtf8("rng"))
+                .addStrategyStates(StrategyState.newBuilder().setStrategyType("GeyserCreator"))
+                .build();
+        StoragePath path = storage.writeBatch(List.of(tick, createTick(8)), 7, 8);
+
+        TickData header = tick.toBuilder()
+                .clearCells().clearOrganisms().clearRngState().clearStrategyStates().build();
+        assertEquals(2, storage.readBatch(path, TickProjection.CELLS).size());
+        assertEquals(header.toBuilder().addAllCells(tick.getCellsList()).build(),
+                storage.readBatch(path, TickProjection.CELLS).get(0));
+        assertEquals(header.toBuilder().addAllOrganisms(tick.getOrganismsList()).build(),
+                storage.readBatch(path, TickProjection.ORGANISMS).get(0));
+        assertEquals(header, storage.readBatch(path, TickProjection.HEADERS).get(0));
+        assertEquals(storage.readBatch(path), storage.readBatch(path, TickProjection.FULL));
+    }
+
+    @Test
+    void testReadBatch_ProjectionMaterializesDeltasAcrossBatches() throws IOException {
+        storage.writeBatch(List.of(keyframe(0, 1, 2), delta(1, 0, 0, 5)), 0, 1);
+        StoragePath second = storage.writeBatch(List.of(delta(2, 0, 2, 7), delta(3, 0, 1, 0)), 2, 3);
+
+        // A fresh instance replays the first batch with the projection to materialize the second
+        FileSystemStorageResource fresh = new FileSystemStorageResource("fresh-storage", config);
+        List<TickData> ticks = fresh.readBatch(second, TickProjection.CELLS);
+
+        assertEquals(2, ticks.size());
+        assertFalse(ticks.get(0).getIsDelta());
+        assertEquals(Map.of(0, 5, 1, 2, 2, 7), cellValues(ticks.get(0)));
+        assertEquals(Map.of(0, 5, 2, 7), cellValues(ticks.get(1)));
+        assertEquals(storage.readBatch(second), ticks);
+    }
+
+    @Test
+    void testWriteBatch_StreamsUnchangedFormatWithoutTempFiles() throws IOException {
+        List<TickData> batch = List.of(createTick(1), createTick(2), createTick(3));
+
+        StoragePath path = storage.writeBatch(batch, 1, 3);
+
+        // Same bytes as serializing the whole batch up front: concatenated delimited messages
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (TickData tick : batch) {
+            tick.writeDelimitedTo(expected);
+        }
+        assertArrayEquals(expected.toByteArray(), Files.readAllBytes(tempDir.resolve(path.asString())));
+        assertEquals(batch, storage.readBatch(path));
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+        }
+
+        Map<String, Number> metrics = storage.getMetrics();
+        assertEquals((long) expected.size(), metrics.get("bytes_written").longValue());
+        assertTrue(metrics.get("max_write_buffer_bytes").longValue() > 0);
+    }
+
+    @Test
+    void testPutRawStreaming_FailedWriterLeavesNoFile() throws IOException {
+        String physicalPath = "test-sim/failed.pb";
+
+        assertThrows(IOException.class, () -> storage.putRawStreaming(physicalPath, out -> {
+            out.write(new byte[]{1, 2, 3});
+            throw new IOException("serialization failed");
+        }));
+
+        assertFalse(Files.exists(tempDir.resolve(physicalPath)));
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void testReadTick_UsesIndexedFrames() throws IOException {
+        // Every tick exceeds one byte, so every tick gets its own frame
+        FileSystemStorageResource framed = new FileSystemStorageResource("framed-storage",
+            config.withValue("seekableFrameBytes", ConfigValueFactory.fromAnyRef(1)));
+        List<TickData> batch = List.of(createTick(10), createTick(11), createTick(12), createTick(13));
+        StoragePath path = framed.writeBatch(batch, 10, 13);
+
+        assertTrue(Files.exists(tempDir.resolve("test-sim/000/000/batch_0000000000000000010_0000000000000000013.idx")));
+        assertEquals(batch.get(2), framed.readTick(path, 12).orElseThrow());
+        assertTrue(framed.readTick(path, 14).isEmpty());
+        assertEquals(batch, framed.readBatch(path));
+
+        // The index is not listed as a batch
+        assertEquals(List.of(path), framed.listBatchFiles("test-sim/", null, 10).getFilenames());
+    }
+
+    @Test
+    void testReadTick_ScansBatchWithoutIndex() throws IOException {
+        List<TickData> batch = List.of(createTick(1), createTick(2), createTick(3));
+        StoragePath path = storage.writeBatch(batch, 1, 3);
+        Files.delete(tempDir.resolve(path.asString().replace(".pb", ".idx")));
+
+        assertEquals(batch.get(1), storage.readTick(path, 2).orElseThrow());
+        assertTrue(storage.readTick(path, 4).isEmpty());
+    }
+
+    @Test
+    void testReadTick_MaterializesDelta() throws IOException {
+        StoragePath path = storage.writeBatch(List.of(keyframe(0, 1, 2), delta(1, 0, 0, 5), delta(2, 0, 2, 7)), 0, 2);
+
+        TickData tick = storage.readTick(path, 2).orElseThrow();
+
+        assertFalse(tick.getIsDelta());
+        assertEquals(Map.of(0, 5, 1, 2, 2, 7), cellValues(tick));
+    }
+
+    @Test
+    void testIterateBatch_MatchesReadBatch() throws IOException {
+        storage.writeBatch(List.of(keyframe(0, 1, 2), delta(1, 0, 0, 5)), 0, 1);
+        StoragePath second = storage.writeBatch(List.of(delta(2, 0, 2, 7), delta(3, 0, 1, 0)), 2, 3);
+
+        List<TickData> iterated = new ArrayList<>();
+        FileSystemStorageResource fresh = new FileSystemStorageResource("fresh-storage", config);
+        fresh.iterateBatch(second).forEach(iterated::add);
+
+        assertEquals(storage.readBatch(second), iterated);
+    }
+
+    @Test
+    void testWriteBatch_TrainsAndUsesCompressionDictionary() throws IOException {
+        Config dictionaryConfig = config.withValue("compression", ConfigValueFactory.fromMap(Map.of(
+            "enabled", true, "codec", "zstd",
+            "dictionary", Map.of("enabled", true, "trainingTicks", 20, "maxSizeBytes", 4096))));
+        FileSystemStorageResource writer = new FileSystemStorageResource("dictionary-storage", dictionaryConfig);
+        List<List<TickData>> batches = new ArrayList<>();
+        List<StoragePath> paths = new ArrayList<>();
+        for (int first = 0; first < 40; first += 10) {
+            List<TickData> batch = new ArrayList<>();
+            for (int tick = first; tick < first + 10; tick++) {
+                TickData.Builder builder = createTick(tick).toBuilder();
+                for (int cell = 0; cell < 400; cell++) {
+                    builder.addCells(CellState.newBuilder().setFlatIndex(cell).setMoleculeValue((cell * 7 + tick) % 50));
+                }
+                batch.add(builder.build());
+            }
+            batches.add(batch);
+            paths.add(writer.writeBatch(batch, first, first + 9));
+        }
+
+        // The first batch is written while sampling, the second completes training
+        assertEquals(0, ZstdDictionary.idOfFrame(Files.readAllBytes(tempDir.resolve(paths.get(0).asString()))));
+        long dictionaryId = ZstdDictionary.idOfFrame(Files.readAllBytes(tempDir.resolve(paths.get(1).asString())));
+        assertNotEquals(0, dictionaryId);
+        assertTrue(Files.exists(tempDir.resolve("test-sim/dictionary_" + dictionaryId + ".pb.zst")));
+
+        // A reader without dictionary configuration loads it from storage
+        FileSystemStorageResource fresh = new FileSystemStorageResource("fresh-storage", config);
+        for (int i = 0; i < paths.size(); i++) {
+            assertEquals(batches.get(i), fresh.readBatch(paths.get(i)));
+        }
+        assertEquals(batches.get(3).get(5), fresh.readTick(paths.get(3), 35).orElseThrow());
+        assertTrue(writer.getMetrics().get("compression_ratio").doubleValue() > 1.0);
+        assertEquals(4L, fresh.getMetrics().get("decompressed_payloads").longValue());
+    }
+
+    private FileSystemStorageResource containerStorage(boolean skipCorruptChunks) {
+        // Every tick exceeds one byte, so every tick gets its own chunk
+        return new FileSystemStorageResource("container-storage", config
+            .withValue("seekableFrameBytes", ConfigValueFactory.fromAnyRef(1))
+            .withValue("compression", ConfigValueFactory.fromMap(Map.of("enabled", true, "codec", "zstd")))
+            .withValue("batchContainer", ConfigValueFactory.fromMap(Map.of(
+                "enabled", true, "skipCorruptChunks", skipCorruptChunks))));
+    }
+
+    @Test
+    void testWriteBatch_Container_RoundTripsAndDescribesBatch() throws IOException {
+        FileSystemStorageResource container = containerStorage(false);
+        List<TickData> batch = List.of(createTick(10), createTick(11), createTick(12), createTick(13));
+        StoragePath path = container.writeBatch(batch, 10, 13);
+
+        byte[] bytes = Files.readAllBytes(tempDir.resolve(path.asString()));
+        assertEquals(BatchContainer.MAGIC, java.nio.ByteBuffer.wrap(bytes).getInt());
+        assertFalse(Files.exists(tempDir.resolve(path.asString().replace(".pb.zst", ".idx"))),
+            "The index is the container footer");
+
+        assertEquals(batch, container.readBatch(path));
+        List<TickData> iterated = new ArrayList<>();
+        container.iterateBatch(path).forEach(iterated::add);
+        assertEquals(batch, iterated);
+        assertEquals(batch.get(2), container.readTick(path, 12).orElseThrow());
+        assertTrue(container.readTick(path, 14).isEmpty());
+
+        BatchFileStats stats = container.describeBatch(path);
+        assertEquals(BatchContainer.VERSION, stats.formatVersion());
+        assertEquals("zstd", stats.codec());
+        assertEquals(10, stats.firstTick());
+        assertEquals(13, stats.lastTick());
+        assertEquals(4, stats.tickCount());
+        assertEquals(4, stats.chunkCount());
+        assertEquals(bytes.length, stats.fileBytes());
+        assertEquals(batch.stream().mapToLong(t -> t.getSerializedSize() + 1).sum(), stats.uncompressedBytes());
+        assertTrue(stats.corruptChunks().isEmpty());
+
+        // Bare batch files stay readable and are described from their name and index
+        StoragePath bare = storage.writeBatch(List.of(createTick(20)), 20, 20);
+        assertEquals(20, container.readBatch(bare).get(0).getTickNumber());
+        BatchFileStats bareStats = container.describeBatch(bare);
+        assertEquals(0, bareStats.formatVersion());
+        assertEquals(1, bareStats.tickCount());
+    }
+
+    @Test
+    @ExpectLog(level = LogLevel.WARN, messagePattern = "Skipping corrupt chunk 0 of batch .*")
+    void testReadBatch_Container_DetectsCorruptChunk() throws IOException {
+        FileSystemStorageResource container = containerStorage(false);
+        List<TickData> batch = List.of(createTick(10), createTick(11), createTick(12));
+        StoragePath path = container.writeBatch(batch, 10, 12);
+
+        // Flip a byte in the compressed data of the first chunk
+        Path file = tempDir.resolve(path.asString());
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[BatchContainer.HEADER_BYTES + 6] ^= 0x5A;
+        Files.write(file, bytes);
+
+        assertEquals(List.of(0), container.describeBatch(path).corruptChunks());
+        assertThrows(IOException.class, () -> container.readBatch(path));
+        assertEquals(batch.get(2), container.readTick(path, 12).orElseThrow(), "Other chunks stay readable");
+
+        FileSystemStorageResource skipping = containerStorage(true);
+        assertEquals(batch.subList(1, 3), skipping.readBatch(path));
+    }
+
     @Test
     void testWriteMessage_ReadMessage_RoundTrip() throws IOException {
         String key = "single_message.pb";
@@ -106,6 +398,93 @@ class FileSystemStorageResourceTest {
         assertFalse(result.isTruncated());
     }
 
+    @Test
+    void testListBatchFiles_PagesTickRangesFromCatalog() throws IOException {
+        // Written out of order, listed in tick order
+        storage.writeBatch(List.of(createTick(30)), 30, 39);
+        storage.writeBatch(List.of(createTick(0)), 0, 9);
+        storage.writeBatch(List.of(createTick(20)), 20, 29);
+        storage.writeBatch(List.of(createTick(10)), 10, 19);
+        assertTrue(Files.exists(tempDir.resolve("test-sim/" + BatchCatalog.FILE_NAME)));
+
+        List<String> pages = new ArrayList<>();
+        String token = null;
+        do {
+            BatchFileListResult page = storage.listBatchFiles("test-sim/", token, 3);
+            page.getFilenames().forEach(f -> pages.add(f.asString()));
+            token = page.getNextContinuationToken();
+        } while (token != null);
+        assertEquals(List.of(
+                "test-sim/000/000/batch_0000000000000000000_0000000000000000009.pb",
+                "test-sim/000/000/batch_0000000000000000010_0000000000000000019.pb",
+                "test-sim/000/000/batch_0000000000000000020_0000000000000000029.pb",
+                "test-sim/000/000/batch_0000000000000000030_0000000000000000039.pb"), pages);
+
+        BatchFileListResult range = storage.listBatchFiles("test-sim/", null, 10, 10, 20);
+        assertEquals(List.of(
+                "test-sim/000/000/batch_0000000000000000010_0000000000000000019.pb",
+                "test-sim/000/000/batch_0000000000000000020_0000000000000000029.pb"),
+            range.getFilenames().stream().map(StoragePath::asString).toList());
+    }
+
+    @Test
+    void testListBatchFiles_RebuildsMissingCatalog() throws IOException {
+        storage.writeBatch(List.of(createTick(0)), 0, 9);
+        storage.writeBatch(List.of(createTick(10)), 10, 19);
+        Path catalog = tempDir.resolve("test-sim/" + BatchCatalog.FILE_NAME);
+        Files.delete(catalog);
+
+        FileSystemStorageResource fresh = new FileSystemStorageResource("fresh-storage", config);
+        BatchFileListResult result = fresh.listBatchFiles("test-sim/", null, 10, 10);
+
+        assertEquals(List.of("test-sim/000/000/batch_0000000000000000010_0000000000000000019.pb"),
+            result.getFilenames().stream().map(StoragePath::asString).toList());
+        assertTrue(Files.size(catalog) > 0, "Catalog should be rebuilt from the run directory");
+    }
+
+    @Test
+    void testListBatchFiles_TruncatesPartialRecordBeforeAppend() throws IOException {
+        storage.writeBatch(List.of(createTick(0)), 0, 9);
+        // A writer died halfway through appending its entry
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        BatchCatalog.entryOf("test-sim/000/000/batch_0000000000000000100_0000000000000000109.pb", 100, 109, 42, 0)
+            .writeDelimitedTo(record);
+        Path catalog = tempDir.resolve("test-sim/" + BatchCatalog.FILE_NAME);
+        Files.write(catalog, Arrays.copyOf(record.toByteArray(), record.size() / 2), StandardOpenOption.APPEND);
+
+        storage.writeBatch(List.of(createTick(10)), 10, 19);
+
+        FileSystemStorageResource fresh = new FileSystemStorageResource("fresh-storage", config);
+        assertEquals(List.of(
+                "test-sim/000/000/batch_0000000000000000000_0000000000000000009.pb",
+                "test-sim/000/000/batch_0000000000000000010_0000000000000000019.pb"),
+            fresh.listBatchFiles("test-sim/", null, 10).getFilenames().stream().map(StoragePath::asString).toList());
+    }
+
+    @Test
+    void testListBatchFiles_RebuildsUnparseableCatalog() throws IOException {
+        storage.writeBatch(List.of(createTick(0)), 0, 9);
+        storage.writeBatch(List.of(createTick(10)), 10, 19);
+        // A complete record that is not a valid entry (unterminated varint tag)
+        Path catalog = tempDir.resolve("test-sim/" + BatchCatalog.FILE_NAME);
+        Files.write(catalog, new byte[]{3, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF});
+
+        FileSystemStorageResource fresh = new FileSystemStorageResource("fresh-storage", config);
+        BatchFileListResult result = fresh.listBatchFiles("test-sim/", null, 10);
+
+        assertEquals(2, result.getFilenames().size());
+    }
+
+    @Test
+    void testListBatchFiles_SeesBatchesAppendedByOtherInstance() throws IOException {
+        FileSystemStorageResource reader = new FileSystemStorageResource("reader-storage", config);
+        storage.writeBatch(List.of(createTick(0)), 0, 9);
+        assertEquals(1, reader.listBatchFiles("test-sim/", null, 10).getFilenames().size());
+
+        storage.writeBatch(List.of(createTick(10)), 10, 19);
+        assertEquals(2, reader.listBatchFiles("test-sim/", null, 10).getFilenames().size());
+    }
+
     @Test
     void testConcurrentRead() throws Exception {
         // Write a batch of 100 ticks
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -73,6 +74,20 @@ class MonitoredStorageReaderTest {
             metrics.get("bytes_read").longValue());
     }
 
+    @Test
+    void testReadTickMetricsTracked() throws IOException {
+        TickData tick = TickData.newBuilder().setTickNumber(100).build();
+        StoragePath testPath = StoragePath.of("batch.pb.zst");
+        when(mockDelegate.readTick(testPath, 100)).thenReturn(Optional.of(tick));
+
+        assertEquals(Optional.of(tick), monitoredReader.readTick(testPath, 100));
+
+        Map<String, Number> metrics = monitoredReader.getMetrics();
+        assertEquals(1L, metrics.get("ticks_read").longValue());
+        assertEquals(0L, metrics.get("batches_read").longValue());
+        assertEquals(tick.getSerializedSize(), metrics.get("bytes_read").longValue());
+    }
+
     // Test disabled - queryBatches() removed in Step 1 (S3-incompatible non-paginated API)
     // Will be replaced with paginated API in Step 2
     // @Test
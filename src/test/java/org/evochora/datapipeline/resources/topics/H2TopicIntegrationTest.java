@@ -625,6 +625,201 @@ class H2TopicIntegrationTest {
         assertThat(metrics.get("messages_acknowledged")).isEqualTo(60L);
     }
     
+    @Test
+    @DisplayName("Should receive and acknowledge messages in batches")
+    void shouldReceiveAndAcknowledgeMessagesInBatches() throws Exception {
+        // Given - Topic with 5 messages
+        Config config = ConfigFactory.parseString("jdbcUrl = \"jdbc:h2:mem:h2-batch-receive\"");
+        this.topic = new H2TopicResource<>("batch-receive-topic", config);
+        this.topic.setSimulationRun("RUN-BATCH-001");
+        
+        @SuppressWarnings("unchecked")
+        ITopicWriter<BatchInfo> writer = (ITopicWriter<BatchInfo>) this.topic.getWrappedResource(
+            new ResourceContext("writer-service", "writer-port", "topic-write", "batch-receive-topic", Map.of()));
+        @SuppressWarnings("unchecked")
+        ITopicReader<BatchInfo, AckToken> reader = (ITopicReader<BatchInfo, AckToken>) this.topic.getWrappedResource(
+            new ResourceContext("reader-service", "reader-port", "topic-read", "batch-receive-topic", Map.of("consumerGroup", "batch-group")));
+        
+        for (int i = 0; i < 5; i++) {
+            writer.send(BatchInfo.newBuilder()
+                .setSimulationRunId("RUN-BATCH-001")
+                .setStoragePath(String.format("RUN-BATCH-001/batch_%d.pb", i))
+                .setTickStart(i * 100L)
+                .setTickEnd((i + 1) * 100L)
+                .setWrittenAtMs(System.currentTimeMillis())
+                .build());
+        }
+        
+        // When - Receive in batches of 3
+        List<TopicMessage<BatchInfo, AckToken>> first = reader.poll(3, 5, TimeUnit.SECONDS);
+        List<TopicMessage<BatchInfo, AckToken>> second = reader.receive(3);
+        
+        // Then - Messages arrive in topic order, no message twice
+        assertThat(first).extracting(m -> m.payload().getTickStart()).containsExactly(0L, 100L, 200L);
+        assertThat(second).extracting(m -> m.payload().getTickStart()).containsExactly(300L, 400L);
+        
+        reader.ackAll(first);
+        reader.ackAll(second);
+        reader.ackAll(List.of());
+        
+        assertThat(reader.poll(3, 100, TimeUnit.MILLISECONDS)).isEmpty();
+        assertThat(this.topic.getMetrics().get("messages_received")).isEqualTo(5L);
+        assertThat(this.topic.getMetrics().get("messages_acknowledged")).isEqualTo(5L);
+        assertThat(((H2TopicReaderDelegate<?>) reader).getMetrics().get("delegate_messages_acknowledged")).isEqualTo(5L);
+    }
+    
+    @Test
+    @DisplayName("Should reject stale ACKs in a batch individually")
+    @ExpectLog(level = LogLevel.WARN, messagePattern = "Stale ACK rejected.*", occurrences = 2)
+    void shouldRejectStaleAcksInBatchIndividually() throws Exception {
+        // Given - Short claim timeout, two competing readers
+        Config config = ConfigFactory.parseString("jdbcUrl = \"jdbc:h2:mem:h2-batch-stale-ack\"\nclaimTimeout = 1");
+        this.topic = new H2TopicResource<>("test-topic", config);
+        this.topic.setSimulationRun("RUN-BATCH-STALE");
+        
+        @SuppressWarnings("unchecked")
+        ITopicWriter<BatchInfo> writer = (ITopicWriter<BatchInfo>) this.topic.getWrappedResource(
+            new ResourceContext("writer-service", "writer-port", "topic-write", "test-topic", Map.of()));
+        @SuppressWarnings("unchecked")
+        ITopicReader<BatchInfo, AckToken> reader1 = (ITopicReader<BatchInfo, AckToken>) this.topic.getWrappedResource(
+            new ResourceContext("reader-1", "reader-port-1", "topic-read", "test-topic", Map.of("consumerGroup", "workers")));
+        @SuppressWarnings("unchecked")
+        ITopicReader<BatchInfo, AckToken> reader2 = (ITopicReader<BatchInfo, AckToken>) this.topic.getWrappedResource(
+            new ResourceContext("reader-2", "reader-port-2", "topic-read", "test-topic", Map.of("consumerGroup", "workers")));
+        
+        for (int i = 0; i < 3; i++) {
+            writer.send(BatchInfo.newBuilder()
+                .setSimulationRunId("RUN-BATCH-STALE")
+                .setStoragePath(String.format("RUN-BATCH-STALE/batch_%d.pb", i))
+                .setTickStart(i * 100L)
+                .setTickEnd((i + 1) * 100L)
+                .setWrittenAtMs(System.currentTimeMillis())
+                .build());
+        }
+        
+        // When - reader1 claims two messages but is too slow, reader2 takes them over
+        List<TopicMessage<BatchInfo, AckToken>> claimedByReader1 = reader1.poll(2, 5, TimeUnit.SECONDS);
+        assertThat(claimedByReader1).hasSize(2);
+        
+        await().pollDelay(1500, TimeUnit.MILLISECONDS).until(() -> true);
+        List<TopicMessage<BatchInfo, AckToken>> claimedByReader2 = reader2.poll(3, 5, TimeUnit.SECONDS);
+        assertThat(claimedByReader2).hasSize(3);
+        reader2.ackAll(claimedByReader2);
+        
+        // Then - Both ACKs of reader1 are rejected, reader2's ACKs stand
+        reader1.ackAll(claimedByReader1);
+        
+        H2TopicReaderDelegate<?> delegate1 = (H2TopicReaderDelegate<?>) reader1;
+        assertThat(delegate1.getMetrics().get("delegate_stale_acks_rejected")).isEqualTo(2L);
+        assertThat(this.topic.getMetrics().get("messages_acknowledged")).isEqualTo(3L);
+        assertThat(this.topic.getMetrics().get("stuck_messages_reassigned")).isEqualTo(2L);
+    }
+    
+    @Test
+    @DisplayName("Should wake up an idle reader when a message is written")
+    void shouldWakeUpIdleReaderOnWrite() throws Exception {
+        // Given - Check interval far above the test timeout, so only the writer's signal can wake the reader
+        Config config = ConfigFactory.parseString("""
+            jdbcUrl = "jdbc:h2:mem:h2-notify-test"
+            notificationCheckIntervalMs = 60000
+            """);
+        this.topic = new H2TopicResource<>("notify-topic", config);
+        this.topic.setSimulationRun("RUN-NOTIFY-001");
+        
+        @SuppressWarnings("unchecked")
+        ITopicWriter<BatchInfo> writer = (ITopicWriter<BatchInfo>) this.topic.getWrappedResource(
+            new ResourceContext("writer-service", "writer-port", "topic-write", "notify-topic", Map.of()));
+        @SuppressWarnings("unchecked")
+        H2TopicReaderDelegate<BatchInfo> reader = (H2TopicReaderDelegate<BatchInfo>) this.topic.getWrappedResource(
+            new ResourceContext("reader-service", "reader-port", "topic-read", "notify-topic", Map.of("consumerGroup", "test-group")));
+        
+        // When - Reader waits on an empty topic, then a message is written
+        CompletableFuture<TopicMessage<BatchInfo, AckToken>> received = CompletableFuture.supplyAsync(() -> {
+            try {
+                return reader.poll(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        });
+        await().atMost(5, TimeUnit.SECONDS)
+            .until(() -> reader.getMetrics().get("delegate_idle_queries").longValue() >= 1);
+        
+        writer.send(BatchInfo.newBuilder()
+            .setSimulationRunId("RUN-NOTIFY-001")
+            .setStoragePath("RUN-NOTIFY-001/batch_0000000000_0000000100.pb")
+            .setTickStart(0)
+            .setTickEnd(100)
+            .setWrittenAtMs(System.currentTimeMillis())
+            .build());
+        
+        // Then - Reader receives it without waiting for the check interval or poll timeout
+        TopicMessage<BatchInfo, AckToken> message = received.get(5, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        assertThat(message.payload().getTickEnd()).isEqualTo(100);
+        reader.ack(message);
+        
+        Map<String, Number> metrics = reader.getMetrics();
+        assertThat(metrics.get("delegate_idle_queries").longValue()).isEqualTo(1L);
+        assertThat(metrics.get("delegate_notification_wakeups").longValue()).isEqualTo(1L);
+        assertThat(metrics.get("delegate_notification_checks").longValue()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Should wake up an idle reader when another process writes a message")
+    void shouldWakeUpIdleReaderOnWriteOfOtherResource() throws Exception {
+        // Given - Two resources on the same database, standing in for two processes
+        String jdbcUrl = "jdbc:h2:mem:h2-notify-cross-test;DB_CLOSE_DELAY=-1";
+        H2TopicResource<BatchInfo> writerTopic = new H2TopicResource<>("shared-topic",
+            ConfigFactory.parseString("jdbcUrl = \"" + jdbcUrl + "\""));
+        this.topic = new H2TopicResource<>("shared-topic",
+            ConfigFactory.parseString("jdbcUrl = \"" + jdbcUrl + "\"\nnotificationCheckIntervalMs = 50"));
+        
+        try {
+            writerTopic.setSimulationRun("RUN-NOTIFY-002");
+            this.topic.setSimulationRun("RUN-NOTIFY-002");
+            
+            @SuppressWarnings("unchecked")
+            ITopicWriter<BatchInfo> writer = (ITopicWriter<BatchInfo>) writerTopic.getWrappedResource(
+                new ResourceContext("writer-service", "writer-port", "topic-write", "shared-topic", Map.of()));
+            @SuppressWarnings("unchecked")
+            H2TopicReaderDelegate<BatchInfo> reader = (H2TopicReaderDelegate<BatchInfo>) this.topic.getWrappedResource(
+                new ResourceContext("reader-service", "reader-port", "topic-read", "shared-topic", Map.of("consumerGroup", "test-group")));
+            
+            // When - Reader waits on an empty topic, then the other resource writes a message
+            CompletableFuture<TopicMessage<BatchInfo, AckToken>> received = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return reader.poll(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            });
+            await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> reader.getMetrics().get("delegate_notification_checks").longValue() >= 1);
+            
+            writer.send(BatchInfo.newBuilder()
+                .setSimulationRunId("RUN-NOTIFY-002")
+                .setStoragePath("RUN-NOTIFY-002/batch_0000000000_0000000100.pb")
+                .setTickStart(0)
+                .setTickEnd(100)
+                .setWrittenAtMs(System.currentTimeMillis())
+                .build());
+            
+            // Then - The write sequence maintained by the trigger wakes the reader
+            TopicMessage<BatchInfo, AckToken> message = received.get(5, TimeUnit.SECONDS);
+            assertThat(message).isNotNull();
+            assertThat(message.payload().getSimulationRunId()).isEqualTo("RUN-NOTIFY-002");
+            reader.ack(message);
+            
+            Map<String, Number> metrics = reader.getMetrics();
+            assertThat(metrics.get("delegate_idle_queries").longValue()).isEqualTo(1L);
+            assertThat(metrics.get("delegate_notification_wakeups").longValue()).isEqualTo(1L);
+        } finally {
+            writerTopic.close();
+        }
+    }
+    
     /**
      * Helper method: Consumer thread that reads and ACKs messages.
      * Thread-safe for concurrent execution.
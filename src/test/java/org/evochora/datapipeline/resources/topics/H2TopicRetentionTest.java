@@ -0,0 +1,214 @@
+package org.evochora.datapipeline.resources.topics;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.evochora.datapipeline.api.contracts.BatchInfo;
+import org.evochora.datapipeline.api.contracts.TopicArchiveSegment;
+import org.evochora.datapipeline.api.contracts.TopicEnvelope;
+import org.evochora.datapipeline.api.resources.ResourceContext;
+import org.evochora.datapipeline.api.resources.storage.StoragePath;
+import org.evochora.datapipeline.api.resources.topics.ITopicReader;
+import org.evochora.datapipeline.api.resources.topics.ITopicWriter;
+import org.evochora.datapipeline.api.resources.topics.TopicMessage;
+import org.evochora.datapipeline.resources.storage.FileSystemStorageResource;
+import org.evochora.junit.extensions.logging.LogWatchExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the retention of {@link H2TopicResource} ({@link H2TopicRetention}).
+ * <p>
+ * Uses in-memory H2 databases; passes are run directly instead of waiting for the retention thread.
+ */
+@Tag("integration")
+@ExtendWith(LogWatchExtension.class)
+class H2TopicRetentionTest {
+
+    private static final String RUN_ID = "RUN-RETENTION-001";
+
+    private H2TopicResource<BatchInfo> topic;
+
+    @TempDir
+    Path archiveDirectory;
+
+    @AfterEach
+    void cleanup() throws Exception {
+        if (topic != null) {
+            topic.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should prune only messages acknowledged by all consumer groups and beyond the count limit")
+    void shouldPruneBelowLowWaterMark() throws Exception {
+        // Given - Keep the newest 2 messages, two consumer groups
+        createTopic("h2-retention-lwm", "maxMessages = 2");
+        ITopicWriter<BatchInfo> writer = writer();
+        ITopicReader<BatchInfo, AckToken> groupA = reader("group-a");
+        ITopicReader<BatchInfo, AckToken> groupB = reader("group-b");
+        send(writer, 6);
+
+        // Group A is done, group B has acknowledged 3 messages
+        groupA.ackAll(groupA.poll(6, 5, TimeUnit.SECONDS));
+        List<TopicMessage<BatchInfo, AckToken>> pendingB = groupB.poll(6, 5, TimeUnit.SECONDS);
+        groupB.ackAll(pendingB.subList(0, 3));
+
+        // When
+        H2TopicRetention.Pass pass = topic.runRetentionPass();
+
+        // Then - Group B's low-water mark protects its unacknowledged messages
+        assertThat(pass.messagesBefore()).isEqualTo(6);
+        assertThat(pass.pruned()).isEqualTo(3);
+        assertThat(pass.messagesAfter()).isEqualTo(3);
+        assertThat(pass.groupRowsBefore()).isEqualTo(12);
+        assertThat(pass.groupRowsAfter()).isEqualTo(6);
+        assertThat(pass.lowWaterMark()).isEqualTo(pendingB.get(3).acknowledgeToken().rowId());
+
+        // When - Group B catches up
+        groupB.ackAll(pendingB.subList(3, 6));
+        H2TopicRetention.Pass secondPass = topic.runRetentionPass();
+
+        // Then - Only the count policy keeps messages
+        assertThat(secondPass.pruned()).isEqualTo(1);
+        assertThat(secondPass.messagesAfter()).isEqualTo(2);
+        assertThat(topic.getMetrics())
+            .containsEntry("retention_passes", 2L)
+            .containsEntry("retention_messages_pruned", 4L)
+            .containsEntry("retention_messages_after", 2L)
+            .containsKeys("retention_candidate_query_before_ms", "retention_candidate_query_after_ms");
+    }
+
+    @Test
+    @DisplayName("Should keep messages for listed consumer groups that have not connected yet")
+    void shouldProtectListedConsumerGroups() throws Exception {
+        // Given
+        createTopic("h2-retention-listed", "maxMessages = 1\nconsumerGroups = [\"late-group\"]");
+        ITopicWriter<BatchInfo> writer = writer();
+        ITopicReader<BatchInfo, AckToken> reader = reader("early-group");
+        send(writer, 3);
+        reader.ackAll(reader.poll(3, 5, TimeUnit.SECONDS));
+
+        // When
+        H2TopicRetention.Pass pass = topic.runRetentionPass();
+
+        // Then - Nothing pruned, the late group can still read everything
+        assertThat(pass.pruned()).isZero();
+        assertThat(reader("late-group").poll(3, 5, TimeUnit.SECONDS)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should keep all messages while no consumer group exists")
+    void shouldKeepMessagesWithoutConsumerGroups() throws Exception {
+        // Given
+        createTopic("h2-retention-no-groups", "maxAgeSeconds = 1");
+        send(writer(), 2);
+
+        // When
+        H2TopicRetention.Pass pass = topic.runRetentionPass();
+
+        // Then
+        assertThat(pass.pruned()).isZero();
+        assertThat(pass.lowWaterMark()).isEqualTo(-1);
+        assertThat(pass.messagesAfter()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should archive pruned messages in chunks before deleting them")
+    void shouldArchivePrunedMessages() throws Exception {
+        // Given - Chunks of 2 messages, newest message kept
+        createTopic("h2-retention-archive", String.format(
+            "maxMessages = 1%nchunkSize = 2%narchive.rootDirectory = \"%s\"",
+            archiveDirectory.toAbsolutePath().toString().replace("\\", "/")));
+        ITopicWriter<BatchInfo> writer = writer();
+        ITopicReader<BatchInfo, AckToken> reader = reader("group-a");
+        send(writer, 5);
+        List<TopicMessage<BatchInfo, AckToken>> messages = reader.poll(5, 5, TimeUnit.SECONDS);
+        reader.ackAll(messages);
+
+        // When
+        H2TopicRetention.Pass pass = topic.runRetentionPass();
+
+        // Then - 4 messages archived in 2 segments, in topic order
+        assertThat(pass.pruned()).isEqualTo(4);
+        assertThat(pass.archived()).isEqualTo(4);
+
+        List<Path> segments;
+        try (Stream<Path> files = Files.walk(archiveDirectory)) {
+            segments = files.filter(Files::isRegularFile).sorted().toList();
+        }
+        assertThat(segments).hasSize(2);
+
+        FileSystemStorageResource archive = new FileSystemStorageResource("archive-reader",
+            ConfigFactory.parseMap(Map.of("rootDirectory", archiveDirectory.toAbsolutePath().toString())));
+        List<String> archivedIds = new ArrayList<>();
+        for (Path segment : segments) {
+            String key = archiveDirectory.relativize(segment).toString().replace('\\', '/');
+            assertThat(key).startsWith(RUN_ID + "/topic-archive/h2-retention-archive/");
+            TopicArchiveSegment archived = archive.readMessage(StoragePath.of(key), TopicArchiveSegment.parser());
+            assertThat(archived.getTopicName()).isEqualTo("h2-retention-archive");
+            archived.getEnvelopesList().stream().map(TopicEnvelope::getMessageId).forEach(archivedIds::add);
+        }
+        assertThat(archivedIds).containsExactlyElementsOf(
+            messages.subList(0, 4).stream().map(TopicMessage::messageId).toList());
+        assertThat(topic.getMetrics()).containsEntry("retention_messages_archived", 4L);
+    }
+
+    @Test
+    @DisplayName("Should reject retention without policy")
+    void shouldRejectRetentionWithoutPolicy() {
+        Config config = ConfigFactory.parseString(
+            "jdbcUrl = \"jdbc:h2:mem:h2-retention-invalid\"\nretention.enabled = true");
+
+        assertThatThrownBy(() -> new H2TopicResource<BatchInfo>("invalid-topic", config))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxAgeSeconds or maxMessages");
+    }
+
+    private void createTopic(String name, String retentionOptions) {
+        Config config = ConfigFactory.parseString("jdbcUrl = \"jdbc:h2:mem:" + name + "\"")
+            .withFallback(ConfigFactory.parseString("enabled = true\nintervalSeconds = 3600\n" + retentionOptions)
+                .atKey("retention"));
+        this.topic = new H2TopicResource<>(name, config);
+        this.topic.setSimulationRun(RUN_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ITopicWriter<BatchInfo> writer() {
+        return (ITopicWriter<BatchInfo>) topic.getWrappedResource(
+            new ResourceContext("writer-service", "writer-port", "topic-write", topic.getResourceName(), Map.of()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ITopicReader<BatchInfo, AckToken> reader(String consumerGroup) {
+        return (ITopicReader<BatchInfo, AckToken>) topic.getWrappedResource(
+            new ResourceContext(consumerGroup + "-service", "reader-port", "topic-read", topic.getResourceName(),
+                Map.of("consumerGroup", consumerGroup)));
+    }
+
+    private static void send(ITopicWriter<BatchInfo> writer, int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            writer.send(BatchInfo.newBuilder()
+                .setSimulationRunId(RUN_ID)
+                .setStoragePath(String.format("%s/batch_%d.pb", RUN_ID, i))
+                .setTickStart(i * 100L)
+                .setTickEnd((i + 1) * 100L)
+                .setWrittenAtMs(System.currentTimeMillis())
+                .build());
+        }
+    }
+}
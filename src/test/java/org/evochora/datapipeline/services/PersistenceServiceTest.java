@@ -964,6 +964,99 @@ class PersistenceServiceTest {
         }));
     }
 
+    @Test
+    void shouldPublishNotificationsInDrainOrderWithParallelWriters() throws Exception {
+        // Given: two writers; the first batch takes longer to write than the second
+        resources.put("topic", Collections.singletonList(mockBatchTopic));
+        Config pipelineConfig = config.withFallback(ConfigFactory.parseMap(Map.of(
+            "writerThreads", 2,
+            "maxInFlightBatches", 2
+        )));
+        service = new PersistenceService("test-persistence", pipelineConfig, resources);
+        List<TickData> first = createTestBatch("run-123", 0, 99);
+        List<TickData> second = createTestBatch("run-123", 100, 199);
+
+        when(mockInputQueue.drainTo(anyList(), anyInt(), anyLong(), any(TimeUnit.class)))
+            .thenAnswer(invocation -> {
+                invocation.<List<TickData>>getArgument(0).addAll(first);
+                return first.size();
+            })
+            .thenAnswer(invocation -> {
+                invocation.<List<TickData>>getArgument(0).addAll(second);
+                return second.size();
+            })
+            .thenReturn(0);
+        when(mockStorage.writeBatch(anyList(), eq(0L), eq(99L))).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return StoragePath.of("run-123/batch_0000000000000000000_0000000000000000099.pb");
+        });
+        when(mockStorage.writeBatch(anyList(), eq(100L), eq(199L)))
+            .thenReturn(StoragePath.of("run-123/batch_0000000000000000100_0000000000000000199.pb"));
+
+        // When
+        service.start();
+        await().atMost(2, TimeUnit.SECONDS)
+            .until(() -> service.getMetrics().get("batches_written").longValue() == 2);
+        service.stop();
+
+        // Then: the second batch was written first, but notifications follow the drain order
+        org.mockito.InOrder inOrder = inOrder(mockBatchTopic);
+        inOrder.verify(mockBatchTopic).send(argThat(notification -> notification.getTickStart() == 0));
+        inOrder.verify(mockBatchTopic).send(argThat(notification -> notification.getTickStart() == 100));
+
+        Map<String, Number> metrics = service.getMetrics();
+        assertEquals(0, metrics.get("batches_in_flight").intValue());
+        assertEquals(0, metrics.get("writes_awaiting_publish").intValue());
+        assertTrue(metrics.get("publish_wait_ms").doubleValue() >= 0);
+    }
+
+    @Test
+    @ExpectLog(level = LogLevel.WARN, messagePattern = "Failed to publish batch \\[ticks 0-99\\]: .*Simulated publish failure")
+    void shouldPublishLaterBatchesAfterPublishFailure() throws Exception {
+        // Given: one batch in flight at a time, the first notification fails outside publish's error handling
+        resources.put("topic", Collections.singletonList(mockBatchTopic));
+        Config pipelineConfig = config.withFallback(ConfigFactory.parseMap(Map.of("maxInFlightBatches", 1)));
+        service = new PersistenceService("test-persistence", pipelineConfig, resources);
+        List<TickData> first = createTestBatch("run-123", 0, 99);
+        List<TickData> second = createTestBatch("run-123", 100, 199);
+        List<TickData> third = createTestBatch("run-123", 200, 299);
+
+        when(mockInputQueue.drainTo(anyList(), anyInt(), anyLong(), any(TimeUnit.class)))
+            .thenAnswer(invocation -> {
+                invocation.<List<TickData>>getArgument(0).addAll(first);
+                return first.size();
+            })
+            .thenAnswer(invocation -> {
+                invocation.<List<TickData>>getArgument(0).addAll(second);
+                return second.size();
+            })
+            .thenAnswer(invocation -> {
+                invocation.<List<TickData>>getArgument(0).addAll(third);
+                return third.size();
+            })
+            .thenReturn(0);
+        when(mockStorage.writeBatch(anyList(), anyLong(), anyLong()))
+            .thenAnswer(invocation -> StoragePath.of(String.format("run-123/batch_%019d_%019d.pb",
+                invocation.<Long>getArgument(1), invocation.<Long>getArgument(2))));
+        doThrow(new Error("Simulated publish failure"))
+            .doNothing()
+            .when(mockBatchTopic).send(any(BatchInfo.class));
+
+        // When
+        service.start();
+        await().atMost(2, TimeUnit.SECONDS)
+            .until(() -> service.getMetrics().get("notifications_sent").longValue() == 2);
+        service.stop();
+        await().atMost(2, TimeUnit.SECONDS)
+            .until(() -> service.getCurrentState() == State.STOPPED);
+
+        // Then: the batches after the failed one were still published and their permits released
+        verify(mockBatchTopic).send(argThat(notification -> notification.getTickStart() == 100));
+        verify(mockBatchTopic).send(argThat(notification -> notification.getTickStart() == 200));
+        assertEquals(2, service.getMetrics().get("batches_written").longValue());
+        assertEquals(0, service.getMetrics().get("batches_in_flight").intValue());
+    }
+
     // Helper methods
     private List<TickData> createTestBatch(String simulationRunId, long startTick, long endTick) {
         List<TickData> batch = new ArrayList<>();
@@ -7,6 +7,8 @@ import org.evochora.datapipeline.api.contracts.SimulationMetadata;
 import org.evochora.datapipeline.api.contracts.TickData;
 import org.evochora.datapipeline.api.resources.IResource;
 import org.evochora.datapipeline.api.resources.queues.IOutputQueueResource;
+import org.evochora.datapipeline.utils.cells.TickCells;
+import org.evochora.datapipeline.utils.delta.TickDeltaReconstructor;
 import org.evochora.junit.extensions.logging.AllowLog;
 import org.evochora.junit.extensions.logging.ExpectLog;
 import org.evochora.junit.extensions.logging.LogLevel;
@@ -23,6 +25,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -188,6 +191,20 @@ class SimulationEngineTest {
         assertTrue(exception.getMessage().contains("2 dimensions"));
     }
 
+    @Test
+    void constructor_shouldThrowException_whenDeltaKeyframeIntervalIsNotMultipleOfSamplingInterval() {
+        Config config = createValidConfig()
+                .withValue("samplingInterval", ConfigValueFactory.fromAnyRef(10))
+                .withValue("deltaKeyframeInterval", ConfigValueFactory.fromAnyRef(25));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEngine("test", config, resources));
+    }
+
+    @Test
+    void constructor_shouldThrowException_whenCellEncodingIsUnknown() {
+        Config config = createValidConfig().withValue("cellEncoding", ConfigValueFactory.fromAnyRef("csv"));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEngine("test", config, resources));
+    }
+
     @Test
     void constructor_shouldSucceedWithValidConfiguration() {
         Config config = createValidConfig();
@@ -353,6 +370,60 @@ class SimulationEngineTest {
         assertDoesNotThrow(engine::clearErrors);
     }
 
+    // ============ Delta Encoding Tests ============
+
+    @Test
+    void captureTickData_deltasShouldMaterializeToCompleteCaptures() {
+        SimulationEngine full = new SimulationEngine("full", createValidConfig(), resources);
+        SimulationEngine delta = new SimulationEngine("delta", createValidConfig()
+                .withValue("deltaKeyframeInterval", ConfigValueFactory.fromAnyRef(5)), resources);
+        TickDeltaReconstructor reconstructor = new TickDeltaReconstructor();
+
+        for (long tick = 0; tick < 12; tick++) {
+            full.getSimulation().tick();
+            delta.getSimulation().tick();
+            TickData expected = full.captureTickData(tick);
+            TickData captured = delta.captureTickData(tick);
+
+            assertEquals(tick == 0 || tick % 5 == 0, !captured.getIsDelta(), "keyframe at tick " + tick);
+            assertEquals(tick - tick % 5, captured.getKeyframeTick());
+            TickData materialized = reconstructor.apply(captured);
+            assertEquals(expected.getOrganismsList(), materialized.getOrganismsList());
+            assertEquals(new HashSet<>(expected.getCellsList()), new HashSet<>(materialized.getCellsList()));
+            assertEquals(expected.getRngState(), materialized.getRngState());
+        }
+    }
+
+    @Test
+    void captureTickData_columnarCellsShouldMatchMessageCells() {
+        for (String cellEncoding : List.of("columnar", "columnar-sorted")) {
+            assertColumnarCapturesMatchMessageCaptures(cellEncoding);
+        }
+    }
+
+    private void assertColumnarCapturesMatchMessageCaptures(String cellEncoding) {
+        SimulationEngine messages = new SimulationEngine("messages", createValidConfig(), resources);
+        SimulationEngine columnar = new SimulationEngine("columnar", createValidConfig()
+                .withValue("cellEncoding", ConfigValueFactory.fromAnyRef(cellEncoding))
+                .withValue("deltaKeyframeInterval", ConfigValueFactory.fromAnyRef(5)), resources);
+        TickDeltaReconstructor reconstructor = new TickDeltaReconstructor();
+
+        for (long tick = 0; tick < 8; tick++) {
+            messages.getSimulation().tick();
+            columnar.getSimulation().tick();
+            TickData expected = messages.captureTickData(tick);
+            TickData captured = columnar.captureTickData(tick);
+
+            assertEquals(0, captured.getCellsCount());
+            assertTrue(captured.hasCellColumns());
+            TickData materialized = reconstructor.apply(captured);
+            assertTrue(materialized.hasCellColumns());
+            assertEquals(new HashSet<>(expected.getCellsList()),
+                    new HashSet<>(TickCells.toCellStates(materialized.getCellColumns())));
+            assertEquals(expected.getOrganismsList(), materialized.getOrganismsList());
+        }
+    }
+
     // ============ State Management Tests ============
 
     @Test
@@ -26,6 +26,8 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -328,6 +330,77 @@ class AbstractBatchIndexerTest {
             });
     }
     
+    @Test
+    void testAckOnlyAfterAsyncFlushCommitted() throws Exception {
+        // Given: Buffered indexer whose writes complete later (write-behind)
+        String runId = "test-run-007";
+        List<TickData> ticks = createTestTicks(runId, 0, 5);
+        BatchInfo batchInfo = createBatchInfo(runId, "batch_001.pb", 0, 4);
+        TopicMessage<BatchInfo, String> message = new TopicMessage<>(
+            batchInfo, System.currentTimeMillis(), "msg-001", "test-consumer", "ack-token-001");
+        
+        when(mockTopic.poll(anyLong(), any(TimeUnit.class)))
+            .thenReturn(message)
+            .thenAnswer(invocation -> null);
+        when(mockStorage.readBatch(StoragePath.of(batchInfo.getStoragePath()))).thenReturn(ticks);
+        
+        flushLatch = new CountDownLatch(1);
+        WriteBehindTestIndexer writeBehindIndexer = createWriteBehindIndexer(runId, 5);
+        try {
+            writeBehindIndexer.start();
+            assertTrue(flushLatch.await(5, TimeUnit.SECONDS), "Buffered ticks should be handed to the database");
+            
+            // Then: No ACK while the write is pending
+            Thread.sleep(200);
+            verify(mockTopic, never()).ack(any());
+            
+            // When: The write commits
+            writeBehindIndexer.pendingWrites.get(0).complete(null);
+            
+            // Then: The batch is acknowledged
+            await().atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> verify(mockTopic, times(1)).ack(message));
+            assertEquals(5, writeBehindIndexer.getMetrics().get("ticks_processed").intValue());
+        } finally {
+            stopIndexer(writeBehindIndexer);
+        }
+    }
+    
+    @Test
+    @AllowLog(level = LogLevel.WARN, messagePattern = "Failed to write .* buffered ticks.*")
+    void testNoAckForBatchSpanningFailedAsyncFlush() throws Exception {
+        // Given: A batch of 5 ticks flushed in two writes (3 + 2 ticks)
+        String runId = "test-run-008";
+        List<TickData> ticks = createTestTicks(runId, 0, 5);
+        BatchInfo batchInfo = createBatchInfo(runId, "batch_001.pb", 0, 4);
+        TopicMessage<BatchInfo, String> message = new TopicMessage<>(
+            batchInfo, System.currentTimeMillis(), "msg-001", "test-consumer", "ack-token-001");
+        
+        when(mockTopic.poll(anyLong(), any(TimeUnit.class)))
+            .thenReturn(message)
+            .thenAnswer(invocation -> null);
+        when(mockStorage.readBatch(StoragePath.of(batchInfo.getStoragePath()))).thenReturn(ticks);
+        
+        flushLatch = new CountDownLatch(2);
+        WriteBehindTestIndexer writeBehindIndexer = createWriteBehindIndexer(runId, 3);
+        try {
+            writeBehindIndexer.start();
+            assertTrue(flushLatch.await(5, TimeUnit.SECONDS), "Both parts of the batch should be handed to the database");
+            
+            // When: The first write fails and the second one (which completes the batch) commits
+            writeBehindIndexer.pendingWrites.get(1).complete(null);
+            writeBehindIndexer.pendingWrites.get(0).completeExceptionally(new RuntimeException("Simulated commit error"));
+            
+            // Then: The committed ticks are counted, but the batch is left for redelivery
+            await().atMost(2, TimeUnit.SECONDS)
+                .until(() -> writeBehindIndexer.getMetrics().get("ticks_processed").intValue() == 2);
+            verify(mockTopic, never()).ack(any());
+            assertEquals(0, writeBehindIndexer.getMetrics().get("batches_processed").intValue());
+        } finally {
+            stopIndexer(writeBehindIndexer);
+        }
+    }
+    
     // ========== Helper Methods ==========
     
     private TestBatchIndexer createIndexer(String runId, boolean withMetadata) {
@@ -369,6 +442,28 @@ class AbstractBatchIndexerTest {
         return new TestBatchIndexer("test-indexer", config, resources, true, true);
     }
     
+    private WriteBehindTestIndexer createWriteBehindIndexer(String runId, int insertBatchSize) {
+        Config config = ConfigFactory.parseString("""
+            runId = "%s"
+            insertBatchSize = %d
+            flushTimeoutMs = 100
+            """.formatted(runId, insertBatchSize));
+        
+        Map<String, List<IResource>> resources = Map.of(
+            "storage", List.of((IResource) mockStorage),
+            "topic", List.of((IResource) mockTopic)
+        );
+        
+        return new WriteBehindTestIndexer("test-indexer", config, resources);
+    }
+    
+    private void stopIndexer(AbstractBatchIndexer<String> batchIndexer) {
+        batchIndexer.stop();
+        await().atMost(5, TimeUnit.SECONDS)
+            .until(() -> batchIndexer.getCurrentState() == org.evochora.datapipeline.api.services.IService.State.STOPPED
+                || batchIndexer.getCurrentState() == org.evochora.datapipeline.api.services.IService.State.ERROR);
+    }
+    
     private SimulationMetadata createTestMetadata(String runId) {
         return SimulationMetadata.newBuilder()
             .setSimulationRunId(runId)
@@ -433,5 +528,34 @@ class AbstractBatchIndexerTest {
             flushLatch.countDown();
         }
     }
+    
+    /**
+     * Buffered test indexer whose writes complete when the test completes their futures.
+     */
+    private class WriteBehindTestIndexer extends AbstractBatchIndexer<String> {
+        
+        final List<CompletableFuture<Void>> pendingWrites = new CopyOnWriteArrayList<>();
+        
+        WriteBehindTestIndexer(String name, Config options, Map<String, List<IResource>> resources) {
+            super(name, options, resources);
+        }
+        
+        @Override
+        protected Set<ComponentType> getRequiredComponents() {
+            return EnumSet.of(ComponentType.BUFFERING);
+        }
+        
+        @Override
+        protected void flushTicks(List<TickData> ticks) {
+            throw new UnsupportedOperationException("Buffered indexer flushes via flushTicksAsync");
+        }
+        
+        @Override
+        protected CompletableFuture<Void> flushTicksAsync(List<TickData> ticks) {
+            CompletableFuture<Void> written = new CompletableFuture<>();
+            pendingWrites.add(written);
+            flushLatch.countDown();
+            return written;
+        }
+    }
 }
-
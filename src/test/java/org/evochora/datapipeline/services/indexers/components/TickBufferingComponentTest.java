@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -124,6 +125,8 @@ class TickBufferingComponentTest {
         // CRITICAL: Batch should NOT be ACKed (only 50/100 flushed)
         assertTrue(result.completedMessages().isEmpty(), 
             "Partial batch should NOT be ACKed");
+        assertEquals(Set.of("batch-001"), result.flushedBatchIds(),
+            "Partially flushed batch should be reported as flushed");
         
         // When: Flush remaining ticks
         TickBufferingComponent.FlushResult<String> secondFlush = component.flush();
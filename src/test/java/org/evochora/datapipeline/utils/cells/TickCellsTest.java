@@ -0,0 +1,88 @@
+package org.evochora.datapipeline.utils.cells;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.evochora.datapipeline.api.contracts.CellColumns;
+import org.evochora.datapipeline.api.contracts.CellState;
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.evochora.runtime.Config;
+import org.evochora.runtime.model.Environment;
+import org.evochora.runtime.model.EnvironmentProperties;
+import org.evochora.runtime.model.Molecule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+class TickCellsTest {
+
+    private static Environment environmentWithCells() {
+        Environment environment = Environment.create(new EnvironmentProperties(new int[]{10, 10}, false));
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, -3), 4, new int[]{9, 9});
+        environment.setMolecule(new Molecule(Config.TYPE_ENERGY, 500), new int[]{0, 7});
+        environment.setMolecule(new Molecule(Config.TYPE_CODE, 12), 1, new int[]{3, 2});
+        return environment;
+    }
+
+    private static List<int[]> visit(TickData tick) {
+        List<int[]> cells = new ArrayList<>();
+        TickCells.forEach(tick, (flatIndex, molecule, ownerId) -> cells.add(new int[]{flatIndex, molecule, ownerId}));
+        return cells;
+    }
+
+    @Test
+    void encodesCellsInGivenOrder() {
+        Environment environment = environmentWithCells();
+
+        CellColumns columns = TickCells.encode(environment, IntArrayList.of(99, 7, 32), false);
+
+        assertThat(columns.getFlatIndicesDeltaEncoded()).isFalse();
+        assertThat(columns.getFlatIndicesList()).containsExactly(99, 7, 32);
+        assertThat(columns.getMoleculesList()).containsExactly(
+                environment.getMoleculeInt(99), environment.getMoleculeInt(7), environment.getMoleculeInt(32));
+        assertThat(columns.getOwnerIdsList()).containsExactly(4, 0, 1);
+    }
+
+    @Test
+    void sortedEncodingStoresIndexGaps() {
+        Environment environment = environmentWithCells();
+
+        CellColumns columns = TickCells.encode(environment, IntArrayList.of(99, 7, 32), true);
+        TickData tick = TickData.newBuilder().setCellColumns(columns).build();
+
+        assertThat(columns.getFlatIndicesList()).containsExactly(7, 25, 67);
+        assertThat(TickCells.count(tick)).isEqualTo(3);
+        assertThat(visit(tick)).extracting(cell -> cell[0]).containsExactly(7, 32, 99);
+    }
+
+    @Test
+    void bothEncodingsVisitTheSameCells() {
+        Environment environment = environmentWithCells();
+        CellColumns columns = TickCells.encode(environment, IntArrayList.of(7, 32, 99), true);
+        TickData messages = TickData.newBuilder().addAllCells(TickCells.toCellStates(columns)).build();
+
+        List<int[]> fromMessages = visit(messages);
+        List<int[]> fromColumns = visit(TickData.newBuilder().setCellColumns(columns).build());
+
+        assertThat(fromMessages).hasSize(3);
+        for (int i = 0; i < fromMessages.size(); i++) {
+            assertThat(fromMessages.get(i)).containsExactly(fromColumns.get(i));
+        }
+        CellState data = messages.getCells(2);
+        assertThat(data.getMoleculeType()).isEqualTo(Config.TYPE_DATA);
+        assertThat(data.getMoleculeValue()).isEqualTo(-3);
+        assertThat(data.getOwnerId()).isEqualTo(4);
+    }
+
+    @Test
+    void rejectsColumnsOfDifferentLength() {
+        CellColumns columns = CellColumns.newBuilder().addFlatIndices(1).addFlatIndices(2).addMolecules(5).addOwnerIds(0).build();
+
+        assertThatThrownBy(() -> TickCells.forEach(columns, (flatIndex, molecule, ownerId) -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
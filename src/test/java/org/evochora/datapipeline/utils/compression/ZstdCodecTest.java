@@ -12,9 +12,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Tag("unit")
 @DisplayName("ZstdCodec Unit Tests")
@@ -272,6 +275,69 @@ class ZstdCodecTest {
         }
     }
 
+    @Nested
+    @DisplayName("Dictionary Tests")
+    class DictionaryTests {
+
+        private List<byte[]> samples() {
+            List<byte[]> samples = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                StringBuilder sample = new StringBuilder();
+                for (int cell = 0; cell < 40; cell++) {
+                    sample.append("cell{index=").append(i * 40 + cell).append(", molecule=CODE:")
+                        .append((i + cell) % 7).append(", owner=").append(cell % 3).append("}\n");
+                }
+                samples.add(sample.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return samples;
+        }
+
+        private byte[] compress(ICompressionCodec codec, byte[] data) throws Exception {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream out = codec.wrapOutputStream(compressed)) {
+                out.write(data);
+            }
+            return compressed.toByteArray();
+        }
+
+        private byte[] decompress(ICompressionCodec codec, byte[] data) throws Exception {
+            try (InputStream in = codec.wrapInputStream(new ByteArrayInputStream(data))) {
+                return in.readAllBytes();
+            }
+        }
+
+        @Test
+        @DisplayName("Frames compressed with a dictionary are smaller and carry its ID")
+        void dictionary_roundTripsWithResolver() throws Exception {
+            // Arrange
+            List<byte[]> samples = samples();
+            ZstdDictionary dictionary = ZstdDictionary.train(samples.subList(0, 150), 4096);
+            byte[] payload = samples.get(199);
+
+            // Act
+            byte[] plain = compress(new ZstdCodec(), payload);
+            byte[] withDictionary = compress(new ZstdCodec().withDictionary(dictionary), payload);
+
+            // Assert
+            assertThat(withDictionary.length).isLessThan(plain.length);
+            assertThat(ZstdDictionary.idOfFrame(withDictionary)).isEqualTo(dictionary.getId());
+            assertThat(ZstdDictionary.idOfFrame(plain)).isZero();
+            ZstdCodec reader = new ZstdCodec().withResolver(id -> {
+                assertThat(id).isEqualTo(dictionary.getId());
+                return new ZstdDictionary(dictionary.getContent());
+            });
+            assertThat(decompress(reader, withDictionary)).isEqualTo(payload);
+            assertThat(decompress(reader, plain)).isEqualTo(payload);
+        }
+
+        @Test
+        @DisplayName("Content without dictionary ID is rejected")
+        void dictionary_rejectsNonDictionaryContent() {
+            assertThatThrownBy(() -> new ZstdDictionary("not a dictionary".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Metadata Tests")
     class MetadataTests {
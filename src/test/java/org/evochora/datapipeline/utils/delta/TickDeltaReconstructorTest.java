@@ -0,0 +1,108 @@
+package org.evochora.datapipeline.utils.delta;
+
+import org.evochora.datapipeline.api.contracts.CellColumns;
+import org.evochora.datapipeline.api.contracts.CellState;
+import org.evochora.datapipeline.api.contracts.OrganismState;
+import org.evochora.datapipeline.api.contracts.TickData;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+class TickDeltaReconstructorTest {
+
+    private static CellState cell(int flatIndex, int value, int owner) {
+        return CellState.newBuilder().setFlatIndex(flatIndex).setMoleculeType(0).setMoleculeValue(value).setOwnerId(owner).build();
+    }
+
+    private static OrganismState organism(int id, int energy) {
+        return OrganismState.newBuilder().setOrganismId(id).setEnergy(energy).build();
+    }
+
+    private static TickData keyframe(long tick, List<CellState> cells, List<OrganismState> organisms) {
+        return TickData.newBuilder().setSimulationRunId("run").setTickNumber(tick).setKeyframeTick(tick)
+                .addAllCells(cells).addAllOrganisms(organisms).build();
+    }
+
+    private static TickData.Builder delta(long tick, long base) {
+        return TickData.newBuilder().setSimulationRunId("run").setTickNumber(tick)
+                .setIsDelta(true).setKeyframeTick(0).setDeltaBaseTick(base);
+    }
+
+    @Test
+    void keyframeIsReturnedUnchanged() {
+        TickData keyframe = keyframe(0, List.of(cell(1, 5, 0)), List.of(organism(1, 100)));
+
+        assertThat(new TickDeltaReconstructor().apply(keyframe)).isSameAs(keyframe);
+    }
+
+    @Test
+    void deltaIsMaterializedOnTopOfPreviousTick() {
+        TickDeltaReconstructor reconstructor = new TickDeltaReconstructor();
+        reconstructor.apply(keyframe(0, List.of(cell(1, 5, 0), cell(2, 6, 1)), List.of(organism(1, 100), organism(2, 50))));
+
+        TickData materialized = reconstructor.apply(delta(1, 0)
+                .addCells(cell(2, 0, 0))       // emptied
+                .addCells(cell(3, 7, 2))       // new
+                .addOrganisms(organism(1, 99))
+                .addOrganisms(organism(3, 10))
+                .addRemovedOrganismIds(2)
+                .build());
+
+        assertThat(materialized.getIsDelta()).isFalse();
+        assertThat(materialized.getTickNumber()).isEqualTo(1);
+        assertThat(Set.copyOf(materialized.getCellsList())).isEqualTo(Set.of(cell(1, 5, 0), cell(3, 7, 2)));
+        assertThat(materialized.getOrganismsList()).isEqualTo(List.of(organism(1, 99), organism(3, 10)));
+        assertThat(materialized.getRemovedOrganismIdsList()).isEmpty();
+        assertThat(reconstructor.getTickNumber()).isEqualTo(1);
+    }
+
+    @Test
+    void startingAtMaterializedTickContinuesChain() {
+        TickDeltaReconstructor first = new TickDeltaReconstructor();
+        first.apply(keyframe(0, List.of(cell(1, 5, 0)), List.of(organism(1, 100))));
+        TickData tick1 = first.apply(delta(1, 0).addCells(cell(4, 1, 0)).build());
+
+        TickData tick2 = TickDeltaReconstructor.startingAt(tick1).apply(delta(2, 1).addCells(cell(1, 0, 0)).build());
+
+        assertThat(tick2.getCellsList()).containsExactly(cell(4, 1, 0));
+        assertThat(tick2.getOrganismsList()).containsExactly(organism(1, 100));
+    }
+
+    @Test
+    void columnarDeltaIsMaterializedAsColumns() {
+        TickDeltaReconstructor reconstructor = new TickDeltaReconstructor();
+        reconstructor.apply(keyframe(0, List.of(cell(1, 5, 0), cell(2, 6, 1)), List.of()));
+
+        TickData materialized = reconstructor.apply(delta(1, 0)
+                .setCellColumns(CellColumns.newBuilder()
+                        .setFlatIndicesDeltaEncoded(true)
+                        .addFlatIndices(2).addMolecules(0).addOwnerIds(0)      // cell 2 emptied
+                        .addFlatIndices(7).addMolecules(8).addOwnerIds(3))     // cell 9 added
+                .build());
+
+        CellColumns columns = materialized.getCellColumns();
+        assertThat(materialized.getCellsList()).isEmpty();
+        assertThat(columns.getFlatIndicesDeltaEncoded()).isTrue();
+        assertThat(columns.getFlatIndicesList()).containsExactly(1, 8);
+        assertThat(columns.getMoleculesList()).containsExactly(5, 8);
+        assertThat(columns.getOwnerIdsList()).containsExactly(0, 3);
+    }
+
+    @Test
+    void deltaWithWrongBaseIsRejected() {
+        TickDeltaReconstructor reconstructor = new TickDeltaReconstructor();
+        reconstructor.apply(keyframe(0, List.of(), List.of()));
+
+        assertThatThrownBy(() -> reconstructor.apply(delta(3, 2).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("applies to tick 2");
+        assertThatThrownBy(() -> new TickDeltaReconstructor().apply(delta(1, 0).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
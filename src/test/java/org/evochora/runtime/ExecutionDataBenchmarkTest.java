@@ -0,0 +1,123 @@
+package org.evochora.runtime;
+
+import org.evochora.compiler.Compiler;
+import org.evochora.compiler.api.ProgramArtifact;
+import org.evochora.runtime.isa.Instruction;
+import org.evochora.runtime.model.Environment;
+import org.evochora.runtime.model.EnvironmentProperties;
+import org.evochora.runtime.model.Molecule;
+import org.evochora.runtime.model.Organism;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmarks a primordial population with execution data collected on every tick (the previous
+ * behaviour) against collection on sampled ticks only, as done by the simulation engine.
+ * Both runs must end in the same state. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class ExecutionDataBenchmarkTest {
+
+    private static final String PROGRAM = "assembly/primordial/main.evo";
+    private static final int[] WORLD_SHAPE = {800, 640};
+    private static final int SPACING_X = 64;
+    private static final int SPACING_Y = 40;
+    private static final int ENERGY_CELLS = 20_000;
+    private static final int WARMUP_TICKS = 300;
+    private static final int MEASURED_TICKS = 2_000;
+    private static final int SAMPLING_INTERVAL = 1_000;
+
+    private static ProgramArtifact artifact;
+
+    @BeforeAll
+    static void init() throws Exception {
+        Instruction.init();
+        List<String> source = Files.readAllLines(Path.of(PROGRAM));
+        artifact = new Compiler().compile(source, PROGRAM, new EnvironmentProperties(WORLD_SHAPE, true));
+    }
+
+    @Test
+    void sampledExecutionData() {
+        Result everyTick = run(1);
+        Result sampled = run(SAMPLING_INTERVAL);
+
+        System.out.printf("Primordial population, execution data on every tick: %,.0f instructions/s (%,d instructions, %.2fs)%n",
+                everyTick.instructionsPerSecond(), everyTick.instructions(), everyTick.seconds());
+        System.out.printf("Primordial population, execution data every %d ticks: %,.0f instructions/s (%,d instructions, %.2fs), speedup %.2fx%n",
+                SAMPLING_INTERVAL, sampled.instructionsPerSecond(), sampled.instructions(), sampled.seconds(),
+                sampled.instructionsPerSecond() / everyTick.instructionsPerSecond());
+        assertThat(sampled.instructions()).isEqualTo(everyTick.instructions());
+        assertThat(sampled.aliveOrganisms()).isEqualTo(everyTick.aliveOrganisms());
+    }
+
+    private record Result(long instructions, double seconds, int aliveOrganisms) {
+        double instructionsPerSecond() {
+            return instructions / seconds;
+        }
+    }
+
+    private static Result run(int samplingInterval) {
+        Simulation sim = createPopulation();
+        for (int t = 0; t < WARMUP_TICKS; t++) {
+            tick(sim, t, samplingInterval);
+        }
+        long instructions = 0;
+        long start = System.nanoTime();
+        for (int t = WARMUP_TICKS; t < WARMUP_TICKS + MEASURED_TICKS; t++) {
+            instructions += sim.getAliveOrganismCount();
+            tick(sim, t, samplingInterval);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(instructions, seconds, sim.getAliveOrganismCount());
+    }
+
+    private static void tick(Simulation sim, long tick, int samplingInterval) {
+        sim.setExecutionDataCollected(tick % samplingInterval == 0);
+        sim.tick();
+    }
+
+    private static Simulation createPopulation() {
+        Environment environment = new Environment(WORLD_SHAPE, true);
+        Simulation sim = new Simulation(environment);
+        sim.setProgramArtifacts(Map.of(artifact.programId(), artifact));
+
+        for (int x = 1; x + SPACING_X <= WORLD_SHAPE[0]; x += SPACING_X) {
+            for (int y = 1; y + SPACING_Y <= WORLD_SHAPE[1]; y += SPACING_Y) {
+                int[] start = {x, y};
+                Organism organism = Organism.create(sim, start, 10_000, sim.getLogger());
+                organism.setProgramId(artifact.programId());
+                sim.addOrganism(organism);
+                place(environment, organism.getId(), start);
+            }
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < ENERGY_CELLS; i++) {
+            int[] position = {random.nextInt(WORLD_SHAPE[0]), random.nextInt(WORLD_SHAPE[1])};
+            if (environment.getMolecule(position).isEmpty()) {
+                environment.setMolecule(new Molecule(Config.TYPE_ENERGY, 1000), position);
+            }
+        }
+        return sim;
+    }
+
+    private static void place(Environment environment, int ownerId, int[] start) {
+        artifact.machineCodeLayout().forEach((relative, value) ->
+                environment.setMolecule(Molecule.fromInt(value), ownerId, offset(start, relative)));
+        artifact.initialWorldObjects().forEach((relative, molecule) ->
+                environment.setMolecule(new Molecule(molecule.type(), molecule.value()), ownerId, offset(start, relative)));
+    }
+
+    private static int[] offset(int[] start, int[] relative) {
+        return new int[]{start[0] + relative[0], start[1] + relative[1]};
+    }
+}
@@ -0,0 +1,108 @@
+package org.evochora.runtime;
+
+import org.evochora.runtime.isa.Instruction;
+import org.evochora.runtime.model.Environment;
+import org.evochora.runtime.model.Molecule;
+import org.evochora.runtime.model.Organism;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmarks the per-organism state representation (register files and data stack).
+ * Reports retained heap per organism and executed instructions per second for a program
+ * dominated by register and stack arithmetic. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class OrganismStateBenchmarkTest {
+
+    private static final int MEMORY_ORGANISMS = 20_000;
+    private static final int TICK_ORGANISMS = 2_000;
+    private static final int WARMUP_TICKS = 200;
+    private static final int MEASURED_TICKS = 1_000;
+
+    @BeforeAll
+    static void init() {
+        Instruction.init();
+    }
+
+    @Test
+    void memoryPerOrganism() {
+        Simulation sim = new Simulation(new Environment(new int[]{100, 100}, true));
+        List<Organism> retained = new ArrayList<>(MEMORY_ORGANISMS);
+
+        long before = usedHeapAfterGc();
+        for (int i = 0; i < MEMORY_ORGANISMS; i++) {
+            retained.add(Organism.create(sim, new int[]{i % 100, i / 100 % 100}, 1000, sim.getLogger()));
+        }
+        long after = usedHeapAfterGc();
+
+        long bytesPerOrganism = (after - before) / MEMORY_ORGANISMS;
+        System.out.printf("Organism state: %,d bytes per organism (%,d organisms)%n", bytesPerOrganism, retained.size());
+        assertThat(retained).hasSize(MEMORY_ORGANISMS);
+    }
+
+    @Test
+    void instructionsPerSecond() {
+        Environment environment = new Environment(new int[]{TICK_ORGANISMS, 16}, true);
+        Simulation sim = new Simulation(environment);
+        for (int i = 0; i < TICK_ORGANISMS; i++) {
+            Organism organism = Organism.create(sim, new int[]{i, 0}, Config.MAX_ORGANISM_ENERGY, sim.getLogger());
+            organism.setDv(new int[]{0, 1});
+            sim.addOrganism(organism);
+            placeArithmeticLoop(environment, organism);
+        }
+
+        for (int t = 0; t < WARMUP_TICKS; t++) {
+            sim.tick();
+        }
+        long start = System.nanoTime();
+        for (int t = 0; t < MEASURED_TICKS; t++) {
+            sim.tick();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        double instructionsPerSecond = (double) TICK_ORGANISMS * MEASURED_TICKS / seconds;
+        System.out.printf("Register/stack arithmetic: %,.0f instructions/s (%d organisms, %d ticks, %.2fs)%n",
+                instructionsPerSecond, TICK_ORGANISMS, MEASURED_TICKS, seconds);
+        assertThat(sim.getAliveOrganismCount()).isEqualTo(TICK_ORGANISMS);
+    }
+
+    private static void placeArithmeticLoop(Environment environment, Organism organism) {
+        int[][] program = {
+                {op("ADDI"), 0, 1},
+                {op("ADDR"), 1, 0},
+                {op("PUSH"), 0},
+                {op("PUSH"), 1},
+                {op("ADDS")},
+                {op("POP"), 2},
+                {op("JMPI"), 0, 0},
+        };
+        // JMPI deltas are relative to the initial position, so {0, 0} restarts the loop.
+        int[] position = organism.getIp();
+        for (int[] instruction : program) {
+            for (int c = 0; c < instruction.length; c++) {
+                int type = c == 0 ? Config.TYPE_CODE : Config.TYPE_DATA;
+                environment.setMolecule(new Molecule(type, instruction[c]), organism.getId(), position);
+                position = organism.getNextInstructionPosition(position, organism.getDv(), environment);
+            }
+        }
+    }
+
+    private static int op(String name) {
+        return Instruction.getInstructionIdByName(name);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
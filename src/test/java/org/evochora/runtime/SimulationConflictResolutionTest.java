@@ -0,0 +1,78 @@
+package org.evochora.runtime;
+
+import org.evochora.runtime.isa.Instruction;
+import org.evochora.runtime.model.Environment;
+import org.evochora.runtime.model.Molecule;
+import org.evochora.runtime.model.Organism;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contains unit tests for the conflict resolution step of {@link Simulation#tick()}.
+ * Organisms write to the same or to different cells in a single tick, and the tests verify
+ * the winner as well as the conflict metrics exposed by the simulation.
+ */
+public class SimulationConflictResolutionTest {
+
+    private Environment environment;
+    private Simulation sim;
+
+    @BeforeAll
+    static void init() {
+        Instruction.init();
+    }
+
+    @BeforeEach
+    void setUp() {
+        environment = new Environment(new int[]{100, 100}, true);
+        sim = new Simulation(environment);
+    }
+
+    @Test
+    @Tag("unit")
+    void lowestOrganismIdWinsContestedCell() {
+        Organism first = createPokingOrganism(new int[]{5, 5}, 11, new int[]{0, 1});
+        Organism second = createPokingOrganism(new int[]{5, 7}, 22, new int[]{0, -1});
+
+        sim.tick();
+
+        assertThat(first.getId()).isLessThan(second.getId());
+        assertThat(environment.getMolecule(5, 6).toInt()).isEqualTo(new Molecule(Config.TYPE_DATA, 11).toInt());
+        assertThat(environment.getOwnerId(5, 6)).isEqualTo(first.getId());
+        assertThat(sim.getLastConflictClaims()).isEqualTo(2);
+        assertThat(sim.getLastConflictCollisions()).isEqualTo(1);
+        assertThat(sim.getTotalConflictCollisions()).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("unit")
+    void distinctTargetsDoNotCollide() {
+        createPokingOrganism(new int[]{5, 5}, 11, new int[]{0, 1});
+        createPokingOrganism(new int[]{5, 8}, 22, new int[]{0, 1});
+
+        sim.tick();
+
+        assertThat(environment.getMolecule(5, 6).toInt()).isEqualTo(new Molecule(Config.TYPE_DATA, 11).toInt());
+        assertThat(environment.getMolecule(5, 9).toInt()).isEqualTo(new Molecule(Config.TYPE_DATA, 22).toInt());
+        assertThat(sim.getLastConflictClaims()).isEqualTo(2);
+        assertThat(sim.getLastConflictCollisions()).isZero();
+    }
+
+    private Organism createPokingOrganism(int[] startPos, int payload, int[] vector) {
+        Organism org = Organism.create(sim, startPos, 2000, sim.getLogger());
+        sim.addOrganism(org);
+        org.setDr(0, new Molecule(Config.TYPE_DATA, payload).toInt());
+
+        environment.setMolecule(new Molecule(Config.TYPE_CODE, Instruction.getInstructionIdByName("POKI")), org.getIp());
+        int[] currentPos = org.getIp();
+        for (int arg : new int[]{0, vector[0], vector[1]}) {
+            currentPos = org.getNextInstructionPosition(currentPos, org.getDv(), environment);
+            environment.setMolecule(new Molecule(Config.TYPE_DATA, arg), currentPos);
+        }
+        return org;
+    }
+}
@@ -0,0 +1,138 @@
+package org.evochora.runtime;
+
+import org.evochora.runtime.isa.Instruction;
+import org.evochora.runtime.model.Environment;
+import org.evochora.runtime.model.Molecule;
+import org.evochora.runtime.model.Organism;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Contains unit tests for the removal of dead organisms from the live list of a {@link Simulation}
+ * and their lookup through the organism archive.
+ */
+public class SimulationOrganismArchiveTest {
+
+    private Simulation sim;
+
+    @BeforeAll
+    static void init() {
+        Instruction.init();
+    }
+
+    @BeforeEach
+    void setUp() {
+        sim = new Simulation(new Environment(new int[]{100, 100}, true));
+    }
+
+    @Test
+    @Tag("unit")
+    void deadOrganismIsArchivedAtEndOfTick() {
+        Organism survivor = addOrganism(5);
+        Organism victim = addOrganism(10);
+        victim.kill("test");
+
+        sim.tick();
+
+        assertThat(sim.getOrganisms()).containsExactly(survivor);
+        assertThat(sim.getOrganismById(victim.getId())).isSameAs(victim);
+        assertThat(sim.getOrganismById(survivor.getId())).isSameAs(survivor);
+        assertThat(sim.getAliveOrganismCount()).isEqualTo(1);
+        assertThat(sim.getTotalOrganismCount()).isEqualTo(2);
+        assertThat(sim.getArchivedOrganismCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("unit")
+    void graceTicksKeepDeadOrganismListed() {
+        sim.setDeadOrganismGraceTicks(1);
+        addOrganism(5);
+        Organism victim = addOrganism(10);
+        victim.kill("test");
+
+        sim.tick();
+        assertThat(sim.getOrganisms()).contains(victim);
+        assertThat(sim.getAliveOrganismCount()).isEqualTo(1);
+
+        sim.tick();
+        assertThat(sim.getOrganisms()).doesNotContain(victim);
+        assertThat(sim.getOrganismById(victim.getId())).isSameAs(victim);
+    }
+
+    @Test
+    @Tag("unit")
+    void archiveEvictsOldestWhenFull() {
+        sim.setOrganismArchiveCapacity(1);
+        Organism first = addOrganism(5);
+        Organism second = addOrganism(10);
+        first.kill("test");
+        sim.tick();
+        second.kill("test");
+        sim.tick();
+
+        assertThat(sim.getOrganisms()).isEmpty();
+        assertThat(sim.getOrganismById(first.getId())).isNull();
+        assertThat(sim.getOrganismById(second.getId())).isSameAs(second);
+        assertThat(sim.getTotalOrganismCount()).isEqualTo(2);
+    }
+
+    @Test
+    @Tag("unit")
+    void looksUpLiveOrganismsById() {
+        Organism[] organisms = new Organism[7];
+        for (int i = 0; i < organisms.length; i++) {
+            organisms[i] = addOrganism(5 + 10 * i);
+        }
+        organisms[3].kill("test");
+        sim.tick();
+
+        for (Organism organism : organisms) {
+            assertThat(sim.getOrganismById(organism.getId())).isSameAs(organism);
+        }
+        assertThat(sim.getOrganismById(organisms[6].getId() + 1)).isNull();
+        assertThat(sim.getOrganismById(0)).isNull();
+    }
+
+    @Test
+    @Tag("unit")
+    void deadOrganismsDoNotBlockLoneModifyingInstructionWithoutTarget() {
+        // The dead organism stays listed during the tick, but plans no instruction
+        sim.setDeadOrganismGraceTicks(1);
+        Organism survivor = addOrganism(5);
+        addOrganism(50).kill("test");
+        Environment environment = sim.getEnvironment();
+        // POKI with a non-unit vector has no target coordinates during conflict resolution
+        int[] vector = {0, 2};
+        int[] target = survivor.getTargetCoordinate(survivor.getActiveDp(), vector, environment);
+        int payload = new Molecule(Config.TYPE_DATA, 77).toInt();
+        survivor.setDr(0, payload);
+        int[] position = survivor.getIp();
+        environment.setMolecule(new Molecule(Config.TYPE_CODE, Instruction.getInstructionIdByName("POKI")), position);
+        for (int value : new int[]{0, vector[0], vector[1]}) {
+            position = survivor.getNextInstructionPosition(position, survivor.getDv(), environment);
+            environment.setMolecule(new Molecule(Config.TYPE_DATA, value), position);
+        }
+
+        sim.tick();
+
+        assertThat(environment.getMolecule(target).toInt()).isEqualTo(payload);
+    }
+
+    @Test
+    @Tag("unit")
+    void rejectsNegativeSettings() {
+        assertThrows(IllegalArgumentException.class, () -> sim.setDeadOrganismGraceTicks(-1));
+        assertThrows(IllegalArgumentException.class, () -> sim.setOrganismArchiveCapacity(-1));
+    }
+
+    private Organism addOrganism(int y) {
+        Organism organism = Organism.create(sim, new int[]{5, y}, 1000, sim.getLogger());
+        sim.addOrganism(organism);
+        return organism;
+    }
+}
@@ -0,0 +1,123 @@
+package org.evochora.runtime;
+
+import org.evochora.runtime.internal.services.SeededRandomProvider;
+import org.evochora.runtime.isa.Instruction;
+import org.evochora.runtime.model.Environment;
+import org.evochora.runtime.model.Molecule;
+import org.evochora.runtime.model.Organism;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that the parallel two-phase tick produces exactly the same simulation state
+ * as the sequential tick. The population is large enough to activate the parallel path and
+ * uses a program that mixes organism-local instructions with conflicting POKE/PEEK targets,
+ * including targets on the code cells of neighboring organisms.
+ */
+public class SimulationParallelTickTest {
+
+    private static final int ORGANISM_COUNT = 150;
+    private static final int TICKS = 300;
+
+    @BeforeAll
+    static void init() {
+        Instruction.init();
+    }
+
+    @Test
+    @Tag("unit")
+    void parallelTick_isBitForBitIdenticalToSequentialTick() {
+        Simulation sequential = createSimulation(1);
+        Simulation parallel = createSimulation(4);
+        try {
+            for (int tick = 0; tick < TICKS; tick++) {
+                sequential.tick();
+                parallel.tick();
+                assertThat(snapshot(parallel)).as("state after tick %d", tick).isEqualTo(snapshot(sequential));
+            }
+        } finally {
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    @Tag("unit")
+    void setParallelism_rejectsValuesBelowOne() {
+        Simulation simulation = new Simulation(new Environment(new int[]{10, 10}, true));
+        assertThrows(IllegalArgumentException.class, () -> simulation.setParallelism(0));
+    }
+
+    private Simulation createSimulation(int parallelism) {
+        Environment environment = new Environment(new int[]{64, ORGANISM_COUNT * 2}, true);
+        Simulation simulation = new Simulation(environment);
+        simulation.setRandomProvider(new SeededRandomProvider(42L));
+        simulation.setParallelism(parallelism);
+
+        int[][] vectors = {{0, 1}, {0, -1}, {0, 2}};
+        for (int i = 0; i < ORGANISM_COUNT; i++) {
+            int[] start = new int[]{5, i * 2};
+            Organism organism = Organism.create(simulation, start, 5000, simulation.getLogger());
+            simulation.addOrganism(organism);
+            placeProgram(environment, organism, vectors[i % vectors.length]);
+        }
+        return simulation;
+    }
+
+    private void placeProgram(Environment environment, Organism organism, int[] vector) {
+        List<int[]> program = new ArrayList<>();
+        program.add(instruction("SETI", 0, 1));
+        program.add(instruction("ADDI", 0, 3));
+        program.add(instruction("RAND", 0));
+        program.add(instruction("PUSH", 0));
+        program.add(instruction("POKI", 0, vector[0], vector[1]));
+        program.add(instruction("PEKI", 1, vector[0], vector[1]));
+        program.add(instruction("POP", 2));
+        program.add(instruction("JMPI", 0, 0));
+
+        int[] position = organism.getIp();
+        for (int[] cells : program) {
+            for (int c = 0; c < cells.length; c++) {
+                int type = c == 0 ? Config.TYPE_CODE : Config.TYPE_DATA;
+                environment.setMolecule(new Molecule(type, cells[c]), organism.getId(), position);
+                position = organism.getNextInstructionPosition(position, organism.getDv(), environment);
+            }
+        }
+    }
+
+    private int[] instruction(String name, int... args) {
+        int[] cells = new int[args.length + 1];
+        cells[0] = Instruction.getInstructionIdByName(name);
+        System.arraycopy(args, 0, cells, 1, args.length);
+        return cells;
+    }
+
+    private List<String> snapshot(Simulation simulation) {
+        List<String> state = new ArrayList<>();
+        for (Organism o : simulation.getOrganisms()) {
+            state.add(o.getId() + " ip=" + Arrays.toString(o.getIp())
+                    + " er=" + o.getEr()
+                    + " dead=" + o.isDead()
+                    + " failed=" + o.isInstructionFailed()
+                    + " drs=" + Arrays.deepToString(o.getDrs().toArray())
+                    + " ds=" + Arrays.deepToString(o.getDataStack().toArray()));
+        }
+        Environment environment = simulation.getEnvironment();
+        int[] shape = environment.getShape();
+        StringBuilder cells = new StringBuilder();
+        for (int x = 0; x < shape[0]; x++) {
+            for (int y = 0; y < shape[1]; y++) {
+                cells.append(environment.getMolecule(x, y).toInt()).append('/').append(environment.getOwnerId(x, y)).append(',');
+            }
+        }
+        state.add(cells.toString());
+        return state;
+    }
+}
@@ -195,6 +195,34 @@ public class VMEnvironmentInteractionInstructionTest {
         assertThat(environment.getMolecule(target).isEmpty()).isTrue();
     }
 
+    /**
+     * Tests PEKS on a data stack at capacity: the popped vector frees the slot for the peeked value,
+     * so energy and cell change together and the stack stays within its bound.
+     * This is a unit test for the VM's instruction logic.
+     */
+    @Test
+    @Tag("unit")
+    void testPeksOnFullStack() {
+        org.setDp(0, org.getIp());
+        int[] vec = new int[]{-1, 0};
+        int[] target = org.getTargetCoordinate(org.getDp(0), vec, environment);
+        environment.setMolecule(new Molecule(Config.TYPE_ENERGY, 50), target);
+        for (int i = 0; i < Config.DS_MAX_DEPTH - 1; i++) {
+            org.getDataStack().push(new Molecule(Config.TYPE_DATA, i).toInt());
+        }
+        org.getDataStack().push(vec);
+        int erBefore = org.getEr();
+
+        placeInstruction("PEKS");
+        sim.tick();
+
+        assertThat(org.isInstructionFailed()).as("Instruction failed: " + org.getFailureReason()).isFalse();
+        assertThat(org.getDataStack()).hasSize(Config.DS_MAX_DEPTH);
+        assertThat(org.getDataStack().peek()).isEqualTo(new Molecule(Config.TYPE_ENERGY, 50).toInt());
+        assertThat(org.getEr()).isEqualTo(erBefore - 1 + 50);
+        assertThat(environment.getMolecule(target).isEmpty()).isTrue();
+    }
+
     /**
      * Tests the PPKR instruction (PEEK+POKE with register operands).
      * This is a unit test for the VM's instruction logic.
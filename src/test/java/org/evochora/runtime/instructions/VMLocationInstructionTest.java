@@ -413,6 +413,27 @@ public class VMLocationInstructionTest {
         assertThat(org.getDataStack().pop()).isEqualTo(location);
     }
 
+    /**
+     * Tests that LSDS on a full data stack fails without popping the location stack.
+     */
+    @Test
+    @Tag("unit")
+    void testLsdsOnFullDataStack() {
+        Deque<int[]> ls = org.getLocationStack();
+        int[] location = {9, 10};
+        ls.push(location);
+        for (int i = 0; i < Config.DS_MAX_DEPTH; i++) {
+            org.getDataStack().push(new Molecule(Config.TYPE_DATA, i).toInt());
+        }
+
+        placeInstruction(org, "LSDS");
+        sim.tick();
+
+        assertThat(org.isInstructionFailed()).isTrue();
+        assertThat(ls).containsExactly(location);
+        assertThat(org.getDataStack()).hasSize(Config.DS_MAX_DEPTH);
+    }
+
     // --- Location Register Operations Tests ---
 
     /**
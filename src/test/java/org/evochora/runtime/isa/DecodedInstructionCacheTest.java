@@ -0,0 +1,127 @@
+package org.evochora.runtime.isa;
+
+import org.evochora.runtime.Config;
+import org.evochora.runtime.Simulation;
+import org.evochora.runtime.VirtualMachine;
+import org.evochora.runtime.model.Environment;
+import org.evochora.runtime.model.Molecule;
+import org.evochora.runtime.model.Organism;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that instructions planned from the {@link DecodedInstructionCache} behave exactly like
+ * instructions decoded from the environment, including after their cells are rewritten.
+ */
+@Tag("unit")
+public class DecodedInstructionCacheTest {
+
+    private Environment environment;
+    private Simulation sim;
+    private VirtualMachine vm;
+    private DecodedInstructionCache cache;
+    private Organism org;
+    private final int[] startPos = new int[]{5, 5};
+
+    @BeforeAll
+    static void init() {
+        Instruction.init();
+    }
+
+    @BeforeEach
+    void setUp() {
+        environment = new Environment(new int[]{20, 20}, true);
+        sim = new Simulation(environment);
+        vm = sim.getVirtualMachine();
+        cache = vm.getDecodedInstructionCache();
+        org = Organism.create(sim, startPos, 1000, sim.getLogger());
+        sim.addOrganism(org);
+    }
+
+    private int[] placeSeti(int[] position, int register, int value) {
+        environment.setMolecule(new Molecule(Config.TYPE_CODE, Instruction.getInstructionIdByName("SETI")), position);
+        int[] registerPos = org.getNextInstructionPosition(position, org.getDv(), environment);
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, register), registerPos);
+        int[] valuePos = org.getNextInstructionPosition(registerPos, org.getDv(), environment);
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, value), valuePos);
+        return valuePos;
+    }
+
+    private void runAt(int[] position) {
+        org.setIp(position);
+        vm.execute(vm.plan(org), sim);
+    }
+
+    @Test
+    void secondExecutionIsServedFromCache() {
+        placeSeti(startPos, 0, 42);
+
+        runAt(startPos);
+        org.setDr(0, 0);
+        runAt(startPos);
+
+        assertThat(org.getDr(0)).isEqualTo(new Molecule(Config.TYPE_DATA, 42).toInt());
+        assertThat(org.getIp()).isEqualTo(new int[]{8, 5});
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void writingAnArgumentCellInvalidatesEntry() {
+        int[] valuePos = placeSeti(startPos, 0, 42);
+        runAt(startPos);
+
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, 7), valuePos);
+        runAt(startPos);
+
+        assertThat(org.getDr(0)).isEqualTo(new Molecule(Config.TYPE_DATA, 7).toInt());
+        assertThat(cache.getInvalidations()).isEqualTo(1);
+        assertThat(cache.getHits()).isZero();
+    }
+
+    @Test
+    void writeBetweenPlanAndExecuteIsVisible() {
+        int[] valuePos = placeSeti(startPos, 0, 42);
+        runAt(startPos);
+
+        org.setIp(startPos);
+        Instruction planned = vm.plan(org);
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, 9), valuePos);
+        vm.execute(planned, sim);
+
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(org.getDr(0)).isEqualTo(new Molecule(Config.TYPE_DATA, 9).toInt());
+    }
+
+    @Test
+    void writesOutsideTheInstructionKeepEntry() {
+        placeSeti(startPos, 0, 42);
+        runAt(startPos);
+
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, 1), new int[]{5, 6});
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, 1), new int[]{9, 5});
+        runAt(startPos);
+
+        assertThat(cache.getInvalidations()).isZero();
+        assertThat(cache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void differentDirectionIsDecodedAgain() {
+        placeSeti(startPos, 0, 42);
+        runAt(startPos);
+
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, 1), new int[]{5, 6});
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, 13), new int[]{5, 7});
+        org.setDv(new int[]{0, 1});
+        runAt(startPos);
+
+        assertThat(org.getDr(1)).isEqualTo(new Molecule(Config.TYPE_DATA, 13).toInt());
+        assertThat(cache.getHits()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,125 @@
+package org.evochora.runtime.isa;
+
+import org.evochora.runtime.model.Environment;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmarks the per-instruction registry lookups of the VM (planner, signature and the
+ * dimension-dependent length, which is queried three times per executed instruction) against
+ * an equivalent registry built from boxed {@code HashMap}s that walks the operand sources on
+ * every length query. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class InstructionDispatchBenchmarkTest {
+
+    private static final int ROUNDS = 5;
+    private static final int LOOKUPS_PER_ROUND = 20_000_000;
+
+    @BeforeAll
+    static void init() {
+        Instruction.init();
+    }
+
+    @Test
+    void dispatchLookups() {
+        Environment environment = new Environment(new int[]{100, 100}, true);
+        int[] opcodes = registeredOpcodes();
+        HashMapRegistry reference = new HashMapRegistry(opcodes);
+
+        long tableChecksum = 0;
+        long mapChecksum = 0;
+        long tableNanos = Long.MAX_VALUE;
+        long mapNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            tableChecksum = dispatchViaTable(opcodes, environment);
+            tableNanos = Math.min(tableNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            mapChecksum = reference.dispatch(opcodes, environment);
+            mapNanos = Math.min(mapNanos, System.nanoTime() - start);
+        }
+
+        System.out.printf("Instruction dispatch: dense table %.2f ns/instruction, HashMap registry %.2f ns/instruction (%d opcodes)%n",
+                (double) tableNanos / LOOKUPS_PER_ROUND, (double) mapNanos / LOOKUPS_PER_ROUND, opcodes.length);
+        assertThat(tableChecksum).isEqualTo(mapChecksum);
+    }
+
+    private static long dispatchViaTable(int[] opcodes, Environment environment) {
+        long checksum = 0;
+        for (int i = 0; i < LOOKUPS_PER_ROUND; i++) {
+            int id = opcodes[i % opcodes.length];
+            if (Instruction.getPlannerById(id) != null && Instruction.getSignatureById(id).isPresent()) {
+                checksum += Instruction.getInstructionLengthById(id, environment);
+                checksum += Instruction.getInstructionLengthById(id, environment);
+                checksum += Instruction.getInstructionLengthById(id, environment);
+            }
+        }
+        return checksum;
+    }
+
+    private static int[] registeredOpcodes() {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < 1024; id++) {
+            if (Instruction.getOperandSourcesById(id) != null) {
+                ids.add(id);
+            }
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * The registry layout used before the dense table: boxed keys and a walk over the operand
+     * sources for every length query.
+     */
+    private static final class HashMapRegistry {
+        private final Map<Integer, Object> planners = new HashMap<>();
+        private final Map<Integer, InstructionSignature> signatures = new HashMap<>();
+        private final Map<Integer, List<Instruction.OperandSource>> operandSources = new HashMap<>();
+
+        HashMapRegistry(int[] opcodes) {
+            for (int id : opcodes) {
+                planners.put(id, Instruction.getPlannerById(id));
+                signatures.put(id, Instruction.getSignatureById(id).orElseThrow());
+                operandSources.put(id, new ArrayList<>(Instruction.getOperandSourcesById(id)));
+            }
+        }
+
+        long dispatch(int[] opcodes, Environment environment) {
+            long checksum = 0;
+            for (int i = 0; i < LOOKUPS_PER_ROUND; i++) {
+                int id = opcodes[i % opcodes.length];
+                if (planners.get(id) != null && signatures.get(id) != null) {
+                    checksum += length(id, environment);
+                    checksum += length(id, environment);
+                    checksum += length(id, environment);
+                }
+            }
+            return checksum;
+        }
+
+        private int length(int id, Environment environment) {
+            List<Instruction.OperandSource> sources = operandSources.get(id);
+            if (sources == null) return 1;
+            int length = 1;
+            int dims = environment.getShape().length;
+            for (Instruction.OperandSource s : sources) {
+                if (s == Instruction.OperandSource.VECTOR || s == Instruction.OperandSource.LABEL) {
+                    length += dims;
+                } else if (s != Instruction.OperandSource.STACK) {
+                    length++;
+                }
+            }
+            return length;
+        }
+    }
+}
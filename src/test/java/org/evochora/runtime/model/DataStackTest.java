@@ -0,0 +1,106 @@
+package org.evochora.runtime.model;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class DataStackTest {
+
+    @Test
+    void testPushPopKeepsScalarsAndVectors() {
+        DataStack stack = new DataStack(4);
+        int[] vector = {3, 4};
+
+        stack.push(7);
+        stack.push(vector);
+        stack.pushScalar(9);
+
+        assertEquals(3, stack.size());
+        assertEquals(9, stack.pop());
+        assertSame(vector, stack.pop());
+        assertEquals(7, stack.peek());
+        assertEquals(7, stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testViewAndIterationRunFromTopToBottom() {
+        DataStack stack = new DataStack(4);
+        int[] vector = {1, 2};
+        stack.push(10);
+        stack.push(vector);
+        stack.push(30);
+
+        assertFalse(stack.isVector(0));
+        assertEquals(30, stack.scalarAt(0));
+        assertTrue(stack.isVector(1));
+        assertSame(vector, stack.vectorAt(1));
+        assertEquals(10, stack.scalarAt(2));
+
+        List<Object> iterated = new ArrayList<>();
+        stack.forEach(iterated::add);
+        assertEquals(List.of(30, vector, 10), iterated);
+        assertEquals(10, stack.getLast());
+    }
+
+    @Test
+    void testCapacityIsEnforced() {
+        DataStack stack = new DataStack(2);
+        stack.push(1);
+        stack.push(2);
+
+        assertThrows(DataStack.OverflowException.class, () -> stack.push(3));
+        assertFalse(stack.offerFirst(3));
+        assertEquals(2, stack.size());
+    }
+
+    @Test
+    void testGrowsUpToCapacityWithMixedValues() {
+        DataStack stack = new DataStack(32);
+        for (int i = 0; i < 32; i++) {
+            if (i % 3 == 0) {
+                stack.push(new int[]{i, i});
+            } else {
+                stack.push(i);
+            }
+        }
+
+        assertThrows(DataStack.OverflowException.class, () -> stack.push(99));
+        for (int i = 31; i >= 0; i--) {
+            Object value = stack.pop();
+            if (i % 3 == 0) {
+                assertArrayEquals(new int[]{i, i}, (int[]) value);
+            } else {
+                assertEquals(i, value);
+            }
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testEmptyStackBehavesLikeDeque() {
+        DataStack stack = new DataStack(2);
+
+        assertThrows(NoSuchElementException.class, stack::pop);
+        assertNull(stack.peek());
+        assertNull(stack.poll());
+    }
+
+    @Test
+    void testBottomOperationsShiftSlots() {
+        DataStack stack = new DataStack(4);
+        stack.push(2);
+        stack.push(3);
+        stack.addLast(1);
+
+        assertEquals(1, stack.removeLast());
+        assertEquals(3, stack.pop());
+        assertEquals(2, stack.pop());
+    }
+}
@@ -0,0 +1,85 @@
+package org.evochora.runtime.model;
+
+import org.evochora.runtime.Config;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that the 2D specialization behaves exactly like the general N-dimensional environment.
+ */
+@Tag("unit")
+class Environment2DTest {
+
+    private static final int[] SHAPE = {17, 11};
+
+    @Test
+    void factorySelectsImplementationByDimensions() {
+        assertThat(Environment.create(new EnvironmentProperties(new int[]{10, 10}, true))).isInstanceOf(Environment2D.class);
+        assertThat(Environment.create(new EnvironmentProperties(new int[]{10}, true))).isNotInstanceOf(Environment2D.class);
+        assertThat(Environment.create(new EnvironmentProperties(new int[]{4, 4, 4}, false))).isNotInstanceOf(Environment2D.class);
+    }
+
+    @Test
+    void flatIndexMatchesGeneralEnvironment() {
+        for (boolean toroidal : new boolean[]{true, false}) {
+            Environment general = new Environment(SHAPE, toroidal);
+            Environment specialized = Environment.create(new EnvironmentProperties(SHAPE, toroidal));
+            Random random = new Random(7);
+            for (int i = 0; i < 10_000; i++) {
+                // Mostly near the grid, occasionally several world lengths away
+                int range = i % 10 == 0 ? 1_000 : 40;
+                int[] coord = {random.nextInt(2 * range) - range, random.nextInt(2 * range) - range};
+                assertThat(specialized.getFlatIndex(coord)).as("toroidal=%s coord=(%d,%d)", toroidal, coord[0], coord[1])
+                        .isEqualTo(general.getFlatIndex(coord));
+            }
+        }
+    }
+
+    @Test
+    void boundedWorldRejectsCoordinatesOutsideTheGrid() {
+        Environment env = Environment.create(new EnvironmentProperties(SHAPE, false));
+        assertThat(env.getFlatIndex(-1, 0)).isEqualTo(-1);
+        assertThat(env.getFlatIndex(0, SHAPE[1])).isEqualTo(-1);
+        assertThat(env.getFlatIndex(SHAPE[0] - 1, SHAPE[1] - 1)).isEqualTo(SHAPE[0] * SHAPE[1] - 1);
+        assertThrows(IllegalArgumentException.class, () -> env.getFlatIndex(1, 2, 3));
+    }
+
+    @Test
+    void cellAccessWrapsOnTorus() {
+        Environment env = Environment.create(new EnvironmentProperties(SHAPE, true));
+        Molecule molecule = new Molecule(Config.TYPE_DATA, 42);
+        env.setMolecule(molecule, 5, new int[]{-1, SHAPE[1]});
+
+        assertThat(env.getMolecule(SHAPE[0] - 1, 0)).isEqualTo(molecule);
+        assertThat(env.getOwnerId(2 * SHAPE[0] - 1, -SHAPE[1])).isEqualTo(5);
+    }
+
+    @Test
+    void areaCheckMatchesGeneralEnvironment() {
+        for (boolean toroidal : new boolean[]{true, false}) {
+            Environment general = new Environment(SHAPE, toroidal);
+            Environment specialized = Environment.create(new EnvironmentProperties(SHAPE, toroidal));
+            Random random = new Random(11);
+            for (int i = 0; i < 8; i++) {
+                int[] owned = {random.nextInt(SHAPE[0]), random.nextInt(SHAPE[1])};
+                general.setOwnerId(i + 1, owned);
+                specialized.setOwnerId(i + 1, owned);
+            }
+            for (int x = -3; x < SHAPE[0] + 3; x++) {
+                for (int y = -3; y < SHAPE[1] + 3; y++) {
+                    for (int radius = 0; radius <= 3; radius++) {
+                        int[] center = {x, y};
+                        assertThat(specialized.isAreaUnowned(center, radius))
+                                .as("toroidal=%s center=(%d,%d) radius=%d", toroidal, x, y, radius)
+                                .isEqualTo(general.isAreaUnowned(center, radius));
+                    }
+                }
+            }
+        }
+    }
+}
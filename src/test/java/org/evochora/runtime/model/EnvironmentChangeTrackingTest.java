@@ -0,0 +1,141 @@
+package org.evochora.runtime.model;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.evochora.runtime.Config;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class EnvironmentChangeTrackingTest {
+
+    private static Environment trackedEnvironment(int width, int height) {
+        Environment environment = Environment.create(new EnvironmentProperties(new int[]{width, height}, true));
+        environment.setChangeTrackingEnabled(true);
+        return environment;
+    }
+
+    private static IntArrayList changedSince(Environment environment, long tick) {
+        IntArrayList changed = new IntArrayList();
+        assertThat(environment.forEachChangedIndexSince(tick, changed::add)).isTrue();
+        changed.sort(null);
+        return changed;
+    }
+
+    @Test
+    void disabledByDefault() {
+        Environment environment = Environment.create(new EnvironmentProperties(new int[]{10, 10}, true));
+        environment.beginTick(0);
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, 1), new int[]{1, 1});
+
+        assertThat(environment.isChangeTrackingEnabled()).isFalse();
+        assertThat(environment.forEachChangedIndexSince(-1, index -> {})).isFalse();
+    }
+
+    @Test
+    void reportsEachCellChangedAfterTickOnce() {
+        Environment environment = trackedEnvironment(10, 10);
+
+        environment.beginTick(0);
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, 1), new int[]{1, 2});
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, 2), new int[]{1, 2});
+        environment.beginTick(1);
+        environment.setMolecule(new Molecule(Config.TYPE_ENERGY, 5), 7, new int[]{3, 4});
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, 3), new int[]{1, 2});
+        environment.beginTick(2);
+        environment.beginTick(3);
+        environment.setOwnerId(9, new int[]{5, 5});
+
+        assertThat(changedSince(environment, -1)).containsExactly(12, 34, 55);
+        assertThat(changedSince(environment, 0)).containsExactly(12, 34, 55);
+        assertThat(changedSince(environment, 1)).containsExactly(55);
+        assertThat(changedSince(environment, 2)).containsExactly(55);
+        assertThat(changedSince(environment, 3)).isEmpty();
+        // Queries do not consume anything
+        assertThat(changedSince(environment, -1)).containsExactly(12, 34, 55);
+    }
+
+    @Test
+    void cannotAnswerForTicksBeforeEnabling() {
+        Environment environment = Environment.create(new EnvironmentProperties(new int[]{10, 10}, true));
+        environment.beginTick(5);
+        environment.setChangeTrackingEnabled(true);
+        environment.setMolecule(new Molecule(Config.TYPE_DATA, 1), new int[]{0, 1});
+
+        assertThat(environment.forEachChangedIndexSince(4, index -> {})).isFalse();
+        assertThat(changedSince(environment, 5)).isEmpty();
+
+        environment.setChangeTrackingEnabled(false);
+        assertThat(environment.forEachChangedIndexSince(5, index -> {})).isFalse();
+    }
+
+    @Test
+    void overwrittenTicksAreReportedAsIncomplete() {
+        Environment environment = trackedEnvironment(4, 4);
+
+        // Each tick writes 6 distinct cells, so the 16-entry buffer holds less than three ticks
+        for (int tick = 0; tick < 4; tick++) {
+            environment.beginTick(tick);
+            for (int i = 0; i < 6; i++) {
+                environment.setMolecule(new Molecule(Config.TYPE_DATA, tick + 1), new int[]{i % 4, (tick + i / 4) % 4});
+            }
+        }
+
+        assertThat(environment.forEachChangedIndexSince(0, index -> {})).isFalse();
+        assertThat(changedSince(environment, 1)).hasSize(10);
+        assertThat(changedSince(environment, 2)).hasSize(6);
+    }
+
+    @Test
+    void matchesBruteForceDiffOfSnapshots() {
+        Environment environment = trackedEnvironment(23, 17);
+        Random random = new Random(3);
+        List<int[]> snapshots = new ArrayList<>();
+        for (int tick = 0; tick < 200; tick++) {
+            environment.beginTick(tick);
+            int writes = random.nextInt(8);
+            for (int i = 0; i < writes; i++) {
+                int[] coord = {random.nextInt(23), random.nextInt(17)};
+                if (random.nextBoolean()) {
+                    environment.setMolecule(new Molecule(Config.TYPE_DATA, random.nextInt(3)), new int[]{coord[0], coord[1]});
+                } else {
+                    environment.setOwnerId(random.nextInt(3), coord);
+                }
+            }
+            snapshots.add(snapshot(environment));
+
+            long since = tick - 1 - random.nextInt(Math.min(tick + 1, 30));
+            if (since < 0) {
+                continue;
+            }
+            Set<Integer> reported = new HashSet<>();
+            if (!environment.forEachChangedIndexSince(since, reported::add)) {
+                continue;
+            }
+            // Every cell that differs must be reported; reported cells may have been written back
+            int[] before = snapshots.get((int) since);
+            int[] now = snapshots.get(tick);
+            for (int index = 0; index < now.length / 2; index++) {
+                if (before[2 * index] != now[2 * index] || before[2 * index + 1] != now[2 * index + 1]) {
+                    assertThat(reported).as("tick %d since %d index %d", tick, since, index).contains(index);
+                }
+            }
+        }
+    }
+
+    private static int[] snapshot(Environment environment) {
+        int[] cells = new int[2 * environment.grid.length];
+        for (int index = 0; index < environment.grid.length; index++) {
+            cells[2 * index] = environment.getMoleculeInt(index);
+            cells[2 * index + 1] = environment.getOwnerIdByIndex(index);
+        }
+        return cells;
+    }
+}
@@ -120,6 +120,33 @@ class EnvironmentPropertiesTest {
             }
         }
     }
-}
 
+    @Test
+    void testAdvance_MatchesGetNextPosition() {
+        EnvironmentProperties torus = new EnvironmentProperties(new int[]{10, 20}, true);
+        int[] position = {9, 0};
+
+        torus.advance(position, new int[]{1, 0});
+        assertArrayEquals(new int[]{0, 0}, position);
+        torus.advance(position, new int[]{0, -1});
+        assertArrayEquals(new int[]{0, 19}, position);
+        assertArrayEquals(torus.getNextPosition(new int[]{0, 19}, new int[]{-1, 0}), new int[]{9, 19});
+
+        EnvironmentProperties bounded = new EnvironmentProperties(new int[]{10, 20}, false);
+        int[] outside = {9, 0};
+        bounded.advance(outside, new int[]{1, 0});
+        assertArrayEquals(new int[]{10, 0}, outside);
+    }
 
+    @Test
+    void testToFlatIndex_RoundTripAndBounds() {
+        EnvironmentProperties bounded = new EnvironmentProperties(new int[]{10, 20, 30}, false);
+        assertEquals(3 * 600 + 7 * 30 + 15, bounded.toFlatIndex(new int[]{3, 7, 15}));
+        assertArrayEquals(new int[]{3, 7, 15}, bounded.flatIndexToCoordinates(bounded.toFlatIndex(new int[]{3, 7, 15})));
+        assertEquals(-1, bounded.toFlatIndex(new int[]{10, 0, 0}));
+        assertEquals(-1, bounded.toFlatIndex(new int[]{0, -1, 0}));
+
+        EnvironmentProperties torus = new EnvironmentProperties(new int[]{10, 20, 30}, true);
+        assertEquals(torus.toFlatIndex(new int[]{0, 19, 0}), torus.toFlatIndex(new int[]{10, -1, 30}));
+    }
+}